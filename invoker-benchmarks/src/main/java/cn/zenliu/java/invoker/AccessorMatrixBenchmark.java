@@ -0,0 +1,1659 @@
+/*
+ * Source of invoker
+ * Copyright (C) 2023.  Zen.Liu
+ *
+ * SPDX-License-Identifier: GPL-2.0-only WITH Classpath-exception-2.0"
+ *
+ * This program is free software; you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation; version 2.
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program; if not, write to the Free Software Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA 02110-1301, USA.
+ *
+ * Class Path Exception
+ * Linking this library statically or dynamically with other modules is making a combined work based on this library. Thus, the terms and conditions of the GNU General Public License cover the whole combination.
+ *  As a special exception, the copyright holders of this library give you permission to link this library with independent modules to produce an executable, regardless of the license terms of these independent modules, and to copy and distribute the resulting executable under terms of your choice, provided that you also meet, for each linked independent module, the terms and conditions of the license of that module. An independent module is a module which is not derived from or based on this library. If you modify this library, you may extend this exception to your version of the library, but you are not obligated to do so. If you do not wish to do so, delete this exception statement from your version.
+ */
+
+package cn.zenliu.java.invoker;
+
+import lombok.SneakyThrows;
+import lombok.var;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Matrix of every {@link Accessor#field} specialization: 8 primitive types and reference type,
+ * each of static final, static, final and instance field.<br/>
+ * Each cell is measured by:<br/>
+ * 1. {@code xxxGeneric}: generic {@code get} / {@code set} (boxing for primitives).<br/>
+ * 2. {@code xxxTyped}: typed {@code getValue} / {@code setValue}, or the {@code Impl} for reference fields.<br/>
+ * 3. {@code xxxHandle}: {@code MethodHandle.invokeExact} on the unreflected field (VarHandle is not available on java 8).<br/>
+ * 4. {@code xxxDirect}: plain field access.<br/>
+ * Setters are only measured for non-final fields.
+ *
+ * @author Zen.Liu
+ * @since 2026-10-19
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 6, time = 1)
+@Measurement(iterations = 6)
+@Threads(1)
+@Fork(3)
+public class AccessorMatrixBenchmark {
+    //region Generated matrix
+    public static class Holder {
+        static final boolean sfBoolean = initBoolean();
+        static boolean sBoolean;
+        final boolean fBoolean;
+        boolean iBoolean;
+
+        static final byte sfByte = initByte();
+        static byte sByte;
+        final byte fByte;
+        byte iByte;
+
+        static final short sfShort = initShort();
+        static short sShort;
+        final short fShort;
+        short iShort;
+
+        static final char sfChar = initChar();
+        static char sChar;
+        final char fChar;
+        char iChar;
+
+        static final int sfInt = initInt();
+        static int sInt;
+        final int fInt;
+        int iInt;
+
+        static final long sfLong = initLong();
+        static long sLong;
+        final long fLong;
+        long iLong;
+
+        static final float sfFloat = initFloat();
+        static float sFloat;
+        final float fFloat;
+        float iFloat;
+
+        static final double sfDouble = initDouble();
+        static double sDouble;
+        final double fDouble;
+        double iDouble;
+
+        static final Object sfObject = initObject();
+        static Object sObject;
+        final Object fObject;
+        Object iObject;
+
+        Holder(Random rnd) {
+            fBoolean = rnd.nextBoolean();
+            fByte = (byte) rnd.nextInt();
+            fShort = (short) rnd.nextInt();
+            fChar = (char) rnd.nextInt();
+            fInt = rnd.nextInt();
+            fLong = rnd.nextLong();
+            fFloat = rnd.nextFloat();
+            fDouble = rnd.nextDouble();
+            fObject = new Object();
+            iBoolean = rnd.nextBoolean();
+            iByte = (byte) rnd.nextInt();
+            iShort = (short) rnd.nextInt();
+            iChar = (char) rnd.nextInt();
+            iInt = rnd.nextInt();
+            iLong = rnd.nextLong();
+            iFloat = rnd.nextFloat();
+            iDouble = rnd.nextDouble();
+            iObject = new Object();
+        }
+
+        static boolean initBoolean() {
+            return true;
+        }
+
+        static byte initByte() {
+            return (byte) 1;
+        }
+
+        static short initShort() {
+            return (short) 1;
+        }
+
+        static char initChar() {
+            return '1';
+        }
+
+        static int initInt() {
+            return 1;
+        }
+
+        static long initLong() {
+            return 1L;
+        }
+
+        static float initFloat() {
+            return 1F;
+        }
+
+        static double initDouble() {
+            return 1D;
+        }
+
+        static Object initObject() {
+            return new Object();
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Status {
+        Holder o;
+        boolean booleanValue;
+        byte byteValue;
+        short shortValue;
+        char charValue;
+        int intValue;
+        long longValue;
+        float floatValue;
+        double doubleValue;
+        Object objectValue;
+
+        Accessor sfBoolean;
+        Accessor.BooleanStaticGetter sfBooleanGetter;
+        MethodHandle sfBooleanGetHandle;
+        Accessor sBoolean;
+        Accessor.BooleanStaticGetter sBooleanGetter;
+        MethodHandle sBooleanGetHandle;
+        Accessor.BooleanStaticSetter sBooleanSetter;
+        MethodHandle sBooleanSetHandle;
+        Accessor fBoolean;
+        Accessor.BooleanGetter fBooleanGetter;
+        MethodHandle fBooleanGetHandle;
+        Accessor iBoolean;
+        Accessor.BooleanGetter iBooleanGetter;
+        MethodHandle iBooleanGetHandle;
+        Accessor.BooleanSetter iBooleanSetter;
+        MethodHandle iBooleanSetHandle;
+
+        Accessor sfByte;
+        Accessor.ByteStaticGetter sfByteGetter;
+        MethodHandle sfByteGetHandle;
+        Accessor sByte;
+        Accessor.ByteStaticGetter sByteGetter;
+        MethodHandle sByteGetHandle;
+        Accessor.ByteStaticSetter sByteSetter;
+        MethodHandle sByteSetHandle;
+        Accessor fByte;
+        Accessor.ByteGetter fByteGetter;
+        MethodHandle fByteGetHandle;
+        Accessor iByte;
+        Accessor.ByteGetter iByteGetter;
+        MethodHandle iByteGetHandle;
+        Accessor.ByteSetter iByteSetter;
+        MethodHandle iByteSetHandle;
+
+        Accessor sfShort;
+        Accessor.ShortStaticGetter sfShortGetter;
+        MethodHandle sfShortGetHandle;
+        Accessor sShort;
+        Accessor.ShortStaticGetter sShortGetter;
+        MethodHandle sShortGetHandle;
+        Accessor.ShortStaticSetter sShortSetter;
+        MethodHandle sShortSetHandle;
+        Accessor fShort;
+        Accessor.ShortGetter fShortGetter;
+        MethodHandle fShortGetHandle;
+        Accessor iShort;
+        Accessor.ShortGetter iShortGetter;
+        MethodHandle iShortGetHandle;
+        Accessor.ShortSetter iShortSetter;
+        MethodHandle iShortSetHandle;
+
+        Accessor sfChar;
+        Accessor.CharStaticGetter sfCharGetter;
+        MethodHandle sfCharGetHandle;
+        Accessor sChar;
+        Accessor.CharStaticGetter sCharGetter;
+        MethodHandle sCharGetHandle;
+        Accessor.CharStaticSetter sCharSetter;
+        MethodHandle sCharSetHandle;
+        Accessor fChar;
+        Accessor.CharGetter fCharGetter;
+        MethodHandle fCharGetHandle;
+        Accessor iChar;
+        Accessor.CharGetter iCharGetter;
+        MethodHandle iCharGetHandle;
+        Accessor.CharSetter iCharSetter;
+        MethodHandle iCharSetHandle;
+
+        Accessor sfInt;
+        Accessor.IntStaticGetter sfIntGetter;
+        MethodHandle sfIntGetHandle;
+        Accessor sInt;
+        Accessor.IntStaticGetter sIntGetter;
+        MethodHandle sIntGetHandle;
+        Accessor.IntStaticSetter sIntSetter;
+        MethodHandle sIntSetHandle;
+        Accessor fInt;
+        Accessor.IntGetter fIntGetter;
+        MethodHandle fIntGetHandle;
+        Accessor iInt;
+        Accessor.IntGetter iIntGetter;
+        MethodHandle iIntGetHandle;
+        Accessor.IntSetter iIntSetter;
+        MethodHandle iIntSetHandle;
+
+        Accessor sfLong;
+        Accessor.LongStaticGetter sfLongGetter;
+        MethodHandle sfLongGetHandle;
+        Accessor sLong;
+        Accessor.LongStaticGetter sLongGetter;
+        MethodHandle sLongGetHandle;
+        Accessor.LongStaticSetter sLongSetter;
+        MethodHandle sLongSetHandle;
+        Accessor fLong;
+        Accessor.LongGetter fLongGetter;
+        MethodHandle fLongGetHandle;
+        Accessor iLong;
+        Accessor.LongGetter iLongGetter;
+        MethodHandle iLongGetHandle;
+        Accessor.LongSetter iLongSetter;
+        MethodHandle iLongSetHandle;
+
+        Accessor sfFloat;
+        Accessor.FloatStaticGetter sfFloatGetter;
+        MethodHandle sfFloatGetHandle;
+        Accessor sFloat;
+        Accessor.FloatStaticGetter sFloatGetter;
+        MethodHandle sFloatGetHandle;
+        Accessor.FloatStaticSetter sFloatSetter;
+        MethodHandle sFloatSetHandle;
+        Accessor fFloat;
+        Accessor.FloatGetter fFloatGetter;
+        MethodHandle fFloatGetHandle;
+        Accessor iFloat;
+        Accessor.FloatGetter iFloatGetter;
+        MethodHandle iFloatGetHandle;
+        Accessor.FloatSetter iFloatSetter;
+        MethodHandle iFloatSetHandle;
+
+        Accessor sfDouble;
+        Accessor.DoubleStaticGetter sfDoubleGetter;
+        MethodHandle sfDoubleGetHandle;
+        Accessor sDouble;
+        Accessor.DoubleStaticGetter sDoubleGetter;
+        MethodHandle sDoubleGetHandle;
+        Accessor.DoubleStaticSetter sDoubleSetter;
+        MethodHandle sDoubleSetHandle;
+        Accessor fDouble;
+        Accessor.DoubleGetter fDoubleGetter;
+        MethodHandle fDoubleGetHandle;
+        Accessor iDouble;
+        Accessor.DoubleGetter iDoubleGetter;
+        MethodHandle iDoubleGetHandle;
+        Accessor.DoubleSetter iDoubleSetter;
+        MethodHandle iDoubleSetHandle;
+
+        Accessor sfObject;
+        Accessor.StaticGetter sfObjectGetter;
+        MethodHandle sfObjectGetHandle;
+        Accessor sObject;
+        Accessor.StaticGetter sObjectGetter;
+        MethodHandle sObjectGetHandle;
+        Accessor.StaticSetter sObjectSetter;
+        MethodHandle sObjectSetHandle;
+        Accessor fObject;
+        Accessor.Getter fObjectGetter;
+        MethodHandle fObjectGetHandle;
+        Accessor iObject;
+        Accessor.Getter iObjectGetter;
+        MethodHandle iObjectGetHandle;
+        Accessor.Setter iObjectSetter;
+        MethodHandle iObjectSetHandle;
+
+        @SneakyThrows
+        @Setup(Level.Trial)
+        public void initialize() {
+            var rnd = new Random();
+            var lk = MethodHandles.lookup();
+            o = new Holder(rnd);
+            booleanValue = rnd.nextBoolean();
+            byteValue = (byte) rnd.nextInt();
+            shortValue = (short) rnd.nextInt();
+            charValue = (char) rnd.nextInt();
+            intValue = rnd.nextInt();
+            longValue = rnd.nextLong();
+            floatValue = rnd.nextFloat();
+            doubleValue = rnd.nextDouble();
+            objectValue = new Object();
+
+            var sfBooleanField = Holder.class.getDeclaredField("sfBoolean");
+            sfBoolean = Accessor.field(lk, sfBooleanField, Holder.class);
+            sfBooleanGetter = (Accessor.BooleanStaticGetter) sfBoolean.getter;
+            sfBooleanGetHandle = lk.unreflectGetter(sfBooleanField);
+            var sBooleanField = Holder.class.getDeclaredField("sBoolean");
+            sBoolean = Accessor.field(lk, sBooleanField, Holder.class);
+            sBooleanGetter = (Accessor.BooleanStaticGetter) sBoolean.getter;
+            sBooleanGetHandle = lk.unreflectGetter(sBooleanField);
+            sBooleanSetter = (Accessor.BooleanStaticSetter) sBoolean.setter;
+            sBooleanSetHandle = lk.unreflectSetter(sBooleanField);
+            var fBooleanField = Holder.class.getDeclaredField("fBoolean");
+            fBoolean = Accessor.field(lk, fBooleanField, Holder.class);
+            fBooleanGetter = (Accessor.BooleanGetter) fBoolean.getter;
+            fBooleanGetHandle = lk.unreflectGetter(fBooleanField);
+            var iBooleanField = Holder.class.getDeclaredField("iBoolean");
+            iBoolean = Accessor.field(lk, iBooleanField, Holder.class);
+            iBooleanGetter = (Accessor.BooleanGetter) iBoolean.getter;
+            iBooleanGetHandle = lk.unreflectGetter(iBooleanField);
+            iBooleanSetter = (Accessor.BooleanSetter) iBoolean.setter;
+            iBooleanSetHandle = lk.unreflectSetter(iBooleanField);
+
+            var sfByteField = Holder.class.getDeclaredField("sfByte");
+            sfByte = Accessor.field(lk, sfByteField, Holder.class);
+            sfByteGetter = (Accessor.ByteStaticGetter) sfByte.getter;
+            sfByteGetHandle = lk.unreflectGetter(sfByteField);
+            var sByteField = Holder.class.getDeclaredField("sByte");
+            sByte = Accessor.field(lk, sByteField, Holder.class);
+            sByteGetter = (Accessor.ByteStaticGetter) sByte.getter;
+            sByteGetHandle = lk.unreflectGetter(sByteField);
+            sByteSetter = (Accessor.ByteStaticSetter) sByte.setter;
+            sByteSetHandle = lk.unreflectSetter(sByteField);
+            var fByteField = Holder.class.getDeclaredField("fByte");
+            fByte = Accessor.field(lk, fByteField, Holder.class);
+            fByteGetter = (Accessor.ByteGetter) fByte.getter;
+            fByteGetHandle = lk.unreflectGetter(fByteField);
+            var iByteField = Holder.class.getDeclaredField("iByte");
+            iByte = Accessor.field(lk, iByteField, Holder.class);
+            iByteGetter = (Accessor.ByteGetter) iByte.getter;
+            iByteGetHandle = lk.unreflectGetter(iByteField);
+            iByteSetter = (Accessor.ByteSetter) iByte.setter;
+            iByteSetHandle = lk.unreflectSetter(iByteField);
+
+            var sfShortField = Holder.class.getDeclaredField("sfShort");
+            sfShort = Accessor.field(lk, sfShortField, Holder.class);
+            sfShortGetter = (Accessor.ShortStaticGetter) sfShort.getter;
+            sfShortGetHandle = lk.unreflectGetter(sfShortField);
+            var sShortField = Holder.class.getDeclaredField("sShort");
+            sShort = Accessor.field(lk, sShortField, Holder.class);
+            sShortGetter = (Accessor.ShortStaticGetter) sShort.getter;
+            sShortGetHandle = lk.unreflectGetter(sShortField);
+            sShortSetter = (Accessor.ShortStaticSetter) sShort.setter;
+            sShortSetHandle = lk.unreflectSetter(sShortField);
+            var fShortField = Holder.class.getDeclaredField("fShort");
+            fShort = Accessor.field(lk, fShortField, Holder.class);
+            fShortGetter = (Accessor.ShortGetter) fShort.getter;
+            fShortGetHandle = lk.unreflectGetter(fShortField);
+            var iShortField = Holder.class.getDeclaredField("iShort");
+            iShort = Accessor.field(lk, iShortField, Holder.class);
+            iShortGetter = (Accessor.ShortGetter) iShort.getter;
+            iShortGetHandle = lk.unreflectGetter(iShortField);
+            iShortSetter = (Accessor.ShortSetter) iShort.setter;
+            iShortSetHandle = lk.unreflectSetter(iShortField);
+
+            var sfCharField = Holder.class.getDeclaredField("sfChar");
+            sfChar = Accessor.field(lk, sfCharField, Holder.class);
+            sfCharGetter = (Accessor.CharStaticGetter) sfChar.getter;
+            sfCharGetHandle = lk.unreflectGetter(sfCharField);
+            var sCharField = Holder.class.getDeclaredField("sChar");
+            sChar = Accessor.field(lk, sCharField, Holder.class);
+            sCharGetter = (Accessor.CharStaticGetter) sChar.getter;
+            sCharGetHandle = lk.unreflectGetter(sCharField);
+            sCharSetter = (Accessor.CharStaticSetter) sChar.setter;
+            sCharSetHandle = lk.unreflectSetter(sCharField);
+            var fCharField = Holder.class.getDeclaredField("fChar");
+            fChar = Accessor.field(lk, fCharField, Holder.class);
+            fCharGetter = (Accessor.CharGetter) fChar.getter;
+            fCharGetHandle = lk.unreflectGetter(fCharField);
+            var iCharField = Holder.class.getDeclaredField("iChar");
+            iChar = Accessor.field(lk, iCharField, Holder.class);
+            iCharGetter = (Accessor.CharGetter) iChar.getter;
+            iCharGetHandle = lk.unreflectGetter(iCharField);
+            iCharSetter = (Accessor.CharSetter) iChar.setter;
+            iCharSetHandle = lk.unreflectSetter(iCharField);
+
+            var sfIntField = Holder.class.getDeclaredField("sfInt");
+            sfInt = Accessor.field(lk, sfIntField, Holder.class);
+            sfIntGetter = (Accessor.IntStaticGetter) sfInt.getter;
+            sfIntGetHandle = lk.unreflectGetter(sfIntField);
+            var sIntField = Holder.class.getDeclaredField("sInt");
+            sInt = Accessor.field(lk, sIntField, Holder.class);
+            sIntGetter = (Accessor.IntStaticGetter) sInt.getter;
+            sIntGetHandle = lk.unreflectGetter(sIntField);
+            sIntSetter = (Accessor.IntStaticSetter) sInt.setter;
+            sIntSetHandle = lk.unreflectSetter(sIntField);
+            var fIntField = Holder.class.getDeclaredField("fInt");
+            fInt = Accessor.field(lk, fIntField, Holder.class);
+            fIntGetter = (Accessor.IntGetter) fInt.getter;
+            fIntGetHandle = lk.unreflectGetter(fIntField);
+            var iIntField = Holder.class.getDeclaredField("iInt");
+            iInt = Accessor.field(lk, iIntField, Holder.class);
+            iIntGetter = (Accessor.IntGetter) iInt.getter;
+            iIntGetHandle = lk.unreflectGetter(iIntField);
+            iIntSetter = (Accessor.IntSetter) iInt.setter;
+            iIntSetHandle = lk.unreflectSetter(iIntField);
+
+            var sfLongField = Holder.class.getDeclaredField("sfLong");
+            sfLong = Accessor.field(lk, sfLongField, Holder.class);
+            sfLongGetter = (Accessor.LongStaticGetter) sfLong.getter;
+            sfLongGetHandle = lk.unreflectGetter(sfLongField);
+            var sLongField = Holder.class.getDeclaredField("sLong");
+            sLong = Accessor.field(lk, sLongField, Holder.class);
+            sLongGetter = (Accessor.LongStaticGetter) sLong.getter;
+            sLongGetHandle = lk.unreflectGetter(sLongField);
+            sLongSetter = (Accessor.LongStaticSetter) sLong.setter;
+            sLongSetHandle = lk.unreflectSetter(sLongField);
+            var fLongField = Holder.class.getDeclaredField("fLong");
+            fLong = Accessor.field(lk, fLongField, Holder.class);
+            fLongGetter = (Accessor.LongGetter) fLong.getter;
+            fLongGetHandle = lk.unreflectGetter(fLongField);
+            var iLongField = Holder.class.getDeclaredField("iLong");
+            iLong = Accessor.field(lk, iLongField, Holder.class);
+            iLongGetter = (Accessor.LongGetter) iLong.getter;
+            iLongGetHandle = lk.unreflectGetter(iLongField);
+            iLongSetter = (Accessor.LongSetter) iLong.setter;
+            iLongSetHandle = lk.unreflectSetter(iLongField);
+
+            var sfFloatField = Holder.class.getDeclaredField("sfFloat");
+            sfFloat = Accessor.field(lk, sfFloatField, Holder.class);
+            sfFloatGetter = (Accessor.FloatStaticGetter) sfFloat.getter;
+            sfFloatGetHandle = lk.unreflectGetter(sfFloatField);
+            var sFloatField = Holder.class.getDeclaredField("sFloat");
+            sFloat = Accessor.field(lk, sFloatField, Holder.class);
+            sFloatGetter = (Accessor.FloatStaticGetter) sFloat.getter;
+            sFloatGetHandle = lk.unreflectGetter(sFloatField);
+            sFloatSetter = (Accessor.FloatStaticSetter) sFloat.setter;
+            sFloatSetHandle = lk.unreflectSetter(sFloatField);
+            var fFloatField = Holder.class.getDeclaredField("fFloat");
+            fFloat = Accessor.field(lk, fFloatField, Holder.class);
+            fFloatGetter = (Accessor.FloatGetter) fFloat.getter;
+            fFloatGetHandle = lk.unreflectGetter(fFloatField);
+            var iFloatField = Holder.class.getDeclaredField("iFloat");
+            iFloat = Accessor.field(lk, iFloatField, Holder.class);
+            iFloatGetter = (Accessor.FloatGetter) iFloat.getter;
+            iFloatGetHandle = lk.unreflectGetter(iFloatField);
+            iFloatSetter = (Accessor.FloatSetter) iFloat.setter;
+            iFloatSetHandle = lk.unreflectSetter(iFloatField);
+
+            var sfDoubleField = Holder.class.getDeclaredField("sfDouble");
+            sfDouble = Accessor.field(lk, sfDoubleField, Holder.class);
+            sfDoubleGetter = (Accessor.DoubleStaticGetter) sfDouble.getter;
+            sfDoubleGetHandle = lk.unreflectGetter(sfDoubleField);
+            var sDoubleField = Holder.class.getDeclaredField("sDouble");
+            sDouble = Accessor.field(lk, sDoubleField, Holder.class);
+            sDoubleGetter = (Accessor.DoubleStaticGetter) sDouble.getter;
+            sDoubleGetHandle = lk.unreflectGetter(sDoubleField);
+            sDoubleSetter = (Accessor.DoubleStaticSetter) sDouble.setter;
+            sDoubleSetHandle = lk.unreflectSetter(sDoubleField);
+            var fDoubleField = Holder.class.getDeclaredField("fDouble");
+            fDouble = Accessor.field(lk, fDoubleField, Holder.class);
+            fDoubleGetter = (Accessor.DoubleGetter) fDouble.getter;
+            fDoubleGetHandle = lk.unreflectGetter(fDoubleField);
+            var iDoubleField = Holder.class.getDeclaredField("iDouble");
+            iDouble = Accessor.field(lk, iDoubleField, Holder.class);
+            iDoubleGetter = (Accessor.DoubleGetter) iDouble.getter;
+            iDoubleGetHandle = lk.unreflectGetter(iDoubleField);
+            iDoubleSetter = (Accessor.DoubleSetter) iDouble.setter;
+            iDoubleSetHandle = lk.unreflectSetter(iDoubleField);
+
+            var sfObjectField = Holder.class.getDeclaredField("sfObject");
+            sfObject = Accessor.field(lk, sfObjectField, Holder.class);
+            sfObjectGetter = (Accessor.StaticGetter) sfObject.getter;
+            sfObjectGetHandle = lk.unreflectGetter(sfObjectField);
+            var sObjectField = Holder.class.getDeclaredField("sObject");
+            sObject = Accessor.field(lk, sObjectField, Holder.class);
+            sObjectGetter = (Accessor.StaticGetter) sObject.getter;
+            sObjectGetHandle = lk.unreflectGetter(sObjectField);
+            sObjectSetter = (Accessor.StaticSetter) sObject.setter;
+            sObjectSetHandle = lk.unreflectSetter(sObjectField);
+            var fObjectField = Holder.class.getDeclaredField("fObject");
+            fObject = Accessor.field(lk, fObjectField, Holder.class);
+            fObjectGetter = (Accessor.Getter) fObject.getter;
+            fObjectGetHandle = lk.unreflectGetter(fObjectField);
+            var iObjectField = Holder.class.getDeclaredField("iObject");
+            iObject = Accessor.field(lk, iObjectField, Holder.class);
+            iObjectGetter = (Accessor.Getter) iObject.getter;
+            iObjectGetHandle = lk.unreflectGetter(iObjectField);
+            iObjectSetter = (Accessor.Setter) iObject.setter;
+            iObjectSetHandle = lk.unreflectSetter(iObjectField);
+        }
+    }
+
+    @Benchmark
+    public Object booleanStaticFinalGetGeneric(Status s) {
+        return s.sfBoolean.getter.get(null);
+    }
+
+    @Benchmark
+    public boolean booleanStaticFinalGetTyped(Status s) {
+        return s.sfBooleanGetter.getValue();
+    }
+
+    @SneakyThrows
+    @Benchmark
+    public boolean booleanStaticFinalGetHandle(Status s) {
+        return (boolean) s.sfBooleanGetHandle.invokeExact();
+    }
+
+    @Benchmark
+    public boolean booleanStaticFinalGetDirect(Status s) {
+        return Holder.sfBoolean;
+    }
+
+    @Benchmark
+    public Object booleanStaticGetGeneric(Status s) {
+        return s.sBoolean.getter.get(null);
+    }
+
+    @Benchmark
+    public boolean booleanStaticGetTyped(Status s) {
+        return s.sBooleanGetter.getValue();
+    }
+
+    @SneakyThrows
+    @Benchmark
+    public boolean booleanStaticGetHandle(Status s) {
+        return (boolean) s.sBooleanGetHandle.invokeExact();
+    }
+
+    @Benchmark
+    public boolean booleanStaticGetDirect(Status s) {
+        return Holder.sBoolean;
+    }
+
+    @Benchmark
+    public void booleanStaticSetGeneric(Status s) {
+        s.sBoolean.setter.set(null, s.booleanValue);
+    }
+
+    @Benchmark
+    public void booleanStaticSetTyped(Status s) {
+        s.sBooleanSetter.setValue(s.booleanValue);
+    }
+
+    @SneakyThrows
+    @Benchmark
+    public void booleanStaticSetHandle(Status s) {
+        s.sBooleanSetHandle.invokeExact(s.booleanValue);
+    }
+
+    @Benchmark
+    public void booleanStaticSetDirect(Status s) {
+        Holder.sBoolean = s.booleanValue;
+    }
+
+    @Benchmark
+    public Object booleanFinalGetGeneric(Status s) {
+        return s.fBoolean.getter.get(s.o);
+    }
+
+    @Benchmark
+    public boolean booleanFinalGetTyped(Status s) {
+        return s.fBooleanGetter.getValue(s.o);
+    }
+
+    @SneakyThrows
+    @Benchmark
+    public boolean booleanFinalGetHandle(Status s) {
+        return (boolean) s.fBooleanGetHandle.invokeExact(s.o);
+    }
+
+    @Benchmark
+    public boolean booleanFinalGetDirect(Status s) {
+        return s.o.fBoolean;
+    }
+
+    @Benchmark
+    public Object booleanInstanceGetGeneric(Status s) {
+        return s.iBoolean.getter.get(s.o);
+    }
+
+    @Benchmark
+    public boolean booleanInstanceGetTyped(Status s) {
+        return s.iBooleanGetter.getValue(s.o);
+    }
+
+    @SneakyThrows
+    @Benchmark
+    public boolean booleanInstanceGetHandle(Status s) {
+        return (boolean) s.iBooleanGetHandle.invokeExact(s.o);
+    }
+
+    @Benchmark
+    public boolean booleanInstanceGetDirect(Status s) {
+        return s.o.iBoolean;
+    }
+
+    @Benchmark
+    public void booleanInstanceSetGeneric(Status s) {
+        s.iBoolean.setter.set(s.o, s.booleanValue);
+    }
+
+    @Benchmark
+    public void booleanInstanceSetTyped(Status s) {
+        s.iBooleanSetter.setValue(s.o, s.booleanValue);
+    }
+
+    @SneakyThrows
+    @Benchmark
+    public void booleanInstanceSetHandle(Status s) {
+        s.iBooleanSetHandle.invokeExact(s.o, s.booleanValue);
+    }
+
+    @Benchmark
+    public void booleanInstanceSetDirect(Status s) {
+        s.o.iBoolean = s.booleanValue;
+    }
+
+    @Benchmark
+    public Object byteStaticFinalGetGeneric(Status s) {
+        return s.sfByte.getter.get(null);
+    }
+
+    @Benchmark
+    public byte byteStaticFinalGetTyped(Status s) {
+        return s.sfByteGetter.getValue();
+    }
+
+    @SneakyThrows
+    @Benchmark
+    public byte byteStaticFinalGetHandle(Status s) {
+        return (byte) s.sfByteGetHandle.invokeExact();
+    }
+
+    @Benchmark
+    public byte byteStaticFinalGetDirect(Status s) {
+        return Holder.sfByte;
+    }
+
+    @Benchmark
+    public Object byteStaticGetGeneric(Status s) {
+        return s.sByte.getter.get(null);
+    }
+
+    @Benchmark
+    public byte byteStaticGetTyped(Status s) {
+        return s.sByteGetter.getValue();
+    }
+
+    @SneakyThrows
+    @Benchmark
+    public byte byteStaticGetHandle(Status s) {
+        return (byte) s.sByteGetHandle.invokeExact();
+    }
+
+    @Benchmark
+    public byte byteStaticGetDirect(Status s) {
+        return Holder.sByte;
+    }
+
+    @Benchmark
+    public void byteStaticSetGeneric(Status s) {
+        s.sByte.setter.set(null, s.byteValue);
+    }
+
+    @Benchmark
+    public void byteStaticSetTyped(Status s) {
+        s.sByteSetter.setValue(s.byteValue);
+    }
+
+    @SneakyThrows
+    @Benchmark
+    public void byteStaticSetHandle(Status s) {
+        s.sByteSetHandle.invokeExact(s.byteValue);
+    }
+
+    @Benchmark
+    public void byteStaticSetDirect(Status s) {
+        Holder.sByte = s.byteValue;
+    }
+
+    @Benchmark
+    public Object byteFinalGetGeneric(Status s) {
+        return s.fByte.getter.get(s.o);
+    }
+
+    @Benchmark
+    public byte byteFinalGetTyped(Status s) {
+        return s.fByteGetter.getValue(s.o);
+    }
+
+    @SneakyThrows
+    @Benchmark
+    public byte byteFinalGetHandle(Status s) {
+        return (byte) s.fByteGetHandle.invokeExact(s.o);
+    }
+
+    @Benchmark
+    public byte byteFinalGetDirect(Status s) {
+        return s.o.fByte;
+    }
+
+    @Benchmark
+    public Object byteInstanceGetGeneric(Status s) {
+        return s.iByte.getter.get(s.o);
+    }
+
+    @Benchmark
+    public byte byteInstanceGetTyped(Status s) {
+        return s.iByteGetter.getValue(s.o);
+    }
+
+    @SneakyThrows
+    @Benchmark
+    public byte byteInstanceGetHandle(Status s) {
+        return (byte) s.iByteGetHandle.invokeExact(s.o);
+    }
+
+    @Benchmark
+    public byte byteInstanceGetDirect(Status s) {
+        return s.o.iByte;
+    }
+
+    @Benchmark
+    public void byteInstanceSetGeneric(Status s) {
+        s.iByte.setter.set(s.o, s.byteValue);
+    }
+
+    @Benchmark
+    public void byteInstanceSetTyped(Status s) {
+        s.iByteSetter.setValue(s.o, s.byteValue);
+    }
+
+    @SneakyThrows
+    @Benchmark
+    public void byteInstanceSetHandle(Status s) {
+        s.iByteSetHandle.invokeExact(s.o, s.byteValue);
+    }
+
+    @Benchmark
+    public void byteInstanceSetDirect(Status s) {
+        s.o.iByte = s.byteValue;
+    }
+
+    @Benchmark
+    public Object shortStaticFinalGetGeneric(Status s) {
+        return s.sfShort.getter.get(null);
+    }
+
+    @Benchmark
+    public short shortStaticFinalGetTyped(Status s) {
+        return s.sfShortGetter.getValue();
+    }
+
+    @SneakyThrows
+    @Benchmark
+    public short shortStaticFinalGetHandle(Status s) {
+        return (short) s.sfShortGetHandle.invokeExact();
+    }
+
+    @Benchmark
+    public short shortStaticFinalGetDirect(Status s) {
+        return Holder.sfShort;
+    }
+
+    @Benchmark
+    public Object shortStaticGetGeneric(Status s) {
+        return s.sShort.getter.get(null);
+    }
+
+    @Benchmark
+    public short shortStaticGetTyped(Status s) {
+        return s.sShortGetter.getValue();
+    }
+
+    @SneakyThrows
+    @Benchmark
+    public short shortStaticGetHandle(Status s) {
+        return (short) s.sShortGetHandle.invokeExact();
+    }
+
+    @Benchmark
+    public short shortStaticGetDirect(Status s) {
+        return Holder.sShort;
+    }
+
+    @Benchmark
+    public void shortStaticSetGeneric(Status s) {
+        s.sShort.setter.set(null, s.shortValue);
+    }
+
+    @Benchmark
+    public void shortStaticSetTyped(Status s) {
+        s.sShortSetter.setValue(s.shortValue);
+    }
+
+    @SneakyThrows
+    @Benchmark
+    public void shortStaticSetHandle(Status s) {
+        s.sShortSetHandle.invokeExact(s.shortValue);
+    }
+
+    @Benchmark
+    public void shortStaticSetDirect(Status s) {
+        Holder.sShort = s.shortValue;
+    }
+
+    @Benchmark
+    public Object shortFinalGetGeneric(Status s) {
+        return s.fShort.getter.get(s.o);
+    }
+
+    @Benchmark
+    public short shortFinalGetTyped(Status s) {
+        return s.fShortGetter.getValue(s.o);
+    }
+
+    @SneakyThrows
+    @Benchmark
+    public short shortFinalGetHandle(Status s) {
+        return (short) s.fShortGetHandle.invokeExact(s.o);
+    }
+
+    @Benchmark
+    public short shortFinalGetDirect(Status s) {
+        return s.o.fShort;
+    }
+
+    @Benchmark
+    public Object shortInstanceGetGeneric(Status s) {
+        return s.iShort.getter.get(s.o);
+    }
+
+    @Benchmark
+    public short shortInstanceGetTyped(Status s) {
+        return s.iShortGetter.getValue(s.o);
+    }
+
+    @SneakyThrows
+    @Benchmark
+    public short shortInstanceGetHandle(Status s) {
+        return (short) s.iShortGetHandle.invokeExact(s.o);
+    }
+
+    @Benchmark
+    public short shortInstanceGetDirect(Status s) {
+        return s.o.iShort;
+    }
+
+    @Benchmark
+    public void shortInstanceSetGeneric(Status s) {
+        s.iShort.setter.set(s.o, s.shortValue);
+    }
+
+    @Benchmark
+    public void shortInstanceSetTyped(Status s) {
+        s.iShortSetter.setValue(s.o, s.shortValue);
+    }
+
+    @SneakyThrows
+    @Benchmark
+    public void shortInstanceSetHandle(Status s) {
+        s.iShortSetHandle.invokeExact(s.o, s.shortValue);
+    }
+
+    @Benchmark
+    public void shortInstanceSetDirect(Status s) {
+        s.o.iShort = s.shortValue;
+    }
+
+    @Benchmark
+    public Object charStaticFinalGetGeneric(Status s) {
+        return s.sfChar.getter.get(null);
+    }
+
+    @Benchmark
+    public char charStaticFinalGetTyped(Status s) {
+        return s.sfCharGetter.getValue();
+    }
+
+    @SneakyThrows
+    @Benchmark
+    public char charStaticFinalGetHandle(Status s) {
+        return (char) s.sfCharGetHandle.invokeExact();
+    }
+
+    @Benchmark
+    public char charStaticFinalGetDirect(Status s) {
+        return Holder.sfChar;
+    }
+
+    @Benchmark
+    public Object charStaticGetGeneric(Status s) {
+        return s.sChar.getter.get(null);
+    }
+
+    @Benchmark
+    public char charStaticGetTyped(Status s) {
+        return s.sCharGetter.getValue();
+    }
+
+    @SneakyThrows
+    @Benchmark
+    public char charStaticGetHandle(Status s) {
+        return (char) s.sCharGetHandle.invokeExact();
+    }
+
+    @Benchmark
+    public char charStaticGetDirect(Status s) {
+        return Holder.sChar;
+    }
+
+    @Benchmark
+    public void charStaticSetGeneric(Status s) {
+        s.sChar.setter.set(null, s.charValue);
+    }
+
+    @Benchmark
+    public void charStaticSetTyped(Status s) {
+        s.sCharSetter.setValue(s.charValue);
+    }
+
+    @SneakyThrows
+    @Benchmark
+    public void charStaticSetHandle(Status s) {
+        s.sCharSetHandle.invokeExact(s.charValue);
+    }
+
+    @Benchmark
+    public void charStaticSetDirect(Status s) {
+        Holder.sChar = s.charValue;
+    }
+
+    @Benchmark
+    public Object charFinalGetGeneric(Status s) {
+        return s.fChar.getter.get(s.o);
+    }
+
+    @Benchmark
+    public char charFinalGetTyped(Status s) {
+        return s.fCharGetter.getValue(s.o);
+    }
+
+    @SneakyThrows
+    @Benchmark
+    public char charFinalGetHandle(Status s) {
+        return (char) s.fCharGetHandle.invokeExact(s.o);
+    }
+
+    @Benchmark
+    public char charFinalGetDirect(Status s) {
+        return s.o.fChar;
+    }
+
+    @Benchmark
+    public Object charInstanceGetGeneric(Status s) {
+        return s.iChar.getter.get(s.o);
+    }
+
+    @Benchmark
+    public char charInstanceGetTyped(Status s) {
+        return s.iCharGetter.getValue(s.o);
+    }
+
+    @SneakyThrows
+    @Benchmark
+    public char charInstanceGetHandle(Status s) {
+        return (char) s.iCharGetHandle.invokeExact(s.o);
+    }
+
+    @Benchmark
+    public char charInstanceGetDirect(Status s) {
+        return s.o.iChar;
+    }
+
+    @Benchmark
+    public void charInstanceSetGeneric(Status s) {
+        s.iChar.setter.set(s.o, s.charValue);
+    }
+
+    @Benchmark
+    public void charInstanceSetTyped(Status s) {
+        s.iCharSetter.setValue(s.o, s.charValue);
+    }
+
+    @SneakyThrows
+    @Benchmark
+    public void charInstanceSetHandle(Status s) {
+        s.iCharSetHandle.invokeExact(s.o, s.charValue);
+    }
+
+    @Benchmark
+    public void charInstanceSetDirect(Status s) {
+        s.o.iChar = s.charValue;
+    }
+
+    @Benchmark
+    public Object intStaticFinalGetGeneric(Status s) {
+        return s.sfInt.getter.get(null);
+    }
+
+    @Benchmark
+    public int intStaticFinalGetTyped(Status s) {
+        return s.sfIntGetter.getValue();
+    }
+
+    @SneakyThrows
+    @Benchmark
+    public int intStaticFinalGetHandle(Status s) {
+        return (int) s.sfIntGetHandle.invokeExact();
+    }
+
+    @Benchmark
+    public int intStaticFinalGetDirect(Status s) {
+        return Holder.sfInt;
+    }
+
+    @Benchmark
+    public Object intStaticGetGeneric(Status s) {
+        return s.sInt.getter.get(null);
+    }
+
+    @Benchmark
+    public int intStaticGetTyped(Status s) {
+        return s.sIntGetter.getValue();
+    }
+
+    @SneakyThrows
+    @Benchmark
+    public int intStaticGetHandle(Status s) {
+        return (int) s.sIntGetHandle.invokeExact();
+    }
+
+    @Benchmark
+    public int intStaticGetDirect(Status s) {
+        return Holder.sInt;
+    }
+
+    @Benchmark
+    public void intStaticSetGeneric(Status s) {
+        s.sInt.setter.set(null, s.intValue);
+    }
+
+    @Benchmark
+    public void intStaticSetTyped(Status s) {
+        s.sIntSetter.setValue(s.intValue);
+    }
+
+    @SneakyThrows
+    @Benchmark
+    public void intStaticSetHandle(Status s) {
+        s.sIntSetHandle.invokeExact(s.intValue);
+    }
+
+    @Benchmark
+    public void intStaticSetDirect(Status s) {
+        Holder.sInt = s.intValue;
+    }
+
+    @Benchmark
+    public Object intFinalGetGeneric(Status s) {
+        return s.fInt.getter.get(s.o);
+    }
+
+    @Benchmark
+    public int intFinalGetTyped(Status s) {
+        return s.fIntGetter.getValue(s.o);
+    }
+
+    @SneakyThrows
+    @Benchmark
+    public int intFinalGetHandle(Status s) {
+        return (int) s.fIntGetHandle.invokeExact(s.o);
+    }
+
+    @Benchmark
+    public int intFinalGetDirect(Status s) {
+        return s.o.fInt;
+    }
+
+    @Benchmark
+    public Object intInstanceGetGeneric(Status s) {
+        return s.iInt.getter.get(s.o);
+    }
+
+    @Benchmark
+    public int intInstanceGetTyped(Status s) {
+        return s.iIntGetter.getValue(s.o);
+    }
+
+    @SneakyThrows
+    @Benchmark
+    public int intInstanceGetHandle(Status s) {
+        return (int) s.iIntGetHandle.invokeExact(s.o);
+    }
+
+    @Benchmark
+    public int intInstanceGetDirect(Status s) {
+        return s.o.iInt;
+    }
+
+    @Benchmark
+    public void intInstanceSetGeneric(Status s) {
+        s.iInt.setter.set(s.o, s.intValue);
+    }
+
+    @Benchmark
+    public void intInstanceSetTyped(Status s) {
+        s.iIntSetter.setValue(s.o, s.intValue);
+    }
+
+    @SneakyThrows
+    @Benchmark
+    public void intInstanceSetHandle(Status s) {
+        s.iIntSetHandle.invokeExact(s.o, s.intValue);
+    }
+
+    @Benchmark
+    public void intInstanceSetDirect(Status s) {
+        s.o.iInt = s.intValue;
+    }
+
+    @Benchmark
+    public Object longStaticFinalGetGeneric(Status s) {
+        return s.sfLong.getter.get(null);
+    }
+
+    @Benchmark
+    public long longStaticFinalGetTyped(Status s) {
+        return s.sfLongGetter.getValue();
+    }
+
+    @SneakyThrows
+    @Benchmark
+    public long longStaticFinalGetHandle(Status s) {
+        return (long) s.sfLongGetHandle.invokeExact();
+    }
+
+    @Benchmark
+    public long longStaticFinalGetDirect(Status s) {
+        return Holder.sfLong;
+    }
+
+    @Benchmark
+    public Object longStaticGetGeneric(Status s) {
+        return s.sLong.getter.get(null);
+    }
+
+    @Benchmark
+    public long longStaticGetTyped(Status s) {
+        return s.sLongGetter.getValue();
+    }
+
+    @SneakyThrows
+    @Benchmark
+    public long longStaticGetHandle(Status s) {
+        return (long) s.sLongGetHandle.invokeExact();
+    }
+
+    @Benchmark
+    public long longStaticGetDirect(Status s) {
+        return Holder.sLong;
+    }
+
+    @Benchmark
+    public void longStaticSetGeneric(Status s) {
+        s.sLong.setter.set(null, s.longValue);
+    }
+
+    @Benchmark
+    public void longStaticSetTyped(Status s) {
+        s.sLongSetter.setValue(s.longValue);
+    }
+
+    @SneakyThrows
+    @Benchmark
+    public void longStaticSetHandle(Status s) {
+        s.sLongSetHandle.invokeExact(s.longValue);
+    }
+
+    @Benchmark
+    public void longStaticSetDirect(Status s) {
+        Holder.sLong = s.longValue;
+    }
+
+    @Benchmark
+    public Object longFinalGetGeneric(Status s) {
+        return s.fLong.getter.get(s.o);
+    }
+
+    @Benchmark
+    public long longFinalGetTyped(Status s) {
+        return s.fLongGetter.getValue(s.o);
+    }
+
+    @SneakyThrows
+    @Benchmark
+    public long longFinalGetHandle(Status s) {
+        return (long) s.fLongGetHandle.invokeExact(s.o);
+    }
+
+    @Benchmark
+    public long longFinalGetDirect(Status s) {
+        return s.o.fLong;
+    }
+
+    @Benchmark
+    public Object longInstanceGetGeneric(Status s) {
+        return s.iLong.getter.get(s.o);
+    }
+
+    @Benchmark
+    public long longInstanceGetTyped(Status s) {
+        return s.iLongGetter.getValue(s.o);
+    }
+
+    @SneakyThrows
+    @Benchmark
+    public long longInstanceGetHandle(Status s) {
+        return (long) s.iLongGetHandle.invokeExact(s.o);
+    }
+
+    @Benchmark
+    public long longInstanceGetDirect(Status s) {
+        return s.o.iLong;
+    }
+
+    @Benchmark
+    public void longInstanceSetGeneric(Status s) {
+        s.iLong.setter.set(s.o, s.longValue);
+    }
+
+    @Benchmark
+    public void longInstanceSetTyped(Status s) {
+        s.iLongSetter.setValue(s.o, s.longValue);
+    }
+
+    @SneakyThrows
+    @Benchmark
+    public void longInstanceSetHandle(Status s) {
+        s.iLongSetHandle.invokeExact(s.o, s.longValue);
+    }
+
+    @Benchmark
+    public void longInstanceSetDirect(Status s) {
+        s.o.iLong = s.longValue;
+    }
+
+    @Benchmark
+    public Object floatStaticFinalGetGeneric(Status s) {
+        return s.sfFloat.getter.get(null);
+    }
+
+    @Benchmark
+    public float floatStaticFinalGetTyped(Status s) {
+        return s.sfFloatGetter.getValue();
+    }
+
+    @SneakyThrows
+    @Benchmark
+    public float floatStaticFinalGetHandle(Status s) {
+        return (float) s.sfFloatGetHandle.invokeExact();
+    }
+
+    @Benchmark
+    public float floatStaticFinalGetDirect(Status s) {
+        return Holder.sfFloat;
+    }
+
+    @Benchmark
+    public Object floatStaticGetGeneric(Status s) {
+        return s.sFloat.getter.get(null);
+    }
+
+    @Benchmark
+    public float floatStaticGetTyped(Status s) {
+        return s.sFloatGetter.getValue();
+    }
+
+    @SneakyThrows
+    @Benchmark
+    public float floatStaticGetHandle(Status s) {
+        return (float) s.sFloatGetHandle.invokeExact();
+    }
+
+    @Benchmark
+    public float floatStaticGetDirect(Status s) {
+        return Holder.sFloat;
+    }
+
+    @Benchmark
+    public void floatStaticSetGeneric(Status s) {
+        s.sFloat.setter.set(null, s.floatValue);
+    }
+
+    @Benchmark
+    public void floatStaticSetTyped(Status s) {
+        s.sFloatSetter.setValue(s.floatValue);
+    }
+
+    @SneakyThrows
+    @Benchmark
+    public void floatStaticSetHandle(Status s) {
+        s.sFloatSetHandle.invokeExact(s.floatValue);
+    }
+
+    @Benchmark
+    public void floatStaticSetDirect(Status s) {
+        Holder.sFloat = s.floatValue;
+    }
+
+    @Benchmark
+    public Object floatFinalGetGeneric(Status s) {
+        return s.fFloat.getter.get(s.o);
+    }
+
+    @Benchmark
+    public float floatFinalGetTyped(Status s) {
+        return s.fFloatGetter.getValue(s.o);
+    }
+
+    @SneakyThrows
+    @Benchmark
+    public float floatFinalGetHandle(Status s) {
+        return (float) s.fFloatGetHandle.invokeExact(s.o);
+    }
+
+    @Benchmark
+    public float floatFinalGetDirect(Status s) {
+        return s.o.fFloat;
+    }
+
+    @Benchmark
+    public Object floatInstanceGetGeneric(Status s) {
+        return s.iFloat.getter.get(s.o);
+    }
+
+    @Benchmark
+    public float floatInstanceGetTyped(Status s) {
+        return s.iFloatGetter.getValue(s.o);
+    }
+
+    @SneakyThrows
+    @Benchmark
+    public float floatInstanceGetHandle(Status s) {
+        return (float) s.iFloatGetHandle.invokeExact(s.o);
+    }
+
+    @Benchmark
+    public float floatInstanceGetDirect(Status s) {
+        return s.o.iFloat;
+    }
+
+    @Benchmark
+    public void floatInstanceSetGeneric(Status s) {
+        s.iFloat.setter.set(s.o, s.floatValue);
+    }
+
+    @Benchmark
+    public void floatInstanceSetTyped(Status s) {
+        s.iFloatSetter.setValue(s.o, s.floatValue);
+    }
+
+    @SneakyThrows
+    @Benchmark
+    public void floatInstanceSetHandle(Status s) {
+        s.iFloatSetHandle.invokeExact(s.o, s.floatValue);
+    }
+
+    @Benchmark
+    public void floatInstanceSetDirect(Status s) {
+        s.o.iFloat = s.floatValue;
+    }
+
+    @Benchmark
+    public Object doubleStaticFinalGetGeneric(Status s) {
+        return s.sfDouble.getter.get(null);
+    }
+
+    @Benchmark
+    public double doubleStaticFinalGetTyped(Status s) {
+        return s.sfDoubleGetter.getValue();
+    }
+
+    @SneakyThrows
+    @Benchmark
+    public double doubleStaticFinalGetHandle(Status s) {
+        return (double) s.sfDoubleGetHandle.invokeExact();
+    }
+
+    @Benchmark
+    public double doubleStaticFinalGetDirect(Status s) {
+        return Holder.sfDouble;
+    }
+
+    @Benchmark
+    public Object doubleStaticGetGeneric(Status s) {
+        return s.sDouble.getter.get(null);
+    }
+
+    @Benchmark
+    public double doubleStaticGetTyped(Status s) {
+        return s.sDoubleGetter.getValue();
+    }
+
+    @SneakyThrows
+    @Benchmark
+    public double doubleStaticGetHandle(Status s) {
+        return (double) s.sDoubleGetHandle.invokeExact();
+    }
+
+    @Benchmark
+    public double doubleStaticGetDirect(Status s) {
+        return Holder.sDouble;
+    }
+
+    @Benchmark
+    public void doubleStaticSetGeneric(Status s) {
+        s.sDouble.setter.set(null, s.doubleValue);
+    }
+
+    @Benchmark
+    public void doubleStaticSetTyped(Status s) {
+        s.sDoubleSetter.setValue(s.doubleValue);
+    }
+
+    @SneakyThrows
+    @Benchmark
+    public void doubleStaticSetHandle(Status s) {
+        s.sDoubleSetHandle.invokeExact(s.doubleValue);
+    }
+
+    @Benchmark
+    public void doubleStaticSetDirect(Status s) {
+        Holder.sDouble = s.doubleValue;
+    }
+
+    @Benchmark
+    public Object doubleFinalGetGeneric(Status s) {
+        return s.fDouble.getter.get(s.o);
+    }
+
+    @Benchmark
+    public double doubleFinalGetTyped(Status s) {
+        return s.fDoubleGetter.getValue(s.o);
+    }
+
+    @SneakyThrows
+    @Benchmark
+    public double doubleFinalGetHandle(Status s) {
+        return (double) s.fDoubleGetHandle.invokeExact(s.o);
+    }
+
+    @Benchmark
+    public double doubleFinalGetDirect(Status s) {
+        return s.o.fDouble;
+    }
+
+    @Benchmark
+    public Object doubleInstanceGetGeneric(Status s) {
+        return s.iDouble.getter.get(s.o);
+    }
+
+    @Benchmark
+    public double doubleInstanceGetTyped(Status s) {
+        return s.iDoubleGetter.getValue(s.o);
+    }
+
+    @SneakyThrows
+    @Benchmark
+    public double doubleInstanceGetHandle(Status s) {
+        return (double) s.iDoubleGetHandle.invokeExact(s.o);
+    }
+
+    @Benchmark
+    public double doubleInstanceGetDirect(Status s) {
+        return s.o.iDouble;
+    }
+
+    @Benchmark
+    public void doubleInstanceSetGeneric(Status s) {
+        s.iDouble.setter.set(s.o, s.doubleValue);
+    }
+
+    @Benchmark
+    public void doubleInstanceSetTyped(Status s) {
+        s.iDoubleSetter.setValue(s.o, s.doubleValue);
+    }
+
+    @SneakyThrows
+    @Benchmark
+    public void doubleInstanceSetHandle(Status s) {
+        s.iDoubleSetHandle.invokeExact(s.o, s.doubleValue);
+    }
+
+    @Benchmark
+    public void doubleInstanceSetDirect(Status s) {
+        s.o.iDouble = s.doubleValue;
+    }
+
+    @Benchmark
+    public Object objectStaticFinalGetGeneric(Status s) {
+        return s.sfObject.getter.get(null);
+    }
+
+    @Benchmark
+    public Object objectStaticFinalGetTyped(Status s) {
+        return s.sfObjectGetter.get();
+    }
+
+    @SneakyThrows
+    @Benchmark
+    public Object objectStaticFinalGetHandle(Status s) {
+        return (Object) s.sfObjectGetHandle.invokeExact();
+    }
+
+    @Benchmark
+    public Object objectStaticFinalGetDirect(Status s) {
+        return Holder.sfObject;
+    }
+
+    @Benchmark
+    public Object objectStaticGetGeneric(Status s) {
+        return s.sObject.getter.get(null);
+    }
+
+    @Benchmark
+    public Object objectStaticGetTyped(Status s) {
+        return s.sObjectGetter.get();
+    }
+
+    @SneakyThrows
+    @Benchmark
+    public Object objectStaticGetHandle(Status s) {
+        return (Object) s.sObjectGetHandle.invokeExact();
+    }
+
+    @Benchmark
+    public Object objectStaticGetDirect(Status s) {
+        return Holder.sObject;
+    }
+
+    @Benchmark
+    public void objectStaticSetGeneric(Status s) {
+        s.sObject.setter.set(null, s.objectValue);
+    }
+
+    @Benchmark
+    public void objectStaticSetTyped(Status s) {
+        s.sObjectSetter.set(s.objectValue);
+    }
+
+    @SneakyThrows
+    @Benchmark
+    public void objectStaticSetHandle(Status s) {
+        s.sObjectSetHandle.invokeExact(s.objectValue);
+    }
+
+    @Benchmark
+    public void objectStaticSetDirect(Status s) {
+        Holder.sObject = s.objectValue;
+    }
+
+    @Benchmark
+    public Object objectFinalGetGeneric(Status s) {
+        return s.fObject.getter.get(s.o);
+    }
+
+    @Benchmark
+    public Object objectFinalGetTyped(Status s) {
+        return s.fObjectGetter.get(s.o);
+    }
+
+    @SneakyThrows
+    @Benchmark
+    public Object objectFinalGetHandle(Status s) {
+        return (Object) s.fObjectGetHandle.invokeExact(s.o);
+    }
+
+    @Benchmark
+    public Object objectFinalGetDirect(Status s) {
+        return s.o.fObject;
+    }
+
+    @Benchmark
+    public Object objectInstanceGetGeneric(Status s) {
+        return s.iObject.getter.get(s.o);
+    }
+
+    @Benchmark
+    public Object objectInstanceGetTyped(Status s) {
+        return s.iObjectGetter.get(s.o);
+    }
+
+    @SneakyThrows
+    @Benchmark
+    public Object objectInstanceGetHandle(Status s) {
+        return (Object) s.iObjectGetHandle.invokeExact(s.o);
+    }
+
+    @Benchmark
+    public Object objectInstanceGetDirect(Status s) {
+        return s.o.iObject;
+    }
+
+    @Benchmark
+    public void objectInstanceSetGeneric(Status s) {
+        s.iObject.setter.set(s.o, s.objectValue);
+    }
+
+    @Benchmark
+    public void objectInstanceSetTyped(Status s) {
+        s.iObjectSetter.set(s.o, s.objectValue);
+    }
+
+    @SneakyThrows
+    @Benchmark
+    public void objectInstanceSetHandle(Status s) {
+        s.iObjectSetHandle.invokeExact(s.o, s.objectValue);
+    }
+
+    @Benchmark
+    public void objectInstanceSetDirect(Status s) {
+        s.o.iObject = s.objectValue;
+    }
+    //endregion
+}
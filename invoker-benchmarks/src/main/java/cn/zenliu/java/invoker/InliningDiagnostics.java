@@ -0,0 +1,130 @@
+/*
+ * Source of invoker
+ * Copyright (C) 2023.  Zen.Liu
+ *
+ * SPDX-License-Identifier: GPL-2.0-only WITH Classpath-exception-2.0"
+ *
+ * This program is free software; you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation; version 2.
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program; if not, write to the Free Software Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA 02110-1301, USA.
+ *
+ * Class Path Exception
+ * Linking this library statically or dynamically with other modules is making a combined work based on this library. Thus, the terms and conditions of the GNU General Public License cover the whole combination.
+ *  As a special exception, the copyright holders of this library give you permission to link this library with independent modules to produce an executable, regardless of the license terms of these independent modules, and to copy and distribute the resulting executable under terms of your choice, provided that you also meet, for each linked independent module, the terms and conditions of the license of that module. An independent module is a module which is not derived from or based on this library. If you modify this library, you may extend this exception to your version of the library, but you are not obligated to do so. If you do not wish to do so, delete this exception statement from your version.
+ */
+
+package cn.zenliu.java.invoker;
+
+import lombok.SneakyThrows;
+import lombok.var;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Run a workload in a forked JVM with {@code -XX:+PrintCompilation -XX:+PrintInlining} and parse the output
+ * into an {@link InliningReport}.<br/>
+ * A workload is a {@link Runnable} with a public no-arg constructor, which builds the {@link Invoker} or {@link Accessor}
+ * under diagnosing in its constructor, and calls it once in {@link Runnable#run()}.
+ * See {@link InliningWorkloads} for samples.<br/>
+ * Command line: {@code java -cp benchmarks.jar cn.zenliu.java.invoker.InliningDiagnostics [-all] workloadClass...}
+ *
+ * @author Zen.Liu
+ * @since 2026-10-19
+ */
+public final class InliningDiagnostics {
+    public static final int DEFAULT_ITERATIONS = 1_000_000;
+    static final List<String> FLAGS = Arrays.asList(
+            "-XX:+UnlockDiagnosticVMOptions",
+            "-XX:+PrintCompilation",
+            "-XX:+PrintInlining"
+    );
+    /**
+     * jvm arguments for a reproducible trace: compilations block the workload and run one by one on a single C2
+     * compiler thread, so the lines of different compilations never interleave.
+     */
+    public static final String[] SERIAL = {"-Xbatch", "-XX:-TieredCompilation", "-XX:CICompilerCount=1"};
+
+    private InliningDiagnostics() {
+        throw new IllegalAccessError();
+    }
+
+    /**
+     * Run workload in a forked JVM and collect the output.
+     *
+     * @param workload   workload class
+     * @param iterations times to call the workload
+     * @param jvmArgs    extra jvm arguments, eg: {@code -XX:-TieredCompilation} or {@link #SERIAL}
+     * @return output lines of the forked JVM
+     */
+    @SneakyThrows
+    public static List<String> trace(Class<? extends Runnable> workload, int iterations, String... jvmArgs) {
+        var cmd = new ArrayList<String>();
+        cmd.add(System.getProperty("java.home") + File.separator + "bin" + File.separator + "java");
+        cmd.addAll(FLAGS);
+        cmd.addAll(Arrays.asList(jvmArgs));
+        cmd.add("-cp");
+        cmd.add(System.getProperty("java.class.path"));
+        cmd.add(Probe.class.getName());
+        cmd.add(workload.getName());
+        cmd.add(Integer.toString(iterations));
+        var process = new ProcessBuilder(cmd).redirectErrorStream(true).start();
+        var lines = new ArrayList<String>();
+        try (var r = new BufferedReader(new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = r.readLine()) != null) lines.add(line);
+        }
+        var exit = process.waitFor();
+        if (exit != 0) {
+            throw new IllegalStateException("workload " + workload.getName() + " exit with " + exit + ":\n" + String.join("\n", lines));
+        }
+        return lines;
+    }
+
+    /**
+     * Run workload in a forked JVM and report the generated classes.
+     *
+     * @see #trace(Class, int, String...)
+     * @see InliningReport#generated()
+     */
+    public static InliningReport run(Class<? extends Runnable> workload, int iterations, String... jvmArgs) {
+        return InliningReport.parse(trace(workload, iterations, jvmArgs)).generated();
+    }
+
+    @SuppressWarnings("unchecked")
+    public static void main(String[] args) throws ClassNotFoundException {
+        var all = false;
+        for (var arg : args) {
+            if (arg.equals("-all")) {
+                all = true;
+                continue;
+            }
+            var workload = (Class<? extends Runnable>) Class.forName(arg);
+            var report = InliningReport.parse(trace(workload, Integer.getInteger("iterations", DEFAULT_ITERATIONS)));
+            System.out.println("# " + arg);
+            System.out.println(all ? report : report.generated());
+        }
+    }
+
+    /**
+     * Entry of the forked JVM.
+     */
+    public static final class Probe {
+        private Probe() {
+            throw new IllegalAccessError();
+        }
+
+        public static void main(String[] args) throws Exception {
+            var workload = (Runnable) Class.forName(args[0]).getConstructor().newInstance();
+            var iterations = Integer.parseInt(args[1]);
+            for (int i = 0; i < iterations; i++) {
+                workload.run();
+            }
+        }
+    }
+}
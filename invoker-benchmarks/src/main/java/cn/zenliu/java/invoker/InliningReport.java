@@ -0,0 +1,288 @@
+/*
+ * Source of invoker
+ * Copyright (C) 2023.  Zen.Liu
+ *
+ * SPDX-License-Identifier: GPL-2.0-only WITH Classpath-exception-2.0"
+ *
+ * This program is free software; you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation; version 2.
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program; if not, write to the Free Software Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA 02110-1301, USA.
+ *
+ * Class Path Exception
+ * Linking this library statically or dynamically with other modules is making a combined work based on this library. Thus, the terms and conditions of the GNU General Public License cover the whole combination.
+ *  As a special exception, the copyright holders of this library give you permission to link this library with independent modules to produce an executable, regardless of the license terms of these independent modules, and to copy and distribute the resulting executable under terms of your choice, provided that you also meet, for each linked independent module, the terms and conditions of the license of that module. An independent module is a module which is not derived from or based on this library. If you modify this library, you may extend this exception to your version of the library, but you are not obligated to do so. If you do not wish to do so, delete this exception statement from your version.
+ */
+
+package cn.zenliu.java.invoker;
+
+import lombok.var;
+
+import java.util.*;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+
+/**
+ * Parsed output of {@code -XX:+PrintCompilation -XX:+PrintInlining}, aggregated per class.<br/>
+ * For each class it records how many of its methods were compiled, inlined (and how deep),
+ * why inlining failed, which calls made from it failed to inline, and how often its compiled code was deoptimized.
+ *
+ * @author Zen.Liu
+ * @since 2026-10-19
+ */
+public final class InliningReport {
+    /**
+     * Category of an inlining failure, decided from the reason text printed by the JIT.
+     */
+    public enum Failure {
+        /**
+         * callee is too large, hot method too big, already compiled into a big method, uses too much stack.
+         */
+        TOO_BIG,
+        /**
+         * no static binding, virtual call, megamorphic or type profile miss.
+         */
+        MEGAMORPHIC,
+        /**
+         * inlining too deep, recursive inlining is too deep.
+         */
+        TOO_DEEP,
+        /**
+         * call site too cold, never executed, low call site frequency.
+         */
+        COLD,
+        /**
+         * native, not loaded, not inlineable, or any other reason.
+         */
+        OTHER;
+
+        static Failure of(String reason) {
+            if (reason.contains("too large") || reason.contains("too big") || reason.contains("big method") || reason.contains("too much stack"))
+                return TOO_BIG;
+            if (reason.contains("megamorphic") || reason.contains("static binding") || reason.contains("virtual call") || reason.contains("profile"))
+                return MEGAMORPHIC;
+            if (reason.contains("too deep") || reason.contains("recursive"))
+                return TOO_DEEP;
+            if (reason.contains("cold") || reason.contains("never executed") || reason.contains("frequency") || reason.contains("MinInliningThreshold"))
+                return COLD;
+            return OTHER;
+        }
+    }
+
+    /**
+     * Statistic of one class.
+     */
+    public static final class ClassStats {
+        public final String className;
+        /**
+         * count of compilations of methods of this class.
+         */
+        int compilations;
+        /**
+         * count of call sites into this class that were inlined.
+         */
+        int inlined;
+        /**
+         * max depth at which a method of this class was inlined, 0 if never.
+         */
+        int maxDepth;
+        /**
+         * count of compiled methods of this class made not entrant.
+         */
+        int deopts;
+        /**
+         * call sites into this class that were not inlined.
+         */
+        final EnumMap<Failure, Integer> failures = new EnumMap<>(Failure.class);
+        /**
+         * call sites from this class that were not inlined: 'caller -> callee: reason' to count.
+         */
+        final Map<String, Integer> blocked = new TreeMap<>();
+
+        ClassStats(String className) {
+            this.className = className;
+        }
+
+        public int compilations() {
+            return compilations;
+        }
+
+        public int inlined() {
+            return inlined;
+        }
+
+        public int maxDepth() {
+            return maxDepth;
+        }
+
+        public int deopts() {
+            return deopts;
+        }
+
+        public int failures(Failure failure) {
+            return failures.getOrDefault(failure, 0);
+        }
+
+        public Map<Failure, Integer> failures() {
+            return Collections.unmodifiableMap(failures);
+        }
+
+        public Map<String, Integer> blocked() {
+            return Collections.unmodifiableMap(blocked);
+        }
+
+        @Override
+        public String toString() {
+            var b = new StringBuilder();
+            b.append(className)
+                    .append(": compiled=").append(compilations)
+                    .append(", inlined=").append(inlined)
+                    .append(", maxDepth=").append(maxDepth)
+                    .append(", deopts=").append(deopts)
+                    .append(", failures=").append(failures);
+            for (var e : blocked.entrySet()) {
+                b.append("\n\t").append(e.getKey()).append(" x").append(e.getValue());
+            }
+            return b.toString();
+        }
+    }
+
+    /**
+     * 'timestamp compileId [attributes] [tier] Class::method [@ osr] (size bytes) [note]'
+     */
+    static final Pattern COMPILATION = Pattern.compile("^\\s*\\d+\\s+\\d+\\s+[%sbn! ]*?(?:\\d\\s+)?(\\S+?)::(\\S+)(?:\\s+@ -?\\d+)?\\s+\\((?:\\d+ bytes|native|not loaded)\\)(.*)$");
+    /**
+     * '[attributes] @ bci Class::method (size bytes) [reason]'
+     */
+    static final Pattern INLINING = Pattern.compile("^([\\s!m]*)@ \\d+\\s+(\\S+?)::(\\S+)\\s+\\((?:\\d+ bytes|native|not loaded)\\)(.*)$");
+
+    final Map<String, ClassStats> classes;
+
+    InliningReport(Map<String, ClassStats> classes) {
+        this.classes = classes;
+    }
+
+    /**
+     * @return statistic of each class, ordered by name.
+     */
+    public Map<String, ClassStats> classes() {
+        return Collections.unmodifiableMap(classes);
+    }
+
+    /**
+     * @return statistic of one class or null if never seen.
+     */
+    public ClassStats of(String className) {
+        return classes.get(className);
+    }
+
+    /**
+     * @param filter class name filter
+     * @return report only contains matched classes
+     */
+    public InliningReport filter(Predicate<String> filter) {
+        var m = new TreeMap<String, ClassStats>();
+        for (var e : classes.entrySet()) {
+            if (filter.test(e.getKey())) m.put(e.getKey(), e.getValue());
+        }
+        return new InliningReport(m);
+    }
+
+    /**
+     * @return does the class generated by invoker: lambda proxies, or SAM interfaces of {@link Invoker} and {@link Accessor}.
+     */
+    public static boolean isGenerated(String className) {
+        return className.contains("$$Lambda")
+               || className.startsWith(Invoker.class.getName() + "$")
+               || className.startsWith(Accessor.class.getName() + "$");
+    }
+
+    /**
+     * @return report only contains generated classes
+     * @see #isGenerated(String)
+     */
+    public InliningReport generated() {
+        return filter(InliningReport::isGenerated);
+    }
+
+    /**
+     * Parse output of JVM run with {@code -XX:+UnlockDiagnosticVMOptions -XX:+PrintCompilation -XX:+PrintInlining}.
+     *
+     * @param lines output lines
+     * @return the report
+     */
+    public static InliningReport parse(Iterable<String> lines) {
+        var classes = new TreeMap<String, ClassStats>();
+        // stack[0] is the compiled method, stack[n] is the method inlined at depth n.
+        var stack = new ArrayList<String>();
+        var base = -1;
+        for (var line : lines) {
+            var m = INLINING.matcher(line);
+            if (m.matches()) {
+                if (stack.isEmpty()) continue;
+                var col = m.group(1).length();
+                if (base < 0) base = col;
+                var depth = Math.max(1, (col - base) / 2 + 1);
+                var cls = className(m.group(2));
+                var callee = cls + "::" + m.group(3);
+                var reason = m.group(4).trim();
+                while (stack.size() > depth) stack.remove(stack.size() - 1);
+                var caller = stack.get(stack.size() - 1);
+                var s = classes.computeIfAbsent(cls, ClassStats::new);
+                if (isInlined(reason)) {
+                    s.inlined++;
+                    s.maxDepth = Math.max(s.maxDepth, depth);
+                    stack.add(callee);
+                } else {
+                    s.failures.merge(Failure.of(reason), 1, Integer::sum);
+                    var callerClass = caller.substring(0, caller.indexOf("::"));
+                    classes.computeIfAbsent(callerClass, ClassStats::new)
+                            .blocked.merge(caller + " -> " + callee + ": " + reason, 1, Integer::sum);
+                    // keep depth aligned for children, which never exist for a failed call.
+                    stack.add(callee);
+                }
+                continue;
+            }
+            m = COMPILATION.matcher(line);
+            if (m.matches()) {
+                var cls = className(m.group(1));
+                var s = classes.computeIfAbsent(cls, ClassStats::new);
+                var note = m.group(3);
+                if (note.contains("made not entrant")) {
+                    s.deopts++;
+                    stack.clear();
+                } else if (note.contains("made zombie")) {
+                    stack.clear();
+                } else {
+                    s.compilations++;
+                    stack.clear();
+                    stack.add(cls + "::" + m.group(2));
+                    base = -1;
+                }
+            }
+        }
+        return new InliningReport(classes);
+    }
+
+    static String className(String raw) {
+        // unloaded classes are printed in internal form, java 8 lambda proxies contain a '/' of their own.
+        return raw.contains("$$Lambda") ? raw : raw.replace('/', '.');
+    }
+
+    static boolean isInlined(String reason) {
+        // C1 prints nothing for an inlined call.
+        return reason.isEmpty()
+               || reason.startsWith("inline")
+               || reason.equals("accessor")
+               || reason.startsWith("force inline")
+               || reason.startsWith("intrinsic");
+    }
+
+    @Override
+    public String toString() {
+        var b = new StringBuilder();
+        for (var s : classes.values()) {
+            b.append(s).append('\n');
+        }
+        return b.toString();
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ * Source of invoker
+ * Copyright (C) 2023.  Zen.Liu
+ *
+ * SPDX-License-Identifier: GPL-2.0-only WITH Classpath-exception-2.0"
+ *
+ * This program is free software; you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation; version 2.
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program; if not, write to the Free Software Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA 02110-1301, USA.
+ *
+ * Class Path Exception
+ * Linking this library statically or dynamically with other modules is making a combined work based on this library. Thus, the terms and conditions of the GNU General Public License cover the whole combination.
+ *  As a special exception, the copyright holders of this library give you permission to link this library with independent modules to produce an executable, regardless of the license terms of these independent modules, and to copy and distribute the resulting executable under terms of your choice, provided that you also meet, for each linked independent module, the terms and conditions of the license of that module. An independent module is a module which is not derived from or based on this library. If you modify this library, you may extend this exception to your version of the library, but you are not obligated to do so. If you do not wish to do so, delete this exception statement from your version.
+ */
+
+package cn.zenliu.java.invoker;
+
+import lombok.SneakyThrows;
+import lombok.var;
+
+import java.lang.invoke.MethodHandles;
+
+/**
+ * Sample workloads for {@link InliningDiagnostics}.
+ *
+ * @author Zen.Liu
+ * @since 2026-10-19
+ */
+public final class InliningWorkloads {
+    private InliningWorkloads() {
+        throw new IllegalAccessError();
+    }
+
+    public static class Target {
+        int val;
+
+        public int compute(int in) {
+            val += in;
+            return val;
+        }
+    }
+
+    /**
+     * {@link Invoker#invoke(Object, Object...)} of an instance method.
+     */
+    public static class InvokerInvoke implements Runnable {
+        final Invoker invoker;
+        final Target target = new Target();
+        int i;
+
+        @SneakyThrows
+        public InvokerInvoke() {
+            invoker = Invoker.make(MethodHandles.lookup(), Target.class.getMethod("compute", int.class));
+        }
+
+        @Override
+        public void run() {
+            invoker.invoke(target, i++);
+        }
+    }
+
+    /**
+     * The underlying SAM method of an instance method.
+     */
+    public static class InvokerUnder implements Runnable {
+        final Invoker.ix11 invoker;
+        final Target target = new Target();
+        int i;
+
+        @SneakyThrows
+        public InvokerUnder() {
+            invoker = (Invoker.ix11) Invoker.make(MethodHandles.lookup(), Target.class.getMethod("compute", int.class));
+        }
+
+        @Override
+        public void run() {
+            invoker.i(target, i++);
+        }
+    }
+
+    /**
+     * Typed getter and setter of a primitive field.
+     */
+    public static class AccessorPrimitive implements Runnable {
+        final Accessor.IntGetter getter;
+        final Accessor.IntSetter setter;
+        final Target target = new Target();
+
+        @SneakyThrows
+        public AccessorPrimitive() {
+            var acc = Accessor.field(MethodHandles.lookup(), Target.class.getDeclaredField("val"), Target.class);
+            getter = (Accessor.IntGetter) acc.getter;
+            setter = (Accessor.IntSetter) acc.setter;
+        }
+
+        @Override
+        public void run() {
+            setter.setValue(target, getter.getValue(target) + 1);
+        }
+    }
+
+    /**
+     * Generic getter and setter of a primitive field.
+     */
+    public static class AccessorGeneric implements Runnable {
+        final Accessor accessor;
+        final Target target = new Target();
+
+        @SneakyThrows
+        public AccessorGeneric() {
+            accessor = Accessor.field(MethodHandles.lookup(), Target.class.getDeclaredField("val"), Target.class);
+        }
+
+        @Override
+        public void run() {
+            accessor.setter.set(target, (int) accessor.getter.get(target) + 1);
+        }
+    }
+}
@@ -17,12 +17,8 @@ package cn.zenliu.java.invoker;
 
 import lombok.SneakyThrows;
 import lombok.var;
-import org.junit.jupiter.api.Test;
 import org.openjdk.jmh.annotations.*;
 import org.openjdk.jmh.infra.Blackhole;
-import org.openjdk.jmh.runner.Runner;
-import org.openjdk.jmh.runner.options.OptionsBuilder;
-import org.openjdk.jmh.runner.options.TimeValue;
 
 import java.lang.invoke.MethodHandles;
 import java.lang.reflect.Method;
@@ -33,27 +29,13 @@ import java.util.concurrent.TimeUnit;
  * @author Zen.Liu
  * @since 2023-08-24
  */
-
-
-public class InvokerBenchmarkTest {
-    @Test
-    public void runBenchmarks() throws Exception {
-        var options = new OptionsBuilder()
-                .include(this.getClass().getName() + ".*")
-                .mode(Mode.AverageTime)
-                .timeUnit(TimeUnit.NANOSECONDS)
-                .warmupTime(TimeValue.seconds(1))
-                .warmupIterations(6)
-                .threads(1)
-                .measurementIterations(6)
-                .forks(3)
-                .shouldFailOnError(true)
-                .shouldDoGC(false)
-                .build();
-
-        new Runner(options).run();
-    }
-
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 6, time = 1)
+@Measurement(iterations = 6)
+@Threads(1)
+@Fork(3)
+public class InvokerBenchmark {
     public static class Holder {
         int val;
         Integer value;
@@ -0,0 +1,98 @@
+/*
+ * Source of invoker
+ * Copyright (C) 2023.  Zen.Liu
+ *
+ * SPDX-License-Identifier: GPL-2.0-only WITH Classpath-exception-2.0"
+ *
+ * This program is free software; you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation; version 2.
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program; if not, write to the Free Software Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA 02110-1301, USA.
+ *
+ * Class Path Exception
+ * Linking this library statically or dynamically with other modules is making a combined work based on this library. Thus, the terms and conditions of the GNU General Public License cover the whole combination.
+ *  As a special exception, the copyright holders of this library give you permission to link this library with independent modules to produce an executable, regardless of the license terms of these independent modules, and to copy and distribute the resulting executable under terms of your choice, provided that you also meet, for each linked independent module, the terms and conditions of the license of that module. An independent module is a module which is not derived from or based on this library. If you modify this library, you may extend this exception to your version of the library, but you are not obligated to do so. If you do not wish to do so, delete this exception statement from your version.
+ */
+
+
+package cn.zenliu.java.invoker;
+
+import lombok.var;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link RadixSort} against {@link List#sort(Comparator)}.
+ *
+ * @author Zen.Liu
+ * @since 2026-10-19
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 6, time = 1)
+@Measurement(iterations = 6)
+@Threads(1)
+@Fork(3)
+public class SortBenchmark {
+    public static class Holder {
+        long id;
+        int rank;
+    }
+
+    @State(Scope.Thread)
+    public static class Status {
+        @Param({"100000", "1000000"})
+        int size;
+        List<Holder> source;
+        List<Holder> list;
+        Accessor id;
+        Comparator<Holder> compiled;
+
+        @Setup(Level.Trial)
+        public void initialize() {
+            var rnd = new Random(7);
+            source = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                var h = new Holder();
+                h.id = rnd.nextLong();
+                h.rank = rnd.nextInt(1000);
+                source.add(h);
+            }
+            id = RadixSort.accessor(Holder.class, "id");
+            compiled = Comparators.of(Holder.class, "id");
+        }
+
+        @Setup(Level.Invocation)
+        public void copy() {
+            list = new ArrayList<>(source);
+        }
+    }
+
+    @Benchmark
+    public List<Holder> comparator(Status s) {
+        s.list.sort(Comparator.comparingLong(h -> h.id));
+        return s.list;
+    }
+
+    @Benchmark
+    public List<Holder> compiledComparator(Status s) {
+        s.list.sort(s.compiled);
+        return s.list;
+    }
+
+    @Benchmark
+    public List<Holder> radix(Status s) {
+        RadixSort.sort(s.list, s.id, false, false);
+        return s.list;
+    }
+
+    @Benchmark
+    public List<Holder> parallel(Status s) {
+        RadixSort.sort(s.list, s.id, false, true);
+        return s.list;
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * Source of invoker
+ * Copyright (C) 2023.  Zen.Liu
+ *
+ * SPDX-License-Identifier: GPL-2.0-only WITH Classpath-exception-2.0"
+ *
+ * This program is free software; you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation; version 2.
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program; if not, write to the Free Software Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA 02110-1301, USA.
+ *
+ * Class Path Exception
+ * Linking this library statically or dynamically with other modules is making a combined work based on this library. Thus, the terms and conditions of the GNU General Public License cover the whole combination.
+ *  As a special exception, the copyright holders of this library give you permission to link this library with independent modules to produce an executable, regardless of the license terms of these independent modules, and to copy and distribute the resulting executable under terms of your choice, provided that you also meet, for each linked independent module, the terms and conditions of the license of that module. An independent module is a module which is not derived from or based on this library. If you modify this library, you may extend this exception to your version of the library, but you are not obligated to do so. If you do not wish to do so, delete this exception statement from your version.
+ */
+
+package cn.zenliu.java.invoker;
+
+import lombok.var;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InliningReportTest {
+    static final String SAMPLE = "" +
+            "    192  186       2       P$$Lambda$1/471910020::apply (11 bytes)\n" +
+            "                              @ 4   P::get (5 bytes)\n" +
+            "    195  186       2       P$$Lambda$1/471910020::apply (11 bytes)   made not entrant\n" +
+            "    201  195 %     3       P::main @ 33 (102 bytes)\n" +
+            "                              @ 4   P::<init> (5 bytes)\n" +
+            "                                @ 1   java.lang.Object::<init> (1 bytes)\n" +
+            "                              @ 72   P$$Lambda$1/471910020::apply (11 bytes)   inline (hot)\n" +
+            "                                @ 4   P::get (5 bytes)   accessor\n" +
+            "                                @ 9   P::big (400 bytes)   hot method too big\n" +
+            "                              @ 80   java.util.function.Function::apply (0 bytes)   no static binding\n" +
+            "               !m             @ 98  java/io/PrintStream::println (not loaded)   not inlineable\n";
+
+    @Test
+    void parse() {
+        var r = InliningReport.parse(Arrays.asList(SAMPLE.split("\n")));
+        var lambda = r.of("P$$Lambda$1/471910020");
+        assertEquals(1, lambda.compilations());
+        assertEquals(1, lambda.deopts());
+        assertEquals(1, lambda.inlined());
+        assertEquals(1, lambda.maxDepth());
+        assertTrue(lambda.failures().isEmpty());
+        assertTrue(lambda.blocked().containsKey("P$$Lambda$1/471910020::apply -> P::big: hot method too big"));
+
+        var p = r.of("P");
+        assertEquals(2, p.maxDepth());
+        assertEquals(1, p.failures(InliningReport.Failure.TOO_BIG));
+        assertEquals(2, p.blocked().size());
+        assertEquals(1, p.compilations());
+
+        assertEquals(1, r.of("java.util.function.Function").failures(InliningReport.Failure.MEGAMORPHIC));
+        assertEquals(1, r.of("java.io.PrintStream").failures(InliningReport.Failure.OTHER));
+        assertEquals(2, r.of("java.lang.Object").maxDepth());
+    }
+
+    @Test
+    void generated() {
+        var r = InliningReport.parse(Arrays.asList(SAMPLE.split("\n"))).generated();
+        assertEquals(1, r.classes().size());
+        assertTrue(InliningReport.isGenerated("cn.zenliu.java.invoker.Invoker$ix11"));
+        assertTrue(InliningReport.isGenerated("Foo$$Lambda$14/0x0000000800c03000"));
+        assertTrue(InliningReport.isGenerated("Foo$$Lambda/0x0000000800c03000"));
+        assertFalse(InliningReport.isGenerated("java.lang.String"));
+    }
+
+    @Test
+    void run() {
+        var r = InliningDiagnostics.run(InliningWorkloads.InvokerInvoke.class, 200_000, InliningDiagnostics.SERIAL);
+        // the lambda is either compiled itself or inlined into a compiled caller, which one depends on the policy.
+        var lambda = r.classes().values().stream()
+                .filter(s -> s.className.contains("$$Lambda"))
+                .findFirst();
+        assertTrue(lambda.isPresent(), "generated lambda must be compiled or inlined");
+        assertTrue(lambda.get().compilations() + lambda.get().inlined() > 0);
+    }
+}
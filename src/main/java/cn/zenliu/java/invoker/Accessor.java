@@ -28,6 +28,8 @@ import java.lang.reflect.Field;
 import java.lang.reflect.Modifier;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
+import java.util.ListIterator;
 import java.util.Map;
 import java.util.function.Predicate;
 
@@ -54,6 +56,11 @@ public final class Accessor {
         this.type = type;
     }
 
+    @ApiStatus.Internal
+    static Accessor of(GenericGetter getter, @Nullable GenericSetter setter, Class<?> type) {
+        return new Accessor(getter, setter, type);
+    }
+
 
     interface GenericSetter {
         void set(@Nullable Object instance, Object value);
@@ -198,6 +205,42 @@ public final class Accessor {
         }
 
         boolean getValue(Object instance);
+
+        /**
+         * Bulk read {@code dst[i] = getValue(src[i])} for i in [from, to).
+         */
+        default void extract(Object[] src, boolean[] dst, int from, int to) {
+            Columns.check(src.length, dst.length, from, to);
+            for (int i = from; i < to; i++) dst[i] = getValue(src[i]);
+        }
+
+        default void extract(Object[] src, boolean[] dst) {
+            extract(src, dst, 0, src.length);
+        }
+
+        default void extract(List<?> src, boolean[] dst, int from, int to) {
+            Columns.check(src.size(), dst.length, from, to);
+            if (Columns.splittable(src)) {
+                for (int i = from; i < to; i++) dst[i] = getValue(src.get(i));
+            } else {
+                ListIterator<?> it = src.listIterator(from);
+                for (int i = from; i < to; i++) dst[i] = getValue(it.next());
+            }
+        }
+
+        /**
+         * Bulk read in fork-join common pool, lists without random access are read sequentially.
+         */
+        default void extractParallel(Object[] src, boolean[] dst, int from, int to) {
+            Columns.check(src.length, dst.length, from, to);
+            Columns.parallel(from, to, (a, b) -> extract(src, dst, a, b));
+        }
+
+        default void extractParallel(List<?> src, boolean[] dst, int from, int to) {
+            Columns.check(src.size(), dst.length, from, to);
+            if (Columns.splittable(src)) Columns.parallel(from, to, (a, b) -> extract(src, dst, a, b));
+            else extract(src, dst, from, to);
+        }
     }
 
     public interface BooleanSetter extends Setter, BooleanValueType {
@@ -210,6 +253,42 @@ public final class Accessor {
 
         void setValue(Object instance, boolean value);
 
+        /**
+         * Bulk write {@code setValue(targets[i], src[i])} for i in [from, to).
+         */
+        default void hydrate(boolean[] src, Object[] targets, int from, int to) {
+            Columns.check(targets.length, src.length, from, to);
+            for (int i = from; i < to; i++) setValue(targets[i], src[i]);
+        }
+
+        default void hydrate(boolean[] src, Object[] targets) {
+            hydrate(src, targets, 0, targets.length);
+        }
+
+        default void hydrate(boolean[] src, List<?> targets, int from, int to) {
+            Columns.check(targets.size(), src.length, from, to);
+            if (Columns.splittable(targets)) {
+                for (int i = from; i < to; i++) setValue(targets.get(i), src[i]);
+            } else {
+                ListIterator<?> it = targets.listIterator(from);
+                for (int i = from; i < to; i++) setValue(it.next(), src[i]);
+            }
+        }
+
+        /**
+         * Bulk write in fork-join common pool, lists without random access are written sequentially.
+         */
+        default void hydrateParallel(boolean[] src, Object[] targets, int from, int to) {
+            Columns.check(targets.length, src.length, from, to);
+            Columns.parallel(from, to, (a, b) -> hydrate(src, targets, a, b));
+        }
+
+        default void hydrateParallel(boolean[] src, List<?> targets, int from, int to) {
+            Columns.check(targets.size(), src.length, from, to);
+            if (Columns.splittable(targets)) Columns.parallel(from, to, (a, b) -> hydrate(src, targets, a, b));
+            else hydrate(src, targets, from, to);
+        }
+
     }
 
     public interface BooleanStaticGetter extends StaticGetter, BooleanValueType {
@@ -250,6 +329,42 @@ public final class Accessor {
         }
 
         byte getValue(Object instance);
+
+        /**
+         * Bulk read {@code dst[i] = getValue(src[i])} for i in [from, to).
+         */
+        default void extract(Object[] src, byte[] dst, int from, int to) {
+            Columns.check(src.length, dst.length, from, to);
+            for (int i = from; i < to; i++) dst[i] = getValue(src[i]);
+        }
+
+        default void extract(Object[] src, byte[] dst) {
+            extract(src, dst, 0, src.length);
+        }
+
+        default void extract(List<?> src, byte[] dst, int from, int to) {
+            Columns.check(src.size(), dst.length, from, to);
+            if (Columns.splittable(src)) {
+                for (int i = from; i < to; i++) dst[i] = getValue(src.get(i));
+            } else {
+                ListIterator<?> it = src.listIterator(from);
+                for (int i = from; i < to; i++) dst[i] = getValue(it.next());
+            }
+        }
+
+        /**
+         * Bulk read in fork-join common pool, lists without random access are read sequentially.
+         */
+        default void extractParallel(Object[] src, byte[] dst, int from, int to) {
+            Columns.check(src.length, dst.length, from, to);
+            Columns.parallel(from, to, (a, b) -> extract(src, dst, a, b));
+        }
+
+        default void extractParallel(List<?> src, byte[] dst, int from, int to) {
+            Columns.check(src.size(), dst.length, from, to);
+            if (Columns.splittable(src)) Columns.parallel(from, to, (a, b) -> extract(src, dst, a, b));
+            else extract(src, dst, from, to);
+        }
     }
 
     public interface ByteSetter extends Setter, ByteValueType {
@@ -262,6 +377,42 @@ public final class Accessor {
 
         void setValue(Object instance, byte value);
 
+        /**
+         * Bulk write {@code setValue(targets[i], src[i])} for i in [from, to).
+         */
+        default void hydrate(byte[] src, Object[] targets, int from, int to) {
+            Columns.check(targets.length, src.length, from, to);
+            for (int i = from; i < to; i++) setValue(targets[i], src[i]);
+        }
+
+        default void hydrate(byte[] src, Object[] targets) {
+            hydrate(src, targets, 0, targets.length);
+        }
+
+        default void hydrate(byte[] src, List<?> targets, int from, int to) {
+            Columns.check(targets.size(), src.length, from, to);
+            if (Columns.splittable(targets)) {
+                for (int i = from; i < to; i++) setValue(targets.get(i), src[i]);
+            } else {
+                ListIterator<?> it = targets.listIterator(from);
+                for (int i = from; i < to; i++) setValue(it.next(), src[i]);
+            }
+        }
+
+        /**
+         * Bulk write in fork-join common pool, lists without random access are written sequentially.
+         */
+        default void hydrateParallel(byte[] src, Object[] targets, int from, int to) {
+            Columns.check(targets.length, src.length, from, to);
+            Columns.parallel(from, to, (a, b) -> hydrate(src, targets, a, b));
+        }
+
+        default void hydrateParallel(byte[] src, List<?> targets, int from, int to) {
+            Columns.check(targets.size(), src.length, from, to);
+            if (Columns.splittable(targets)) Columns.parallel(from, to, (a, b) -> hydrate(src, targets, a, b));
+            else hydrate(src, targets, from, to);
+        }
+
     }
 
     public interface ByteStaticGetter extends StaticGetter, ByteValueType {
@@ -302,6 +453,42 @@ public final class Accessor {
         }
 
         short getValue(Object instance);
+
+        /**
+         * Bulk read {@code dst[i] = getValue(src[i])} for i in [from, to).
+         */
+        default void extract(Object[] src, short[] dst, int from, int to) {
+            Columns.check(src.length, dst.length, from, to);
+            for (int i = from; i < to; i++) dst[i] = getValue(src[i]);
+        }
+
+        default void extract(Object[] src, short[] dst) {
+            extract(src, dst, 0, src.length);
+        }
+
+        default void extract(List<?> src, short[] dst, int from, int to) {
+            Columns.check(src.size(), dst.length, from, to);
+            if (Columns.splittable(src)) {
+                for (int i = from; i < to; i++) dst[i] = getValue(src.get(i));
+            } else {
+                ListIterator<?> it = src.listIterator(from);
+                for (int i = from; i < to; i++) dst[i] = getValue(it.next());
+            }
+        }
+
+        /**
+         * Bulk read in fork-join common pool, lists without random access are read sequentially.
+         */
+        default void extractParallel(Object[] src, short[] dst, int from, int to) {
+            Columns.check(src.length, dst.length, from, to);
+            Columns.parallel(from, to, (a, b) -> extract(src, dst, a, b));
+        }
+
+        default void extractParallel(List<?> src, short[] dst, int from, int to) {
+            Columns.check(src.size(), dst.length, from, to);
+            if (Columns.splittable(src)) Columns.parallel(from, to, (a, b) -> extract(src, dst, a, b));
+            else extract(src, dst, from, to);
+        }
     }
 
     public interface ShortSetter extends Setter, ShortValueType {
@@ -314,6 +501,42 @@ public final class Accessor {
 
         void setValue(Object instance, short value);
 
+        /**
+         * Bulk write {@code setValue(targets[i], src[i])} for i in [from, to).
+         */
+        default void hydrate(short[] src, Object[] targets, int from, int to) {
+            Columns.check(targets.length, src.length, from, to);
+            for (int i = from; i < to; i++) setValue(targets[i], src[i]);
+        }
+
+        default void hydrate(short[] src, Object[] targets) {
+            hydrate(src, targets, 0, targets.length);
+        }
+
+        default void hydrate(short[] src, List<?> targets, int from, int to) {
+            Columns.check(targets.size(), src.length, from, to);
+            if (Columns.splittable(targets)) {
+                for (int i = from; i < to; i++) setValue(targets.get(i), src[i]);
+            } else {
+                ListIterator<?> it = targets.listIterator(from);
+                for (int i = from; i < to; i++) setValue(it.next(), src[i]);
+            }
+        }
+
+        /**
+         * Bulk write in fork-join common pool, lists without random access are written sequentially.
+         */
+        default void hydrateParallel(short[] src, Object[] targets, int from, int to) {
+            Columns.check(targets.length, src.length, from, to);
+            Columns.parallel(from, to, (a, b) -> hydrate(src, targets, a, b));
+        }
+
+        default void hydrateParallel(short[] src, List<?> targets, int from, int to) {
+            Columns.check(targets.size(), src.length, from, to);
+            if (Columns.splittable(targets)) Columns.parallel(from, to, (a, b) -> hydrate(src, targets, a, b));
+            else hydrate(src, targets, from, to);
+        }
+
     }
 
     public interface ShortStaticGetter extends StaticGetter, ShortValueType {
@@ -354,6 +577,42 @@ public final class Accessor {
         }
 
         char getValue(Object instance);
+
+        /**
+         * Bulk read {@code dst[i] = getValue(src[i])} for i in [from, to).
+         */
+        default void extract(Object[] src, char[] dst, int from, int to) {
+            Columns.check(src.length, dst.length, from, to);
+            for (int i = from; i < to; i++) dst[i] = getValue(src[i]);
+        }
+
+        default void extract(Object[] src, char[] dst) {
+            extract(src, dst, 0, src.length);
+        }
+
+        default void extract(List<?> src, char[] dst, int from, int to) {
+            Columns.check(src.size(), dst.length, from, to);
+            if (Columns.splittable(src)) {
+                for (int i = from; i < to; i++) dst[i] = getValue(src.get(i));
+            } else {
+                ListIterator<?> it = src.listIterator(from);
+                for (int i = from; i < to; i++) dst[i] = getValue(it.next());
+            }
+        }
+
+        /**
+         * Bulk read in fork-join common pool, lists without random access are read sequentially.
+         */
+        default void extractParallel(Object[] src, char[] dst, int from, int to) {
+            Columns.check(src.length, dst.length, from, to);
+            Columns.parallel(from, to, (a, b) -> extract(src, dst, a, b));
+        }
+
+        default void extractParallel(List<?> src, char[] dst, int from, int to) {
+            Columns.check(src.size(), dst.length, from, to);
+            if (Columns.splittable(src)) Columns.parallel(from, to, (a, b) -> extract(src, dst, a, b));
+            else extract(src, dst, from, to);
+        }
     }
 
     public interface CharSetter extends Setter, CharValueType {
@@ -366,6 +625,42 @@ public final class Accessor {
 
         void setValue(Object instance, char value);
 
+        /**
+         * Bulk write {@code setValue(targets[i], src[i])} for i in [from, to).
+         */
+        default void hydrate(char[] src, Object[] targets, int from, int to) {
+            Columns.check(targets.length, src.length, from, to);
+            for (int i = from; i < to; i++) setValue(targets[i], src[i]);
+        }
+
+        default void hydrate(char[] src, Object[] targets) {
+            hydrate(src, targets, 0, targets.length);
+        }
+
+        default void hydrate(char[] src, List<?> targets, int from, int to) {
+            Columns.check(targets.size(), src.length, from, to);
+            if (Columns.splittable(targets)) {
+                for (int i = from; i < to; i++) setValue(targets.get(i), src[i]);
+            } else {
+                ListIterator<?> it = targets.listIterator(from);
+                for (int i = from; i < to; i++) setValue(it.next(), src[i]);
+            }
+        }
+
+        /**
+         * Bulk write in fork-join common pool, lists without random access are written sequentially.
+         */
+        default void hydrateParallel(char[] src, Object[] targets, int from, int to) {
+            Columns.check(targets.length, src.length, from, to);
+            Columns.parallel(from, to, (a, b) -> hydrate(src, targets, a, b));
+        }
+
+        default void hydrateParallel(char[] src, List<?> targets, int from, int to) {
+            Columns.check(targets.size(), src.length, from, to);
+            if (Columns.splittable(targets)) Columns.parallel(from, to, (a, b) -> hydrate(src, targets, a, b));
+            else hydrate(src, targets, from, to);
+        }
+
     }
 
     public interface CharStaticGetter extends StaticGetter, CharValueType {
@@ -406,6 +701,42 @@ public final class Accessor {
         }
 
         int getValue(Object instance);
+
+        /**
+         * Bulk read {@code dst[i] = getValue(src[i])} for i in [from, to).
+         */
+        default void extract(Object[] src, int[] dst, int from, int to) {
+            Columns.check(src.length, dst.length, from, to);
+            for (int i = from; i < to; i++) dst[i] = getValue(src[i]);
+        }
+
+        default void extract(Object[] src, int[] dst) {
+            extract(src, dst, 0, src.length);
+        }
+
+        default void extract(List<?> src, int[] dst, int from, int to) {
+            Columns.check(src.size(), dst.length, from, to);
+            if (Columns.splittable(src)) {
+                for (int i = from; i < to; i++) dst[i] = getValue(src.get(i));
+            } else {
+                ListIterator<?> it = src.listIterator(from);
+                for (int i = from; i < to; i++) dst[i] = getValue(it.next());
+            }
+        }
+
+        /**
+         * Bulk read in fork-join common pool, lists without random access are read sequentially.
+         */
+        default void extractParallel(Object[] src, int[] dst, int from, int to) {
+            Columns.check(src.length, dst.length, from, to);
+            Columns.parallel(from, to, (a, b) -> extract(src, dst, a, b));
+        }
+
+        default void extractParallel(List<?> src, int[] dst, int from, int to) {
+            Columns.check(src.size(), dst.length, from, to);
+            if (Columns.splittable(src)) Columns.parallel(from, to, (a, b) -> extract(src, dst, a, b));
+            else extract(src, dst, from, to);
+        }
     }
 
     public interface IntSetter extends Setter, IntValueType {
@@ -418,6 +749,42 @@ public final class Accessor {
 
         void setValue(Object instance, int value);
 
+        /**
+         * Bulk write {@code setValue(targets[i], src[i])} for i in [from, to).
+         */
+        default void hydrate(int[] src, Object[] targets, int from, int to) {
+            Columns.check(targets.length, src.length, from, to);
+            for (int i = from; i < to; i++) setValue(targets[i], src[i]);
+        }
+
+        default void hydrate(int[] src, Object[] targets) {
+            hydrate(src, targets, 0, targets.length);
+        }
+
+        default void hydrate(int[] src, List<?> targets, int from, int to) {
+            Columns.check(targets.size(), src.length, from, to);
+            if (Columns.splittable(targets)) {
+                for (int i = from; i < to; i++) setValue(targets.get(i), src[i]);
+            } else {
+                ListIterator<?> it = targets.listIterator(from);
+                for (int i = from; i < to; i++) setValue(it.next(), src[i]);
+            }
+        }
+
+        /**
+         * Bulk write in fork-join common pool, lists without random access are written sequentially.
+         */
+        default void hydrateParallel(int[] src, Object[] targets, int from, int to) {
+            Columns.check(targets.length, src.length, from, to);
+            Columns.parallel(from, to, (a, b) -> hydrate(src, targets, a, b));
+        }
+
+        default void hydrateParallel(int[] src, List<?> targets, int from, int to) {
+            Columns.check(targets.size(), src.length, from, to);
+            if (Columns.splittable(targets)) Columns.parallel(from, to, (a, b) -> hydrate(src, targets, a, b));
+            else hydrate(src, targets, from, to);
+        }
+
     }
 
     public interface IntStaticGetter extends StaticGetter, IntValueType {
@@ -458,6 +825,42 @@ public final class Accessor {
         }
 
         long getValue(Object instance);
+
+        /**
+         * Bulk read {@code dst[i] = getValue(src[i])} for i in [from, to).
+         */
+        default void extract(Object[] src, long[] dst, int from, int to) {
+            Columns.check(src.length, dst.length, from, to);
+            for (int i = from; i < to; i++) dst[i] = getValue(src[i]);
+        }
+
+        default void extract(Object[] src, long[] dst) {
+            extract(src, dst, 0, src.length);
+        }
+
+        default void extract(List<?> src, long[] dst, int from, int to) {
+            Columns.check(src.size(), dst.length, from, to);
+            if (Columns.splittable(src)) {
+                for (int i = from; i < to; i++) dst[i] = getValue(src.get(i));
+            } else {
+                ListIterator<?> it = src.listIterator(from);
+                for (int i = from; i < to; i++) dst[i] = getValue(it.next());
+            }
+        }
+
+        /**
+         * Bulk read in fork-join common pool, lists without random access are read sequentially.
+         */
+        default void extractParallel(Object[] src, long[] dst, int from, int to) {
+            Columns.check(src.length, dst.length, from, to);
+            Columns.parallel(from, to, (a, b) -> extract(src, dst, a, b));
+        }
+
+        default void extractParallel(List<?> src, long[] dst, int from, int to) {
+            Columns.check(src.size(), dst.length, from, to);
+            if (Columns.splittable(src)) Columns.parallel(from, to, (a, b) -> extract(src, dst, a, b));
+            else extract(src, dst, from, to);
+        }
     }
 
     public interface LongSetter extends Setter, LongValueType {
@@ -470,6 +873,42 @@ public final class Accessor {
 
         void setValue(Object instance, long value);
 
+        /**
+         * Bulk write {@code setValue(targets[i], src[i])} for i in [from, to).
+         */
+        default void hydrate(long[] src, Object[] targets, int from, int to) {
+            Columns.check(targets.length, src.length, from, to);
+            for (int i = from; i < to; i++) setValue(targets[i], src[i]);
+        }
+
+        default void hydrate(long[] src, Object[] targets) {
+            hydrate(src, targets, 0, targets.length);
+        }
+
+        default void hydrate(long[] src, List<?> targets, int from, int to) {
+            Columns.check(targets.size(), src.length, from, to);
+            if (Columns.splittable(targets)) {
+                for (int i = from; i < to; i++) setValue(targets.get(i), src[i]);
+            } else {
+                ListIterator<?> it = targets.listIterator(from);
+                for (int i = from; i < to; i++) setValue(it.next(), src[i]);
+            }
+        }
+
+        /**
+         * Bulk write in fork-join common pool, lists without random access are written sequentially.
+         */
+        default void hydrateParallel(long[] src, Object[] targets, int from, int to) {
+            Columns.check(targets.length, src.length, from, to);
+            Columns.parallel(from, to, (a, b) -> hydrate(src, targets, a, b));
+        }
+
+        default void hydrateParallel(long[] src, List<?> targets, int from, int to) {
+            Columns.check(targets.size(), src.length, from, to);
+            if (Columns.splittable(targets)) Columns.parallel(from, to, (a, b) -> hydrate(src, targets, a, b));
+            else hydrate(src, targets, from, to);
+        }
+
     }
 
     public interface LongStaticGetter extends StaticGetter, LongValueType {
@@ -510,6 +949,42 @@ public final class Accessor {
         }
 
         float getValue(Object instance);
+
+        /**
+         * Bulk read {@code dst[i] = getValue(src[i])} for i in [from, to).
+         */
+        default void extract(Object[] src, float[] dst, int from, int to) {
+            Columns.check(src.length, dst.length, from, to);
+            for (int i = from; i < to; i++) dst[i] = getValue(src[i]);
+        }
+
+        default void extract(Object[] src, float[] dst) {
+            extract(src, dst, 0, src.length);
+        }
+
+        default void extract(List<?> src, float[] dst, int from, int to) {
+            Columns.check(src.size(), dst.length, from, to);
+            if (Columns.splittable(src)) {
+                for (int i = from; i < to; i++) dst[i] = getValue(src.get(i));
+            } else {
+                ListIterator<?> it = src.listIterator(from);
+                for (int i = from; i < to; i++) dst[i] = getValue(it.next());
+            }
+        }
+
+        /**
+         * Bulk read in fork-join common pool, lists without random access are read sequentially.
+         */
+        default void extractParallel(Object[] src, float[] dst, int from, int to) {
+            Columns.check(src.length, dst.length, from, to);
+            Columns.parallel(from, to, (a, b) -> extract(src, dst, a, b));
+        }
+
+        default void extractParallel(List<?> src, float[] dst, int from, int to) {
+            Columns.check(src.size(), dst.length, from, to);
+            if (Columns.splittable(src)) Columns.parallel(from, to, (a, b) -> extract(src, dst, a, b));
+            else extract(src, dst, from, to);
+        }
     }
 
     public interface FloatSetter extends Setter, FloatValueType {
@@ -522,6 +997,42 @@ public final class Accessor {
 
         void setValue(Object instance, float value);
 
+        /**
+         * Bulk write {@code setValue(targets[i], src[i])} for i in [from, to).
+         */
+        default void hydrate(float[] src, Object[] targets, int from, int to) {
+            Columns.check(targets.length, src.length, from, to);
+            for (int i = from; i < to; i++) setValue(targets[i], src[i]);
+        }
+
+        default void hydrate(float[] src, Object[] targets) {
+            hydrate(src, targets, 0, targets.length);
+        }
+
+        default void hydrate(float[] src, List<?> targets, int from, int to) {
+            Columns.check(targets.size(), src.length, from, to);
+            if (Columns.splittable(targets)) {
+                for (int i = from; i < to; i++) setValue(targets.get(i), src[i]);
+            } else {
+                ListIterator<?> it = targets.listIterator(from);
+                for (int i = from; i < to; i++) setValue(it.next(), src[i]);
+            }
+        }
+
+        /**
+         * Bulk write in fork-join common pool, lists without random access are written sequentially.
+         */
+        default void hydrateParallel(float[] src, Object[] targets, int from, int to) {
+            Columns.check(targets.length, src.length, from, to);
+            Columns.parallel(from, to, (a, b) -> hydrate(src, targets, a, b));
+        }
+
+        default void hydrateParallel(float[] src, List<?> targets, int from, int to) {
+            Columns.check(targets.size(), src.length, from, to);
+            if (Columns.splittable(targets)) Columns.parallel(from, to, (a, b) -> hydrate(src, targets, a, b));
+            else hydrate(src, targets, from, to);
+        }
+
     }
 
     public interface FloatStaticGetter extends StaticGetter, FloatValueType {
@@ -562,6 +1073,42 @@ public final class Accessor {
         }
 
         double getValue(Object instance);
+
+        /**
+         * Bulk read {@code dst[i] = getValue(src[i])} for i in [from, to).
+         */
+        default void extract(Object[] src, double[] dst, int from, int to) {
+            Columns.check(src.length, dst.length, from, to);
+            for (int i = from; i < to; i++) dst[i] = getValue(src[i]);
+        }
+
+        default void extract(Object[] src, double[] dst) {
+            extract(src, dst, 0, src.length);
+        }
+
+        default void extract(List<?> src, double[] dst, int from, int to) {
+            Columns.check(src.size(), dst.length, from, to);
+            if (Columns.splittable(src)) {
+                for (int i = from; i < to; i++) dst[i] = getValue(src.get(i));
+            } else {
+                ListIterator<?> it = src.listIterator(from);
+                for (int i = from; i < to; i++) dst[i] = getValue(it.next());
+            }
+        }
+
+        /**
+         * Bulk read in fork-join common pool, lists without random access are read sequentially.
+         */
+        default void extractParallel(Object[] src, double[] dst, int from, int to) {
+            Columns.check(src.length, dst.length, from, to);
+            Columns.parallel(from, to, (a, b) -> extract(src, dst, a, b));
+        }
+
+        default void extractParallel(List<?> src, double[] dst, int from, int to) {
+            Columns.check(src.size(), dst.length, from, to);
+            if (Columns.splittable(src)) Columns.parallel(from, to, (a, b) -> extract(src, dst, a, b));
+            else extract(src, dst, from, to);
+        }
     }
 
     public interface DoubleSetter extends Setter, DoubleValueType {
@@ -574,6 +1121,42 @@ public final class Accessor {
 
         void setValue(Object instance, double value);
 
+        /**
+         * Bulk write {@code setValue(targets[i], src[i])} for i in [from, to).
+         */
+        default void hydrate(double[] src, Object[] targets, int from, int to) {
+            Columns.check(targets.length, src.length, from, to);
+            for (int i = from; i < to; i++) setValue(targets[i], src[i]);
+        }
+
+        default void hydrate(double[] src, Object[] targets) {
+            hydrate(src, targets, 0, targets.length);
+        }
+
+        default void hydrate(double[] src, List<?> targets, int from, int to) {
+            Columns.check(targets.size(), src.length, from, to);
+            if (Columns.splittable(targets)) {
+                for (int i = from; i < to; i++) setValue(targets.get(i), src[i]);
+            } else {
+                ListIterator<?> it = targets.listIterator(from);
+                for (int i = from; i < to; i++) setValue(it.next(), src[i]);
+            }
+        }
+
+        /**
+         * Bulk write in fork-join common pool, lists without random access are written sequentially.
+         */
+        default void hydrateParallel(double[] src, Object[] targets, int from, int to) {
+            Columns.check(targets.length, src.length, from, to);
+            Columns.parallel(from, to, (a, b) -> hydrate(src, targets, a, b));
+        }
+
+        default void hydrateParallel(double[] src, List<?> targets, int from, int to) {
+            Columns.check(targets.size(), src.length, from, to);
+            if (Columns.splittable(targets)) Columns.parallel(from, to, (a, b) -> hydrate(src, targets, a, b));
+            else hydrate(src, targets, from, to);
+        }
+
     }
 
     public interface DoubleStaticGetter extends StaticGetter, DoubleValueType {
@@ -614,8 +1197,15 @@ public final class Accessor {
      * @return Accessor
      */
     @ApiStatus.AvailableSince("0.0.2")
-    @SneakyThrows
     public static Accessor field(MethodHandles.Lookup lookup, Field field, @Nullable Class<?> holder) {
+        var event = InvokerEvents.beginGenerate();
+        var accessor = generate(lookup, field, holder);
+        InvokerEvents.generated(event, field.getDeclaringClass().getName() + "::" + field.getName(), accessor);
+        return accessor;
+    }
+
+    @SneakyThrows
+    private static Accessor generate(MethodHandles.Lookup lookup, Field field, @Nullable Class<?> holder) {
         field.setAccessible(true);
         var isStatic = Modifier.isStatic(field.getModifiers());
         var type = field.getType();
@@ -1225,6 +1815,7 @@ public final class Accessor {
      * @param holder holder class
      * @param filter optional field filter
      * @return accessors mapped with field name
+     * @see ClassShape slot indexed accessors of instance fields
      */
     @ApiStatus.AvailableSince("0.0.2")
     public static @NotNull @Unmodifiable Map<String, Accessor> fields(MethodHandles.Lookup lookup, Class<?> holder, @Nullable Predicate<Field> filter) {
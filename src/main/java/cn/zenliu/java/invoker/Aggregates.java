@@ -0,0 +1,548 @@
+/*
+ * Source of invoker
+ * Copyright (C) 2023.  Zen.Liu
+ *
+ * SPDX-License-Identifier: GPL-2.0-only WITH Classpath-exception-2.0"
+ *
+ * This program is free software; you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation; version 2.
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program; if not, write to the Free Software Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA 02110-1301, USA.
+ *
+ * Class Path Exception
+ * Linking this library statically or dynamically with other modules is making a combined work based on this library. Thus, the terms and conditions of the GNU General Public License cover the whole combination.
+ *  As a special exception, the copyright holders of this library give you permission to link this library with independent modules to produce an executable, regardless of the license terms of these independent modules, and to copy and distribute the resulting executable under terms of your choice, provided that you also meet, for each linked independent module, the terms and conditions of the license of that module. An independent module is a module which is not derived from or based on this library. If you modify this library, you may extend this exception to your version of the library, but you are not obligated to do so. If you do not wish to do so, delete this exception statement from your version.
+ */
+
+
+package cn.zenliu.java.invoker;
+
+import lombok.var;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Aggregations over one field of {@link ClassShape}, eg: {@code Aggregates.sum(orders, "amount")} or
+ * {@code Aggregates.groupBy(orders, "region").sum("amount")}.<br/>
+ * 1. Values are read by the typed getters into primitive columns of groups, integral fields are summed exactly in
+ * {@code long} (overflow wraps), floating fields and {@link Number} fields in {@code double}, null numbers are skipped.<br/>
+ * 2. Lists larger than {@code invoker.columns.threshold} are aggregated in the fork-join common pool and the partial
+ * columns merged, unless there are more groups than chunks, which are aggregated in one sequential pass.<br/>
+ * 3. Groups of primitive fields are hashed by {@code long} keys in an open-addressing table without boxing, each key is
+ * boxed once for the result; other fields are grouped by {@link Object#equals}, null is a group too.<br/>
+ * Without an explicit type, the shape is of the class of the first element, other elements must be it or its subclasses.
+ *
+ * @author Zen.Liu
+ * @since 2026-10-19
+ */
+@ApiStatus.AvailableSince("0.0.3")
+public final class Aggregates {
+    private Aggregates() {
+        throw new IllegalAccessError();
+    }
+
+    //region Single field
+    public static Stats stats(List<?> elements, String field) {
+        if (elements.isEmpty()) return new Stats(false);
+        return stats(elements, elements.get(0).getClass(), field);
+    }
+
+    /**
+     * @param elements elements of type
+     * @param type     class of elements
+     * @param field    numeric field
+     * @return count, sum, min, max and average of field
+     * @throws IllegalArgumentException for unknown or non numeric fields
+     */
+    public static Stats stats(List<?> elements, Class<?> type, String field) {
+        var shape = ClassShape.of(type);
+        var values = elements.toArray();
+        return aggregate(values, null, 1, shape, slot(shape, field, true))[0];
+    }
+
+    public static double sum(List<?> elements, String field) {
+        return stats(elements, field).sum();
+    }
+
+    public static double avg(List<?> elements, String field) {
+        return stats(elements, field).avg();
+    }
+
+    public static double min(List<?> elements, String field) {
+        return stats(elements, field).min();
+    }
+
+    public static double max(List<?> elements, String field) {
+        return stats(elements, field).max();
+    }
+    //endregion
+
+    //region Groups
+    public static <T> Groups<T> groupBy(List<? extends T> elements, String field) {
+        if (elements.isEmpty()) return new Groups<>(null, new Object[0], new int[0], new Object[0]);
+        return groupBy(elements, elements.get(0).getClass(), field);
+    }
+
+    /**
+     * @param elements elements of type
+     * @param type     class of elements
+     * @param field    key field
+     * @return groups in order of first occurrence
+     * @throws IllegalArgumentException for unknown fields
+     */
+    public static <T> Groups<T> groupBy(List<? extends T> elements, Class<?> type, String field) {
+        var shape = ClassShape.of(type);
+        var slot = slot(shape, field, false);
+        var values = elements.toArray();
+        var n = values.length;
+        var ids = new int[n];
+        var kind = shape.kinds[slot];
+        var getter = shape.getters[slot];
+        var keys = new ArrayList<Object>();
+        if (kind < ClassShape.REFERENCE) {
+            var raw = new long[n];
+            Columns.parallel(0, n, (from, to) -> {
+                for (int i = from; i < to; i++) raw[i] = key(kind, getter, values[i]);
+            });
+            var table = new LongTable(16);
+            for (int i = 0; i < n; i++) {
+                var k = raw[i];
+                var id = table.get(k);
+                if (id < 0) {
+                    id = keys.size();
+                    table.put(k, id);
+                    keys.add(box(kind, k));
+                }
+                ids[i] = id;
+            }
+        } else {
+            var map = new HashMap<Object, Integer>();
+            for (int i = 0; i < n; i++) {
+                var k = getter.get(values[i]);
+                var id = map.get(k);
+                if (id == null) {
+                    id = keys.size();
+                    map.put(k, id);
+                    keys.add(k);
+                }
+                ids[i] = id;
+            }
+        }
+        return new Groups<>(shape, values, ids, keys.toArray());
+    }
+
+    /**
+     * Elements grouped by key, aggregations return maps in key order of first occurrence.
+     */
+    public static final class Groups<T> {
+        final @Nullable ClassShape shape;
+        final Object[] values;
+        final int[] ids;
+        final Object[] keys;
+
+        Groups(@Nullable ClassShape shape, Object[] values, int[] ids, Object[] keys) {
+            this.shape = shape;
+            this.values = values;
+            this.ids = ids;
+            this.keys = keys;
+        }
+
+        public int size() {
+            return keys.length;
+        }
+
+        public List<Object> keys() {
+            return Collections.unmodifiableList(Arrays.asList(keys));
+        }
+
+        public Map<Object, Long> count() {
+            var c = new long[keys.length];
+            for (var id : ids) c[id]++;
+            var r = new LinkedHashMap<Object, Long>();
+            for (int g = 0; g < keys.length; g++) r.put(keys[g], c[g]);
+            return r;
+        }
+
+        @SuppressWarnings("unchecked")
+        public Map<Object, List<T>> lists() {
+            var r = new LinkedHashMap<Object, List<T>>();
+            var lists = new ArrayList<List<T>>(keys.length);
+            for (int g = 0; g < keys.length; g++) {
+                var l = new ArrayList<T>();
+                lists.add(l);
+                r.put(keys[g], l);
+            }
+            for (int i = 0; i < values.length; i++) lists.get(ids[i]).add((T) values[i]);
+            return r;
+        }
+
+        /**
+         * @param field numeric field
+         * @return stats of field per group
+         */
+        public Map<Object, Stats> stats(String field) {
+            var r = new LinkedHashMap<Object, Stats>();
+            if (shape == null) return r;
+            var stats = aggregate(values, ids, keys.length, shape, slot(shape, field, true));
+            for (int g = 0; g < keys.length; g++) r.put(keys[g], stats[g]);
+            return r;
+        }
+
+        public Map<Object, Double> sum(String field) {
+            var r = new LinkedHashMap<Object, Double>();
+            stats(field).forEach((k, v) -> r.put(k, v.sum()));
+            return r;
+        }
+
+        public Map<Object, Double> avg(String field) {
+            var r = new LinkedHashMap<Object, Double>();
+            stats(field).forEach((k, v) -> r.put(k, v.avg()));
+            return r;
+        }
+
+        public Map<Object, Double> min(String field) {
+            var r = new LinkedHashMap<Object, Double>();
+            stats(field).forEach((k, v) -> r.put(k, v.min()));
+            return r;
+        }
+
+        public Map<Object, Double> max(String field) {
+            var r = new LinkedHashMap<Object, Double>();
+            stats(field).forEach((k, v) -> r.put(k, v.max()));
+            return r;
+        }
+    }
+    //endregion
+
+    /**
+     * Primitive accumulator of one field.
+     */
+    public static final class Stats {
+        final boolean integral;
+        long count;
+        long longSum;
+        long longMin = Long.MAX_VALUE;
+        long longMax = Long.MIN_VALUE;
+        double sum;
+        double min = Double.POSITIVE_INFINITY;
+        double max = Double.NEGATIVE_INFINITY;
+
+        Stats(boolean integral) {
+            this.integral = integral;
+        }
+
+        /**
+         * @return count of non null values
+         */
+        public long count() {
+            return count;
+        }
+
+        public double sum() {
+            return integral ? longSum : sum;
+        }
+
+        /**
+         * @return exact sum of integral field
+         * @throws IllegalStateException for floating fields
+         */
+        public long sumLong() {
+            if (!integral) throw new IllegalStateException("not an integral field");
+            return longSum;
+        }
+
+        /**
+         * @return NaN when empty
+         */
+        public double min() {
+            return count == 0 ? Double.NaN : integral ? longMin : min;
+        }
+
+        /**
+         * @return NaN when empty
+         */
+        public double max() {
+            return count == 0 ? Double.NaN : integral ? longMax : max;
+        }
+
+        /**
+         * @return NaN when empty
+         */
+        public double avg() {
+            return count == 0 ? Double.NaN : sum() / count;
+        }
+
+        @Override
+        public String toString() {
+            return "Stats(count=" + count + ", sum=" + sum() + ", min=" + min() + ", max=" + max() + ", avg=" + avg() + ")";
+        }
+    }
+
+    static int slot(ClassShape shape, String field, boolean numeric) {
+        var slot = shape.slotOf(field);
+        if (slot < 0) throw new IllegalArgumentException("no field " + field + " in " + shape.type.getName());
+        var kind = shape.kinds[slot];
+        if (numeric && (kind == 0 || kind == ClassShape.REFERENCE && !Number.class.isAssignableFrom(shape.type(slot))))
+            throw new IllegalArgumentException("field " + field + " of " + shape.type.getName() + " is not numeric");
+        return slot;
+    }
+
+    static Stats[] aggregate(Object[] values, @Nullable int[] ids, int groups, ClassShape shape, int slot) {
+        var kind = shape.kinds[slot];
+        var getter = shape.getters[slot];
+        var task = new Accumulate(values, ids, groups, kind, getter, 0, values.length);
+        //each forked leaf holds columns of all groups, many groups run in one pass instead.
+        var p = groups > Math.max(1, values.length / Columns.THRESHOLD) ? task.leaf() : task.invoke();
+        var r = new Stats[groups];
+        for (int g = 0; g < groups; g++) r[g] = p.stats(g);
+        return r;
+    }
+
+    /**
+     * Partial accumulators of groups as primitive columns.
+     */
+    static final class Partial {
+        final boolean integral;
+        final long[] count;
+        final long[] longSum;
+        final long[] longMin;
+        final long[] longMax;
+        final double[] sum;
+        final double[] min;
+        final double[] max;
+
+        Partial(boolean integral, int groups) {
+            this.integral = integral;
+            count = new long[groups];
+            if (integral) {
+                longSum = new long[groups];
+                longMin = new long[groups];
+                longMax = new long[groups];
+                Arrays.fill(longMin, Long.MAX_VALUE);
+                Arrays.fill(longMax, Long.MIN_VALUE);
+                sum = min = max = null;
+            } else {
+                sum = new double[groups];
+                min = new double[groups];
+                max = new double[groups];
+                Arrays.fill(min, Double.POSITIVE_INFINITY);
+                Arrays.fill(max, Double.NEGATIVE_INFINITY);
+                longSum = longMin = longMax = null;
+            }
+        }
+
+        void add(int g, long v) {
+            count[g]++;
+            longSum[g] += v;
+            if (v < longMin[g]) longMin[g] = v;
+            if (v > longMax[g]) longMax[g] = v;
+        }
+
+        void add(int g, double v) {
+            count[g]++;
+            sum[g] += v;
+            min[g] = Math.min(min[g], v);
+            max[g] = Math.max(max[g], v);
+        }
+
+        void merge(Partial o) {
+            for (int g = 0; g < count.length; g++) {
+                count[g] += o.count[g];
+                if (integral) {
+                    longSum[g] += o.longSum[g];
+                    longMin[g] = Math.min(longMin[g], o.longMin[g]);
+                    longMax[g] = Math.max(longMax[g], o.longMax[g]);
+                } else {
+                    sum[g] += o.sum[g];
+                    min[g] = Math.min(min[g], o.min[g]);
+                    max[g] = Math.max(max[g], o.max[g]);
+                }
+            }
+        }
+
+        Stats stats(int g) {
+            var s = new Stats(integral);
+            s.count = count[g];
+            if (integral) {
+                s.longSum = longSum[g];
+                s.longMin = longMin[g];
+                s.longMax = longMax[g];
+            } else {
+                s.sum = sum[g];
+                s.min = min[g];
+                s.max = max[g];
+            }
+            return s;
+        }
+    }
+
+    static final class Accumulate extends RecursiveTask<Partial> {
+        private static final long serialVersionUID = 1L;
+        final Object[] values;
+        final @Nullable int[] ids;
+        final int groups;
+        final int kind;
+        final Accessor.GenericGetter getter;
+        final int from;
+        final int to;
+
+        Accumulate(Object[] values, @Nullable int[] ids, int groups, int kind, Accessor.GenericGetter getter, int from, int to) {
+            this.values = values;
+            this.ids = ids;
+            this.groups = groups;
+            this.kind = kind;
+            this.getter = getter;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected Partial compute() {
+            if (to - from > Columns.THRESHOLD) {
+                var mid = (from + to) >>> 1;
+                var right = new Accumulate(values, ids, groups, kind, getter, mid, to);
+                right.fork();
+                var r = new Accumulate(values, ids, groups, kind, getter, from, mid).compute();
+                r.merge(right.join());
+                return r;
+            }
+            return leaf();
+        }
+
+        Partial leaf() {
+            var r = new Partial(kind >= 1 && kind <= 5, groups);
+            var v = values;
+            var id = ids;
+            switch (kind) {
+                case 4: {
+                    var x = (Accessor.IntGetter) getter;
+                    for (int i = from; i < to; i++) r.add(id == null ? 0 : id[i], (long) x.getValue(v[i]));
+                    break;
+                }
+                case 5: {
+                    var x = (Accessor.LongGetter) getter;
+                    for (int i = from; i < to; i++) r.add(id == null ? 0 : id[i], x.getValue(v[i]));
+                    break;
+                }
+                case 7: {
+                    var x = (Accessor.DoubleGetter) getter;
+                    for (int i = from; i < to; i++) r.add(id == null ? 0 : id[i], x.getValue(v[i]));
+                    break;
+                }
+                case 6: {
+                    var x = (Accessor.FloatGetter) getter;
+                    for (int i = from; i < to; i++) r.add(id == null ? 0 : id[i], (double) x.getValue(v[i]));
+                    break;
+                }
+                case 1:
+                case 2:
+                case 3:
+                    for (int i = from; i < to; i++) r.add(id == null ? 0 : id[i], key(kind, getter, v[i]));
+                    break;
+                default:
+                    for (int i = from; i < to; i++) {
+                        var n = (Number) getter.get(v[i]);
+                        if (n != null) r.add(id == null ? 0 : id[i], n.doubleValue());
+                    }
+            }
+            return r;
+        }
+    }
+
+    /**
+     * @return primitive value as long key, floating values by their bits with -0.0 as 0.0.
+     */
+    static long key(int kind, Accessor.GenericGetter g, Object o) {
+        switch (kind) {
+            case 0:
+                return ((Accessor.BooleanGetter) g).getValue(o) ? 1 : 0;
+            case 1:
+                return ((Accessor.ByteGetter) g).getValue(o);
+            case 2:
+                return ((Accessor.ShortGetter) g).getValue(o);
+            case 3:
+                return ((Accessor.CharGetter) g).getValue(o);
+            case 4:
+                return ((Accessor.IntGetter) g).getValue(o);
+            case 5:
+                return ((Accessor.LongGetter) g).getValue(o);
+            case 6: {
+                var f = ((Accessor.FloatGetter) g).getValue(o);
+                return f == 0 ? 0 : Double.doubleToLongBits(f);
+            }
+            default: {
+                var d = ((Accessor.DoubleGetter) g).getValue(o);
+                return d == 0 ? 0 : Double.doubleToLongBits(d);
+            }
+        }
+    }
+
+    static Object box(int kind, long k) {
+        switch (kind) {
+            case 0:
+                return k != 0;
+            case 1:
+                return (byte) k;
+            case 2:
+                return (short) k;
+            case 3:
+                return (char) k;
+            case 4:
+                return (int) k;
+            case 5:
+                return k;
+            case 6:
+                return (float) Double.longBitsToDouble(k);
+            default:
+                return Double.longBitsToDouble(k);
+        }
+    }
+
+    /**
+     * Open-addressing map of long key to int value, linear probing, insert only.
+     */
+    static final class LongTable {
+        long[] keys;
+        int[] values;
+        int size;
+
+        LongTable(int capacity) {
+            keys = new long[capacity];
+            values = new int[capacity];
+            Arrays.fill(values, -1);
+        }
+
+        int home(long key, int mask) {
+            var h = key * 0x9E3779B97F4A7C15L;
+            return (int) (h ^ h >>> 32) & mask;
+        }
+
+        int get(long key) {
+            var mask = keys.length - 1;
+            for (int i = home(key, mask); ; i = (i + 1) & mask) {
+                var v = values[i];
+                if (v < 0 || keys[i] == key) return v;
+            }
+        }
+
+        void put(long key, int value) {
+            if ((size + 1) * 4 > keys.length * 3) {
+                var old = keys;
+                var oldValues = values;
+                keys = new long[old.length << 1];
+                values = new int[old.length << 1];
+                Arrays.fill(values, -1);
+                size = 0;
+                for (int i = 0; i < old.length; i++) if (oldValues[i] >= 0) put(old[i], oldValues[i]);
+            }
+            var mask = keys.length - 1;
+            var i = home(key, mask);
+            while (values[i] >= 0) i = (i + 1) & mask;
+            keys[i] = key;
+            values[i] = value;
+            size++;
+        }
+    }
+}
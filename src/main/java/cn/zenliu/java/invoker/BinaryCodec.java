@@ -0,0 +1,392 @@
+/*
+ * Source of invoker
+ * Copyright (C) 2023.  Zen.Liu
+ *
+ * SPDX-License-Identifier: GPL-2.0-only WITH Classpath-exception-2.0"
+ *
+ * This program is free software; you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation; version 2.
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program; if not, write to the Free Software Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA 02110-1301, USA.
+ *
+ * Class Path Exception
+ * Linking this library statically or dynamically with other modules is making a combined work based on this library. Thus, the terms and conditions of the GNU General Public License cover the whole combination.
+ *  As a special exception, the copyright holders of this library give you permission to link this library with independent modules to produce an executable, regardless of the license terms of these independent modules, and to copy and distribute the resulting executable under terms of your choice, provided that you also meet, for each linked independent module, the terms and conditions of the license of that module. An independent module is a module which is not derived from or based on this library. If you modify this library, you may extend this exception to your version of the library, but you are not obligated to do so. If you do not wish to do so, delete this exception statement from your version.
+ */
+
+
+package cn.zenliu.java.invoker;
+
+import lombok.SneakyThrows;
+import lombok.var;
+import org.jetbrains.annotations.ApiStatus;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Modifier;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Binary codec of flat POJOs over {@link ByteBuffer}, fields are written in {@link ClassShape} slot order (superclass
+ * first, then declaring order) by typed {@link Accessor} getters and read back by typed setters, without boxing.<br/>
+ * Layout of one value: null bitmap of reference fields (one bit per reference field, {@code ceil(refs/8)} bytes),
+ * then non-null fields:<br/>
+ * 1. primitives in buffer order, {@code int}/{@code long} (and boxed ones) as zigzag varint when {@code varint} is on.<br/>
+ * 2. {@link String} as varint length of UTF-8 bytes and bytes, {@code byte[]} as varint length and bytes, enums as varint ordinal.<br/>
+ * 3. other types by the pluggable {@link Codec} registered for the exact class, or as a nested POJO codec with the same options.<br/>
+ * The plan of a class is compiled once, {@link #of(Class)} is cached per class. Instances are thread safe.
+ * Buffer exceptions ({@link java.nio.BufferOverflowException}, {@link java.nio.BufferUnderflowException}) are propagated.
+ *
+ * @author Zen.Liu
+ * @since 2026-10-19
+ */
+@ApiStatus.AvailableSince("0.0.3")
+public final class BinaryCodec<T> {
+    static final ClassValue<BinaryCodec<?>> CODECS = new ClassValue<BinaryCodec<?>>() {
+        @Override
+        protected BinaryCodec<?> computeValue(Class<?> type) {
+            return compile(type, false, Collections.emptyMap(), new HashMap<>());
+        }
+    };
+
+    /**
+     * Pluggable codec of a value type.
+     */
+    public interface Codec<V> {
+        void write(ByteBuffer out, V value);
+
+        V read(ByteBuffer in);
+    }
+
+    interface Writer {
+        void write(ByteBuffer out, Object instance);
+    }
+
+    interface Reader {
+        void read(ByteBuffer in, Object instance);
+    }
+
+    public final Class<T> type;
+    public final boolean varint;
+    final ClassShape shape;
+    final Supplier<? extends T> factory;
+    final Writer[] writers;
+    final Reader[] readers;
+    /**
+     * bit of slot in null bitmap, -1 for primitives.
+     */
+    final int[] bits;
+    final Accessor.GenericGetter[] getters;
+    final Accessor.GenericSetter[] setters;
+    final Codec<Object>[] codecs;
+    final int bitmapBytes;
+
+    /**
+     * @return cached codec with fixed width numbers.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> BinaryCodec<T> of(Class<T> type) {
+        return (BinaryCodec<T>) CODECS.get(type);
+    }
+
+    /**
+     * @param type    POJO class with a no-arg constructor
+     * @param varint  write int and long as zigzag varint
+     * @param codecs  codecs of value types, override the built-in ones
+     */
+    public static <T> BinaryCodec<T> of(Class<T> type, boolean varint, Map<Class<?>, Codec<?>> codecs) {
+        return compile(type, varint, codecs, new HashMap<>());
+    }
+
+    /**
+     * @param factory creates empty instances to read into
+     */
+    public static <T> BinaryCodec<T> of(Class<T> type, Supplier<? extends T> factory, boolean varint, Map<Class<?>, Codec<?>> codecs) {
+        return new BinaryCodec<>(type, factory, varint, codecs, new HashMap<>());
+    }
+
+    static <T> BinaryCodec<T> compile(Class<T> type, boolean varint, Map<Class<?>, Codec<?>> custom, Map<Class<?>, BinaryCodec<?>> compiling) {
+        return new BinaryCodec<>(type, factory(type), varint, custom, compiling);
+    }
+
+    @SneakyThrows
+    @SuppressWarnings("unchecked")
+    static <T> Supplier<T> factory(Class<T> type) {
+        var invoker = Invoker.make(MethodHandles.lookup(), type.getDeclaredConstructor());
+        return () -> (T) invoker.invoke(null);
+    }
+
+    @SuppressWarnings("unchecked")
+    BinaryCodec(Class<T> type, Supplier<? extends T> factory, boolean varint, Map<Class<?>, Codec<?>> custom, Map<Class<?>, BinaryCodec<?>> compiling) {
+        this.type = type;
+        this.factory = factory;
+        this.varint = varint;
+        this.shape = ClassShape.of(type);
+        compiling.put(type, this);
+        var n = shape.size();
+        writers = new Writer[n];
+        readers = new Reader[n];
+        bits = new int[n];
+        codecs = (Codec<Object>[]) new Codec<?>[n];
+        getters = shape.getters;
+        setters = shape.setters;
+        var refs = 0;
+        for (int s = 0; s < n; s++) {
+            if (!shape.canSet(s))
+                throw new IllegalArgumentException("field " + shape.name(s) + " of " + type.getName() + " is not settable");
+            if (shape.kinds[s] == ClassShape.REFERENCE) {
+                bits[s] = refs++;
+                codecs[s] = (Codec<Object>) codec(shape.type(s), type, varint, custom, compiling);
+            } else {
+                bits[s] = -1;
+                primitive(s);
+            }
+        }
+        bitmapBytes = (refs + 7) >>> 3;
+    }
+
+    private void primitive(int s) {
+        var g = getters[s];
+        var st = setters[s];
+        switch (shape.kinds[s]) {
+            case 0:
+                writers[s] = (b, o) -> b.put((byte) (((Accessor.BooleanGetter) g).getValue(o) ? 1 : 0));
+                readers[s] = (b, o) -> ((Accessor.BooleanSetter) st).setValue(o, b.get() != 0);
+                break;
+            case 1:
+                writers[s] = (b, o) -> b.put(((Accessor.ByteGetter) g).getValue(o));
+                readers[s] = (b, o) -> ((Accessor.ByteSetter) st).setValue(o, b.get());
+                break;
+            case 2:
+                writers[s] = (b, o) -> b.putShort(((Accessor.ShortGetter) g).getValue(o));
+                readers[s] = (b, o) -> ((Accessor.ShortSetter) st).setValue(o, b.getShort());
+                break;
+            case 3:
+                writers[s] = (b, o) -> b.putChar(((Accessor.CharGetter) g).getValue(o));
+                readers[s] = (b, o) -> ((Accessor.CharSetter) st).setValue(o, b.getChar());
+                break;
+            case 4:
+                if (varint) {
+                    writers[s] = (b, o) -> writeVarInt(b, ((Accessor.IntGetter) g).getValue(o));
+                    readers[s] = (b, o) -> ((Accessor.IntSetter) st).setValue(o, readVarInt(b));
+                } else {
+                    writers[s] = (b, o) -> b.putInt(((Accessor.IntGetter) g).getValue(o));
+                    readers[s] = (b, o) -> ((Accessor.IntSetter) st).setValue(o, b.getInt());
+                }
+                break;
+            case 5:
+                if (varint) {
+                    writers[s] = (b, o) -> writeVarLong(b, ((Accessor.LongGetter) g).getValue(o));
+                    readers[s] = (b, o) -> ((Accessor.LongSetter) st).setValue(o, readVarLong(b));
+                } else {
+                    writers[s] = (b, o) -> b.putLong(((Accessor.LongGetter) g).getValue(o));
+                    readers[s] = (b, o) -> ((Accessor.LongSetter) st).setValue(o, b.getLong());
+                }
+                break;
+            case 6:
+                writers[s] = (b, o) -> b.putFloat(((Accessor.FloatGetter) g).getValue(o));
+                readers[s] = (b, o) -> ((Accessor.FloatSetter) st).setValue(o, b.getFloat());
+                break;
+            default:
+                writers[s] = (b, o) -> b.putDouble(((Accessor.DoubleGetter) g).getValue(o));
+                readers[s] = (b, o) -> ((Accessor.DoubleSetter) st).setValue(o, b.getDouble());
+        }
+    }
+
+    /**
+     * @param t     value type
+     * @param owner class of the field, for error messages
+     * @return codec of value type
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    static Codec<?> codec(Class<?> t, Class<?> owner, boolean varint, Map<Class<?>, Codec<?>> custom, Map<Class<?>, BinaryCodec<?>> compiling) {
+        var c = custom.get(t);
+        if (c != null) return c;
+        if (t == String.class) return STRING;
+        if (t == byte[].class) return BYTES;
+        if (t == Boolean.class) return BOOLEAN;
+        if (t == Byte.class) return BYTE;
+        if (t == Short.class) return SHORT;
+        if (t == Character.class) return CHAR;
+        if (t == Integer.class) return varint ? VAR_INT : INT;
+        if (t == Long.class) return varint ? VAR_LONG : LONG;
+        if (t == Float.class) return FLOAT;
+        if (t == Double.class) return DOUBLE;
+        if (t.isEnum()) return enumCodec((Class) t);
+        if (t.isArray() || t.isInterface() || Modifier.isAbstract(t.getModifiers()) || t.getName().startsWith("java."))
+            throw new IllegalArgumentException("no codec for " + t.getName() + " in " + owner.getName());
+        var nested = compiling.get(t);
+        if (nested == null) nested = compile(t, varint, custom, compiling);
+        return nested.asCodec();
+    }
+
+    /**
+     * @return this as codec of nested values.
+     */
+    public Codec<T> asCodec() {
+        return new Codec<T>() {
+            @Override
+            public void write(ByteBuffer out, T value) {
+                BinaryCodec.this.write(out, value);
+            }
+
+            @Override
+            public T read(ByteBuffer in) {
+                return BinaryCodec.this.read(in);
+            }
+        };
+    }
+
+    /**
+     * write all fields of value at current position.
+     */
+    public void write(ByteBuffer out, T value) {
+        var bitmap = out.position();
+        for (int i = 0; i < bitmapBytes; i++) out.put((byte) 0);
+        for (int s = 0; s < writers.length; s++) {
+            var bit = bits[s];
+            if (bit < 0) {
+                writers[s].write(out, value);
+                continue;
+            }
+            var v = getters[s].get(value);
+            if (v == null) {
+                var at = bitmap + (bit >>> 3);
+                out.put(at, (byte) (out.get(at) | 1 << (bit & 7)));
+            } else codecs[s].write(out, v);
+        }
+    }
+
+    /**
+     * read a new instance from current position.
+     */
+    public T read(ByteBuffer in) {
+        T t = factory.get();
+        read(in, t);
+        return t;
+    }
+
+    /**
+     * read all fields into target from current position.
+     */
+    public void read(ByteBuffer in, T target) {
+        var bitmap = in.position();
+        in.position(bitmap + bitmapBytes);
+        for (int s = 0; s < readers.length; s++) {
+            var bit = bits[s];
+            if (bit < 0) {
+                readers[s].read(in, target);
+            } else if ((in.get(bitmap + (bit >>> 3)) & 1 << (bit & 7)) != 0) {
+                setters[s].set(target, null);
+            } else setters[s].set(target, codecs[s].read(in));
+        }
+    }
+
+    //region Varint
+    static void writeVarInt(ByteBuffer out, int v) {
+        writeUnsignedVarLong(out, ((v << 1) ^ (v >> 31)) & 0xFFFFFFFFL);
+    }
+
+    static int readVarInt(ByteBuffer in) {
+        var v = (int) readUnsignedVarLong(in);
+        return (v >>> 1) ^ -(v & 1);
+    }
+
+    static void writeVarLong(ByteBuffer out, long v) {
+        writeUnsignedVarLong(out, (v << 1) ^ (v >> 63));
+    }
+
+    static long readVarLong(ByteBuffer in) {
+        var v = readUnsignedVarLong(in);
+        return (v >>> 1) ^ -(v & 1);
+    }
+
+    static void writeUnsignedVarLong(ByteBuffer out, long v) {
+        while ((v & ~0x7FL) != 0) {
+            out.put((byte) ((v & 0x7F) | 0x80));
+            v >>>= 7;
+        }
+        out.put((byte) v);
+    }
+
+    static long readUnsignedVarLong(ByteBuffer in) {
+        long v = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            var b = in.get();
+            v |= (long) (b & 0x7F) << shift;
+            if (b >= 0) return v;
+        }
+        throw new IllegalStateException("malformed varint");
+    }
+    //endregion
+
+    //region Built-in codecs
+    static final Codec<String> STRING = new Codec<String>() {
+        @Override
+        public void write(ByteBuffer out, String value) {
+            BYTES.write(out, value.getBytes(StandardCharsets.UTF_8));
+        }
+
+        @Override
+        public String read(ByteBuffer in) {
+            return new String(BYTES.read(in), StandardCharsets.UTF_8);
+        }
+    };
+    static final Codec<byte[]> BYTES = new Codec<byte[]>() {
+        @Override
+        public void write(ByteBuffer out, byte[] value) {
+            writeUnsignedVarLong(out, value.length);
+            out.put(value);
+        }
+
+        @Override
+        public byte[] read(ByteBuffer in) {
+            var b = new byte[(int) readUnsignedVarLong(in)];
+            in.get(b);
+            return b;
+        }
+    };
+    static final Codec<Boolean> BOOLEAN = codec((b, v) -> b.put((byte) (v ? 1 : 0)), b -> b.get() != 0);
+    static final Codec<Byte> BYTE = codec(ByteBuffer::put, ByteBuffer::get);
+    static final Codec<Short> SHORT = codec(ByteBuffer::putShort, ByteBuffer::getShort);
+    static final Codec<Character> CHAR = codec(ByteBuffer::putChar, ByteBuffer::getChar);
+    static final Codec<Integer> INT = codec(ByteBuffer::putInt, ByteBuffer::getInt);
+    static final Codec<Integer> VAR_INT = codec(BinaryCodec::writeVarInt, BinaryCodec::readVarInt);
+    static final Codec<Long> LONG = codec(ByteBuffer::putLong, ByteBuffer::getLong);
+    static final Codec<Long> VAR_LONG = codec(BinaryCodec::writeVarLong, BinaryCodec::readVarLong);
+    static final Codec<Float> FLOAT = codec(ByteBuffer::putFloat, ByteBuffer::getFloat);
+    static final Codec<Double> DOUBLE = codec(ByteBuffer::putDouble, ByteBuffer::getDouble);
+
+    static <E extends Enum<E>> Codec<E> enumCodec(Class<E> type) {
+        var values = type.getEnumConstants();
+        return codec((b, v) -> writeUnsignedVarLong(b, v.ordinal()), b -> values[(int) readUnsignedVarLong(b)]);
+    }
+
+    /**
+     * @return codec of a pair of functions.
+     */
+    public static <V> Codec<V> codec(BiConsumer<ByteBuffer, V> writer, Function<ByteBuffer, V> reader) {
+        return new Codec<V>() {
+            @Override
+            public void write(ByteBuffer out, V value) {
+                writer.accept(out, value);
+            }
+
+            @Override
+            public V read(ByteBuffer in) {
+                return reader.apply(in);
+            }
+        };
+    }
+    //endregion
+
+    @Override
+    public String toString() {
+        return "BinaryCodec(" + type.getName() + (varint ? ", varint" : "") + ")";
+    }
+}
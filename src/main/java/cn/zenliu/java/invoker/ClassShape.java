@@ -0,0 +1,281 @@
+/*
+ * Source of invoker
+ * Copyright (C) 2023.  Zen.Liu
+ *
+ * SPDX-License-Identifier: GPL-2.0-only WITH Classpath-exception-2.0"
+ *
+ * This program is free software; you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation; version 2.
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program; if not, write to the Free Software Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA 02110-1301, USA.
+ *
+ * Class Path Exception
+ * Linking this library statically or dynamically with other modules is making a combined work based on this library. Thus, the terms and conditions of the GNU General Public License cover the whole combination.
+ *  As a special exception, the copyright holders of this library give you permission to link this library with independent modules to produce an executable, regardless of the license terms of these independent modules, and to copy and distribute the resulting executable under terms of your choice, provided that you also meet, for each linked independent module, the terms and conditions of the license of that module. An independent module is a module which is not derived from or based on this library. If you modify this library, you may extend this exception to your version of the library, but you are not obligated to do so. If you do not wish to do so, delete this exception statement from your version.
+ */
+
+
+package cn.zenliu.java.invoker;
+
+import lombok.var;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+
+/**
+ * Dense field table of a class: each instance field (include inherited ones) owns a stable int slot, accessors are held in
+ * flat arrays indexed by slot.<br/>
+ * 1. Slots are ordered from the top superclass down, in declaring order of each class, so a superclass's slots stay the
+ * same in the shapes of its subclasses; a shadowing field takes over the slot of the shadowed one.<br/>
+ * 2. Static and synthetic fields are excluded.<br/>
+ * 3. {@link #slotOf(String)} is a linear probe of a precomputed open addressing table of field names (load factor at most
+ * 0.5), resolve names once and use slots in hot loops.<br/>
+ * Shapes are cached per class with {@link ClassValue}, fields are made accessible with {@link Field#setAccessible(boolean)}.
+ *
+ * @author Zen.Liu
+ * @since 2026-10-19
+ */
+@ApiStatus.AvailableSince("0.0.3")
+public final class ClassShape {
+    static final ClassValue<ClassShape> SHAPES = new ClassValue<ClassShape>() {
+        @Override
+        protected ClassShape computeValue(Class<?> type) {
+            return new ClassShape(type);
+        }
+    };
+    static final int GOLDEN = 0x9E3779B9;
+    /**
+     * primitive kinds, index of type in this array, or {@link #REFERENCE}.
+     */
+    static final Class<?>[] KINDS = {boolean.class, byte.class, short.class, char.class, int.class, long.class, float.class, double.class};
+    static final int REFERENCE = KINDS.length;
+
+    public final Class<?> type;
+    final String[] names;
+    final Field[] fields;
+    final Accessor[] accessors;
+    final Accessor.GenericGetter[] getters;
+    final Accessor.GenericSetter[] setters;
+    final Class<?>[] types;
+    final int[] kinds;
+    /**
+     * open addressing table of slot+1, 0 as empty.
+     */
+    final int[] table;
+    final int shift;
+
+    /**
+     * @param type the class
+     * @return cached shape of type
+     */
+    public static ClassShape of(Class<?> type) {
+        return SHAPES.get(type);
+    }
+
+    ClassShape(Class<?> type) {
+        this.type = type;
+        var hierarchy = new ArrayDeque<Class<?>>();
+        for (Class<?> c = type; c != null && c != Object.class; c = c.getSuperclass()) hierarchy.push(c);
+        var byName = new LinkedHashMap<String, Field>();
+        for (var c : hierarchy) {
+            for (var f : c.getDeclaredFields()) {
+                if (Modifier.isStatic(f.getModifiers()) || f.isSynthetic()) continue;
+                byName.put(f.getName(), f);
+            }
+        }
+        var n = byName.size();
+        names = byName.keySet().toArray(new String[0]);
+        fields = byName.values().toArray(new Field[0]);
+        accessors = new Accessor[n];
+        getters = new Accessor.GenericGetter[n];
+        setters = new Accessor.GenericSetter[n];
+        types = new Class<?>[n];
+        kinds = new int[n];
+        var lookup = MethodHandles.lookup();
+        for (int i = 0; i < n; i++) {
+            accessors[i] = Accessor.field(lookup, fields[i], type);
+            getters[i] = accessors[i].getter;
+            setters[i] = accessors[i].setter;
+            types[i] = fields[i].getType();
+            kinds[i] = kind(types[i]);
+        }
+        //at least twice of field count, probes are short and always reach an empty cell.
+        var bits = Math.max(1, 32 - Integer.numberOfLeadingZeros(Math.max(1, n * 2 - 1)));
+        table = new int[1 << bits];
+        shift = 32 - bits;
+        var mask = table.length - 1;
+        for (int i = 0; i < n; i++) {
+            var h = hash(names[i].hashCode(), shift);
+            while (table[h] != 0) h = (h + 1) & mask;
+            table[h] = i + 1;
+        }
+    }
+
+    static int kind(Class<?> type) {
+        for (int i = 0; i < KINDS.length; i++) {
+            if (KINDS[i] == type) return i;
+        }
+        return REFERENCE;
+    }
+
+    static int hash(int h, int shift) {
+        return (h * GOLDEN) >>> shift;
+    }
+
+    /**
+     * @param name field name
+     * @return slot of field, -1 if not exists.
+     */
+    public int slotOf(String name) {
+        var mask = table.length - 1;
+        for (int h = hash(name.hashCode(), shift); ; h = (h + 1) & mask) {
+            var i = table[h] - 1;
+            if (i < 0) return -1;
+            if (names[i].equals(name)) return i;
+        }
+    }
+
+    /**
+     * @return count of slots.
+     */
+    public int size() {
+        return names.length;
+    }
+
+    public String name(int slot) {
+        return names[slot];
+    }
+
+    public Field field(int slot) {
+        return fields[slot];
+    }
+
+    public Class<?> type(int slot) {
+        return types[slot];
+    }
+
+    public Accessor accessor(int slot) {
+        return accessors[slot];
+    }
+
+    public boolean canSet(int slot) {
+        return setters[slot] != null;
+    }
+
+    /**
+     * @return copy of field names in slot order.
+     */
+    public String[] names() {
+        return names.clone();
+    }
+
+    /**
+     * @return slots of fields with type.
+     */
+    public int[] slotsOf(Class<?> fieldType) {
+        var n = 0;
+        var slots = new int[types.length];
+        for (int i = 0; i < types.length; i++) {
+            if (types[i] == fieldType) slots[n++] = i;
+        }
+        return Arrays.copyOf(slots, n);
+    }
+
+    /**
+     * @return accessors in slot order.
+     */
+    public List<Accessor> accessors() {
+        return Collections.unmodifiableList(Arrays.asList(accessors.clone()));
+    }
+
+    //region Slot access
+    public @Nullable Object get(Object instance, int slot) {
+        return getters[slot].get(instance);
+    }
+
+    public void set(Object instance, int slot, @Nullable Object value) {
+        setters[slot].set(instance, value);
+    }
+
+    public boolean getBoolean(Object instance, int slot) {
+        return ((Accessor.BooleanGetter) getters[slot]).getValue(instance);
+    }
+
+    public void setBoolean(Object instance, int slot, boolean value) {
+        ((Accessor.BooleanSetter) setters[slot]).setValue(instance, value);
+    }
+
+    public byte getByte(Object instance, int slot) {
+        return ((Accessor.ByteGetter) getters[slot]).getValue(instance);
+    }
+
+    public void setByte(Object instance, int slot, byte value) {
+        ((Accessor.ByteSetter) setters[slot]).setValue(instance, value);
+    }
+
+    public short getShort(Object instance, int slot) {
+        return ((Accessor.ShortGetter) getters[slot]).getValue(instance);
+    }
+
+    public void setShort(Object instance, int slot, short value) {
+        ((Accessor.ShortSetter) setters[slot]).setValue(instance, value);
+    }
+
+    public char getChar(Object instance, int slot) {
+        return ((Accessor.CharGetter) getters[slot]).getValue(instance);
+    }
+
+    public void setChar(Object instance, int slot, char value) {
+        ((Accessor.CharSetter) setters[slot]).setValue(instance, value);
+    }
+
+    public int getInt(Object instance, int slot) {
+        return ((Accessor.IntGetter) getters[slot]).getValue(instance);
+    }
+
+    public void setInt(Object instance, int slot, int value) {
+        ((Accessor.IntSetter) setters[slot]).setValue(instance, value);
+    }
+
+    public long getLong(Object instance, int slot) {
+        return ((Accessor.LongGetter) getters[slot]).getValue(instance);
+    }
+
+    public void setLong(Object instance, int slot, long value) {
+        ((Accessor.LongSetter) setters[slot]).setValue(instance, value);
+    }
+
+    public float getFloat(Object instance, int slot) {
+        return ((Accessor.FloatGetter) getters[slot]).getValue(instance);
+    }
+
+    public void setFloat(Object instance, int slot, float value) {
+        ((Accessor.FloatSetter) setters[slot]).setValue(instance, value);
+    }
+
+    public double getDouble(Object instance, int slot) {
+        return ((Accessor.DoubleGetter) getters[slot]).getValue(instance);
+    }
+
+    public void setDouble(Object instance, int slot, double value) {
+        ((Accessor.DoubleSetter) setters[slot]).setValue(instance, value);
+    }
+    //endregion
+
+    @Override
+    public String toString() {
+        var b = new StringBuilder(type.getName()).append('{');
+        for (int i = 0; i < names.length; i++) {
+            if (i > 0) b.append(", ");
+            b.append(i).append(':').append(names[i]).append(' ').append(types[i].getSimpleName());
+        }
+        return b.append('}').toString();
+    }
+}
@@ -0,0 +1,363 @@
+/*
+ * Source of invoker
+ * Copyright (C) 2023.  Zen.Liu
+ *
+ * SPDX-License-Identifier: GPL-2.0-only WITH Classpath-exception-2.0"
+ *
+ * This program is free software; you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation; version 2.
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program; if not, write to the Free Software Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA 02110-1301, USA.
+ *
+ * Class Path Exception
+ * Linking this library statically or dynamically with other modules is making a combined work based on this library. Thus, the terms and conditions of the GNU General Public License cover the whole combination.
+ *  As a special exception, the copyright holders of this library give you permission to link this library with independent modules to produce an executable, regardless of the license terms of these independent modules, and to copy and distribute the resulting executable under terms of your choice, provided that you also meet, for each linked independent module, the terms and conditions of the license of that module. An independent module is a module which is not derived from or based on this library. If you modify this library, you may extend this exception to your version of the library, but you are not obligated to do so. If you do not wish to do so, delete this exception statement from your version.
+ */
+
+
+package cn.zenliu.java.invoker;
+
+import lombok.SneakyThrows;
+import lombok.var;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Array;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.*;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+
+/**
+ * Shallow and deep copies of objects by copy plans compiled from {@link ClassShape} and cached per class.<br/>
+ * 1. Shallow copies move every field through its typed getter and setter pair, final fields through reflection.<br/>
+ * 2. Deep copies also copy arrays, collections, maps and other objects reachable from fields; shared and cyclic
+ * references are kept by an identity map. Strings, boxed primitives, enums, classes, big numbers and
+ * {@code java.time} values are immutable and shared. JDK collections and maps keep their runtime class (and comparator):
+ * cloneable ones are cloned then cleared and refilled, {@link EnumSet} by {@link EnumSet#copyOf(EnumSet)}, others by
+ * public constructor; other cloneable JDK objects (e.g. {@link Date}) are cloned, and JDK objects can not be recreated
+ * (unmodifiable views, private classes) are shared.<br/>
+ * Instances are created by the no-arg constructor, or without any constructor for classes without one.
+ *
+ * @author Zen.Liu
+ * @since 2026-10-19
+ */
+@ApiStatus.AvailableSince("0.0.3")
+public final class Cloner<T> {
+    static final ClassValue<Cloner<?>> CLONERS = new ClassValue<Cloner<?>>() {
+        @Override
+        protected Cloner<?> computeValue(Class<?> type) {
+            return new Cloner<>(type);
+        }
+    };
+    public final Class<T> type;
+    final Supplier<? extends T> factory;
+    final Copy[] copies;
+
+    @SuppressWarnings("unchecked")
+    Cloner(Class<T> type) {
+        if (type.isInterface() || Modifier.isAbstract(type.getModifiers()) || type.isArray() || type.isPrimitive())
+            throw new IllegalArgumentException("not a concrete class: " + type.getName());
+        this.type = type;
+        this.factory = (Supplier<? extends T>) allocator(type);
+        var shape = ClassShape.of(type);
+        copies = new Copy[shape.size()];
+        for (int s = 0; s < copies.length; s++) copies[s] = copy(shape, s);
+    }
+
+    /**
+     * @return cached cloner
+     * @throws IllegalArgumentException for interfaces, abstract classes or classes can not be allocated
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> Cloner<T> of(Class<T> type) {
+        return (Cloner<T>) CLONERS.get(type);
+    }
+
+    /**
+     * @return new instance without field copied
+     */
+    public T allocate() {
+        return factory.get();
+    }
+
+    /**
+     * copy every field of source into target.
+     */
+    public void copy(T source, T target) {
+        for (var c : copies) c.apply(source, target, null);
+    }
+
+    /**
+     * @return copy of value by its runtime class, fields are shared
+     */
+    @SuppressWarnings("unchecked")
+    public <V extends T> V shallow(@Nullable V value) {
+        if (value == null) return null;
+        var c = (Cloner<V>) of(value.getClass());
+        var r = c.allocate();
+        c.copy(value, r);
+        return r;
+    }
+
+    /**
+     * @return copy of the graph reachable from value
+     */
+    @SuppressWarnings("unchecked")
+    public <V extends T> V deep(@Nullable V value) {
+        return (V) deep(value, new IdentityHashMap<>());
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    static @Nullable Object deep(@Nullable Object v, IdentityHashMap<Object, Object> seen) {
+        if (v == null || immutable(v.getClass())) return v;
+        var r = seen.get(v);
+        if (r != null) return r;
+        var c = v.getClass();
+        if (c.isArray()) {
+            var n = Array.getLength(v);
+            if (c.getComponentType().isPrimitive()) {
+                r = Array.newInstance(c.getComponentType(), n);
+                System.arraycopy(v, 0, r, 0, n);
+                seen.put(v, r);
+                return r;
+            }
+            var src = (Object[]) v;
+            var dst = (Object[]) Array.newInstance(c.getComponentType(), n);
+            seen.put(v, dst);
+            for (int i = 0; i < n; i++) dst[i] = deep(src[i], seen);
+            return dst;
+        }
+        if (jdk(c)) {
+            if (v instanceof EnumSet) {
+                r = EnumSet.copyOf((EnumSet) v);
+                seen.put(v, r);
+                return r;
+            }
+            r = RECREATE.get(c).apply(v);
+            if (r == null) return v;
+            seen.put(v, r);
+            if (v instanceof Map) {
+                var dst = (Map<Object, Object>) r;
+                for (var e : ((Map<Object, Object>) v).entrySet())
+                    dst.put(deep(e.getKey(), seen), deep(e.getValue(), seen));
+            } else if (v instanceof Collection) {
+                var dst = (Collection<Object>) r;
+                for (var e : (Collection<Object>) v) dst.add(deep(e, seen));
+            }
+            return r;
+        }
+        var cloner = (Cloner<Object>) of(c);
+        r = cloner.allocate();
+        seen.put(v, r);
+        for (var copy : cloner.copies) copy.apply(v, r, seen);
+        return r;
+    }
+
+    /**
+     * empty instances of the runtime class of JDK collections and maps, copies of other cloneable JDK objects,
+     * null for objects to be shared.
+     */
+    static final ClassValue<UnaryOperator<Object>> RECREATE = new ClassValue<UnaryOperator<Object>>() {
+        @Override
+        protected UnaryOperator<Object> computeValue(Class<?> type) {
+            return recreator(type);
+        }
+    };
+    static final UnaryOperator<Object> SHARE = v -> null;
+
+    /**
+     * by public {@code clone()} for cloneable classes (collections and maps are cleared), by public constructor of
+     * comparator or no-arg for other collections and maps.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    static UnaryOperator<Object> recreator(Class<?> c) {
+        var lookup = MethodHandles.publicLookup();
+        var container = Collection.class.isAssignableFrom(c) || Map.class.isAssignableFrom(c);
+        if (Cloneable.class.isAssignableFrom(c)) {
+            try {
+                var clone = lookup.findVirtual(c, "clone", MethodType.methodType(Object.class));
+                return new UnaryOperator<Object>() {
+                    @SneakyThrows
+                    @Override
+                    public Object apply(Object v) {
+                        var r = clone.invoke(v);
+                        if (!container) return r;
+                        try {
+                            if (r instanceof Map) ((Map) r).clear();
+                            else ((Collection) r).clear();
+                        } catch (UnsupportedOperationException e) {
+                            return null;
+                        }
+                        return r;
+                    }
+                };
+            } catch (NoSuchMethodException | IllegalAccessException ignored) {
+            }
+        }
+        if (!container) return SHARE;
+        var plain = constructor(lookup, c, MethodType.methodType(void.class));
+        var ordered = constructor(lookup, c, MethodType.methodType(void.class, Comparator.class));
+        var sized = constructor(lookup, c, MethodType.methodType(void.class, int.class, Comparator.class));
+        MethodHandle comparator;
+        try {
+            comparator = lookup.findVirtual(c, "comparator", MethodType.methodType(Comparator.class));
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            comparator = null;
+        }
+        if (plain == null) return SHARE;
+        final MethodHandle cmp = comparator;
+        return new UnaryOperator<Object>() {
+            @SneakyThrows
+            @Override
+            public Object apply(Object v) {
+                var o = cmp == null ? null : (Comparator<?>) cmp.invoke(v);
+                if (o == null) return plain.invoke();
+                if (ordered != null) return ordered.invoke(o);
+                if (sized != null) return sized.invoke(Math.max(1, ((Collection<?>) v).size()), o);
+                return null;
+            }
+        };
+    }
+
+    static @Nullable MethodHandle constructor(MethodHandles.Lookup lookup, Class<?> c, MethodType type) {
+        try {
+            return lookup.findConstructor(c, type);
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            return null;
+        }
+    }
+
+    static boolean immutable(Class<?> c) {
+        return c == String.class || c == Integer.class || c == Long.class || c == Double.class || c == Float.class
+                || c == Short.class || c == Byte.class || c == Character.class || c == Boolean.class
+                || c.isEnum() || (c.getSuperclass() != null && c.getSuperclass().isEnum()) || c == Class.class
+                || c == BigInteger.class || c == BigDecimal.class || c == UUID.class
+                || c.getName().startsWith("java.time.");
+    }
+
+    static boolean jdk(Class<?> c) {
+        var n = c.getName();
+        return n.startsWith("java.") || n.startsWith("javax.") || n.startsWith("sun.") || n.startsWith("jdk.");
+    }
+
+    /**
+     * copy one field, deep copies of references when seen is not null.
+     */
+    interface Copy {
+        void apply(Object source, Object target, @Nullable IdentityHashMap<Object, Object> seen);
+    }
+
+    static Copy copy(ClassShape shape, int slot) {
+        var g = shape.getters[slot];
+        var s = shape.setters[slot];
+        if (s == null) return finalCopy(shape.field(slot));
+        var kind = shape.kinds[slot];
+        if (kind < ClassShape.REFERENCE) return pair(kind, g, s);
+        return (a, b, seen) -> s.set(b, seen == null ? g.get(a) : deep(g.get(a), seen));
+    }
+
+    /**
+     * @return copy of primitive kind between typed getter and setter
+     */
+    static Copy pair(int kind, Accessor.GenericGetter g, Accessor.GenericSetter s) {
+        switch (kind) {
+            case 0: {
+                var x = (Accessor.BooleanGetter) g;
+                var y = (Accessor.BooleanSetter) s;
+                return (a, b, seen) -> y.setValue(b, x.getValue(a));
+            }
+            case 1: {
+                var x = (Accessor.ByteGetter) g;
+                var y = (Accessor.ByteSetter) s;
+                return (a, b, seen) -> y.setValue(b, x.getValue(a));
+            }
+            case 2: {
+                var x = (Accessor.ShortGetter) g;
+                var y = (Accessor.ShortSetter) s;
+                return (a, b, seen) -> y.setValue(b, x.getValue(a));
+            }
+            case 3: {
+                var x = (Accessor.CharGetter) g;
+                var y = (Accessor.CharSetter) s;
+                return (a, b, seen) -> y.setValue(b, x.getValue(a));
+            }
+            case 4: {
+                var x = (Accessor.IntGetter) g;
+                var y = (Accessor.IntSetter) s;
+                return (a, b, seen) -> y.setValue(b, x.getValue(a));
+            }
+            case 5: {
+                var x = (Accessor.LongGetter) g;
+                var y = (Accessor.LongSetter) s;
+                return (a, b, seen) -> y.setValue(b, x.getValue(a));
+            }
+            case 6: {
+                var x = (Accessor.FloatGetter) g;
+                var y = (Accessor.FloatSetter) s;
+                return (a, b, seen) -> y.setValue(b, x.getValue(a));
+            }
+            default: {
+                var x = (Accessor.DoubleGetter) g;
+                var y = (Accessor.DoubleSetter) s;
+                return (a, b, seen) -> y.setValue(b, x.getValue(a));
+            }
+        }
+    }
+
+    static Copy finalCopy(Field f) {
+        f.setAccessible(true);
+        return new Copy() {
+            @SneakyThrows
+            @Override
+            public void apply(Object a, Object b, @Nullable IdentityHashMap<Object, Object> seen) {
+                var v = f.get(a);
+                f.set(b, seen == null || f.getType().isPrimitive() ? v : deep(v, seen));
+            }
+        };
+    }
+
+    static Supplier<?> allocator(Class<?> type) {
+        try {
+            type.getDeclaredConstructor();
+        } catch (NoSuchMethodException e) {
+            return bare(type);
+        }
+        return BinaryCodec.factory(type);
+    }
+
+    /**
+     * allocate without constructor of type, by the serialization constructor calls {@code Object()} only.
+     */
+    static Supplier<?> bare(Class<?> type) {
+        Constructor<?> ctor;
+        try {
+            var rf = Class.forName("sun.reflect.ReflectionFactory");
+            var factory = rf.getMethod("getReflectionFactory").invoke(null);
+            ctor = (Constructor<?>) rf.getMethod("newConstructorForSerialization", Class.class, Constructor.class)
+                    .invoke(factory, type, Object.class.getDeclaredConstructor());
+            ctor.setAccessible(true);
+        } catch (Throwable e) {
+            throw new IllegalArgumentException("can not allocate " + type.getName() + " without constructor", e);
+        }
+        final Constructor<?> c = ctor;
+        return new Supplier<Object>() {
+            @SneakyThrows
+            @Override
+            public Object get() {
+                return c.newInstance();
+            }
+        };
+    }
+
+    @Override
+    public String toString() {
+        return "Cloner(" + type.getName() + ")";
+    }
+}
@@ -0,0 +1,493 @@
+/*
+ * Source of invoker
+ * Copyright (C) 2023.  Zen.Liu
+ *
+ * SPDX-License-Identifier: GPL-2.0-only WITH Classpath-exception-2.0"
+ *
+ * This program is free software; you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation; version 2.
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program; if not, write to the Free Software Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA 02110-1301, USA.
+ *
+ * Class Path Exception
+ * Linking this library statically or dynamically with other modules is making a combined work based on this library. Thus, the terms and conditions of the GNU General Public License cover the whole combination.
+ *  As a special exception, the copyright holders of this library give you permission to link this library with independent modules to produce an executable, regardless of the license terms of these independent modules, and to copy and distribute the resulting executable under terms of your choice, provided that you also meet, for each linked independent module, the terms and conditions of the license of that module. An independent module is a module which is not derived from or based on this library. If you modify this library, you may extend this exception to your version of the library, but you are not obligated to do so. If you do not wish to do so, delete this exception statement from your version.
+ */
+
+
+package cn.zenliu.java.invoker;
+
+import lombok.SneakyThrows;
+import lombok.var;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Array;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.function.Supplier;
+
+/**
+ * Struct-of-arrays list: each element is decomposed by its {@link ClassShape} into per field columns ({@code int[]},
+ * {@code long[]}, {@code double[]}, ... and {@code Object[]} for references), {@link #get(int)} re-materializes a new
+ * instance.<br/>
+ * 1. Columns are stored in chunks of {@value #CHUNK} rows, growing appends a chunk to each column without copying rows.<br/>
+ * 2. {@link Cursor}s scan one column chunk by chunk, eg: {@code IntCursor c = list.cursor("age"); while (c.next()) sum += c.value();}<br/>
+ * 3. Only fields of the element class are stored, all of them must be settable (non-final), elements must not be null.<br/>
+ * Not thread safe.
+ *
+ * @author Zen.Liu
+ * @since 2026-10-19
+ */
+@ApiStatus.AvailableSince("0.0.3")
+public final class ColumnarList<T> extends AbstractList<T> implements RandomAccess {
+    static final int CHUNK_BITS = 12;
+    static final int CHUNK = 1 << CHUNK_BITS;
+    static final int MASK = CHUNK - 1;
+
+    final ClassShape shape;
+    final Supplier<? extends T> factory;
+    final int[] kinds;
+    /**
+     * chunks of each slot.
+     */
+    final Object[][] columns;
+    int chunks;
+    int size;
+
+    ColumnarList(ClassShape shape, Supplier<? extends T> factory) {
+        this.shape = shape;
+        this.factory = factory;
+        var n = shape.size();
+        kinds = shape.kinds;
+        columns = new Object[n][];
+        for (int s = 0; s < n; s++) {
+            if (!shape.canSet(s))
+                throw new IllegalArgumentException("field " + shape.name(s) + " of " + shape.type.getName() + " is not settable");
+            columns[s] = new Object[4];
+        }
+    }
+
+    /**
+     * @param type element class with a no-arg constructor
+     */
+    @SneakyThrows
+    @SuppressWarnings("unchecked")
+    public static <T> ColumnarList<T> of(Class<T> type) {
+        var ctor = type.getDeclaredConstructor();
+        var invoker = Invoker.make(MethodHandles.lookup(), ctor);
+        return new ColumnarList<>(ClassShape.of(type), () -> (T) invoker.invoke(null));
+    }
+
+    /**
+     * @param type    element class
+     * @param factory creates empty instances to re-materialize into
+     */
+    public static <T> ColumnarList<T> of(Class<T> type, Supplier<? extends T> factory) {
+        return new ColumnarList<>(ClassShape.of(type), factory);
+    }
+
+    public ClassShape shape() {
+        return shape;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean add(T t) {
+        Objects.requireNonNull(t, "element");
+        if (size == chunks << CHUNK_BITS) grow();
+        write(size++, t);
+        modCount++;
+        return true;
+    }
+
+    @Override
+    public T get(int index) {
+        check(index);
+        T t = factory.get();
+        var c = index >>> CHUNK_BITS;
+        var o = index & MASK;
+        var setters = shape.setters;
+        for (int s = 0; s < kinds.length; s++) {
+            Object chunk = columns[s][c];
+            switch (kinds[s]) {
+                case 0:
+                    ((Accessor.BooleanSetter) setters[s]).setValue(t, ((boolean[]) chunk)[o]);
+                    break;
+                case 1:
+                    ((Accessor.ByteSetter) setters[s]).setValue(t, ((byte[]) chunk)[o]);
+                    break;
+                case 2:
+                    ((Accessor.ShortSetter) setters[s]).setValue(t, ((short[]) chunk)[o]);
+                    break;
+                case 3:
+                    ((Accessor.CharSetter) setters[s]).setValue(t, ((char[]) chunk)[o]);
+                    break;
+                case 4:
+                    ((Accessor.IntSetter) setters[s]).setValue(t, ((int[]) chunk)[o]);
+                    break;
+                case 5:
+                    ((Accessor.LongSetter) setters[s]).setValue(t, ((long[]) chunk)[o]);
+                    break;
+                case 6:
+                    ((Accessor.FloatSetter) setters[s]).setValue(t, ((float[]) chunk)[o]);
+                    break;
+                case 7:
+                    ((Accessor.DoubleSetter) setters[s]).setValue(t, ((double[]) chunk)[o]);
+                    break;
+                default:
+                    setters[s].set(t, ((Object[]) chunk)[o]);
+            }
+        }
+        return t;
+    }
+
+    /**
+     * overwrite row, the previous element is re-materialized.
+     */
+    @Override
+    public T set(int index, T element) {
+        Objects.requireNonNull(element, "element");
+        var old = get(index);
+        write(index, element);
+        return old;
+    }
+
+    @Override
+    public void clear() {
+        for (var column : columns) Arrays.fill(column, null);
+        chunks = 0;
+        size = 0;
+        modCount++;
+    }
+
+    private void check(int index) {
+        if (index < 0 || index >= size) throw new IndexOutOfBoundsException("index " + index + ", size " + size);
+    }
+
+    private void grow() {
+        for (int s = 0; s < kinds.length; s++) {
+            var column = columns[s];
+            if (chunks == column.length) columns[s] = column = Arrays.copyOf(column, chunks * 2);
+            column[chunks] = kinds[s] == ClassShape.REFERENCE ? new Object[CHUNK] : Array.newInstance(ClassShape.KINDS[kinds[s]], CHUNK);
+        }
+        chunks++;
+    }
+
+    private void write(int index, T t) {
+        var c = index >>> CHUNK_BITS;
+        var o = index & MASK;
+        var getters = shape.getters;
+        for (int s = 0; s < kinds.length; s++) {
+            Object chunk = columns[s][c];
+            switch (kinds[s]) {
+                case 0:
+                    ((boolean[]) chunk)[o] = ((Accessor.BooleanGetter) getters[s]).getValue(t);
+                    break;
+                case 1:
+                    ((byte[]) chunk)[o] = ((Accessor.ByteGetter) getters[s]).getValue(t);
+                    break;
+                case 2:
+                    ((short[]) chunk)[o] = ((Accessor.ShortGetter) getters[s]).getValue(t);
+                    break;
+                case 3:
+                    ((char[]) chunk)[o] = ((Accessor.CharGetter) getters[s]).getValue(t);
+                    break;
+                case 4:
+                    ((int[]) chunk)[o] = ((Accessor.IntGetter) getters[s]).getValue(t);
+                    break;
+                case 5:
+                    ((long[]) chunk)[o] = ((Accessor.LongGetter) getters[s]).getValue(t);
+                    break;
+                case 6:
+                    ((float[]) chunk)[o] = ((Accessor.FloatGetter) getters[s]).getValue(t);
+                    break;
+                case 7:
+                    ((double[]) chunk)[o] = ((Accessor.DoubleGetter) getters[s]).getValue(t);
+                    break;
+                default:
+                    ((Object[]) chunk)[o] = getters[s].get(t);
+            }
+        }
+    }
+
+    //region Cursors
+
+    /**
+     * @param name field name
+     * @see #cursor(int)
+     */
+    public <C extends Cursor> C cursor(String name) {
+        var slot = shape.slotOf(name);
+        if (slot < 0) throw new IllegalArgumentException("no field " + name + " in " + shape.type.getName());
+        return cursor(slot);
+    }
+
+    /**
+     * Cursor of one column over current rows, rows added later are not visited.
+     *
+     * @param slot slot of {@link #shape()}
+     * @return typed cursor by field type: {@link IntCursor} for int ... {@link ObjectCursor} for references.
+     */
+    @SuppressWarnings("unchecked")
+    public <C extends Cursor> C cursor(int slot) {
+        var chunks = columns[slot];
+        switch (kinds[slot]) {
+            case 0:
+                return (C) new BooleanCursor(chunks, size);
+            case 1:
+                return (C) new ByteCursor(chunks, size);
+            case 2:
+                return (C) new ShortCursor(chunks, size);
+            case 3:
+                return (C) new CharCursor(chunks, size);
+            case 4:
+                return (C) new IntCursor(chunks, size);
+            case 5:
+                return (C) new LongCursor(chunks, size);
+            case 6:
+                return (C) new FloatCursor(chunks, size);
+            case 7:
+                return (C) new DoubleCursor(chunks, size);
+            default:
+                return (C) new ObjectCursor(chunks, size);
+        }
+    }
+
+    /**
+     * Forward cursor of one column, typed value of current row is read or written in place by subclasses.
+     */
+    public abstract static class Cursor {
+        final Object[] chunks;
+        final int size;
+        int row = -1;
+        int offset;
+
+        Cursor(Object[] chunks, int size) {
+            this.chunks = chunks;
+            this.size = size;
+        }
+
+        /**
+         * @return move to next row, false if no more rows.
+         */
+        public final boolean next() {
+            if (row + 1 >= size) return false;
+            offset = ++row & MASK;
+            if (offset == 0) load(chunks[row >>> CHUNK_BITS]);
+            return true;
+        }
+
+        /**
+         * @return current row.
+         */
+        public final int row() {
+            return row;
+        }
+
+        /**
+         * move before the first row.
+         */
+        public final void reset() {
+            row = -1;
+        }
+
+        abstract void load(Object chunk);
+    }
+
+    public static final class BooleanCursor extends Cursor {
+        boolean[] chunk;
+
+        BooleanCursor(Object[] chunks, int size) {
+            super(chunks, size);
+        }
+
+        @Override
+        void load(Object chunk) {
+            this.chunk = (boolean[]) chunk;
+        }
+
+        public boolean value() {
+            return chunk[offset];
+        }
+
+        public void value(boolean value) {
+            chunk[offset] = value;
+        }
+    }
+
+    public static final class ByteCursor extends Cursor {
+        byte[] chunk;
+
+        ByteCursor(Object[] chunks, int size) {
+            super(chunks, size);
+        }
+
+        @Override
+        void load(Object chunk) {
+            this.chunk = (byte[]) chunk;
+        }
+
+        public byte value() {
+            return chunk[offset];
+        }
+
+        public void value(byte value) {
+            chunk[offset] = value;
+        }
+    }
+
+    public static final class ShortCursor extends Cursor {
+        short[] chunk;
+
+        ShortCursor(Object[] chunks, int size) {
+            super(chunks, size);
+        }
+
+        @Override
+        void load(Object chunk) {
+            this.chunk = (short[]) chunk;
+        }
+
+        public short value() {
+            return chunk[offset];
+        }
+
+        public void value(short value) {
+            chunk[offset] = value;
+        }
+    }
+
+    public static final class CharCursor extends Cursor {
+        char[] chunk;
+
+        CharCursor(Object[] chunks, int size) {
+            super(chunks, size);
+        }
+
+        @Override
+        void load(Object chunk) {
+            this.chunk = (char[]) chunk;
+        }
+
+        public char value() {
+            return chunk[offset];
+        }
+
+        public void value(char value) {
+            chunk[offset] = value;
+        }
+    }
+
+    public static final class IntCursor extends Cursor {
+        int[] chunk;
+
+        IntCursor(Object[] chunks, int size) {
+            super(chunks, size);
+        }
+
+        @Override
+        void load(Object chunk) {
+            this.chunk = (int[]) chunk;
+        }
+
+        public int value() {
+            return chunk[offset];
+        }
+
+        public void value(int value) {
+            chunk[offset] = value;
+        }
+    }
+
+    public static final class LongCursor extends Cursor {
+        long[] chunk;
+
+        LongCursor(Object[] chunks, int size) {
+            super(chunks, size);
+        }
+
+        @Override
+        void load(Object chunk) {
+            this.chunk = (long[]) chunk;
+        }
+
+        public long value() {
+            return chunk[offset];
+        }
+
+        public void value(long value) {
+            chunk[offset] = value;
+        }
+    }
+
+    public static final class FloatCursor extends Cursor {
+        float[] chunk;
+
+        FloatCursor(Object[] chunks, int size) {
+            super(chunks, size);
+        }
+
+        @Override
+        void load(Object chunk) {
+            this.chunk = (float[]) chunk;
+        }
+
+        public float value() {
+            return chunk[offset];
+        }
+
+        public void value(float value) {
+            chunk[offset] = value;
+        }
+    }
+
+    public static final class DoubleCursor extends Cursor {
+        double[] chunk;
+
+        DoubleCursor(Object[] chunks, int size) {
+            super(chunks, size);
+        }
+
+        @Override
+        void load(Object chunk) {
+            this.chunk = (double[]) chunk;
+        }
+
+        public double value() {
+            return chunk[offset];
+        }
+
+        public void value(double value) {
+            chunk[offset] = value;
+        }
+    }
+
+    public static final class ObjectCursor extends Cursor {
+        Object[] chunk;
+
+        ObjectCursor(Object[] chunks, int size) {
+            super(chunks, size);
+        }
+
+        @Override
+        void load(Object chunk) {
+            this.chunk = (Object[]) chunk;
+        }
+
+        public @Nullable Object value() {
+            return chunk[offset];
+        }
+
+        public void value(@Nullable Object value) {
+            chunk[offset] = value;
+        }
+    }
+    //endregion
+}
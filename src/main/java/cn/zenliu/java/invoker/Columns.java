@@ -0,0 +1,91 @@
+/*
+ * Source of invoker
+ * Copyright (C) 2023.  Zen.Liu
+ *
+ * SPDX-License-Identifier: GPL-2.0-only WITH Classpath-exception-2.0"
+ *
+ * This program is free software; you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation; version 2.
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program; if not, write to the Free Software Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA 02110-1301, USA.
+ *
+ * Class Path Exception
+ * Linking this library statically or dynamically with other modules is making a combined work based on this library. Thus, the terms and conditions of the GNU General Public License cover the whole combination.
+ *  As a special exception, the copyright holders of this library give you permission to link this library with independent modules to produce an executable, regardless of the license terms of these independent modules, and to copy and distribute the resulting executable under terms of your choice, provided that you also meet, for each linked independent module, the terms and conditions of the license of that module. An independent module is a module which is not derived from or based on this library. If you modify this library, you may extend this exception to your version of the library, but you are not obligated to do so. If you do not wish to do so, delete this exception statement from your version.
+ */
+
+
+package cn.zenliu.java.invoker;
+
+import org.jetbrains.annotations.ApiStatus;
+
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Range helpers of the bulk column operations of {@link Accessor} primitive getters and setters.
+ *
+ * @author Zen.Liu
+ * @since 2026-10-19
+ */
+@ApiStatus.Internal
+final class Columns {
+    /**
+     * minimal elements of one fork-join task, system property {@code invoker.columns.threshold}.
+     */
+    static final int THRESHOLD = Math.max(1, Integer.getInteger("invoker.columns.threshold", 1 << 13));
+
+    private Columns() {
+        throw new IllegalAccessError();
+    }
+
+    interface Range {
+        void apply(int from, int to);
+    }
+
+    /**
+     * check range [from, to) is inside both arrays.
+     */
+    static void check(int objects, int values, int from, int to) {
+        if (from < 0 || from > to || to > objects || to > values)
+            throw new IndexOutOfBoundsException("range [" + from + ", " + to + ") out of bounds, objects " + objects + ", values " + values);
+    }
+
+    /**
+     * apply range in fork-join common pool, split into tasks not less than {@link #THRESHOLD}.
+     */
+    static void parallel(int from, int to, Range range) {
+        if (to - from <= THRESHOLD) range.apply(from, to);
+        else new Task(from, to, range).invoke();
+    }
+
+    /**
+     * only random access lists can be split.
+     */
+    static boolean splittable(List<?> list) {
+        return list instanceof RandomAccess;
+    }
+
+    static final class Task extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+        final int from;
+        final int to;
+        final Range range;
+
+        Task(int from, int to, Range range) {
+            this.from = from;
+            this.to = to;
+            this.range = range;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= THRESHOLD) {
+                range.apply(from, to);
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new Task(from, mid, range), new Task(mid, to, range));
+        }
+    }
+}
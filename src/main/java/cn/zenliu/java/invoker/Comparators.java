@@ -0,0 +1,145 @@
+/*
+ * Source of invoker
+ * Copyright (C) 2023.  Zen.Liu
+ *
+ * SPDX-License-Identifier: GPL-2.0-only WITH Classpath-exception-2.0"
+ *
+ * This program is free software; you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation; version 2.
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program; if not, write to the Free Software Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA 02110-1301, USA.
+ *
+ * Class Path Exception
+ * Linking this library statically or dynamically with other modules is making a combined work based on this library. Thus, the terms and conditions of the GNU General Public License cover the whole combination.
+ *  As a special exception, the copyright holders of this library give you permission to link this library with independent modules to produce an executable, regardless of the license terms of these independent modules, and to copy and distribute the resulting executable under terms of your choice, provided that you also meet, for each linked independent module, the terms and conditions of the license of that module. An independent module is a module which is not derived from or based on this library. If you modify this library, you may extend this exception to your version of the library, but you are not obligated to do so. If you do not wish to do so, delete this exception statement from your version.
+ */
+
+
+package cn.zenliu.java.invoker;
+
+import lombok.var;
+import org.jetbrains.annotations.ApiStatus;
+
+import java.util.Comparator;
+import java.util.Locale;
+
+/**
+ * Multi-field comparators compiled from {@link ClassShape}: one comparator reads every key through the typed getters,
+ * primitive keys are never boxed.<br/>
+ * Key syntax: {@code [-]field[ nulls first| nulls last]}, eg: {@code Comparators.of(Order.class, "region", "-price nulls first", "id")}.
+ * A leading {@code -} reverses the key; reference keys must be {@link Comparable}, nulls are last unless declared,
+ * and reversing a key does not move its nulls.
+ *
+ * @author Zen.Liu
+ * @since 2026-10-19
+ */
+@ApiStatus.AvailableSince("0.0.3")
+public final class Comparators {
+    private Comparators() {
+        throw new IllegalAccessError();
+    }
+
+    /**
+     * @param type class of elements
+     * @param keys key specs in priority order
+     * @return compiled comparator
+     * @throws IllegalArgumentException for unknown fields, non comparable fields or invalid specs
+     */
+    public static <T> Comparator<T> of(Class<T> type, String... keys) {
+        if (keys.length == 0) throw new IllegalArgumentException("no key");
+        var shape = ClassShape.of(type);
+        var n = keys.length;
+        var kinds = new int[n];
+        var getters = new Accessor.GenericGetter[n];
+        var signs = new int[n];
+        var nullsFirst = new boolean[n];
+        for (int i = 0; i < n; i++) {
+            var spec = keys[i].trim();
+            var lower = spec.toLowerCase(Locale.ROOT);
+            if (lower.endsWith(" nulls first")) {
+                nullsFirst[i] = true;
+                spec = spec.substring(0, spec.length() - " nulls first".length()).trim();
+            } else if (lower.endsWith(" nulls last")) {
+                spec = spec.substring(0, spec.length() - " nulls last".length()).trim();
+            }
+            signs[i] = 1;
+            if (spec.startsWith("-")) {
+                signs[i] = -1;
+                spec = spec.substring(1);
+            } else if (spec.startsWith("+")) {
+                spec = spec.substring(1);
+            }
+            var slot = shape.slotOf(spec);
+            if (slot < 0) throw new IllegalArgumentException("no field " + spec + " in " + type.getName());
+            kinds[i] = shape.kinds[slot];
+            if (kinds[i] == ClassShape.REFERENCE && !Comparable.class.isAssignableFrom(shape.type(slot)) && !shape.type(slot).isInterface())
+                throw new IllegalArgumentException("field " + spec + " of " + type.getName() + " is not comparable");
+            getters[i] = shape.getters[slot];
+        }
+        return new Compiled<>(String.join(", ", keys), kinds, getters, signs, nullsFirst);
+    }
+
+    static final class Compiled<T> implements Comparator<T> {
+        final String keys;
+        final int[] kinds;
+        final Accessor.GenericGetter[] getters;
+        final int[] signs;
+        final boolean[] nullsFirst;
+
+        Compiled(String keys, int[] kinds, Accessor.GenericGetter[] getters, int[] signs, boolean[] nullsFirst) {
+            this.keys = keys;
+            this.kinds = kinds;
+            this.getters = getters;
+            this.signs = signs;
+            this.nullsFirst = nullsFirst;
+        }
+
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        @Override
+        public int compare(T a, T b) {
+            for (int i = 0; i < kinds.length; i++) {
+                var g = getters[i];
+                int c;
+                switch (kinds[i]) {
+                    case 0:
+                        c = Boolean.compare(((Accessor.BooleanGetter) g).getValue(a), ((Accessor.BooleanGetter) g).getValue(b));
+                        break;
+                    case 1:
+                        c = Byte.compare(((Accessor.ByteGetter) g).getValue(a), ((Accessor.ByteGetter) g).getValue(b));
+                        break;
+                    case 2:
+                        c = Short.compare(((Accessor.ShortGetter) g).getValue(a), ((Accessor.ShortGetter) g).getValue(b));
+                        break;
+                    case 3:
+                        c = Character.compare(((Accessor.CharGetter) g).getValue(a), ((Accessor.CharGetter) g).getValue(b));
+                        break;
+                    case 4:
+                        c = Integer.compare(((Accessor.IntGetter) g).getValue(a), ((Accessor.IntGetter) g).getValue(b));
+                        break;
+                    case 5:
+                        c = Long.compare(((Accessor.LongGetter) g).getValue(a), ((Accessor.LongGetter) g).getValue(b));
+                        break;
+                    case 6:
+                        c = Float.compare(((Accessor.FloatGetter) g).getValue(a), ((Accessor.FloatGetter) g).getValue(b));
+                        break;
+                    case 7:
+                        c = Double.compare(((Accessor.DoubleGetter) g).getValue(a), ((Accessor.DoubleGetter) g).getValue(b));
+                        break;
+                    default:
+                        var x = (Comparable) g.get(a);
+                        var y = (Comparable) g.get(b);
+                        if (x == y) continue;
+                        if (x == null || y == null) return (x == null) == nullsFirst[i] ? -1 : 1;
+                        c = x.compareTo(y);
+                }
+                //negating Integer.MIN_VALUE keeps its sign, reverse by sign instead.
+                if (c != 0) return signs[i] > 0 ? c : c > 0 ? -1 : 1;
+            }
+            return 0;
+        }
+
+        @Override
+        public String toString() {
+            return "Comparator(" + keys + ")";
+        }
+    }
+}
@@ -0,0 +1,522 @@
+/*
+ * Source of invoker
+ * Copyright (C) 2023.  Zen.Liu
+ *
+ * SPDX-License-Identifier: GPL-2.0-only WITH Classpath-exception-2.0"
+ *
+ * This program is free software; you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation; version 2.
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program; if not, write to the Free Software Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA 02110-1301, USA.
+ *
+ * Class Path Exception
+ * Linking this library statically or dynamically with other modules is making a combined work based on this library. Thus, the terms and conditions of the GNU General Public License cover the whole combination.
+ *  As a special exception, the copyright holders of this library give you permission to link this library with independent modules to produce an executable, regardless of the license terms of these independent modules, and to copy and distribute the resulting executable under terms of your choice, provided that you also meet, for each linked independent module, the terms and conditions of the license of that module. An independent module is a module which is not derived from or based on this library. If you modify this library, you may extend this exception to your version of the library, but you are not obligated to do so. If you do not wish to do so, delete this exception statement from your version.
+ */
+
+
+package cn.zenliu.java.invoker;
+
+import lombok.SneakyThrows;
+import lombok.var;
+import org.jetbrains.annotations.ApiStatus;
+
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Bulk loader of UTF-8 CSV/TSV files into POJOs.<br/>
+ * 1. Header columns are mapped to {@link ClassShape} slots once per file (without header, columns map to slots in order),
+ * unknown columns are ignored.<br/>
+ * 2. The file is read through a {@link FileChannel} in large chunks, numbers are parsed from the bytes straight into the
+ * typed setters ({@link Accessor.IntSetter}, {@link Accessor.DoubleSetter} ...), strings are only created for
+ * {@link String}, enum and boxed fields.<br/>
+ * 3. Fields may be quoted with {@code "}, quotes are escaped as {@code ""}; empty fields leave primitives untouched and
+ * set references to null. Malformed or out of range values fail with an {@link IllegalArgumentException} of their line
+ * and column.<br/>
+ * 4. Parallel loading splits the file across cores at line boundaries, so it requires no line breaks inside quoted fields.
+ *
+ * @author Zen.Liu
+ * @since 2026-10-19
+ */
+@ApiStatus.AvailableSince("0.0.3")
+public final class CsvLoader<T> {
+    public static final int DEFAULT_CHUNK = 1 << 20;
+    static final double[] POW10 = JsonCodec.POW10;
+
+    interface Parser {
+        /**
+         * @param quoted the range is the inside of a quoted field, may contain {@code ""}
+         */
+        void parse(Object target, byte[] b, int from, int to, boolean quoted);
+    }
+
+    public final Class<T> type;
+    public final byte delimiter;
+    public final boolean header;
+    final ClassShape shape;
+    final Supplier<? extends T> factory;
+    final Parser[] parsers;
+    final int chunk;
+
+    /**
+     * CSV with header.
+     */
+    public static <T> CsvLoader<T> of(Class<T> type) {
+        return of(type, ',', true);
+    }
+
+    /**
+     * TSV with header.
+     */
+    public static <T> CsvLoader<T> tsv(Class<T> type) {
+        return of(type, '\t', true);
+    }
+
+    public static <T> CsvLoader<T> of(Class<T> type, char delimiter, boolean header) {
+        return new CsvLoader<>(type, BinaryCodec.factory(type), delimiter, header, DEFAULT_CHUNK);
+    }
+
+    /**
+     * @param factory creates the instances to fill
+     * @param chunk   bytes of each read
+     */
+    public static <T> CsvLoader<T> of(Class<T> type, Supplier<? extends T> factory, char delimiter, boolean header, int chunk) {
+        return new CsvLoader<>(type, factory, delimiter, header, chunk);
+    }
+
+    CsvLoader(Class<T> type, Supplier<? extends T> factory, char delimiter, boolean header, int chunk) {
+        if (delimiter > 0x7F || delimiter == '"' || delimiter == '\n' || delimiter == '\r')
+            throw new IllegalArgumentException("invalid delimiter " + delimiter);
+        this.type = type;
+        this.factory = factory;
+        this.delimiter = (byte) delimiter;
+        this.header = header;
+        this.chunk = Math.max(64, chunk);
+        this.shape = ClassShape.of(type);
+        parsers = new Parser[shape.size()];
+        for (int s = 0; s < parsers.length; s++) {
+            parsers[s] = shape.canSet(s) ? parser(s) : null;
+        }
+    }
+
+    //region Parsers
+    private Parser parser(int s) {
+        var st = shape.setters[s];
+        switch (shape.kinds[s]) {
+            case 0:
+                return (o, b, f, t, q) -> ((Accessor.BooleanSetter) st).setValue(o, parseBoolean(b, f, t));
+            case 1:
+                return (o, b, f, t, q) -> ((Accessor.ByteSetter) st).setValue(o, (byte) parseLong(b, f, t, Byte.MIN_VALUE, Byte.MAX_VALUE));
+            case 2:
+                return (o, b, f, t, q) -> ((Accessor.ShortSetter) st).setValue(o, (short) parseLong(b, f, t, Short.MIN_VALUE, Short.MAX_VALUE));
+            case 3:
+                return (o, b, f, t, q) -> ((Accessor.CharSetter) st).setValue(o, string(b, f, t, q).charAt(0));
+            case 4:
+                return (o, b, f, t, q) -> ((Accessor.IntSetter) st).setValue(o, (int) parseLong(b, f, t, Integer.MIN_VALUE, Integer.MAX_VALUE));
+            case 5:
+                return (o, b, f, t, q) -> ((Accessor.LongSetter) st).setValue(o, parseLong(b, f, t));
+            case 6:
+                return (o, b, f, t, q) -> ((Accessor.FloatSetter) st).setValue(o, (float) parseDouble(b, f, t));
+            case 7:
+                return (o, b, f, t, q) -> ((Accessor.DoubleSetter) st).setValue(o, parseDouble(b, f, t));
+            default:
+                var c = shape.type(s);
+                if (c == String.class) return (o, b, f, t, q) -> st.set(o, string(b, f, t, q));
+                if (c == Integer.class) return (o, b, f, t, q) -> st.set(o, (int) parseLong(b, f, t, Integer.MIN_VALUE, Integer.MAX_VALUE));
+                if (c == Long.class) return (o, b, f, t, q) -> st.set(o, parseLong(b, f, t));
+                if (c == Short.class) return (o, b, f, t, q) -> st.set(o, (short) parseLong(b, f, t, Short.MIN_VALUE, Short.MAX_VALUE));
+                if (c == Byte.class) return (o, b, f, t, q) -> st.set(o, (byte) parseLong(b, f, t, Byte.MIN_VALUE, Byte.MAX_VALUE));
+                if (c == Double.class) return (o, b, f, t, q) -> st.set(o, parseDouble(b, f, t));
+                if (c == Float.class) return (o, b, f, t, q) -> st.set(o, (float) parseDouble(b, f, t));
+                if (c == Boolean.class) return (o, b, f, t, q) -> st.set(o, parseBoolean(b, f, t));
+                if (c == Character.class) return (o, b, f, t, q) -> st.set(o, string(b, f, t, q).charAt(0));
+                if (c.isEnum()) return enumParser(st, c);
+                return null;
+        }
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    static Parser enumParser(Accessor.GenericSetter st, Class c) {
+        return (o, b, f, t, q) -> st.set(o, Enum.valueOf(c, string(b, f, t, q).trim()));
+    }
+
+    static String string(byte[] b, int from, int to, boolean quoted) {
+        if (!quoted) return new String(b, from, to - from, StandardCharsets.UTF_8);
+        var n = 0;
+        var out = new byte[to - from];
+        for (int i = from; i < to; i++) {
+            out[n++] = b[i];
+            if (b[i] == '"' && i + 1 < to && b[i + 1] == '"') i++;
+        }
+        return new String(out, 0, n, StandardCharsets.UTF_8);
+    }
+
+    static boolean parseBoolean(byte[] b, int from, int to) {
+        var c = b[from] | 0x20;
+        if (to - from == 1 && (b[from] == '1' || b[from] == '0')) return b[from] == '1';
+        if (to - from == 4 && c == 't' && (b[from + 1] | 0x20) == 'r' && (b[from + 2] | 0x20) == 'u' && (b[from + 3] | 0x20) == 'e')
+            return true;
+        if (to - from == 5 && c == 'f' && (b[from + 1] | 0x20) == 'a' && (b[from + 2] | 0x20) == 'l' && (b[from + 3] | 0x20) == 's' && (b[from + 4] | 0x20) == 'e')
+            return false;
+        throw error("boolean", b, from, to);
+    }
+
+    static IllegalArgumentException error(String expect, byte[] b, int from, int to) {
+        return new IllegalArgumentException("expect " + expect + " but '" + new String(b, from, to - from, StandardCharsets.UTF_8) + "'");
+    }
+
+    static long parseLong(byte[] b, int from, int to) {
+        var i = from;
+        var negative = b[i] == '-';
+        if (negative || b[i] == '+') i++;
+        if (i == to) throw error("integer", b, from, to);
+        long v = 0;
+        for (; i < to; i++) {
+            var d = b[i] - '0';
+            if (d < 0 || d > 9 || v < (Long.MIN_VALUE + d) / 10) throw error("integer", b, from, to);
+            v = v * 10 - d;
+        }
+        if (negative) return v;
+        if (v == Long.MIN_VALUE) throw error("integer", b, from, to);
+        return -v;
+    }
+
+    /**
+     * @return integer in [min, max]
+     */
+    static long parseLong(byte[] b, int from, int to, long min, long max) {
+        var v = parseLong(b, from, to);
+        if (v < min || v > max) throw error("integer", b, from, to);
+        return v;
+    }
+
+    /**
+     * exact fast path for up to 15 significant digits without exponent, others by {@link Double#parseDouble(String)}.
+     */
+    static double parseDouble(byte[] b, int from, int to) {
+        var i = from;
+        var negative = b[i] == '-';
+        if (negative || b[i] == '+') i++;
+        long mantissa = 0;
+        var digits = 0;
+        var scale = 0;
+        var dot = false;
+        var any = false;
+        for (; i < to; i++) {
+            var c = b[i];
+            if (c >= '0' && c <= '9') {
+                any = true;
+                mantissa = mantissa * 10 + (c - '0');
+                if (mantissa != 0 && ++digits > 15) break;
+                if (dot) scale++;
+            } else if (c == '.' && !dot) {
+                dot = true;
+            } else break;
+        }
+        if (i == to && any && scale <= 22) {
+            var v = mantissa / POW10[scale];
+            return negative ? -v : v;
+        }
+        try {
+            return Double.parseDouble(new String(b, from, to - from, StandardCharsets.US_ASCII));
+        } catch (NumberFormatException e) {
+            throw error("number", b, from, to);
+        }
+    }
+    //endregion
+
+    /**
+     * @return slot of each column, -1 for ignored ones.
+     */
+    int[] columns(List<String> names) {
+        var slots = new int[names.size()];
+        for (int i = 0; i < slots.length; i++) {
+            var s = shape.slotOf(names.get(i).trim());
+            slots[i] = s >= 0 && parsers[s] != null ? s : -1;
+        }
+        return slots;
+    }
+
+    int[] columns() {
+        var slots = new int[shape.size()];
+        for (int i = 0; i < slots.length; i++) slots[i] = parsers[i] != null ? i : -1;
+        return slots;
+    }
+
+    /**
+     * parse one record in [from, to) into a new instance.
+     */
+    T record(int[] columns, byte[] b, int from, int to) {
+        var t = factory.get();
+        var col = 0;
+        var i = from;
+        while (i <= to && col < columns.length) {
+            int start, end, next;
+            var quoted = i < to && b[i] == '"';
+            if (quoted) {
+                start = i + 1;
+                var j = start;
+                while (j < to) {
+                    if (b[j] == '"') {
+                        if (j + 1 < to && b[j + 1] == '"') {
+                            j += 2;
+                            continue;
+                        }
+                        break;
+                    }
+                    j++;
+                }
+                end = j;
+                next = j + 1;
+                while (next < to && b[next] != delimiter) next++;
+            } else {
+                start = i;
+                var j = i;
+                while (j < to && b[j] != delimiter) j++;
+                end = j;
+                next = j;
+                while (start < end && b[start] == ' ') start++;
+                while (end > start && b[end - 1] == ' ') end--;
+            }
+            var slot = columns[col++];
+            if (slot >= 0) {
+                if (start < end) {
+                    try {
+                        parsers[slot].parse(t, b, start, end, quoted);
+                    } catch (IllegalArgumentException e) {
+                        throw new IllegalArgumentException("column " + col + ": " + e.getMessage(), e);
+                    }
+                } else if (shape.kinds[slot] == ClassShape.REFERENCE) shape.setters[slot].set(t, quoted ? "" : null);
+            }
+            i = next + 1;
+        }
+        return t;
+    }
+
+    /**
+     * @return slots of the header columns, set start to the offset after header.
+     */
+    @SneakyThrows
+    int[] header(FileChannel ch, long[] start) {
+        var buf = new byte[Math.min(chunk, 1 << 16)];
+        var len = 0;
+        while (true) {
+            var r = ch.read(ByteBuffer.wrap(buf, len, buf.length - len), len);
+            if (r > 0) len += r;
+            var end = lineEnd(buf, 0, len);
+            if (end >= 0 || r <= 0) {
+                var stop = end < 0 ? len : end;
+                start[0] = stop + 1;
+                var to = stop > 0 && buf[stop - 1] == '\r' ? stop - 1 : stop;
+                //skip UTF-8 BOM
+                var from = to >= 3 && (buf[0] & 0xFF) == 0xEF && (buf[1] & 0xFF) == 0xBB && (buf[2] & 0xFF) == 0xBF ? 3 : 0;
+                return columns(names(buf, from, to));
+            }
+            if (len == buf.length) buf = Arrays.copyOf(buf, buf.length * 2);
+        }
+    }
+
+    private List<String> names(byte[] b, int from, int to) {
+        var names = new ArrayList<String>();
+        var i = from;
+        while (i <= to) {
+            var j = i;
+            if (j < to && b[j] == '"') {
+                j++;
+                while (j < to && b[j] != '"') j++;
+                names.add(new String(b, i + 1, j - i - 1, StandardCharsets.UTF_8));
+                while (j < to && b[j] != delimiter) j++;
+            } else {
+                while (j < to && b[j] != delimiter) j++;
+                names.add(new String(b, i, j - i, StandardCharsets.UTF_8));
+            }
+            i = j + 1;
+        }
+        return names;
+    }
+
+    /**
+     * @return index of the first line break outside quotes in [from, to), -1 if not found.
+     */
+    static int lineEnd(byte[] b, int from, int to) {
+        var quoted = false;
+        for (int i = from; i < to; i++) {
+            var c = b[i];
+            if (c == '"') quoted = !quoted;
+            else if (c == '\n' && !quoted) return i;
+        }
+        return -1;
+    }
+
+    /**
+     * parse records in file range [from, to), the range must start at a line start.
+     */
+    @SneakyThrows
+    void range(FileChannel ch, long from, long to, int[] columns, Consumer<? super T> sink) {
+        var buf = new byte[chunk];
+        var len = 0;
+        var pos = from;
+        while (true) {
+            while (pos < to && len < buf.length) {
+                var r = ch.read(ByteBuffer.wrap(buf, len, (int) Math.min(buf.length - len, to - pos)), pos);
+                if (r <= 0) {
+                    pos = to;
+                    break;
+                }
+                pos += r;
+                len += r;
+            }
+            var eof = pos >= to;
+            var base = pos - len;
+            var start = 0;
+            int end;
+            while ((end = lineEnd(buf, start, len)) >= 0) {
+                emit(ch, base, columns, buf, start, end, sink);
+                start = end + 1;
+            }
+            if (eof) {
+                if (start < len) emit(ch, base, columns, buf, start, len, sink);
+                return;
+            }
+            if (start == 0 && len == buf.length) buf = Arrays.copyOf(buf, buf.length * 2);
+            else {
+                System.arraycopy(buf, start, buf, 0, len - start);
+                len -= start;
+            }
+        }
+    }
+
+    /**
+     * @param base file offset of b[0], to locate the line of a malformed record
+     */
+    private void emit(FileChannel ch, long base, int[] columns, byte[] b, int from, int to, Consumer<? super T> sink) {
+        if (to > from && b[to - 1] == '\r') to--;
+        if (to == from) return;
+        T t;
+        try {
+            t = record(columns, b, from, to);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("line " + line(ch, base + from) + ", " + e.getMessage(), e);
+        }
+        sink.accept(t);
+    }
+
+    /**
+     * @return 1-based line number of the file offset, only for error reporting.
+     */
+    @SneakyThrows
+    static long line(FileChannel ch, long offset) {
+        var b = ByteBuffer.allocate(4096);
+        var line = 1L;
+        for (long position = 0; position < offset; ) {
+            b.clear();
+            b.limit((int) Math.min(b.capacity(), offset - position));
+            var r = ch.read(b, position);
+            if (r <= 0) break;
+            for (int i = 0; i < r; i++) {
+                if (b.get(i) == '\n') line++;
+            }
+            position += r;
+        }
+        return line;
+    }
+
+    /**
+     * load file sequentially.
+     *
+     * @param sink receives each record in file order
+     */
+    @SneakyThrows
+    public void load(Path file, Consumer<? super T> sink) {
+        try (var ch = FileChannel.open(file, StandardOpenOption.READ)) {
+            var offset = new long[1];
+            var columns = header ? header(ch, offset) : columns();
+            var start = offset[0];
+            range(ch, start, ch.size(), columns, sink);
+        }
+    }
+
+    /**
+     * load file across cores, splits at line breaks.
+     *
+     * @param sink receives records concurrently, must be thread safe
+     */
+    public void loadParallel(Path file, Consumer<? super T> sink) {
+        parallel(file, (i, r) -> r.accept(sink));
+    }
+
+    /**
+     * @param parallel load across cores
+     * @return all records in file order
+     */
+    public List<T> read(Path file, boolean parallel) {
+        if (!parallel) {
+            var l = new ArrayList<T>();
+            load(file, l::add);
+            return l;
+        }
+        var parts = new ArrayList<List<T>>();
+        parallel(file, (i, r) -> {
+            var l = new ArrayList<T>();
+            r.accept(l::add);
+            synchronized (parts) {
+                while (parts.size() <= i) parts.add(null);
+                parts.set(i, l);
+            }
+        });
+        return parts.stream().flatMap(List::stream).collect(Collectors.toList());
+    }
+
+    interface Split<T> {
+        void accept(int index, Consumer<Consumer<? super T>> range);
+    }
+
+    @SneakyThrows
+    private void parallel(Path file, Split<T> split) {
+        try (var ch = FileChannel.open(file, StandardOpenOption.READ)) {
+            var offset = new long[1];
+            var columns = header ? header(ch, offset) : columns();
+            var start = offset[0];
+            var size = ch.size();
+            var n = (int) Math.max(1, Math.min(Runtime.getRuntime().availableProcessors(), (size - start) / chunk + 1));
+            var bounds = new long[n + 1];
+            bounds[0] = Math.min(start, size);
+            bounds[n] = size;
+            for (int i = 1; i < n; i++) bounds[i] = Math.max(bounds[i - 1], next(ch, start + (size - start) * i / n, size));
+            IntStream.range(0, n).parallel().forEach(i -> split.accept(i, sink -> range(ch, bounds[i], bounds[i + 1], columns, sink)));
+        }
+    }
+
+    /**
+     * @return offset after the first line break at or after position.
+     */
+    @SneakyThrows
+    static long next(FileChannel ch, long position, long size) {
+        var b = ByteBuffer.allocate(4096);
+        while (position < size) {
+            b.clear();
+            var r = ch.read(b, position);
+            if (r <= 0) break;
+            for (int i = 0; i < r; i++) {
+                if (b.get(i) == '\n') return position + i + 1;
+            }
+            position += r;
+        }
+        return size;
+    }
+
+    @Override
+    public String toString() {
+        return "CsvLoader(" + type.getName() + ", '" + (char) delimiter + "'" + (header ? ", header" : "") + ")";
+    }
+}
@@ -0,0 +1,265 @@
+/*
+ * Source of invoker
+ * Copyright (C) 2023.  Zen.Liu
+ *
+ * SPDX-License-Identifier: GPL-2.0-only WITH Classpath-exception-2.0"
+ *
+ * This program is free software; you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation; version 2.
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program; if not, write to the Free Software Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA 02110-1301, USA.
+ *
+ * Class Path Exception
+ * Linking this library statically or dynamically with other modules is making a combined work based on this library. Thus, the terms and conditions of the GNU General Public License cover the whole combination.
+ *  As a special exception, the copyright holders of this library give you permission to link this library with independent modules to produce an executable, regardless of the license terms of these independent modules, and to copy and distribute the resulting executable under terms of your choice, provided that you also meet, for each linked independent module, the terms and conditions of the license of that module. An independent module is a module which is not derived from or based on this library. If you modify this library, you may extend this exception to your version of the library, but you are not obligated to do so. If you do not wish to do so, delete this exception statement from your version.
+ */
+
+
+package cn.zenliu.java.invoker;
+
+import lombok.var;
+import org.jetbrains.annotations.ApiStatus;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Binary delta between two versions of an object over {@link ByteBuffer}, eg: to replicate changes of cached objects.
+ * <pre>{@code
+ * var delta = DeltaCodec.of(Order.class);
+ * delta.write(buffer, before, after);  //only changed fields
+ * buffer.flip();
+ * delta.apply(buffer, replica);        //replica becomes after
+ * }</pre>
+ * Layout: entries of changed fields, each an unsigned varint tag {@code (slot << 1 | null) + 1} followed by the new
+ * value, then a {@code 0} tag. Primitives are compared by typed getters without boxing, integral ones written as zigzag
+ * varints, floating ones by raw bits; references are compared by {@link Objects#equals} ({@code byte[]} by content) and
+ * written by the codecs of {@link BinaryCodec}. Final fields are not compared.<br/>
+ * Like {@link BinaryCodec}, reference fields are limited to strings, {@code byte[]}, boxed primitives, enums and nested
+ * user classes; other arrays and JDK types such as collections require a codec passed to {@link #of(Class, Map)}, or
+ * {@link IllegalArgumentException} is thrown.<br/>
+ * The plan is compiled once, {@link #of(Class)} is cached per class. Instances are thread safe.
+ *
+ * @author Zen.Liu
+ * @since 2026-10-19
+ */
+@ApiStatus.AvailableSince("0.0.3")
+public final class DeltaCodec<T> {
+    static final ClassValue<DeltaCodec<?>> CODECS = new ClassValue<DeltaCodec<?>>() {
+        @Override
+        protected DeltaCodec<?> computeValue(Class<?> type) {
+            return new DeltaCodec<>(type, Collections.emptyMap());
+        }
+    };
+
+    interface Diff {
+        /**
+         * @return written when changed
+         */
+        boolean write(ByteBuffer out, Object base, Object current);
+    }
+
+    interface Patch {
+        void apply(ByteBuffer in, Object target);
+    }
+
+    public final Class<T> type;
+    final ClassShape shape;
+    final Diff[] diffs;
+    final Patch[] patches;
+
+    @SuppressWarnings("unchecked")
+    DeltaCodec(Class<T> type, Map<Class<?>, BinaryCodec.Codec<?>> codecs) {
+        this.type = type;
+        this.shape = ClassShape.of(type);
+        var n = shape.size();
+        diffs = new Diff[n];
+        patches = new Patch[n];
+        for (int s = 0; s < n; s++) {
+            if (!shape.canSet(s)) continue;
+            var g = shape.getters[s];
+            var st = shape.setters[s];
+            long tag = ((long) s << 1) + 1;
+            if (shape.kinds[s] == ClassShape.REFERENCE) {
+                var codec = (BinaryCodec.Codec<Object>) BinaryCodec.codec(shape.type(s), type, true, codecs, new HashMap<>());
+                var bytes = shape.type(s) == byte[].class;
+                diffs[s] = (b, x, y) -> {
+                    var v = g.get(y);
+                    var p = g.get(x);
+                    if (bytes ? Arrays.equals((byte[]) p, (byte[]) v) : Objects.equals(p, v)) return false;
+                    if (v == null) BinaryCodec.writeUnsignedVarLong(b, tag + 1);
+                    else {
+                        BinaryCodec.writeUnsignedVarLong(b, tag);
+                        codec.write(b, v);
+                    }
+                    return true;
+                };
+                patches[s] = (b, o) -> st.set(o, codec.read(b));
+            } else primitive(s, tag, g, st);
+        }
+    }
+
+    /**
+     * @return cached delta codec
+     * @throws IllegalArgumentException for reference fields without codec
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> DeltaCodec<T> of(Class<T> type) {
+        return (DeltaCodec<T>) CODECS.get(type);
+    }
+
+    /**
+     * @param codecs codecs of value types, override the built-in ones
+     * @throws IllegalArgumentException for reference fields without codec
+     */
+    public static <T> DeltaCodec<T> of(Class<T> type, Map<Class<?>, BinaryCodec.Codec<?>> codecs) {
+        return new DeltaCodec<>(type, codecs);
+    }
+
+    private void primitive(int s, long tag, Accessor.GenericGetter g, Accessor.GenericSetter st) {
+        switch (shape.kinds[s]) {
+            case 0: {
+                var x = (Accessor.BooleanGetter) g;
+                var y = (Accessor.BooleanSetter) st;
+                diffs[s] = (b, p, c) -> {
+                    var v = x.getValue(c);
+                    if (x.getValue(p) == v) return false;
+                    BinaryCodec.writeUnsignedVarLong(b, tag);
+                    b.put((byte) (v ? 1 : 0));
+                    return true;
+                };
+                patches[s] = (b, o) -> y.setValue(o, b.get() != 0);
+                break;
+            }
+            case 1: {
+                var x = (Accessor.ByteGetter) g;
+                var y = (Accessor.ByteSetter) st;
+                diffs[s] = (b, p, c) -> {
+                    var v = x.getValue(c);
+                    if (x.getValue(p) == v) return false;
+                    BinaryCodec.writeUnsignedVarLong(b, tag);
+                    b.put(v);
+                    return true;
+                };
+                patches[s] = (b, o) -> y.setValue(o, b.get());
+                break;
+            }
+            case 2: {
+                var x = (Accessor.ShortGetter) g;
+                var y = (Accessor.ShortSetter) st;
+                diffs[s] = (b, p, c) -> {
+                    var v = x.getValue(c);
+                    if (x.getValue(p) == v) return false;
+                    BinaryCodec.writeUnsignedVarLong(b, tag);
+                    BinaryCodec.writeVarInt(b, v);
+                    return true;
+                };
+                patches[s] = (b, o) -> y.setValue(o, (short) BinaryCodec.readVarInt(b));
+                break;
+            }
+            case 3: {
+                var x = (Accessor.CharGetter) g;
+                var y = (Accessor.CharSetter) st;
+                diffs[s] = (b, p, c) -> {
+                    var v = x.getValue(c);
+                    if (x.getValue(p) == v) return false;
+                    BinaryCodec.writeUnsignedVarLong(b, tag);
+                    BinaryCodec.writeUnsignedVarLong(b, v);
+                    return true;
+                };
+                patches[s] = (b, o) -> y.setValue(o, (char) BinaryCodec.readUnsignedVarLong(b));
+                break;
+            }
+            case 4: {
+                var x = (Accessor.IntGetter) g;
+                var y = (Accessor.IntSetter) st;
+                diffs[s] = (b, p, c) -> {
+                    var v = x.getValue(c);
+                    if (x.getValue(p) == v) return false;
+                    BinaryCodec.writeUnsignedVarLong(b, tag);
+                    BinaryCodec.writeVarInt(b, v);
+                    return true;
+                };
+                patches[s] = (b, o) -> y.setValue(o, BinaryCodec.readVarInt(b));
+                break;
+            }
+            case 5: {
+                var x = (Accessor.LongGetter) g;
+                var y = (Accessor.LongSetter) st;
+                diffs[s] = (b, p, c) -> {
+                    var v = x.getValue(c);
+                    if (x.getValue(p) == v) return false;
+                    BinaryCodec.writeUnsignedVarLong(b, tag);
+                    BinaryCodec.writeVarLong(b, v);
+                    return true;
+                };
+                patches[s] = (b, o) -> y.setValue(o, BinaryCodec.readVarLong(b));
+                break;
+            }
+            case 6: {
+                var x = (Accessor.FloatGetter) g;
+                var y = (Accessor.FloatSetter) st;
+                diffs[s] = (b, p, c) -> {
+                    var v = Float.floatToRawIntBits(x.getValue(c));
+                    if (Float.floatToRawIntBits(x.getValue(p)) == v) return false;
+                    BinaryCodec.writeUnsignedVarLong(b, tag);
+                    b.putInt(v);
+                    return true;
+                };
+                patches[s] = (b, o) -> y.setValue(o, Float.intBitsToFloat(b.getInt()));
+                break;
+            }
+            default: {
+                var x = (Accessor.DoubleGetter) g;
+                var y = (Accessor.DoubleSetter) st;
+                diffs[s] = (b, p, c) -> {
+                    var v = Double.doubleToRawLongBits(x.getValue(c));
+                    if (Double.doubleToRawLongBits(x.getValue(p)) == v) return false;
+                    BinaryCodec.writeUnsignedVarLong(b, tag);
+                    b.putLong(v);
+                    return true;
+                };
+                patches[s] = (b, o) -> y.setValue(o, Double.longBitsToDouble(b.getLong()));
+            }
+        }
+    }
+
+    /**
+     * write fields of current different from base at current position.
+     *
+     * @return count of changed fields
+     */
+    public int write(ByteBuffer out, T base, T current) {
+        var n = 0;
+        for (var d : diffs) if (d != null && d.write(out, base, current)) n++;
+        out.put((byte) 0);
+        return n;
+    }
+
+    /**
+     * patch target with a delta from current position.
+     *
+     * @return count of patched fields
+     * @throws IllegalArgumentException for malformed deltas
+     */
+    public int apply(ByteBuffer in, T target) {
+        var n = 0;
+        for (long tag; (tag = BinaryCodec.readUnsignedVarLong(in)) != 0; n++) {
+            var code = tag - 1;
+            var s = code >>> 1;
+            if (s >= patches.length || patches[(int) s] == null)
+                throw new IllegalArgumentException("malformed delta of " + type.getName() + ", unknown tag " + tag);
+            if ((code & 1) != 0) shape.setters[(int) s].set(target, null);
+            else patches[(int) s].apply(in, target);
+        }
+        return n;
+    }
+
+    @Override
+    public String toString() {
+        return "DeltaCodec(" + type.getName() + ")";
+    }
+}
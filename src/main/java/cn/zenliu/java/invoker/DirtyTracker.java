@@ -0,0 +1,309 @@
+/*
+ * Source of invoker
+ * Copyright (C) 2023.  Zen.Liu
+ *
+ * SPDX-License-Identifier: GPL-2.0-only WITH Classpath-exception-2.0"
+ *
+ * This program is free software; you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation; version 2.
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program; if not, write to the Free Software Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA 02110-1301, USA.
+ *
+ * Class Path Exception
+ * Linking this library statically or dynamically with other modules is making a combined work based on this library. Thus, the terms and conditions of the GNU General Public License cover the whole combination.
+ *  As a special exception, the copyright holders of this library give you permission to link this library with independent modules to produce an executable, regardless of the license terms of these independent modules, and to copy and distribute the resulting executable under terms of your choice, provided that you also meet, for each linked independent module, the terms and conditions of the license of that module. An independent module is a module which is not derived from or based on this library. If you modify this library, you may extend this exception to your version of the library, but you are not obligated to do so. If you do not wish to do so, delete this exception statement from your version.
+ */
+
+
+package cn.zenliu.java.invoker;
+
+import lombok.var;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Opt-in dirty field tracking of a class: setters of the {@link Accessor}s from {@link #accessor(String)} record the
+ * slot of {@link ClassShape} of each changed field in a per-instance bitset.
+ * <pre>{@code
+ * var tracker = DirtyTracker.of(Order.class);
+ * var price = (Accessor.DoubleSetter) tracker.accessor("price").setter;
+ * price.setValue(order, 10);
+ * for (var column : tracker.changedNames(order)) ...
+ * tracker.clearChanges(order);
+ * }</pre>
+ * A field is changed only when the new value differs: primitives by value (floating by bits), references by
+ * {@link Objects#equals}. Bitsets are kept in a side table weakly keyed by identity, so tracked instances are not
+ * retained and their {@code equals}/{@code hashCode} are never called. Trackers are cached per class.<br/>
+ * Marks are atomic with {@link #clearChanges(Object)}: a mark is either cleared or kept, never lost into a removed
+ * bitset. The compare and set of a tracking setter is not atomic, concurrent setters of the same field of one instance
+ * race as plain setters do.
+ *
+ * @author Zen.Liu
+ * @since 2026-10-19
+ */
+@ApiStatus.AvailableSince("0.0.3")
+public final class DirtyTracker<T> {
+    static final ClassValue<DirtyTracker<?>> TRACKERS = new ClassValue<DirtyTracker<?>>() {
+        @Override
+        protected DirtyTracker<?> computeValue(Class<?> type) {
+            return new DirtyTracker<>(ClassShape.of(type));
+        }
+    };
+    public final ClassShape shape;
+    final int words;
+    final Accessor[] accessors;
+    final ConcurrentHashMap<Object, AtomicLongArray> table = new ConcurrentHashMap<>();
+    final ReferenceQueue<Object> queue = new ReferenceQueue<>();
+
+    DirtyTracker(ClassShape shape) {
+        this.shape = shape;
+        this.words = Math.max(1, (shape.size() + 63) >>> 6);
+        accessors = new Accessor[shape.size()];
+        for (int s = 0; s < accessors.length; s++) {
+            accessors[s] = Accessor.of(shape.getters[s], tracked(s, shape.kinds[s], shape.getters[s], shape.setters[s]), shape.type);
+        }
+    }
+
+    /**
+     * @return cached tracker of type
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> DirtyTracker<T> of(Class<T> type) {
+        return (DirtyTracker<T>) TRACKERS.get(type);
+    }
+
+    /**
+     * @return tracking accessor of slot, null setter for final fields
+     */
+    public Accessor accessor(int slot) {
+        return accessors[slot];
+    }
+
+    /**
+     * @throws IllegalArgumentException if the field not exists
+     */
+    public Accessor accessor(String field) {
+        var slot = shape.slotOf(field);
+        if (slot < 0) throw new IllegalArgumentException("no field " + field + " in " + shape.type.getName());
+        return accessors[slot];
+    }
+
+    public List<Accessor> accessors() {
+        return Collections.unmodifiableList(Arrays.asList(accessors.clone()));
+    }
+
+    /**
+     * record slot of instance as changed, eg: changes not through the tracking setters.
+     */
+    public void markChanged(Object instance, int slot) {
+        if (slot < 0 || slot >= accessors.length) throw new IndexOutOfBoundsException("slot " + slot);
+        mark(instance, slot);
+    }
+
+    /**
+     * @return slots changed since the last {@link #clearChanges(Object)}
+     */
+    public BitSet changedFields(Object instance) {
+        var bits = table.get(new Probe(instance));
+        if (bits == null) return new BitSet();
+        var w = new long[words];
+        for (int i = 0; i < words; i++) w[i] = bits.get(i);
+        return BitSet.valueOf(w);
+    }
+
+    /**
+     * @return names of changed fields in slot order
+     */
+    public List<String> changedNames(Object instance) {
+        var bits = changedFields(instance);
+        var r = new ArrayList<String>(bits.cardinality());
+        for (int s = bits.nextSetBit(0); s >= 0; s = bits.nextSetBit(s + 1)) r.add(shape.name(s));
+        return r;
+    }
+
+    public boolean isDirty(Object instance) {
+        return table.containsKey(new Probe(instance));
+    }
+
+    public void clearChanges(Object instance) {
+        expunge();
+        table.remove(new Probe(instance));
+    }
+
+    /**
+     * @return count of dirty instances still reachable
+     */
+    public int size() {
+        expunge();
+        return table.size();
+    }
+
+    void mark(Object instance, int slot) {
+        expunge();
+        var mask = 1L << slot;
+        var w = slot >>> 6;
+        //set under the bin lock of the entry, so clearChanges never removes it between lookup and set.
+        if (table.computeIfPresent(new Probe(instance), (k, bits) -> set(bits, w, mask)) != null) return;
+        table.compute(new Key(instance, queue), (k, bits) -> set(bits == null ? new AtomicLongArray(words) : bits, w, mask));
+    }
+
+    static AtomicLongArray set(AtomicLongArray bits, int w, long mask) {
+        if ((bits.get(w) & mask) == 0) bits.accumulateAndGet(w, mask, (a, b) -> a | b);
+        return bits;
+    }
+
+    void expunge() {
+        for (Object k; (k = queue.poll()) != null; ) table.remove(k);
+    }
+
+    @Nullable Accessor.GenericSetter tracked(int slot, int kind, Accessor.GenericGetter getter, @Nullable Accessor.GenericSetter setter) {
+        if (setter == null) return null;
+        switch (kind) {
+            case 0: {
+                var g = (Accessor.BooleanGetter) getter;
+                var x = (Accessor.BooleanSetter) setter;
+                return (Accessor.BooleanSetter) (o, v) -> {
+                    if (g.getValue(o) == v) return;
+                    x.setValue(o, v);
+                    mark(o, slot);
+                };
+            }
+            case 1: {
+                var g = (Accessor.ByteGetter) getter;
+                var x = (Accessor.ByteSetter) setter;
+                return (Accessor.ByteSetter) (o, v) -> {
+                    if (g.getValue(o) == v) return;
+                    x.setValue(o, v);
+                    mark(o, slot);
+                };
+            }
+            case 2: {
+                var g = (Accessor.ShortGetter) getter;
+                var x = (Accessor.ShortSetter) setter;
+                return (Accessor.ShortSetter) (o, v) -> {
+                    if (g.getValue(o) == v) return;
+                    x.setValue(o, v);
+                    mark(o, slot);
+                };
+            }
+            case 3: {
+                var g = (Accessor.CharGetter) getter;
+                var x = (Accessor.CharSetter) setter;
+                return (Accessor.CharSetter) (o, v) -> {
+                    if (g.getValue(o) == v) return;
+                    x.setValue(o, v);
+                    mark(o, slot);
+                };
+            }
+            case 4: {
+                var g = (Accessor.IntGetter) getter;
+                var x = (Accessor.IntSetter) setter;
+                return (Accessor.IntSetter) (o, v) -> {
+                    if (g.getValue(o) == v) return;
+                    x.setValue(o, v);
+                    mark(o, slot);
+                };
+            }
+            case 5: {
+                var g = (Accessor.LongGetter) getter;
+                var x = (Accessor.LongSetter) setter;
+                return (Accessor.LongSetter) (o, v) -> {
+                    if (g.getValue(o) == v) return;
+                    x.setValue(o, v);
+                    mark(o, slot);
+                };
+            }
+            case 6: {
+                var g = (Accessor.FloatGetter) getter;
+                var x = (Accessor.FloatSetter) setter;
+                return (Accessor.FloatSetter) (o, v) -> {
+                    if (Float.floatToIntBits(g.getValue(o)) == Float.floatToIntBits(v)) return;
+                    x.setValue(o, v);
+                    mark(o, slot);
+                };
+            }
+            case 7: {
+                var g = (Accessor.DoubleGetter) getter;
+                var x = (Accessor.DoubleSetter) setter;
+                return (Accessor.DoubleSetter) (o, v) -> {
+                    if (Double.doubleToLongBits(g.getValue(o)) == Double.doubleToLongBits(v)) return;
+                    x.setValue(o, v);
+                    mark(o, slot);
+                };
+            }
+            default: {
+                var x = (Accessor.Setter) setter;
+                return new Accessor.Setter() {
+                    @Override
+                    public Class<?> valueType() {
+                        return x.valueType();
+                    }
+
+                    @Override
+                    public void set(Object o, Object v) {
+                        if (Objects.equals(getter.get(o), v)) return;
+                        x.set(o, v);
+                        mark(o, slot);
+                    }
+                };
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "DirtyTracker(" + shape.type.getName() + ")";
+    }
+
+    /**
+     * Weak identity key of the side table.
+     */
+    static final class Key extends WeakReference<Object> {
+        final int hash;
+
+        Key(Object referent, ReferenceQueue<Object> queue) {
+            super(referent, queue);
+            hash = System.identityHashCode(referent);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            var r = get();
+            if (r == null) return false;
+            if (o instanceof Probe) return ((Probe) o).referent == r;
+            return o instanceof Key && ((Key) o).get() == r;
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    /**
+     * Strong lookup key, never stored.
+     */
+    static final class Probe {
+        final Object referent;
+
+        Probe(Object referent) {
+            this.referent = referent;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Key ? ((Key) o).get() == referent : o instanceof Probe && ((Probe) o).referent == referent;
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(referent);
+        }
+    }
+}
@@ -0,0 +1,280 @@
+/*
+ * Source of invoker
+ * Copyright (C) 2023.  Zen.Liu
+ *
+ * SPDX-License-Identifier: GPL-2.0-only WITH Classpath-exception-2.0"
+ *
+ * This program is free software; you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation; version 2.
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program; if not, write to the Free Software Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA 02110-1301, USA.
+ *
+ * Class Path Exception
+ * Linking this library statically or dynamically with other modules is making a combined work based on this library. Thus, the terms and conditions of the GNU General Public License cover the whole combination.
+ *  As a special exception, the copyright holders of this library give you permission to link this library with independent modules to produce an executable, regardless of the license terms of these independent modules, and to copy and distribute the resulting executable under terms of your choice, provided that you also meet, for each linked independent module, the terms and conditions of the license of that module. An independent module is a module which is not derived from or based on this library. If you modify this library, you may extend this exception to your version of the library, but you are not obligated to do so. If you do not wish to do so, delete this exception statement from your version.
+ */
+
+
+package cn.zenliu.java.invoker;
+
+import lombok.var;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Field based {@code equals}, {@code hashCode} and {@code toString} of a class compiled from {@link ClassShape}.<br/>
+ * Primitive fields are compared, hashed and printed through the typed getters without boxing, floating fields as
+ * {@link Double#equals(Object)} does; reference fields by {@link Objects#deepEquals}, arrays by their content.
+ * Hash codes follow {@code 31 * h + hash(field)} in slot order, strings follow lombok: {@code User(id=1, name=a)}.<br/>
+ * Instances equal only with the same runtime class. {@link #key(Object)} wraps a value as key of ordinary hash maps,
+ * eg: {@code map.put(eq.key(user), x)}. Cyclic graphs are not supported.
+ *
+ * @author Zen.Liu
+ * @since 2026-10-19
+ */
+@ApiStatus.AvailableSince("0.0.3")
+public final class Equivalence<T> {
+    static final ClassValue<Equivalence<?>> CACHE = new ClassValue<Equivalence<?>>() {
+        @Override
+        protected Equivalence<?> computeValue(Class<?> type) {
+            var shape = ClassShape.of(type);
+            var slots = new int[shape.size()];
+            for (int i = 0; i < slots.length; i++) slots[i] = i;
+            return new Equivalence<>(shape, slots);
+        }
+    };
+    public final ClassShape shape;
+    final int[] kinds;
+    final Accessor.GenericGetter[] getters;
+    final String[] prefixes;
+
+    Equivalence(ClassShape shape, int[] slots) {
+        this.shape = shape;
+        var n = slots.length;
+        kinds = new int[n];
+        getters = new Accessor.GenericGetter[n];
+        prefixes = new String[n];
+        for (int i = 0; i < n; i++) {
+            kinds[i] = shape.kinds[slots[i]];
+            getters[i] = shape.getters[slots[i]];
+            prefixes[i] = (i == 0 ? "" : ", ") + shape.name(slots[i]) + "=";
+        }
+    }
+
+    /**
+     * @return cached equivalence of all fields
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> Equivalence<T> of(Class<T> type) {
+        return (Equivalence<T>) CACHE.get(type);
+    }
+
+    /**
+     * @param fields fields in order of comparison
+     * @return equivalence of fields, not cached
+     * @throws IllegalArgumentException for unknown fields
+     */
+    public static <T> Equivalence<T> of(Class<T> type, String... fields) {
+        var shape = ClassShape.of(type);
+        var slots = new int[fields.length];
+        for (int i = 0; i < fields.length; i++) {
+            slots[i] = shape.slotOf(fields[i]);
+            if (slots[i] < 0) throw new IllegalArgumentException("no field " + fields[i] + " in " + type.getName());
+        }
+        return new Equivalence<>(shape, slots);
+    }
+
+    public boolean equivalent(@Nullable T a, @Nullable T b) {
+        if (a == b) return true;
+        if (a == null || b == null || a.getClass() != b.getClass()) return false;
+        for (int i = 0; i < kinds.length; i++) {
+            var g = getters[i];
+            switch (kinds[i]) {
+                case 0:
+                    if (((Accessor.BooleanGetter) g).getValue(a) != ((Accessor.BooleanGetter) g).getValue(b)) return false;
+                    break;
+                case 1:
+                    if (((Accessor.ByteGetter) g).getValue(a) != ((Accessor.ByteGetter) g).getValue(b)) return false;
+                    break;
+                case 2:
+                    if (((Accessor.ShortGetter) g).getValue(a) != ((Accessor.ShortGetter) g).getValue(b)) return false;
+                    break;
+                case 3:
+                    if (((Accessor.CharGetter) g).getValue(a) != ((Accessor.CharGetter) g).getValue(b)) return false;
+                    break;
+                case 4:
+                    if (((Accessor.IntGetter) g).getValue(a) != ((Accessor.IntGetter) g).getValue(b)) return false;
+                    break;
+                case 5:
+                    if (((Accessor.LongGetter) g).getValue(a) != ((Accessor.LongGetter) g).getValue(b)) return false;
+                    break;
+                case 6:
+                    if (Float.floatToIntBits(((Accessor.FloatGetter) g).getValue(a)) != Float.floatToIntBits(((Accessor.FloatGetter) g).getValue(b)))
+                        return false;
+                    break;
+                case 7:
+                    if (Double.doubleToLongBits(((Accessor.DoubleGetter) g).getValue(a)) != Double.doubleToLongBits(((Accessor.DoubleGetter) g).getValue(b)))
+                        return false;
+                    break;
+                default:
+                    if (!Objects.deepEquals(g.get(a), g.get(b))) return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @return hash code of fields, 0 for null
+     */
+    public int hash(@Nullable T value) {
+        if (value == null) return 0;
+        var h = 1;
+        for (int i = 0; i < kinds.length; i++) {
+            var g = getters[i];
+            int x;
+            switch (kinds[i]) {
+                case 0:
+                    x = Boolean.hashCode(((Accessor.BooleanGetter) g).getValue(value));
+                    break;
+                case 1:
+                    x = ((Accessor.ByteGetter) g).getValue(value);
+                    break;
+                case 2:
+                    x = ((Accessor.ShortGetter) g).getValue(value);
+                    break;
+                case 3:
+                    x = ((Accessor.CharGetter) g).getValue(value);
+                    break;
+                case 4:
+                    x = ((Accessor.IntGetter) g).getValue(value);
+                    break;
+                case 5:
+                    x = Long.hashCode(((Accessor.LongGetter) g).getValue(value));
+                    break;
+                case 6:
+                    x = Float.hashCode(((Accessor.FloatGetter) g).getValue(value));
+                    break;
+                case 7:
+                    x = Double.hashCode(((Accessor.DoubleGetter) g).getValue(value));
+                    break;
+                default:
+                    x = deepHash(g.get(value));
+            }
+            h = 31 * h + x;
+        }
+        return h;
+    }
+
+    public String toString(@Nullable T value) {
+        if (value == null) return "null";
+        var b = new StringBuilder(16 * kinds.length + 16);
+        b.append(value.getClass().getSimpleName()).append('(');
+        for (int i = 0; i < kinds.length; i++) {
+            var g = getters[i];
+            b.append(prefixes[i]);
+            switch (kinds[i]) {
+                case 0:
+                    b.append(((Accessor.BooleanGetter) g).getValue(value));
+                    break;
+                case 1:
+                    b.append(((Accessor.ByteGetter) g).getValue(value));
+                    break;
+                case 2:
+                    b.append(((Accessor.ShortGetter) g).getValue(value));
+                    break;
+                case 3:
+                    b.append(((Accessor.CharGetter) g).getValue(value));
+                    break;
+                case 4:
+                    b.append(((Accessor.IntGetter) g).getValue(value));
+                    break;
+                case 5:
+                    b.append(((Accessor.LongGetter) g).getValue(value));
+                    break;
+                case 6:
+                    b.append(((Accessor.FloatGetter) g).getValue(value));
+                    break;
+                case 7:
+                    b.append(((Accessor.DoubleGetter) g).getValue(value));
+                    break;
+                default:
+                    var v = g.get(value);
+                    if (v instanceof Object[]) b.append(Arrays.deepToString((Object[]) v));
+                    else if (v != null && v.getClass().isArray()) b.append(arrayString(v));
+                    else b.append(v);
+            }
+        }
+        return b.append(')').toString();
+    }
+
+    /**
+     * @return key with equals and hashCode of this equivalence
+     */
+    public Key<T> key(T value) {
+        return new Key<>(this, value);
+    }
+
+    static int deepHash(@Nullable Object v) {
+        if (v == null) return 0;
+        if (!v.getClass().isArray()) return v.hashCode();
+        if (v instanceof Object[]) return Arrays.deepHashCode((Object[]) v);
+        if (v instanceof int[]) return Arrays.hashCode((int[]) v);
+        if (v instanceof long[]) return Arrays.hashCode((long[]) v);
+        if (v instanceof byte[]) return Arrays.hashCode((byte[]) v);
+        if (v instanceof double[]) return Arrays.hashCode((double[]) v);
+        if (v instanceof float[]) return Arrays.hashCode((float[]) v);
+        if (v instanceof char[]) return Arrays.hashCode((char[]) v);
+        if (v instanceof short[]) return Arrays.hashCode((short[]) v);
+        return Arrays.hashCode((boolean[]) v);
+    }
+
+    static String arrayString(Object v) {
+        if (v instanceof int[]) return Arrays.toString((int[]) v);
+        if (v instanceof long[]) return Arrays.toString((long[]) v);
+        if (v instanceof byte[]) return Arrays.toString((byte[]) v);
+        if (v instanceof double[]) return Arrays.toString((double[]) v);
+        if (v instanceof float[]) return Arrays.toString((float[]) v);
+        if (v instanceof char[]) return Arrays.toString((char[]) v);
+        if (v instanceof short[]) return Arrays.toString((short[]) v);
+        return Arrays.toString((boolean[]) v);
+    }
+
+    @Override
+    public String toString() {
+        return "Equivalence(" + shape.type.getName() + ")";
+    }
+
+    /**
+     * Value wrapped with the equals and hashCode of an {@link Equivalence}.
+     */
+    public static final class Key<T> {
+        final Equivalence<T> equivalence;
+        public final T value;
+
+        Key(Equivalence<T> equivalence, T value) {
+            this.equivalence = equivalence;
+            this.value = value;
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Key)) return false;
+            var k = (Key<?>) o;
+            return k.equivalence == equivalence && equivalence.equivalent(value, (T) k.value);
+        }
+
+        @Override
+        public int hashCode() {
+            return equivalence.hash(value);
+        }
+
+        @Override
+        public String toString() {
+            return equivalence.toString(value);
+        }
+    }
+}
@@ -0,0 +1,196 @@
+/*
+ * Source of invoker
+ * Copyright (C) 2023.  Zen.Liu
+ *
+ * SPDX-License-Identifier: GPL-2.0-only WITH Classpath-exception-2.0"
+ *
+ * This program is free software; you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation; version 2.
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program; if not, write to the Free Software Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA 02110-1301, USA.
+ *
+ * Class Path Exception
+ * Linking this library statically or dynamically with other modules is making a combined work based on this library. Thus, the terms and conditions of the GNU General Public License cover the whole combination.
+ *  As a special exception, the copyright holders of this library give you permission to link this library with independent modules to produce an executable, regardless of the license terms of these independent modules, and to copy and distribute the resulting executable under terms of your choice, provided that you also meet, for each linked independent module, the terms and conditions of the license of that module. An independent module is a module which is not derived from or based on this library. If you modify this library, you may extend this exception to your version of the library, but you are not obligated to do so. If you do not wish to do so, delete this exception statement from your version.
+ */
+
+
+package cn.zenliu.java.invoker;
+
+import lombok.var;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.Nullable;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Movable view of one record in a {@link ByteBuffer} (eg: direct or mapped buffers), laid out by the {@link RecordLayout}
+ * of a class.<br/>
+ * The {@link Accessor}s of {@link #accessor(int)} have typed getters and setters ({@link Accessor.IntGetter},
+ * {@link Accessor.IntSetter} ...) which take a flyweight as the instance and read or write the buffer at its current
+ * offset, so code written against {@link Accessor} scans records in place without allocation:
+ * <pre>{@code
+ * var fw = Flyweight.of(Tick.class).wrap(buffer, 0);
+ * var price = (Accessor.DoubleGetter) fw.accessor("price").getter;
+ * for (; fw.hasRemaining(); fw.next()) sum += price.getValue(fw);
+ * }</pre>
+ * Accessors are cached per class and shared by all flyweights of the class. A flyweight is not thread safe.
+ *
+ * @author Zen.Liu
+ * @since 2026-10-19
+ */
+@ApiStatus.AvailableSince("0.0.3")
+public final class Flyweight {
+    static final ClassValue<Accessor[]> ACCESSORS = new ClassValue<Accessor[]>() {
+        @Override
+        protected Accessor[] computeValue(Class<?> type) {
+            var layout = RecordLayout.of(type);
+            var accessors = new Accessor[layout.shape.size()];
+            for (int s = 0; s < accessors.length; s++) accessors[s] = bind(layout.shape.kinds[s], layout.offset(s));
+            return accessors;
+        }
+    };
+
+    public final RecordLayout layout;
+    final Accessor[] accessors;
+    ByteBuffer buffer;
+    int offset;
+
+    Flyweight(RecordLayout layout, Accessor[] accessors) {
+        this.layout = layout;
+        this.accessors = accessors;
+    }
+
+    /**
+     * @param type class with only primitive instance fields
+     * @return new unbound flyweight
+     */
+    public static Flyweight of(Class<?> type) {
+        return new Flyweight(RecordLayout.of(type), ACCESSORS.get(type));
+    }
+
+    static Flyweight at(Object instance) {
+        return (Flyweight) instance;
+    }
+
+    static Accessor bind(int kind, int off) {
+        switch (kind) {
+            case 0:
+                return Accessor.of(
+                        (Accessor.BooleanGetter) o -> at(o).buffer.get(at(o).offset + off) != 0,
+                        (Accessor.BooleanSetter) (o, v) -> at(o).buffer.put(at(o).offset + off, (byte) (v ? 1 : 0)),
+                        Flyweight.class);
+            case 1:
+                return Accessor.of(
+                        (Accessor.ByteGetter) o -> at(o).buffer.get(at(o).offset + off),
+                        (Accessor.ByteSetter) (o, v) -> at(o).buffer.put(at(o).offset + off, v),
+                        Flyweight.class);
+            case 2:
+                return Accessor.of(
+                        (Accessor.ShortGetter) o -> at(o).buffer.getShort(at(o).offset + off),
+                        (Accessor.ShortSetter) (o, v) -> at(o).buffer.putShort(at(o).offset + off, v),
+                        Flyweight.class);
+            case 3:
+                return Accessor.of(
+                        (Accessor.CharGetter) o -> at(o).buffer.getChar(at(o).offset + off),
+                        (Accessor.CharSetter) (o, v) -> at(o).buffer.putChar(at(o).offset + off, v),
+                        Flyweight.class);
+            case 4:
+                return Accessor.of(
+                        (Accessor.IntGetter) o -> at(o).buffer.getInt(at(o).offset + off),
+                        (Accessor.IntSetter) (o, v) -> at(o).buffer.putInt(at(o).offset + off, v),
+                        Flyweight.class);
+            case 5:
+                return Accessor.of(
+                        (Accessor.LongGetter) o -> at(o).buffer.getLong(at(o).offset + off),
+                        (Accessor.LongSetter) (o, v) -> at(o).buffer.putLong(at(o).offset + off, v),
+                        Flyweight.class);
+            case 6:
+                return Accessor.of(
+                        (Accessor.FloatGetter) o -> at(o).buffer.getFloat(at(o).offset + off),
+                        (Accessor.FloatSetter) (o, v) -> at(o).buffer.putFloat(at(o).offset + off, v),
+                        Flyweight.class);
+            default:
+                return Accessor.of(
+                        (Accessor.DoubleGetter) o -> at(o).buffer.getDouble(at(o).offset + off),
+                        (Accessor.DoubleSetter) (o, v) -> at(o).buffer.putDouble(at(o).offset + off, v),
+                        Flyweight.class);
+        }
+    }
+
+    /**
+     * bind to a record in buffer.
+     *
+     * @param buffer the buffer, its position and limit are not changed
+     * @param offset absolute offset of record
+     */
+    public Flyweight wrap(ByteBuffer buffer, int offset) {
+        this.buffer = buffer;
+        this.offset = offset;
+        return this;
+    }
+
+    /**
+     * move to the record at absolute offset.
+     */
+    public Flyweight move(int offset) {
+        this.offset = offset;
+        return this;
+    }
+
+    /**
+     * move to the next adjacent record.
+     */
+    public Flyweight next() {
+        offset += layout.size();
+        return this;
+    }
+
+    /**
+     * @return does the current record fit in the buffer limit.
+     */
+    public boolean hasRemaining() {
+        return buffer != null && offset >= 0 && offset + layout.size() <= buffer.limit();
+    }
+
+    public ByteBuffer buffer() {
+        return buffer;
+    }
+
+    public int offset() {
+        return offset;
+    }
+
+    /**
+     * @return accessor of slot, its instance must be a flyweight of the same class.
+     */
+    public Accessor accessor(int slot) {
+        return accessors[slot];
+    }
+
+    /**
+     * @return accessor of field, null if not exists.
+     */
+    public @Nullable Accessor accessor(String name) {
+        var slot = layout.shape.slotOf(name);
+        return slot < 0 ? null : accessors[slot];
+    }
+
+    /**
+     * copy current record into target.
+     */
+    public void read(Object target) {
+        layout.read(buffer, offset, target);
+    }
+
+    /**
+     * overwrite current record by source.
+     */
+    public void write(Object source) {
+        layout.write(buffer, offset, source);
+    }
+
+    @Override
+    public String toString() {
+        return "Flyweight(" + layout.shape.type.getName() + "@" + offset + ")";
+    }
+}
@@ -0,0 +1,526 @@
+/*
+ * Source of invoker
+ * Copyright (C) 2023.  Zen.Liu
+ *
+ * SPDX-License-Identifier: GPL-2.0-only WITH Classpath-exception-2.0"
+ *
+ * This program is free software; you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation; version 2.
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program; if not, write to the Free Software Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA 02110-1301, USA.
+ *
+ * Class Path Exception
+ * Linking this library statically or dynamically with other modules is making a combined work based on this library. Thus, the terms and conditions of the GNU General Public License cover the whole combination.
+ *  As a special exception, the copyright holders of this library give you permission to link this library with independent modules to produce an executable, regardless of the license terms of these independent modules, and to copy and distribute the resulting executable under terms of your choice, provided that you also meet, for each linked independent module, the terms and conditions of the license of that module. An independent module is a module which is not derived from or based on this library. If you modify this library, you may extend this exception to your version of the library, but you are not obligated to do so. If you do not wish to do so, delete this exception statement from your version.
+ */
+
+
+package cn.zenliu.java.invoker;
+
+import lombok.var;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.Consumer;
+
+/**
+ * In-memory secondary index of objects by one field of {@link ClassShape}.<br/>
+ * 1. {@code byte}, {@code short}, {@code char}, {@code int} and {@code long} fields are keyed in an open-addressing table
+ * of {@code long} keys (linear probing, backward shift deletion), keys are read by the typed getter and never boxed.<br/>
+ * 2. Other fields are keyed in a {@link HashMap} by their values.<br/>
+ * Objects must be updated through the index once added: {@link #update(Object, Consumer)} or the setter of
+ * {@link #accessor()} moves the object to its new key. Writers are serialized; lookups of primitive keys are optimistic
+ * reads of a {@link StampedLock} and never block, other lookups share the read lock.
+ * Lookups return snapshots in insertion order, objects are matched by identity.
+ *
+ * @author Zen.Liu
+ * @since 2026-10-19
+ */
+@ApiStatus.AvailableSince("0.0.3")
+public final class HashIndex<T> {
+    static final int INITIAL = 16;
+    public final ClassShape shape;
+    public final int slot;
+    final int kind;
+    final Accessor.GenericGetter getter;
+    final StampedLock lock = new StampedLock();
+    /**
+     * primitive keyed table, null for other fields.
+     */
+    Table table;
+    /**
+     * other keys, null for primitive keyed.
+     */
+    final HashMap<Object, Bucket> map;
+    int size;
+    Accessor indexed;
+
+    HashIndex(ClassShape shape, int slot) {
+        this.shape = shape;
+        this.slot = slot;
+        this.kind = shape.kinds[slot];
+        this.getter = shape.getters[slot];
+        if (primitive(kind)) {
+            table = new Table(INITIAL);
+            map = null;
+        } else {
+            map = new HashMap<>();
+        }
+    }
+
+    /**
+     * @param type  class of elements
+     * @param field indexed field
+     * @return empty index
+     * @throws IllegalArgumentException if the field not exists
+     */
+    public static <T> HashIndex<T> of(Class<T> type, String field) {
+        var shape = ClassShape.of(type);
+        var slot = shape.slotOf(field);
+        if (slot < 0) throw new IllegalArgumentException("no field " + field + " in " + type.getName());
+        return new HashIndex<>(shape, slot);
+    }
+
+    /**
+     * @return index of all elements
+     */
+    public static <T> HashIndex<T> of(Class<T> type, String field, Collection<? extends T> elements) {
+        var index = of(type, field);
+        index.addAll(elements);
+        return index;
+    }
+
+    static boolean primitive(int kind) {
+        return kind >= 1 && kind <= 5;
+    }
+
+    long key(Object o) {
+        switch (kind) {
+            case 1:
+                return ((Accessor.ByteGetter) getter).getValue(o);
+            case 2:
+                return ((Accessor.ShortGetter) getter).getValue(o);
+            case 3:
+                return ((Accessor.CharGetter) getter).getValue(o);
+            case 4:
+                return ((Accessor.IntGetter) getter).getValue(o);
+            default:
+                return ((Accessor.LongGetter) getter).getValue(o);
+        }
+    }
+
+    //region Updates
+    public void add(T element) {
+        var s = lock.writeLock();
+        try {
+            add0(element);
+        } finally {
+            lock.unlockWrite(s);
+        }
+    }
+
+    public void addAll(Collection<? extends T> elements) {
+        var s = lock.writeLock();
+        try {
+            for (var e : elements) add0(e);
+        } finally {
+            lock.unlockWrite(s);
+        }
+    }
+
+    /**
+     * remove element by the key of its current value.
+     *
+     * @return false if not found
+     */
+    public boolean remove(T element) {
+        var s = lock.writeLock();
+        try {
+            return remove0(element);
+        } finally {
+            lock.unlockWrite(s);
+        }
+    }
+
+    /**
+     * apply change to element and move it to its new key, elements not in the index are changed only.
+     */
+    public void update(T element, Consumer<? super T> change) {
+        var s = lock.writeLock();
+        try {
+            var in = remove0(element);
+            try {
+                change.accept(element);
+            } finally {
+                if (in) add0(element);
+            }
+        } finally {
+            lock.unlockWrite(s);
+        }
+    }
+
+    public void clear() {
+        var s = lock.writeLock();
+        try {
+            if (map != null) map.clear();
+            else table = new Table(INITIAL);
+            size = 0;
+        } finally {
+            lock.unlockWrite(s);
+        }
+    }
+
+    void add0(Object e) {
+        if (map != null) {
+            map.computeIfAbsent(getter.get(e), k -> new Bucket()).add(e);
+        } else {
+            var k = key(e);
+            var t = table;
+            var i = t.find(k);
+            if (i < 0) {
+                if ((t.used + 1) * 4 > t.keys.length * 3) table = t = t.grow();
+                i = t.insert(k);
+            }
+            t.buckets[i].add(e);
+        }
+        size++;
+    }
+
+    boolean remove0(Object e) {
+        if (map != null) {
+            var k = getter.get(e);
+            var b = map.get(k);
+            if (b == null || !b.remove(e)) return false;
+            if (b.size == 0) map.remove(k);
+        } else {
+            var t = table;
+            var i = t.find(key(e));
+            if (i < 0 || !t.buckets[i].remove(e)) return false;
+            if (t.buckets[i].size == 0) t.delete(i);
+        }
+        size--;
+        return true;
+    }
+    //endregion
+
+    //region Lookups
+
+    /**
+     * @param key key of primitive keyed field, narrowed to the field type by the caller
+     * @return snapshot of elements with the key
+     * @throws IllegalArgumentException if the field is not primitive keyed
+     */
+    public List<T> get(long key) {
+        if (map != null) throw new IllegalArgumentException("not a primitive keyed index: " + shape.name(slot));
+        var s = lock.tryOptimisticRead();
+        if (s != 0) {
+            var r = find(key);
+            if (lock.validate(s)) return r;
+        }
+        s = lock.readLock();
+        try {
+            return find(key);
+        } finally {
+            lock.unlockRead(s);
+        }
+    }
+
+    /**
+     * @param key boxed key, numbers and characters are converted for primitive keyed fields
+     * @return snapshot of elements with the key
+     */
+    public List<T> get(@Nullable Object key) {
+        if (map == null) {
+            if (key instanceof Character) return get((long) (Character) key);
+            if (key instanceof Number) return get(((Number) key).longValue());
+            return Collections.emptyList();
+        }
+        var s = lock.readLock();
+        try {
+            var b = map.get(key);
+            return b == null ? Collections.emptyList() : b.snapshot();
+        } finally {
+            lock.unlockRead(s);
+        }
+    }
+
+    public boolean contains(long key) {
+        return !get(key).isEmpty();
+    }
+
+    /**
+     * @return count of indexed elements
+     */
+    public int size() {
+        var s = lock.readLock();
+        try {
+            return size;
+        } finally {
+            lock.unlockRead(s);
+        }
+    }
+
+    /**
+     * the result may be inconsistent under optimistic read, which is discarded by validation.
+     */
+    List<T> find(long key) {
+        var t = table;
+        var i = t.find(key);
+        if (i < 0) return Collections.emptyList();
+        var b = t.buckets[i];
+        return b == null ? Collections.emptyList() : b.snapshot();
+    }
+    //endregion
+
+    /**
+     * @return accessor of the indexed field, its setter moves indexed objects to their new keys, null setter for final
+     * fields.
+     */
+    public Accessor accessor() {
+        var a = indexed;
+        if (a == null) indexed = a = Accessor.of(getter, indexedSetter(shape.setters[slot]), shape.type);
+        return a;
+    }
+
+    @Nullable Accessor.GenericSetter indexedSetter(@Nullable Accessor.GenericSetter setter) {
+        if (setter == null) return null;
+        switch (kind) {
+            case 0: {
+                var x = (Accessor.BooleanSetter) setter;
+                return (Accessor.BooleanSetter) (o, v) -> {
+                    var s = lock.writeLock();
+                    try {
+                        var in = remove0(o);
+                        x.setValue(o, v);
+                        if (in) add0(o);
+                    } finally {
+                        lock.unlockWrite(s);
+                    }
+                };
+            }
+            case 1: {
+                var x = (Accessor.ByteSetter) setter;
+                return (Accessor.ByteSetter) (o, v) -> {
+                    var s = lock.writeLock();
+                    try {
+                        var in = remove0(o);
+                        x.setValue(o, v);
+                        if (in) add0(o);
+                    } finally {
+                        lock.unlockWrite(s);
+                    }
+                };
+            }
+            case 2: {
+                var x = (Accessor.ShortSetter) setter;
+                return (Accessor.ShortSetter) (o, v) -> {
+                    var s = lock.writeLock();
+                    try {
+                        var in = remove0(o);
+                        x.setValue(o, v);
+                        if (in) add0(o);
+                    } finally {
+                        lock.unlockWrite(s);
+                    }
+                };
+            }
+            case 3: {
+                var x = (Accessor.CharSetter) setter;
+                return (Accessor.CharSetter) (o, v) -> {
+                    var s = lock.writeLock();
+                    try {
+                        var in = remove0(o);
+                        x.setValue(o, v);
+                        if (in) add0(o);
+                    } finally {
+                        lock.unlockWrite(s);
+                    }
+                };
+            }
+            case 4: {
+                var x = (Accessor.IntSetter) setter;
+                return (Accessor.IntSetter) (o, v) -> {
+                    var s = lock.writeLock();
+                    try {
+                        var in = remove0(o);
+                        x.setValue(o, v);
+                        if (in) add0(o);
+                    } finally {
+                        lock.unlockWrite(s);
+                    }
+                };
+            }
+            case 5: {
+                var x = (Accessor.LongSetter) setter;
+                return (Accessor.LongSetter) (o, v) -> {
+                    var s = lock.writeLock();
+                    try {
+                        var in = remove0(o);
+                        x.setValue(o, v);
+                        if (in) add0(o);
+                    } finally {
+                        lock.unlockWrite(s);
+                    }
+                };
+            }
+            case 6: {
+                var x = (Accessor.FloatSetter) setter;
+                return (Accessor.FloatSetter) (o, v) -> {
+                    var s = lock.writeLock();
+                    try {
+                        var in = remove0(o);
+                        x.setValue(o, v);
+                        if (in) add0(o);
+                    } finally {
+                        lock.unlockWrite(s);
+                    }
+                };
+            }
+            case 7: {
+                var x = (Accessor.DoubleSetter) setter;
+                return (Accessor.DoubleSetter) (o, v) -> {
+                    var s = lock.writeLock();
+                    try {
+                        var in = remove0(o);
+                        x.setValue(o, v);
+                        if (in) add0(o);
+                    } finally {
+                        lock.unlockWrite(s);
+                    }
+                };
+            }
+            default: {
+                var x = (Accessor.Setter) setter;
+                return new Accessor.Setter() {
+                    @Override
+                    public Class<?> valueType() {
+                        return x.valueType();
+                    }
+
+                    @Override
+                    public void set(Object o, Object v) {
+                        var s = lock.writeLock();
+                        try {
+                            var in = remove0(o);
+                            x.set(o, v);
+                            if (in) add0(o);
+                        } finally {
+                            lock.unlockWrite(s);
+                        }
+                    }
+                };
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "HashIndex(" + shape.type.getName() + "::" + shape.name(slot) + ")";
+    }
+
+    /**
+     * Elements of one key, appended in place under the write lock.
+     */
+    static final class Bucket {
+        Object[] items = new Object[2];
+        int size;
+
+        void add(Object e) {
+            if (size == items.length) items = Arrays.copyOf(items, size << 1);
+            items[size++] = e;
+        }
+
+        boolean remove(Object e) {
+            var a = items;
+            for (int i = 0; i < size; i++) {
+                if (a[i] == e) {
+                    System.arraycopy(a, i + 1, a, i, size - i - 1);
+                    a[--size] = null;
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        @SuppressWarnings("unchecked")
+        <T> List<T> snapshot() {
+            var a = items;
+            return (List<T>) Arrays.asList(Arrays.copyOf(a, Math.min(size, a.length)));
+        }
+    }
+
+    /**
+     * Open-addressing table, a null bucket marks an empty cell. Tables are replaced on growth, so a reader always
+     * sees keys and buckets of the same capacity.
+     */
+    static final class Table {
+        final long[] keys;
+        final Bucket[] buckets;
+        final int mask;
+        int used;
+
+        Table(int capacity) {
+            keys = new long[capacity];
+            buckets = new Bucket[capacity];
+            mask = capacity - 1;
+        }
+
+        int home(long key) {
+            var h = key * 0x9E3779B97F4A7C15L;
+            return (int) (h ^ h >>> 32) & mask;
+        }
+
+        /**
+         * @return cell of key or -1, bounded by capacity probes.
+         */
+        int find(long key) {
+            var i = home(key);
+            for (int n = 0; n <= mask; n++) {
+                if (buckets[i] == null) return -1;
+                if (keys[i] == key) return i;
+                i = (i + 1) & mask;
+            }
+            return -1;
+        }
+
+        int insert(long key) {
+            var i = home(key);
+            while (buckets[i] != null) i = (i + 1) & mask;
+            keys[i] = key;
+            buckets[i] = new Bucket();
+            used++;
+            return i;
+        }
+
+        /**
+         * backward shift deletion, keeps probe sequences without tombstones.
+         */
+        void delete(int i) {
+            var j = i;
+            while (true) {
+                j = (j + 1) & mask;
+                if (buckets[j] == null) break;
+                var h = home(keys[j]);
+                //move j to i when its home is not in (i, j]
+                if (i <= j ? (i < h && h <= j) : (i < h || h <= j)) continue;
+                keys[i] = keys[j];
+                buckets[i] = buckets[j];
+                i = j;
+            }
+            buckets[i] = null;
+            used--;
+        }
+
+        Table grow() {
+            var t = new Table(keys.length << 1);
+            for (int i = 0; i < keys.length; i++) {
+                var b = buckets[i];
+                if (b == null) continue;
+                var j = t.insert(keys[i]);
+                t.buckets[j] = b;
+            }
+            return t;
+        }
+    }
+}
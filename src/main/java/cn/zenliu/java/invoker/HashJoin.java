@@ -0,0 +1,248 @@
+/*
+ * Source of invoker
+ * Copyright (C) 2023.  Zen.Liu
+ *
+ * SPDX-License-Identifier: GPL-2.0-only WITH Classpath-exception-2.0"
+ *
+ * This program is free software; you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation; version 2.
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program; if not, write to the Free Software Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA 02110-1301, USA.
+ *
+ * Class Path Exception
+ * Linking this library statically or dynamically with other modules is making a combined work based on this library. Thus, the terms and conditions of the GNU General Public License cover the whole combination.
+ *  As a special exception, the copyright holders of this library give you permission to link this library with independent modules to produce an executable, regardless of the license terms of these independent modules, and to copy and distribute the resulting executable under terms of your choice, provided that you also meet, for each linked independent module, the terms and conditions of the license of that module. An independent module is a module which is not derived from or based on this library. If you modify this library, you may extend this exception to your version of the library, but you are not obligated to do so. If you do not wish to do so, delete this exception statement from your version.
+ */
+
+
+package cn.zenliu.java.invoker;
+
+import lombok.var;
+import org.jetbrains.annotations.ApiStatus;
+
+import java.util.*;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.BiFunction;
+
+/**
+ * Inner equi-join of two lists on integral fields ({@code byte}, {@code short}, {@code char}, {@code int} or
+ * {@code long}), eg: {@code HashJoin.of(Customer.class, "id", Order.class, "customerId").join(customers, orders, View::new)}.<br/>
+ * Keys of both sides are read by the typed getters into {@code long[]}, the build side is hashed into an open-addressing
+ * table of {@code long} keys with chained duplicates, then each probe element emits one result per matched build element.
+ * Results are in probe order, matches of one probe element in build order.<br/>
+ * The parallel variant extracts keys in the fork-join pool and splits both sides by the high bits of the key hash into
+ * partitions of about {@code invoker.columns.threshold} build elements, so each partition table stays in cache while it is
+ * built and probed; partitions are joined in parallel and results scattered back into probe order.
+ *
+ * @author Zen.Liu
+ * @since 2026-10-19
+ */
+@ApiStatus.AvailableSince("0.0.3")
+public final class HashJoin<B, P> {
+    static final int MAX_PARTITION_BITS = 10;
+    final ClassShape buildShape;
+    final int buildSlot;
+    final ClassShape probeShape;
+    final int probeSlot;
+
+    HashJoin(ClassShape buildShape, int buildSlot, ClassShape probeShape, int probeSlot) {
+        this.buildShape = buildShape;
+        this.buildSlot = buildSlot;
+        this.probeShape = probeShape;
+        this.probeSlot = probeSlot;
+    }
+
+    /**
+     * @param build    class of build side, usually the smaller one
+     * @param buildKey key field of build side
+     * @param probe    class of probe side
+     * @param probeKey key field of probe side
+     * @throws IllegalArgumentException for unknown or non integral fields
+     */
+    public static <B, P> HashJoin<B, P> of(Class<B> build, String buildKey, Class<P> probe, String probeKey) {
+        var b = ClassShape.of(build);
+        var p = ClassShape.of(probe);
+        return new HashJoin<>(b, slot(b, buildKey), p, slot(p, probeKey));
+    }
+
+    static int slot(ClassShape shape, String field) {
+        var slot = shape.slotOf(field);
+        if (slot < 0) throw new IllegalArgumentException("no field " + field + " in " + shape.type.getName());
+        var kind = shape.kinds[slot];
+        if (kind < 1 || kind > 5)
+            throw new IllegalArgumentException("field " + field + " of " + shape.type.getName() + " is not integral");
+        return slot;
+    }
+
+    public <O> List<O> join(List<? extends B> build, List<? extends P> probe, BiFunction<? super B, ? super P, ? extends O> merge) {
+        return run(build, probe, merge, false);
+    }
+
+    /**
+     * partitioned join in fork-join common pool.
+     */
+    public <O> List<O> joinParallel(List<? extends B> build, List<? extends P> probe, BiFunction<? super B, ? super P, ? extends O> merge) {
+        return run(build, probe, merge, true);
+    }
+
+    public List<Map.Entry<B, P>> pairs(List<? extends B> build, List<? extends P> probe) {
+        return run(build, probe, AbstractMap.SimpleImmutableEntry::new, false);
+    }
+
+    public List<Map.Entry<B, P>> pairsParallel(List<? extends B> build, List<? extends P> probe) {
+        return run(build, probe, AbstractMap.SimpleImmutableEntry::new, true);
+    }
+
+    @SuppressWarnings("unchecked")
+    <O> List<O> run(List<? extends B> build, List<? extends P> probe, BiFunction<? super B, ? super P, ? extends O> merge, boolean parallel) {
+        var b = build.toArray();
+        var p = probe.toArray();
+        var bk = keys(b, buildShape, buildSlot, parallel);
+        var pk = keys(p, probeShape, probeSlot, parallel);
+        var bits = parallel ? partitionBits(b.length) : 0;
+        var parts = 1 << bits;
+        var bOrder = new int[b.length];
+        var bStart = partition(bk, bits, bOrder);
+        var pOrder = new int[p.length];
+        var pStart = partition(pk, bits, pOrder);
+        var counts = new int[p.length];
+        var matches = new Matches[parts];
+        run(parts, parallel, q -> matches[q] = partition(bk, bOrder, bStart[q], bStart[q + 1], pk, pOrder, pStart[q], pStart[q + 1], counts));
+        var offsets = new int[p.length];
+        var total = 0;
+        for (int i = 0; i < p.length; i++) {
+            offsets[i] = total;
+            total += counts[i];
+        }
+        var out = new Object[total];
+        //probe elements of one partition are disjoint, their offsets are advanced without race.
+        run(parts, parallel, q -> {
+            var m = matches[q];
+            for (int j = 0; j < m.size; j++) {
+                var pi = m.probe[j];
+                out[offsets[pi]++] = merge.apply((B) b[m.build[j]], (P) p[pi]);
+            }
+        });
+        return (List<O>) new ArrayList<>(Arrays.asList(out));
+    }
+
+    interface Part {
+        void apply(int partition);
+    }
+
+    static void run(int parts, boolean parallel, Part part) {
+        if (!parallel || parts == 1) {
+            for (int q = 0; q < parts; q++) part.apply(q);
+            return;
+        }
+        var tasks = new ArrayList<ForkJoinTask<?>>(parts);
+        for (int q = 0; q < parts; q++) {
+            final int x = q;
+            tasks.add(ForkJoinTask.adapt(() -> part.apply(x)));
+        }
+        ForkJoinTask.invokeAll(tasks);
+    }
+
+    static long[] keys(Object[] values, ClassShape shape, int slot, boolean parallel) {
+        var kind = shape.kinds[slot];
+        var g = shape.getters[slot];
+        var keys = new long[values.length];
+        Columns.Range range = (from, to) -> {
+            for (int i = from; i < to; i++) keys[i] = Aggregates.key(kind, g, values[i]);
+        };
+        if (parallel) Columns.parallel(0, values.length, range);
+        else range.apply(0, values.length);
+        return keys;
+    }
+
+    static int partitionBits(int buildSize) {
+        var bits = 0;
+        while (bits < MAX_PARTITION_BITS && ((long) Columns.THRESHOLD << bits) < buildSize) bits++;
+        return bits;
+    }
+
+    static long mix(long key) {
+        var h = key * 0x9E3779B97F4A7C15L;
+        return h ^ h >>> 29;
+    }
+
+    /**
+     * stable counting sort of indexes by partition.
+     *
+     * @param order filled with indexes grouped by partition
+     * @return start of each partition in order, with the end at last
+     */
+    static int[] partition(long[] keys, int bits, int[] order) {
+        var parts = 1 << bits;
+        var start = new int[parts + 1];
+        if (bits == 0) {
+            for (int i = 0; i < keys.length; i++) order[i] = i;
+            start[1] = keys.length;
+            return start;
+        }
+        var shift = 64 - bits;
+        for (var k : keys) start[(int) (mix(k) >>> shift) + 1]++;
+        for (int q = 0; q < parts; q++) start[q + 1] += start[q];
+        var pos = Arrays.copyOf(start, parts);
+        for (int i = 0; i < keys.length; i++) order[pos[(int) (mix(keys[i]) >>> shift)]++] = i;
+        return start;
+    }
+
+    /**
+     * build and probe one partition.
+     */
+    static Matches partition(long[] bk, int[] bOrder, int bFrom, int bTo, long[] pk, int[] pOrder, int pFrom, int pTo, int[] counts) {
+        var m = new Matches();
+        var n = bTo - bFrom;
+        if (n == 0 || pFrom == pTo) return m;
+        var capacity = Integer.highestOneBit(Math.max(2, n * 2 - 1)) << 1;
+        var mask = capacity - 1;
+        var keys = new long[capacity];
+        //head of chain + 1, 0 as empty
+        var heads = new int[capacity];
+        var next = new int[n];
+        //insert backward, so chains are in build order
+        for (int j = n - 1; j >= 0; j--) {
+            var k = bk[bOrder[bFrom + j]];
+            var s = (int) mix(k) & mask;
+            while (heads[s] != 0 && keys[s] != k) s = (s + 1) & mask;
+            keys[s] = k;
+            next[j] = heads[s] - 1;
+            heads[s] = j + 1;
+        }
+        for (int j = pFrom; j < pTo; j++) {
+            var pi = pOrder[j];
+            var k = pk[pi];
+            var s = (int) mix(k) & mask;
+            while (heads[s] != 0 && keys[s] != k) s = (s + 1) & mask;
+            for (int x = heads[s] - 1; x >= 0; x = next[x]) {
+                m.add(pi, bOrder[bFrom + x]);
+                counts[pi]++;
+            }
+        }
+        return m;
+    }
+
+    /**
+     * Matched index pairs of one partition.
+     */
+    static final class Matches {
+        int[] probe = new int[16];
+        int[] build = new int[16];
+        int size;
+
+        void add(int p, int b) {
+            if (size == probe.length) {
+                probe = Arrays.copyOf(probe, size << 1);
+                build = Arrays.copyOf(build, size << 1);
+            }
+            probe[size] = p;
+            build[size++] = b;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "HashJoin(" + buildShape.type.getName() + "::" + buildShape.name(buildSlot) + " = "
+                + probeShape.type.getName() + "::" + probeShape.name(probeSlot) + ")";
+    }
+}
@@ -0,0 +1,192 @@
+/*
+ * Source of invoker
+ * Copyright (C) 2023.  Zen.Liu
+ *
+ * SPDX-License-Identifier: GPL-2.0-only WITH Classpath-exception-2.0"
+ *
+ * This program is free software; you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation; version 2.
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program; if not, write to the Free Software Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA 02110-1301, USA.
+ *
+ * Class Path Exception
+ * Linking this library statically or dynamically with other modules is making a combined work based on this library. Thus, the terms and conditions of the GNU General Public License cover the whole combination.
+ *  As a special exception, the copyright holders of this library give you permission to link this library with independent modules to produce an executable, regardless of the license terms of these independent modules, and to copy and distribute the resulting executable under terms of your choice, provided that you also meet, for each linked independent module, the terms and conditions of the license of that module. An independent module is a module which is not derived from or based on this library. If you modify this library, you may extend this exception to your version of the library, but you are not obligated to do so. If you do not wish to do so, delete this exception statement from your version.
+ */
+
+package cn.zenliu.java.invoker;
+
+import lombok.SneakyThrows;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandleInfo;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+
+/**
+ * JDK Flight Recorder events of invoker.<br/>
+ * 1. {@code cn.zenliu.java.invoker.Generate}: each {@link Invoker} or {@link Accessor} generated, with member, shape,
+ * generated class and duration.<br/>
+ * 2. {@code cn.zenliu.java.invoker.Invoke}: sampled invocations of invokers made by {@link Invoker#make}, with member,
+ * receiver class and latency. Sampling decorator is only installed on invokers made after {@link #sampling(boolean)} is
+ * on (or with system property {@code invoker.jfr.sampling=true}), one of {@link #sampleRate()} invocations is recorded.<br/>
+ * Both events are disabled by default, enable them with a recording, eg: {@code jcmd <pid> JFR.start settings=invoker.jfc},
+ * the {@code invoker.jfc} is shipped in the root of jar.<br/>
+ * Events are recorded by a Java 11 class of the multi-release jar (loaded by reflection), nothing is done on Java 8
+ * runtimes.
+ *
+ * @author Zen.Liu
+ * @since 2026-10-19
+ */
+@ApiStatus.AvailableSince("0.0.3")
+public final class InvokerEvents {
+    /**
+     * class name of the {@link Recorder} in {@code META-INF/versions/11}.
+     */
+    static final String RECORDER_CLASS = "cn.zenliu.java.invoker.JfrRecorder";
+    static final @Nullable Recorder RECORDER = recorder();
+    static final boolean AVAILABLE = RECORDER != null;
+    static volatile boolean sampling = Boolean.getBoolean("invoker.jfr.sampling");
+    static volatile int rate = Math.max(1, Integer.getInteger("invoker.jfr.sampleRate", 1024));
+    static final MethodHandle SAMPLE = handle(InvokerEvents.class, "sample",
+            MethodType.methodType(Object.class, String.class, boolean.class, MethodHandle.class, Object[].class), true);
+    static final MethodHandle TICK = handle(Sampler.class, "tick", MethodType.methodType(boolean.class), false);
+
+    private InvokerEvents() {
+        throw new IllegalAccessError();
+    }
+
+    @SneakyThrows
+    private static MethodHandle handle(Class<?> owner, String name, MethodType type, boolean isStatic) {
+        return isStatic ? MethodHandles.lookup().findStatic(owner, name, type) : MethodHandles.lookup().findVirtual(owner, name, type);
+    }
+
+    private static @Nullable Recorder recorder() {
+        try {
+            return (Recorder) Class.forName(RECORDER_CLASS, true, InvokerEvents.class.getClassLoader()).newInstance();
+        } catch (Throwable e) {
+            return null;
+        }
+    }
+
+    /**
+     * @return are events recorded in current JVM, requires Java 11+ and {@code jdk.jfr}.
+     */
+    public static boolean isAvailable() {
+        return AVAILABLE;
+    }
+
+    /**
+     * Turn on or off the invocation sampling decorator for invokers made afterwards.
+     */
+    public static void sampling(boolean on) {
+        sampling = on;
+    }
+
+    public static boolean sampling() {
+        return sampling;
+    }
+
+    /**
+     * @param rate record one of every rate invocations, at least 1.
+     */
+    public static void sampleRate(int rate) {
+        InvokerEvents.rate = Math.max(1, rate);
+    }
+
+    public static int sampleRate() {
+        return rate;
+    }
+
+    //region Hooks
+    @ApiStatus.Internal
+    static @Nullable Object beginGenerate() {
+        return RECORDER != null ? RECORDER.beginGenerate() : null;
+    }
+
+    @ApiStatus.Internal
+    static void generated(@Nullable Object event, MethodHandles.Lookup lookup, MethodHandle handle, Object generated) {
+        if (event != null && RECORDER != null) RECORDER.generated(event, lookup, handle, generated);
+    }
+
+    @ApiStatus.Internal
+    static void generated(@Nullable Object event, String member, Object generated) {
+        if (event != null && RECORDER != null) RECORDER.generated(event, member, generated);
+    }
+
+    /**
+     * @param target   generic handle
+     * @param instance first argument of target is the receiver
+     * @return target records one of every {@link #sampleRate()} invocations.
+     */
+    @ApiStatus.Internal
+    static MethodHandle sampled(MethodHandle target, String member, boolean instance) {
+        int n = target.type().parameterCount();
+        MethodHandle around = MethodHandles.insertArguments(SAMPLE, 0, member, instance, target.asSpreader(Object[].class, n))
+                .asCollector(Object[].class, n);
+        MethodHandle tick = MethodHandles.dropArguments(TICK.bindTo(new Sampler()), 0, target.type().parameterList());
+        return MethodHandles.guardWithTest(tick, around, target);
+    }
+
+    static Object sample(String member, boolean instance, MethodHandle target, Object[] args) throws Throwable {
+        Recorder r = RECORDER;
+        if (r == null) return target.invokeExact(args);
+        return r.invoke(target, member, instance && args.length > 0 ? args[0] : null, args);
+    }
+    //endregion
+
+    static String shape(Object generated) {
+        if (generated instanceof Accessor) {
+            Accessor a = (Accessor) generated;
+            return a.setter == null ? shape(a.getter) : shape(a.getter) + "/" + shape(a.setter);
+        }
+        Class<?> c = generated.getClass();
+        if (c.isSynthetic() && c.getInterfaces().length > 0) {
+            return c.getInterfaces()[0].getSimpleName();
+        }
+        Class<?> enclosing = c.getEnclosingClass();
+        return enclosing == null ? c.getSimpleName() : enclosing.getSimpleName() + "." + c.getSimpleName();
+    }
+
+    static String member(MethodHandles.Lookup lookup, MethodHandle handle) {
+        try {
+            MethodHandleInfo info = lookup.revealDirect(handle);
+            return info.getDeclaringClass().getName() + "::" + info.getName() + info.getMethodType();
+        } catch (Throwable e) {
+            return handle.toString();
+        }
+    }
+
+    /**
+     * Countdown of sampling.
+     */
+    static final class Sampler {
+        /**
+         * racy countdown, lost updates only move the sample point.
+         */
+        int countdown = rate;
+
+        boolean tick() {
+            if (--countdown > 0) return false;
+            countdown = rate;
+            return true;
+        }
+    }
+
+    /**
+     * Recorder of events, implemented with {@code jdk.jfr} in the Java 11 version of this package.
+     */
+    interface Recorder {
+        Object beginGenerate();
+
+        void generated(Object event, MethodHandles.Lookup lookup, MethodHandle handle, Object generated);
+
+        void generated(Object event, String member, Object generated);
+
+        /**
+         * @param target spread generic handle
+         */
+        Object invoke(MethodHandle target, String member, @Nullable Object receiver, Object[] args) throws Throwable;
+    }
+}
@@ -0,0 +1,438 @@
+/*
+ * Source of invoker
+ * Copyright (C) 2023.  Zen.Liu
+ *
+ * SPDX-License-Identifier: GPL-2.0-only WITH Classpath-exception-2.0"
+ *
+ * This program is free software; you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation; version 2.
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program; if not, write to the Free Software Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA 02110-1301, USA.
+ *
+ * Class Path Exception
+ * Linking this library statically or dynamically with other modules is making a combined work based on this library. Thus, the terms and conditions of the GNU General Public License cover the whole combination.
+ *  As a special exception, the copyright holders of this library give you permission to link this library with independent modules to produce an executable, regardless of the license terms of these independent modules, and to copy and distribute the resulting executable under terms of your choice, provided that you also meet, for each linked independent module, the terms and conditions of the license of that module. An independent module is a module which is not derived from or based on this library. If you modify this library, you may extend this exception to your version of the library, but you are not obligated to do so. If you do not wish to do so, delete this exception statement from your version.
+ */
+
+
+package cn.zenliu.java.invoker;
+
+import lombok.SneakyThrows;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.Nullable;
+
+import javax.management.ObjectName;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.invoke.MutableCallSite;
+import java.lang.invoke.SwitchPoint;
+import java.lang.management.ManagementFactory;
+import java.lang.reflect.Method;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Per member invocation metrics of invokers made by {@link Invoker#make}: call counts, error counts and latency histograms,
+ * exported as MXBeans under domain {@value #DOMAIN}.<br/>
+ * 1. The metering decorator is only installed on invokers made after {@link #install(boolean)} is on
+ * (or with system property {@code invoker.metrics=true}), others stay undecorated. Decorated invokers implement the same
+ * SAM interface as undecorated ones, eg: {@link Invoker.ix11}.<br/>
+ * 2. Installed decorators are gated by {@link #enable()} and {@link #disable()}, {@link #install(boolean)} toggles the
+ * gate too: the gate is a constant {@link MutableCallSite} guarded by a {@link SwitchPoint}, disabling invalidates the
+ * SwitchPoint, so a disabled decorator costs only the delegation.<br/>
+ * 3. Counters are {@link LongAdder}s, latency is recorded into a lock-free log-bucketed {@link Histogram}.<br/>
+ * Invokers of the same member share one {@link Meter}.
+ *
+ * @author Zen.Liu
+ * @since 2026-10-19
+ */
+@ApiStatus.AvailableSince("0.0.3")
+public final class InvokerMetrics {
+    public static final String DOMAIN = "cn.zenliu.java.invoker";
+    static final MethodHandle TRUE = MethodHandles.constant(boolean.class, true);
+    static final MethodHandle FALSE = MethodHandles.constant(boolean.class, false);
+    static final MutableCallSite GATE = new MutableCallSite(FALSE);
+    static final MethodHandle ENABLED = GATE.dynamicInvoker();
+    static final MethodHandle METER = meterHandle();
+    static final Map<String, Meter> METERS = new ConcurrentHashMap<>();
+    static volatile boolean installed = Boolean.getBoolean("invoker.metrics");
+    /**
+     * guarded by class lock, null when disabled.
+     */
+    private static SwitchPoint armed;
+    private static boolean registered;
+
+    static {
+        if (installed) enable();
+    }
+
+    private InvokerMetrics() {
+        throw new IllegalAccessError();
+    }
+
+    @SneakyThrows
+    private static MethodHandle meterHandle() {
+        return MethodHandles.lookup().findStatic(InvokerMetrics.class, "meter",
+                MethodType.methodType(Object.class, Meter.class, MethodHandle.class, Object[].class));
+    }
+
+    /**
+     * Turn on or off the metering decorator for invokers made afterwards, and {@link #enable()} or {@link #disable()}
+     * recording.
+     */
+    public static void install(boolean on) {
+        installed = on;
+        if (on) {
+            register();
+            enable();
+        } else disable();
+    }
+
+    public static boolean installed() {
+        return installed;
+    }
+
+    /**
+     * Install enabled decorators on invokers made by {@link Invoker#make}: sampling of {@link InvokerEvents} and metering.
+     */
+    static Invoker decorate(Invoker invoker, MethodHandles.Lookup lookup, MethodHandle handle) {
+        boolean sampling = InvokerEvents.AVAILABLE && InvokerEvents.sampling;
+        if (!sampling && !installed) return invoker;
+        String member = InvokerEvents.member(lookup, handle);
+        Method sam = InvokerSpinner.sam(invoker);
+        MethodHandle target = InvokerSpinner.generic(invoker, sam);
+        if (sampling) target = InvokerEvents.sampled(target, member, !invoker.isStatic());
+        if (installed) target = metered(target, member);
+        return InvokerSpinner.capture(sam, target);
+    }
+
+    /**
+     * Start recording on all installed decorators.
+     */
+    public static synchronized void enable() {
+        if (armed != null) return;
+        armed = new SwitchPoint();
+        GATE.setTarget(armed.guardWithTest(TRUE, FALSE));
+        MutableCallSite.syncAll(new MutableCallSite[]{GATE});
+    }
+
+    /**
+     * Stop recording on all installed decorators.
+     */
+    public static synchronized void disable() {
+        if (armed == null) return;
+        SwitchPoint.invalidateAll(new SwitchPoint[]{armed});
+        armed = null;
+    }
+
+    public static synchronized boolean isEnabled() {
+        return armed != null;
+    }
+
+    /**
+     * @return meter of member, member name as {@code declaringClass::name(params)return}.
+     */
+    public static @Nullable Meter meter(String member) {
+        return METERS.get(member);
+    }
+
+    /**
+     * @return all meters by member.
+     */
+    public static Map<String, Meter> meters() {
+        return Collections.unmodifiableMap(METERS);
+    }
+
+    /**
+     * Reset all meters.
+     */
+    public static void reset() {
+        METERS.values().forEach(Meter::reset);
+    }
+
+    //region Hooks
+    /**
+     * @param target generic handle
+     * @return target guarded by the gate, records invocations into the meter of member when enabled.
+     */
+    @ApiStatus.Internal
+    static MethodHandle metered(MethodHandle target, String member) {
+        Meter meter = METERS.computeIfAbsent(member, InvokerMetrics::create);
+        int n = target.type().parameterCount();
+        MethodHandle around = MethodHandles.insertArguments(METER, 0, meter, target.asSpreader(Object[].class, n))
+                .asCollector(Object[].class, n);
+        return MethodHandles.guardWithTest(MethodHandles.dropArguments(ENABLED, 0, target.type().parameterList()), around, target);
+    }
+
+    static Object meter(Meter meter, MethodHandle target, Object[] args) throws Throwable {
+        final long start = System.nanoTime();
+        try {
+            return target.invokeExact(args);
+        } catch (Throwable t) {
+            meter.errors.increment();
+            throw t;
+        } finally {
+            meter.record(System.nanoTime() - start);
+        }
+    }
+    //endregion
+
+    static Meter create(String member) {
+        Meter m = new Meter(member);
+        register();
+        register(m, DOMAIN + ":type=Meter,name=" + ObjectName.quote(member));
+        return m;
+    }
+
+    static synchronized void register() {
+        if (registered) return;
+        registered = true;
+        register(new Control(), DOMAIN + ":type=InvokerMetrics");
+    }
+
+    /**
+     * metrics must not fail the invoker, JMX errors (eg: no management in runtime) are ignored.
+     */
+    static void register(Object bean, String name) {
+        try {
+            ManagementFactory.getPlatformMBeanServer().registerMBean(bean, new ObjectName(name));
+        } catch (Throwable ignored) {
+        }
+    }
+
+    /**
+     * Metrics of one member.
+     */
+    public static final class Meter implements MeterMXBean {
+        final String member;
+        final LongAdder calls = new LongAdder();
+        final LongAdder errors = new LongAdder();
+        final Histogram latency = new Histogram();
+
+        Meter(String member) {
+            this.member = member;
+        }
+
+        void record(long nanos) {
+            calls.increment();
+            latency.record(nanos);
+        }
+
+        @Override
+        public String getMember() {
+            return member;
+        }
+
+        @Override
+        public long getCalls() {
+            return calls.sum();
+        }
+
+        @Override
+        public long getErrors() {
+            return errors.sum();
+        }
+
+        @Override
+        public double getMeanNanos() {
+            return latency.mean();
+        }
+
+        @Override
+        public long getMaxNanos() {
+            return latency.max();
+        }
+
+        @Override
+        public long getP50Nanos() {
+            return latency.percentile(0.5);
+        }
+
+        @Override
+        public long getP90Nanos() {
+            return latency.percentile(0.9);
+        }
+
+        @Override
+        public long getP99Nanos() {
+            return latency.percentile(0.99);
+        }
+
+        @Override
+        public long getP999Nanos() {
+            return latency.percentile(0.999);
+        }
+
+        public Histogram latency() {
+            return latency;
+        }
+
+        @Override
+        public void reset() {
+            calls.reset();
+            errors.reset();
+            latency.reset();
+        }
+
+        @Override
+        public String toString() {
+            return member + "{calls=" + getCalls() + ", errors=" + getErrors() + ", " + latency + "}";
+        }
+    }
+
+    /**
+     * Lock-free log-linear histogram of non-negative longs: values under 4 have exact buckets, others are bucketed by
+     * power of two with 4 linear sub buckets, relative error is under 25%.
+     */
+    public static final class Histogram {
+        static final int SUB_BITS = 2;
+        static final int SUB = 1 << SUB_BITS;
+        static final int BUCKETS = (64 - SUB_BITS) * SUB;
+        final AtomicLongArray buckets = new AtomicLongArray(BUCKETS);
+        final LongAdder sum = new LongAdder();
+        final LongAccumulator max = new LongAccumulator(Math::max, 0);
+
+        static int index(long value) {
+            if (value < SUB) return (int) Math.max(0, value);
+            int exp = 63 - Long.numberOfLeadingZeros(value);
+            return ((exp - SUB_BITS + 1) << SUB_BITS) + (int) ((value >>> (exp - SUB_BITS)) & (SUB - 1));
+        }
+
+        /**
+         * @return the highest value of bucket
+         */
+        static long upper(int index) {
+            if (index < SUB) return index;
+            int shift = (index >>> SUB_BITS) - 1;
+            long lower = (long) (SUB + (index & (SUB - 1))) << shift;
+            return lower + (1L << shift) - 1;
+        }
+
+        public void record(long value) {
+            buckets.incrementAndGet(index(value));
+            sum.add(value);
+            max.accumulate(value);
+        }
+
+        public long count() {
+            long n = 0;
+            for (int i = 0; i < BUCKETS; i++) n += buckets.get(i);
+            return n;
+        }
+
+        public long sum() {
+            return sum.sum();
+        }
+
+        public long max() {
+            return max.get();
+        }
+
+        public double mean() {
+            long n = count();
+            return n == 0 ? 0 : (double) sum() / n;
+        }
+
+        /**
+         * @param q quantile in [0,1]
+         * @return upper bound of the bucket holds the quantile, not greater than {@link #max()}.
+         */
+        public long percentile(double q) {
+            long[] snapshot = new long[BUCKETS];
+            long n = 0;
+            for (int i = 0; i < BUCKETS; i++) n += snapshot[i] = buckets.get(i);
+            if (n == 0) return 0;
+            long rank = Math.max(1, (long) Math.ceil(Math.min(1, Math.max(0, q)) * n));
+            long seen = 0;
+            for (int i = 0; i < BUCKETS; i++) {
+                seen += snapshot[i];
+                if (seen >= rank) return Math.min(upper(i), max());
+            }
+            return max();
+        }
+
+        public void reset() {
+            for (int i = 0; i < BUCKETS; i++) buckets.set(i, 0);
+            sum.reset();
+            max.reset();
+        }
+
+        @Override
+        public String toString() {
+            return "count=" + count() + ", mean=" + mean() + ", p50=" + percentile(0.5) + ", p99=" + percentile(0.99) + ", max=" + max();
+        }
+    }
+
+    public interface MeterMXBean {
+        String getMember();
+
+        long getCalls();
+
+        long getErrors();
+
+        double getMeanNanos();
+
+        long getMaxNanos();
+
+        long getP50Nanos();
+
+        long getP90Nanos();
+
+        long getP99Nanos();
+
+        long getP999Nanos();
+
+        void reset();
+    }
+
+    public interface ControlMXBean {
+        boolean isEnabled();
+
+        void setEnabled(boolean enabled);
+
+        boolean isInstalled();
+
+        void setInstalled(boolean installed);
+
+        String[] getMembers();
+
+        void reset();
+    }
+
+    static final class Control implements ControlMXBean {
+        @Override
+        public boolean isEnabled() {
+            return InvokerMetrics.isEnabled();
+        }
+
+        @Override
+        public void setEnabled(boolean enabled) {
+            if (enabled) enable();
+            else disable();
+        }
+
+        @Override
+        public boolean isInstalled() {
+            return installed;
+        }
+
+        @Override
+        public void setInstalled(boolean installed) {
+            install(installed);
+        }
+
+        @Override
+        public String[] getMembers() {
+            return METERS.keySet().toArray(new String[0]);
+        }
+
+        @Override
+        public void reset() {
+            InvokerMetrics.reset();
+        }
+    }
+}
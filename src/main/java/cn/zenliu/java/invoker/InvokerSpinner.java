@@ -0,0 +1,1262 @@
+/*
+ * Source of invoker
+ * Copyright (C) 2023.  Zen.Liu
+ *
+ * SPDX-License-Identifier: GPL-2.0-only WITH Classpath-exception-2.0"
+ *
+ * This program is free software; you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation; version 2.
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program; if not, write to the Free Software Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA 02110-1301, USA.
+ *
+ * Class Path Exception
+ * Linking this library statically or dynamically with other modules is making a combined work based on this library. Thus, the terms and conditions of the GNU General Public License cover the whole combination.
+ *  As a special exception, the copyright holders of this library give you permission to link this library with independent modules to produce an executable, regardless of the license terms of these independent modules, and to copy and distribute the resulting executable under terms of your choice, provided that you also meet, for each linked independent module, the terms and conditions of the license of that module. An independent module is a module which is not derived from or based on this library. If you modify this library, you may extend this exception to your version of the library, but you are not obligated to do so. If you do not wish to do so, delete this exception statement from your version.
+ */
+
+package cn.zenliu.java.invoker;
+
+import lombok.SneakyThrows;
+import org.jetbrains.annotations.ApiStatus;
+
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+
+import static cn.zenliu.java.invoker.Invoker.*;
+
+/**
+ * Lambda spinning of {@link Invoker#build}, kept out of the public interface.<br/>
+ * Decorators are spun as the same SAM interface of the decorated invoker, capturing a decorated generic handle, so
+ * decorating never changes the runtime type of an invoker.
+ *
+ * @author Zen.Liu
+ * @since 2026-10-19
+ */
+@ApiStatus.Internal
+final class InvokerSpinner {
+    static final int MAX_ARITY = 32;
+    static final MethodHandle[] CALLS = calls();
+
+    private InvokerSpinner() {
+        throw new IllegalAccessError();
+    }
+
+    @SneakyThrows
+    private static MethodHandle[] calls() {
+        MethodHandle[] calls = new MethodHandle[MAX_ARITY];
+        for (int n = 0; n < MAX_ARITY; n++) {
+            calls[n] = MethodHandles.lookup().findStatic(InvokerSpinner.class, "call" + n,
+                    MethodType.genericMethodType(n).insertParameterTypes(0, MethodHandle.class));
+        }
+        return calls;
+    }
+
+    /**
+     * @return the abstract method of the SAM interface implemented by a spun invoker.
+     * @throws IllegalArgumentException if the invoker is not spun by this library
+     */
+    static Method sam(Invoker invoker) {
+        for (Class<?> c : invoker.getClass().getInterfaces()) {
+            if (!sam.class.isAssignableFrom(c)) continue;
+            for (Method m : c.getMethods()) {
+                if (m.getName().equals("i") && Modifier.isAbstract(m.getModifiers())) return m;
+            }
+        }
+        throw new IllegalArgumentException("not a spun invoker: " + invoker.getClass().getName());
+    }
+
+    /**
+     * @return generic handle of the SAM method bound to invoker, void returns null.
+     */
+    @SneakyThrows
+    static MethodHandle generic(Invoker invoker, Method sam) {
+        return MethodHandles.lookup().unreflect(sam).bindTo(invoker).asType(MethodType.genericMethodType(sam.getParameterCount()));
+    }
+
+    /**
+     * @param sam    the SAM method from {@link #sam(Invoker)}
+     * @param target generic handle of the same arity
+     * @return invoker of the same SAM interface delegates to target
+     */
+    @SneakyThrows
+    static Invoker capture(Method sam, MethodHandle target) {
+        MethodType type = MethodType.methodType(sam.getReturnType(), sam.getParameterTypes());
+        return (Invoker) LambdaMetafactory.metafactory(
+                MethodHandles.lookup(),
+                "i",
+                MethodType.methodType(sam.getDeclaringClass(), MethodHandle.class),
+                type,
+                CALLS[sam.getParameterCount()],
+                type).getTarget().invoke(target);
+    }
+
+    //region Calls
+
+    /**
+     * Spin the lambda of handle, see {@link Invoker#build}.
+     */
+    @SneakyThrows
+    static Invoker spin(MethodHandles.Lookup lookup, MethodHandle handle, boolean isStatic, boolean isVarArgs, boolean hasReturn, int argumentCounts) {
+        MethodType sam = handle.type().wrap().generic();
+        MethodType src = handle.type().wrap();
+        if (isVarArgs && argumentCounts == 1) {
+            if (isStatic && hasReturn)
+                return (Invoker) (sv11) LambdaMetafactory.metafactory(
+                        lookup,
+                        "i",
+                        MethodType.methodType(sv11.class),
+                        sam,
+                        handle,
+                        src).getTarget().invokeExact();
+            else if (isStatic)
+                return (Invoker) (sv01) LambdaMetafactory.metafactory(
+                        lookup,
+                        "i",
+                        MethodType.methodType(sv01.class),
+                        sam,
+                        handle,
+                        src).getTarget().invokeExact();
+            else if (hasReturn)
+                return (Invoker) (iv11) LambdaMetafactory.metafactory(
+                        lookup,
+                        "i",
+                        MethodType.methodType(iv11.class),
+                        sam,
+                        handle,
+                        src).getTarget().invokeExact();
+            else return (Invoker) (iv01) LambdaMetafactory.metafactory(
+                        lookup,
+                        "i",
+                        MethodType.methodType(iv01.class),
+                        sam,
+                        handle,
+                        src).getTarget().invokeExact();
+        }
+        switch (argumentCounts) {
+            case 0: {
+                if (isStatic && hasReturn)
+                    return (Invoker) (sx10) LambdaMetafactory.metafactory(
+                            lookup,
+                            "i",
+                            MethodType.methodType(sx10.class),
+                            sam,
+                            handle,
+                            src).getTarget().invokeExact();
+                else if (isStatic)
+                    return (Invoker) (sx00) LambdaMetafactory.metafactory(
+                            lookup,
+                            "i",
+                            MethodType.methodType(sx00.class),
+                            sam,
+                            handle,
+                            src).getTarget().invokeExact();
+                else if (hasReturn)
+                    return (Invoker) (ix10) LambdaMetafactory.metafactory(
+                            lookup,
+                            "i",
+                            MethodType.methodType(ix10.class),
+                            sam,
+                            handle,
+                            src).getTarget().invokeExact();
+                else return (Invoker) (ix00) LambdaMetafactory.metafactory(
+                            lookup,
+                            "i",
+                            MethodType.methodType(ix00.class),
+                            sam,
+                            handle,
+                            src).getTarget().invokeExact();
+            }
+            case 1: {
+                if (isStatic && hasReturn)
+                    return (Invoker) (sx11) LambdaMetafactory.metafactory(
+                            lookup,
+                            "i",
+                            MethodType.methodType(sx11.class),
+                            sam,
+                            handle,
+                            src).getTarget().invokeExact();
+                else if (isStatic)
+                    return (Invoker) (sx01) LambdaMetafactory.metafactory(
+                            lookup,
+                            "i",
+                            MethodType.methodType(sx01.class),
+                            sam,
+                            handle,
+                            src).getTarget().invokeExact();
+                else if (hasReturn)
+                    return (Invoker) (ix11) LambdaMetafactory.metafactory(
+                            lookup,
+                            "i",
+                            MethodType.methodType(ix11.class),
+                            sam,
+                            handle,
+                            src).getTarget().invokeExact();
+                else return (Invoker) (ix01) LambdaMetafactory.metafactory(
+                            lookup,
+                            "i",
+                            MethodType.methodType(ix01.class),
+                            sam,
+                            handle,
+                            src).getTarget().invokeExact();
+            }
+            case 2: {
+                if (isStatic && hasReturn)
+                    return (Invoker) (sx12) LambdaMetafactory.metafactory(
+                            lookup,
+                            "i",
+                            MethodType.methodType(sx12.class),
+                            sam,
+                            handle,
+                            src).getTarget().invokeExact();
+                else if (isStatic)
+                    return (Invoker) (sx02) LambdaMetafactory.metafactory(
+                            lookup,
+                            "i",
+                            MethodType.methodType(sx02.class),
+                            sam,
+                            handle,
+                            src).getTarget().invokeExact();
+                else if (hasReturn)
+                    return (Invoker) (ix12) LambdaMetafactory.metafactory(
+                            lookup,
+                            "i",
+                            MethodType.methodType(ix12.class),
+                            sam,
+                            handle,
+                            src).getTarget().invokeExact();
+                else return (Invoker) (ix02) LambdaMetafactory.metafactory(
+                            lookup,
+                            "i",
+                            MethodType.methodType(ix02.class),
+                            sam,
+                            handle,
+                            src).getTarget().invokeExact();
+            }
+            case 3: {
+                if (isStatic && hasReturn)
+                    return (Invoker) (sx13) LambdaMetafactory.metafactory(
+                            lookup,
+                            "i",
+                            MethodType.methodType(sx13.class),
+                            sam,
+                            handle,
+                            src).getTarget().invokeExact();
+                else if (isStatic)
+                    return (Invoker) (sx03) LambdaMetafactory.metafactory(
+                            lookup,
+                            "i",
+                            MethodType.methodType(sx03.class),
+                            sam,
+                            handle,
+                            src).getTarget().invokeExact();
+                else if (hasReturn)
+                    return (Invoker) (ix13) LambdaMetafactory.metafactory(
+                            lookup,
+                            "i",
+                            MethodType.methodType(ix13.class),
+                            sam,
+                            handle,
+                            src).getTarget().invokeExact();
+                else return (Invoker) (ix03) LambdaMetafactory.metafactory(
+                            lookup,
+                            "i",
+                            MethodType.methodType(ix03.class),
+                            sam,
+                            handle,
+                            src).getTarget().invokeExact();
+            }
+            case 4: {
+                if (isStatic && hasReturn)
+                    return (Invoker) (sx14) LambdaMetafactory.metafactory(
+                            lookup,
+                            "i",
+                            MethodType.methodType(sx14.class),
+                            sam,
+                            handle,
+                            src).getTarget().invokeExact();
+                else if (isStatic)
+                    return (Invoker) (sx04) LambdaMetafactory.metafactory(
+                            lookup,
+                            "i",
+                            MethodType.methodType(sx04.class),
+                            sam,
+                            handle,
+                            src).getTarget().invokeExact();
+                else if (hasReturn)
+                    return (Invoker) (ix14) LambdaMetafactory.metafactory(
+                            lookup,
+                            "i",
+                            MethodType.methodType(ix14.class),
+                            sam,
+                            handle,
+                            src).getTarget().invokeExact();
+                else return (Invoker) (ix04) LambdaMetafactory.metafactory(
+                            lookup,
+                            "i",
+                            MethodType.methodType(ix04.class),
+                            sam,
+                            handle,
+                            src).getTarget().invokeExact();
+            }
+            case 5: {
+                if (isStatic && hasReturn)
+                    return (Invoker) (sx15) LambdaMetafactory.metafactory(
+                            lookup,
+                            "i",
+                            MethodType.methodType(sx15.class),
+                            sam,
+                            handle,
+                            src).getTarget().invokeExact();
+                else if (isStatic)
+                    return (Invoker) (sx05) LambdaMetafactory.metafactory(
+                            lookup,
+                            "i",
+                            MethodType.methodType(sx05.class),
+                            sam,
+                            handle,
+                            src).getTarget().invokeExact();
+                else if (hasReturn)
+                    return (Invoker) (ix15) LambdaMetafactory.metafactory(
+                            lookup,
+                            "i",
+                            MethodType.methodType(ix15.class),
+                            sam,
+                            handle,
+                            src).getTarget().invokeExact();
+                else return (Invoker) (ix05) LambdaMetafactory.metafactory(
+                            lookup,
+                            "i",
+                            MethodType.methodType(ix05.class),
+                            sam,
+                            handle,
+                            src).getTarget().invokeExact();
+            }
+            case 6: {
+                if (isStatic && hasReturn)
+                    return (Invoker) (sx16) LambdaMetafactory.metafactory(
+                            lookup,
+                            "i",
+                            MethodType.methodType(sx16.class),
+                            sam,
+                            handle,
+                            src).getTarget().invokeExact();
+                else if (isStatic)
+                    return (Invoker) (sx06) LambdaMetafactory.metafactory(
+                            lookup,
+                            "i",
+                            MethodType.methodType(sx06.class),
+                            sam,
+                            handle,
+                            src).getTarget().invokeExact();
+                else if (hasReturn)
+                    return (Invoker) (ix16) LambdaMetafactory.metafactory(
+                            lookup,
+                            "i",
+                            MethodType.methodType(ix16.class),
+                            sam,
+                            handle,
+                            src).getTarget().invokeExact();
+                else return (Invoker) (ix06) LambdaMetafactory.metafactory(
+                            lookup,
+                            "i",
+                            MethodType.methodType(ix06.class),
+                            sam,
+                            handle,
+                            src).getTarget().invokeExact();
+            }
+            case 7: {
+                if (isStatic && hasReturn)
+                    return (Invoker) (sx17) LambdaMetafactory.metafactory(
+                            lookup,
+                            "i",
+                            MethodType.methodType(sx17.class),
+                            sam,
+                            handle,
+                            src).getTarget().invokeExact();
+                else if (isStatic)
+                    return (Invoker) (sx07) LambdaMetafactory.metafactory(
+                            lookup,
+                            "i",
+                            MethodType.methodType(sx07.class),
+                            sam,
+                            handle,
+                            src).getTarget().invokeExact();
+                else if (hasReturn)
+                    return (Invoker) (ix17) LambdaMetafactory.metafactory(
+                            lookup,
+                            "i",
+                            MethodType.methodType(ix17.class),
+                            sam,
+                            handle,
+                            src).getTarget().invokeExact();
+                else return (Invoker) (ix07) LambdaMetafactory.metafactory(
+                            lookup,
+                            "i",
+                            MethodType.methodType(ix07.class),
+                            sam,
+                            handle,
+                            src).getTarget().invokeExact();
+            }
+            case 8: {
+                if (isStatic && hasReturn)
+                    return (Invoker) (sx18) LambdaMetafactory.metafactory(
+                            lookup,
+                            "i",
+                            MethodType.methodType(sx18.class),
+                            sam,
+                            handle,
+                            src).getTarget().invokeExact();
+                else if (isStatic)
+                    return (Invoker) (sx08) LambdaMetafactory.metafactory(
+                            lookup,
+                            "i",
+                            MethodType.methodType(sx08.class),
+                            sam,
+                            handle,
+                            src).getTarget().invokeExact();
+                else if (hasReturn)
+                    return (Invoker) (ix18) LambdaMetafactory.metafactory(
+                            lookup,
+                            "i",
+                            MethodType.methodType(ix18.class),
+                            sam,
+                            handle,
+                            src).getTarget().invokeExact();
+                else return (Invoker) (ix08) LambdaMetafactory.metafactory(
+                            lookup,
+                            "i",
+                            MethodType.methodType(ix08.class),
+                            sam,
+                            handle,
+                            src).getTarget().invokeExact();
+            }
+            case 9: {
+                if (isStatic && hasReturn)
+                    return (Invoker) (sx19) LambdaMetafactory.metafactory(
+                            lookup,
+                            "i",
+                            MethodType.methodType(sx19.class),
+                            sam,
+                            handle,
+                            src).getTarget().invokeExact();
+                else if (isStatic)
+                    return (Invoker) (sx09) LambdaMetafactory.metafactory(
+                            lookup,
+                            "i",
+                            MethodType.methodType(sx09.class),
+                            sam,
+                            handle,
+                            src).getTarget().invokeExact();
+                else if (hasReturn)
+                    return (Invoker) (ix19) LambdaMetafactory.metafactory(
+                            lookup,
+                            "i",
+                            MethodType.methodType(ix19.class),
+                            sam,
+                            handle,
+                            src).getTarget().invokeExact();
+                else return (Invoker) (ix09) LambdaMetafactory.metafactory(
+                            lookup,
+                            "i",
+                            MethodType.methodType(ix09.class),
+                            sam,
+                            handle,
+                            src).getTarget().invokeExact();
+            }
+            case 10: {
+                if (isStatic && hasReturn)
+                    return (Invoker) (sx110) LambdaMetafactory.metafactory(
+                            lookup,
+                            "i",
+                            MethodType.methodType(sx110.class),
+                            sam,
+                            handle,
+                            src).getTarget().invokeExact();
+                else if (isStatic)
+                    return (Invoker) (sx010) LambdaMetafactory.metafactory(
+                            lookup,
+                            "i",
+                            MethodType.methodType(sx010.class),
+                            sam,
+                            handle,
+                            src).getTarget().invokeExact();
+                else if (hasReturn)
+                    return (Invoker) (ix110) LambdaMetafactory.metafactory(
+                            lookup,
+                            "i",
+                            MethodType.methodType(ix110.class),
+                            sam,
+                            handle,
+                            src).getTarget().invokeExact();
+                else return (Invoker) (ix010) LambdaMetafactory.metafactory(
+                            lookup,
+                            "i",
+                            MethodType.methodType(ix010.class),
+                            sam,
+                            handle,
+                            src).getTarget().invokeExact();
+            }
+            case 11: {
+                if (isStatic && hasReturn)
+                    return (Invoker) (sx111) LambdaMetafactory.metafactory(
+                            lookup,
+                            "i",
+                            MethodType.methodType(sx111.class),
+                            sam,
+                            handle,
+                            src).getTarget().invokeExact();
+                else if (isStatic)
+                    return (Invoker) (sx011) LambdaMetafactory.metafactory(
+                            lookup,
+                            "i",
+                            MethodType.methodType(sx011.class),
+                            sam,
+                            handle,
+                            src).getTarget().invokeExact();
+                else if (hasReturn)
+                    return (Invoker) (ix111) LambdaMetafactory.metafactory(
+                            lookup,
+                            "i",
+                            MethodType.methodType(ix111.class),
+                            sam,
+                            handle,
+                            src).getTarget().invokeExact();
+                else return (Invoker) (ix011) LambdaMetafactory.metafactory(
+                            lookup,
+                            "i",
+                            MethodType.methodType(ix011.class),
+                            sam,
+                            handle,
+                            src).getTarget().invokeExact();
+            }
+            case 12: {
+                if (isStatic && hasReturn)
+                    return (Invoker) (sx112) LambdaMetafactory.metafactory(
+                            lookup,
+                            "i",
+                            MethodType.methodType(sx112.class),
+                            sam,
+                            handle,
+                            src).getTarget().invokeExact();
+                else if (isStatic)
+                    return (Invoker) (sx012) LambdaMetafactory.metafactory(
+                            lookup,
+                            "i",
+                            MethodType.methodType(sx012.class),
+                            sam,
+                            handle,
+                            src).getTarget().invokeExact();
+                else if (hasReturn)
+                    return (Invoker) (ix112) LambdaMetafactory.metafactory(
+                            lookup,
+                            "i",
+                            MethodType.methodType(ix112.class),
+                            sam,
+                            handle,
+                            src).getTarget().invokeExact();
+                else return (Invoker) (ix012) LambdaMetafactory.metafactory(
+                            lookup,
+                            "i",
+                            MethodType.methodType(ix012.class),
+                            sam,
+                            handle,
+                            src).getTarget().invokeExact();
+            }
+            case 13: {
+                if (isStatic && hasReturn)
+                    return (Invoker) (sx113) LambdaMetafactory.metafactory(
+                            lookup,
+                            "i",
+                            MethodType.methodType(sx113.class),
+                            sam,
+                            handle,
+                            src).getTarget().invokeExact();
+                else if (isStatic)
+                    return (Invoker) (sx013) LambdaMetafactory.metafactory(
+                            lookup,
+                            "i",
+                            MethodType.methodType(sx013.class),
+                            sam,
+                            handle,
+                            src).getTarget().invokeExact();
+                else if (hasReturn)
+                    return (Invoker) (ix113) LambdaMetafactory.metafactory(
+                            lookup,
+                            "i",
+                            MethodType.methodType(ix113.class),
+                            sam,
+                            handle,
+                            src).getTarget().invokeExact();
+                else return (Invoker) (ix013) LambdaMetafactory.metafactory(
+                            lookup,
+                            "i",
+                            MethodType.methodType(ix013.class),
+                            sam,
+                            handle,
+                            src).getTarget().invokeExact();
+            }
+            case 14: {
+                if (isStatic && hasReturn)
+                    return (Invoker) (sx114) LambdaMetafactory.metafactory(
+                            lookup,
+                            "i",
+                            MethodType.methodType(sx114.class),
+                            sam,
+                            handle,
+                            src).getTarget().invokeExact();
+                else if (isStatic)
+                    return (Invoker) (sx014) LambdaMetafactory.metafactory(
+                            lookup,
+                            "i",
+                            MethodType.methodType(sx014.class),
+                            sam,
+                            handle,
+                            src).getTarget().invokeExact();
+                else if (hasReturn)
+                    return (Invoker) (ix114) LambdaMetafactory.metafactory(
+                            lookup,
+                            "i",
+                            MethodType.methodType(ix114.class),
+                            sam,
+                            handle,
+                            src).getTarget().invokeExact();
+                else return (Invoker) (ix014) LambdaMetafactory.metafactory(
+                            lookup,
+                            "i",
+                            MethodType.methodType(ix014.class),
+                            sam,
+                            handle,
+                            src).getTarget().invokeExact();
+            }
+            case 15: {
+                if (isStatic && hasReturn)
+                    return (Invoker) (sx115) LambdaMetafactory.metafactory(
+                            lookup,
+                            "i",
+                            MethodType.methodType(sx115.class),
+                            sam,
+                            handle,
+                            src).getTarget().invokeExact();
+                else if (isStatic)
+                    return (Invoker) (sx015) LambdaMetafactory.metafactory(
+                            lookup,
+                            "i",
+                            MethodType.methodType(sx015.class),
+                            sam,
+                            handle,
+                            src).getTarget().invokeExact();
+                else if (hasReturn)
+                    return (Invoker) (ix115) LambdaMetafactory.metafactory(
+                            lookup,
+                            "i",
+                            MethodType.methodType(ix115.class),
+                            sam,
+                            handle,
+                            src).getTarget().invokeExact();
+                else return (Invoker) (ix015) LambdaMetafactory.metafactory(
+                            lookup,
+                            "i",
+                            MethodType.methodType(ix015.class),
+                            sam,
+                            handle,
+                            src).getTarget().invokeExact();
+            }
+            case 16: {
+                if (isStatic && hasReturn)
+                    return (Invoker) (sx116) LambdaMetafactory.metafactory(
+                            lookup,
+                            "i",
+                            MethodType.methodType(sx116.class),
+                            sam,
+                            handle,
+                            src).getTarget().invokeExact();
+                else if (isStatic)
+                    return (Invoker) (sx016) LambdaMetafactory.metafactory(
+                            lookup,
+                            "i",
+                            MethodType.methodType(sx016.class),
+                            sam,
+                            handle,
+                            src).getTarget().invokeExact();
+                else if (hasReturn)
+                    return (Invoker) (ix116) LambdaMetafactory.metafactory(
+                            lookup,
+                            "i",
+                            MethodType.methodType(ix116.class),
+                            sam,
+                            handle,
+                            src).getTarget().invokeExact();
+                else return (Invoker) (ix016) LambdaMetafactory.metafactory(
+                            lookup,
+                            "i",
+                            MethodType.methodType(ix016.class),
+                            sam,
+                            handle,
+                            src).getTarget().invokeExact();
+            }
+            case 17: {
+                if (isStatic && hasReturn)
+                    return (Invoker) (sx117) LambdaMetafactory.metafactory(
+                            lookup,
+                            "i",
+                            MethodType.methodType(sx117.class),
+                            sam,
+                            handle,
+                            src).getTarget().invokeExact();
+                else if (isStatic)
+                    return (Invoker) (sx017) LambdaMetafactory.metafactory(
+                            lookup,
+                            "i",
+                            MethodType.methodType(sx017.class),
+                            sam,
+                            handle,
+                            src).getTarget().invokeExact();
+                else if (hasReturn)
+                    return (Invoker) (ix117) LambdaMetafactory.metafactory(
+                            lookup,
+                            "i",
+                            MethodType.methodType(ix117.class),
+                            sam,
+                            handle,
+                            src).getTarget().invokeExact();
+                else return (Invoker) (ix017) LambdaMetafactory.metafactory(
+                            lookup,
+                            "i",
+                            MethodType.methodType(ix017.class),
+                            sam,
+                            handle,
+                            src).getTarget().invokeExact();
+            }
+            case 18: {
+                if (isStatic && hasReturn)
+                    return (Invoker) (sx118) LambdaMetafactory.metafactory(
+                            lookup,
+                            "i",
+                            MethodType.methodType(sx118.class),
+                            sam,
+                            handle,
+                            src).getTarget().invokeExact();
+                else if (isStatic)
+                    return (Invoker) (sx018) LambdaMetafactory.metafactory(
+                            lookup,
+                            "i",
+                            MethodType.methodType(sx018.class),
+                            sam,
+                            handle,
+                            src).getTarget().invokeExact();
+                else if (hasReturn)
+                    return (Invoker) (ix118) LambdaMetafactory.metafactory(
+                            lookup,
+                            "i",
+                            MethodType.methodType(ix118.class),
+                            sam,
+                            handle,
+                            src).getTarget().invokeExact();
+                else return (Invoker) (ix018) LambdaMetafactory.metafactory(
+                            lookup,
+                            "i",
+                            MethodType.methodType(ix018.class),
+                            sam,
+                            handle,
+                            src).getTarget().invokeExact();
+            }
+            case 19: {
+                if (isStatic && hasReturn)
+                    return (Invoker) (sx119) LambdaMetafactory.metafactory(
+                            lookup,
+                            "i",
+                            MethodType.methodType(sx119.class),
+                            sam,
+                            handle,
+                            src).getTarget().invokeExact();
+                else if (isStatic)
+                    return (Invoker) (sx019) LambdaMetafactory.metafactory(
+                            lookup,
+                            "i",
+                            MethodType.methodType(sx019.class),
+                            sam,
+                            handle,
+                            src).getTarget().invokeExact();
+                else if (hasReturn)
+                    return (Invoker) (ix119) LambdaMetafactory.metafactory(
+                            lookup,
+                            "i",
+                            MethodType.methodType(ix119.class),
+                            sam,
+                            handle,
+                            src).getTarget().invokeExact();
+                else return (Invoker) (ix019) LambdaMetafactory.metafactory(
+                            lookup,
+                            "i",
+                            MethodType.methodType(ix019.class),
+                            sam,
+                            handle,
+                            src).getTarget().invokeExact();
+            }
+            case 20: {
+                if (isStatic && hasReturn)
+                    return (Invoker) (sx120) LambdaMetafactory.metafactory(
+                            lookup,
+                            "i",
+                            MethodType.methodType(sx120.class),
+                            sam,
+                            handle,
+                            src).getTarget().invokeExact();
+                else if (isStatic)
+                    return (Invoker) (sx020) LambdaMetafactory.metafactory(
+                            lookup,
+                            "i",
+                            MethodType.methodType(sx020.class),
+                            sam,
+                            handle,
+                            src).getTarget().invokeExact();
+                else if (hasReturn)
+                    return (Invoker) (ix120) LambdaMetafactory.metafactory(
+                            lookup,
+                            "i",
+                            MethodType.methodType(ix120.class),
+                            sam,
+                            handle,
+                            src).getTarget().invokeExact();
+                else return (Invoker) (ix020) LambdaMetafactory.metafactory(
+                            lookup,
+                            "i",
+                            MethodType.methodType(ix020.class),
+                            sam,
+                            handle,
+                            src).getTarget().invokeExact();
+            }
+            case 21: {
+                if (isStatic && hasReturn)
+                    return (Invoker) (sx121) LambdaMetafactory.metafactory(
+                            lookup,
+                            "i",
+                            MethodType.methodType(sx121.class),
+                            sam,
+                            handle,
+                            src).getTarget().invokeExact();
+                else if (isStatic)
+                    return (Invoker) (sx021) LambdaMetafactory.metafactory(
+                            lookup,
+                            "i",
+                            MethodType.methodType(sx021.class),
+                            sam,
+                            handle,
+                            src).getTarget().invokeExact();
+                else if (hasReturn)
+                    return (Invoker) (ix121) LambdaMetafactory.metafactory(
+                            lookup,
+                            "i",
+                            MethodType.methodType(ix121.class),
+                            sam,
+                            handle,
+                            src).getTarget().invokeExact();
+                else return (Invoker) (ix021) LambdaMetafactory.metafactory(
+                            lookup,
+                            "i",
+                            MethodType.methodType(ix021.class),
+                            sam,
+                            handle,
+                            src).getTarget().invokeExact();
+            }
+            case 22: {
+                if (isStatic && hasReturn)
+                    return (Invoker) (sx122) LambdaMetafactory.metafactory(
+                            lookup,
+                            "i",
+                            MethodType.methodType(sx122.class),
+                            sam,
+                            handle,
+                            src).getTarget().invokeExact();
+                else if (isStatic)
+                    return (Invoker) (sx022) LambdaMetafactory.metafactory(
+                            lookup,
+                            "i",
+                            MethodType.methodType(sx022.class),
+                            sam,
+                            handle,
+                            src).getTarget().invokeExact();
+                else if (hasReturn)
+                    return (Invoker) (ix122) LambdaMetafactory.metafactory(
+                            lookup,
+                            "i",
+                            MethodType.methodType(ix122.class),
+                            sam,
+                            handle,
+                            src).getTarget().invokeExact();
+                else return (Invoker) (ix022) LambdaMetafactory.metafactory(
+                            lookup,
+                            "i",
+                            MethodType.methodType(ix022.class),
+                            sam,
+                            handle,
+                            src).getTarget().invokeExact();
+            }
+            case 23: {
+                if (isStatic && hasReturn)
+                    return (Invoker) (sx123) LambdaMetafactory.metafactory(
+                            lookup,
+                            "i",
+                            MethodType.methodType(sx123.class),
+                            sam,
+                            handle,
+                            src).getTarget().invokeExact();
+                else if (isStatic)
+                    return (Invoker) (sx023) LambdaMetafactory.metafactory(
+                            lookup,
+                            "i",
+                            MethodType.methodType(sx023.class),
+                            sam,
+                            handle,
+                            src).getTarget().invokeExact();
+                else if (hasReturn)
+                    return (Invoker) (ix123) LambdaMetafactory.metafactory(
+                            lookup,
+                            "i",
+                            MethodType.methodType(ix123.class),
+                            sam,
+                            handle,
+                            src).getTarget().invokeExact();
+                else return (Invoker) (ix023) LambdaMetafactory.metafactory(
+                            lookup,
+                            "i",
+                            MethodType.methodType(ix023.class),
+                            sam,
+                            handle,
+                            src).getTarget().invokeExact();
+            }
+            case 24: {
+                if (isStatic && hasReturn)
+                    return (Invoker) (sx124) LambdaMetafactory.metafactory(
+                            lookup,
+                            "i",
+                            MethodType.methodType(sx124.class),
+                            sam,
+                            handle,
+                            src).getTarget().invokeExact();
+                else if (isStatic)
+                    return (Invoker) (sx024) LambdaMetafactory.metafactory(
+                            lookup,
+                            "i",
+                            MethodType.methodType(sx024.class),
+                            sam,
+                            handle,
+                            src).getTarget().invokeExact();
+                else if (hasReturn)
+                    return (Invoker) (ix124) LambdaMetafactory.metafactory(
+                            lookup,
+                            "i",
+                            MethodType.methodType(ix124.class),
+                            sam,
+                            handle,
+                            src).getTarget().invokeExact();
+                else return (Invoker) (ix024) LambdaMetafactory.metafactory(
+                            lookup,
+                            "i",
+                            MethodType.methodType(ix024.class),
+                            sam,
+                            handle,
+                            src).getTarget().invokeExact();
+            }
+            case 25: {
+                if (isStatic && hasReturn)
+                    return (Invoker) (sx125) LambdaMetafactory.metafactory(
+                            lookup,
+                            "i",
+                            MethodType.methodType(sx125.class),
+                            sam,
+                            handle,
+                            src).getTarget().invokeExact();
+                else if (isStatic)
+                    return (Invoker) (sx025) LambdaMetafactory.metafactory(
+                            lookup,
+                            "i",
+                            MethodType.methodType(sx025.class),
+                            sam,
+                            handle,
+                            src).getTarget().invokeExact();
+                else if (hasReturn)
+                    return (Invoker) (ix125) LambdaMetafactory.metafactory(
+                            lookup,
+                            "i",
+                            MethodType.methodType(ix125.class),
+                            sam,
+                            handle,
+                            src).getTarget().invokeExact();
+                else return (Invoker) (ix025) LambdaMetafactory.metafactory(
+                            lookup,
+                            "i",
+                            MethodType.methodType(ix025.class),
+                            sam,
+                            handle,
+                            src).getTarget().invokeExact();
+            }
+            case 26: {
+                if (isStatic && hasReturn)
+                    return (Invoker) (sx126) LambdaMetafactory.metafactory(
+                            lookup,
+                            "i",
+                            MethodType.methodType(sx126.class),
+                            sam,
+                            handle,
+                            src).getTarget().invokeExact();
+                else if (isStatic)
+                    return (Invoker) (sx026) LambdaMetafactory.metafactory(
+                            lookup,
+                            "i",
+                            MethodType.methodType(sx026.class),
+                            sam,
+                            handle,
+                            src).getTarget().invokeExact();
+                else if (hasReturn)
+                    return (Invoker) (ix126) LambdaMetafactory.metafactory(
+                            lookup,
+                            "i",
+                            MethodType.methodType(ix126.class),
+                            sam,
+                            handle,
+                            src).getTarget().invokeExact();
+                else return (Invoker) (ix026) LambdaMetafactory.metafactory(
+                            lookup,
+                            "i",
+                            MethodType.methodType(ix026.class),
+                            sam,
+                            handle,
+                            src).getTarget().invokeExact();
+            }
+            case 27: {
+                if (isStatic && hasReturn)
+                    return (Invoker) (sx127) LambdaMetafactory.metafactory(
+                            lookup,
+                            "i",
+                            MethodType.methodType(sx127.class),
+                            sam,
+                            handle,
+                            src).getTarget().invokeExact();
+                else if (isStatic)
+                    return (Invoker) (sx027) LambdaMetafactory.metafactory(
+                            lookup,
+                            "i",
+                            MethodType.methodType(sx027.class),
+                            sam,
+                            handle,
+                            src).getTarget().invokeExact();
+                else if (hasReturn)
+                    return (Invoker) (ix127) LambdaMetafactory.metafactory(
+                            lookup,
+                            "i",
+                            MethodType.methodType(ix127.class),
+                            sam,
+                            handle,
+                            src).getTarget().invokeExact();
+                else return (Invoker) (ix027) LambdaMetafactory.metafactory(
+                            lookup,
+                            "i",
+                            MethodType.methodType(ix027.class),
+                            sam,
+                            handle,
+                            src).getTarget().invokeExact();
+            }
+            case 28: {
+                if (isStatic && hasReturn)
+                    return (Invoker) (sx128) LambdaMetafactory.metafactory(
+                            lookup,
+                            "i",
+                            MethodType.methodType(sx128.class),
+                            sam,
+                            handle,
+                            src).getTarget().invokeExact();
+                else if (isStatic)
+                    return (Invoker) (sx028) LambdaMetafactory.metafactory(
+                            lookup,
+                            "i",
+                            MethodType.methodType(sx028.class),
+                            sam,
+                            handle,
+                            src).getTarget().invokeExact();
+                else if (hasReturn)
+                    return (Invoker) (ix128) LambdaMetafactory.metafactory(
+                            lookup,
+                            "i",
+                            MethodType.methodType(ix128.class),
+                            sam,
+                            handle,
+                            src).getTarget().invokeExact();
+                else return (Invoker) (ix028) LambdaMetafactory.metafactory(
+                            lookup,
+                            "i",
+                            MethodType.methodType(ix028.class),
+                            sam,
+                            handle,
+                            src).getTarget().invokeExact();
+            }
+            case 29: {
+                if (isStatic && hasReturn)
+                    return (Invoker) (sx129) LambdaMetafactory.metafactory(
+                            lookup,
+                            "i",
+                            MethodType.methodType(sx129.class),
+                            sam,
+                            handle,
+                            src).getTarget().invokeExact();
+                else if (isStatic)
+                    return (Invoker) (sx029) LambdaMetafactory.metafactory(
+                            lookup,
+                            "i",
+                            MethodType.methodType(sx029.class),
+                            sam,
+                            handle,
+                            src).getTarget().invokeExact();
+                else if (hasReturn)
+                    return (Invoker) (ix129) LambdaMetafactory.metafactory(
+                            lookup,
+                            "i",
+                            MethodType.methodType(ix129.class),
+                            sam,
+                            handle,
+                            src).getTarget().invokeExact();
+                else return (Invoker) (ix029) LambdaMetafactory.metafactory(
+                            lookup,
+                            "i",
+                            MethodType.methodType(ix029.class),
+                            sam,
+                            handle,
+                            src).getTarget().invokeExact();
+            }
+            default:
+                throw new IllegalStateException("not support arguments more that 30");
+        }
+    }
+
+    static Object call0(MethodHandle h) throws Throwable {
+        return h.invokeExact();
+    }
+
+    static Object call1(MethodHandle h, Object a0) throws Throwable {
+        return h.invokeExact(a0);
+    }
+
+    static Object call2(MethodHandle h, Object a0, Object a1) throws Throwable {
+        return h.invokeExact(a0, a1);
+    }
+
+    static Object call3(MethodHandle h, Object a0, Object a1, Object a2) throws Throwable {
+        return h.invokeExact(a0, a1, a2);
+    }
+
+    static Object call4(MethodHandle h, Object a0, Object a1, Object a2, Object a3) throws Throwable {
+        return h.invokeExact(a0, a1, a2, a3);
+    }
+
+    static Object call5(MethodHandle h, Object a0, Object a1, Object a2, Object a3, Object a4) throws Throwable {
+        return h.invokeExact(a0, a1, a2, a3, a4);
+    }
+
+    static Object call6(MethodHandle h, Object a0, Object a1, Object a2, Object a3, Object a4, Object a5) throws Throwable {
+        return h.invokeExact(a0, a1, a2, a3, a4, a5);
+    }
+
+    static Object call7(MethodHandle h, Object a0, Object a1, Object a2, Object a3, Object a4, Object a5, Object a6) throws Throwable {
+        return h.invokeExact(a0, a1, a2, a3, a4, a5, a6);
+    }
+
+    static Object call8(MethodHandle h, Object a0, Object a1, Object a2, Object a3, Object a4, Object a5, Object a6, Object a7) throws Throwable {
+        return h.invokeExact(a0, a1, a2, a3, a4, a5, a6, a7);
+    }
+
+    static Object call9(MethodHandle h, Object a0, Object a1, Object a2, Object a3, Object a4, Object a5, Object a6, Object a7, Object a8) throws Throwable {
+        return h.invokeExact(a0, a1, a2, a3, a4, a5, a6, a7, a8);
+    }
+
+    static Object call10(MethodHandle h, Object a0, Object a1, Object a2, Object a3, Object a4, Object a5, Object a6, Object a7, Object a8, Object a9) throws Throwable {
+        return h.invokeExact(a0, a1, a2, a3, a4, a5, a6, a7, a8, a9);
+    }
+
+    static Object call11(MethodHandle h, Object a0, Object a1, Object a2, Object a3, Object a4, Object a5, Object a6, Object a7, Object a8, Object a9, Object a10) throws Throwable {
+        return h.invokeExact(a0, a1, a2, a3, a4, a5, a6, a7, a8, a9, a10);
+    }
+
+    static Object call12(MethodHandle h, Object a0, Object a1, Object a2, Object a3, Object a4, Object a5, Object a6, Object a7, Object a8, Object a9, Object a10, Object a11) throws Throwable {
+        return h.invokeExact(a0, a1, a2, a3, a4, a5, a6, a7, a8, a9, a10, a11);
+    }
+
+    static Object call13(MethodHandle h, Object a0, Object a1, Object a2, Object a3, Object a4, Object a5, Object a6, Object a7, Object a8, Object a9, Object a10, Object a11, Object a12) throws Throwable {
+        return h.invokeExact(a0, a1, a2, a3, a4, a5, a6, a7, a8, a9, a10, a11, a12);
+    }
+
+    static Object call14(MethodHandle h, Object a0, Object a1, Object a2, Object a3, Object a4, Object a5, Object a6, Object a7, Object a8, Object a9, Object a10, Object a11, Object a12, Object a13) throws Throwable {
+        return h.invokeExact(a0, a1, a2, a3, a4, a5, a6, a7, a8, a9, a10, a11, a12, a13);
+    }
+
+    static Object call15(MethodHandle h, Object a0, Object a1, Object a2, Object a3, Object a4, Object a5, Object a6, Object a7, Object a8, Object a9, Object a10, Object a11, Object a12, Object a13, Object a14) throws Throwable {
+        return h.invokeExact(a0, a1, a2, a3, a4, a5, a6, a7, a8, a9, a10, a11, a12, a13, a14);
+    }
+
+    static Object call16(MethodHandle h, Object a0, Object a1, Object a2, Object a3, Object a4, Object a5, Object a6, Object a7, Object a8, Object a9, Object a10, Object a11, Object a12, Object a13, Object a14, Object a15) throws Throwable {
+        return h.invokeExact(a0, a1, a2, a3, a4, a5, a6, a7, a8, a9, a10, a11, a12, a13, a14, a15);
+    }
+
+    static Object call17(MethodHandle h, Object a0, Object a1, Object a2, Object a3, Object a4, Object a5, Object a6, Object a7, Object a8, Object a9, Object a10, Object a11, Object a12, Object a13, Object a14, Object a15, Object a16) throws Throwable {
+        return h.invokeExact(a0, a1, a2, a3, a4, a5, a6, a7, a8, a9, a10, a11, a12, a13, a14, a15, a16);
+    }
+
+    static Object call18(MethodHandle h, Object a0, Object a1, Object a2, Object a3, Object a4, Object a5, Object a6, Object a7, Object a8, Object a9, Object a10, Object a11, Object a12, Object a13, Object a14, Object a15, Object a16, Object a17) throws Throwable {
+        return h.invokeExact(a0, a1, a2, a3, a4, a5, a6, a7, a8, a9, a10, a11, a12, a13, a14, a15, a16, a17);
+    }
+
+    static Object call19(MethodHandle h, Object a0, Object a1, Object a2, Object a3, Object a4, Object a5, Object a6, Object a7, Object a8, Object a9, Object a10, Object a11, Object a12, Object a13, Object a14, Object a15, Object a16, Object a17, Object a18) throws Throwable {
+        return h.invokeExact(a0, a1, a2, a3, a4, a5, a6, a7, a8, a9, a10, a11, a12, a13, a14, a15, a16, a17, a18);
+    }
+
+    static Object call20(MethodHandle h, Object a0, Object a1, Object a2, Object a3, Object a4, Object a5, Object a6, Object a7, Object a8, Object a9, Object a10, Object a11, Object a12, Object a13, Object a14, Object a15, Object a16, Object a17, Object a18, Object a19) throws Throwable {
+        return h.invokeExact(a0, a1, a2, a3, a4, a5, a6, a7, a8, a9, a10, a11, a12, a13, a14, a15, a16, a17, a18, a19);
+    }
+
+    static Object call21(MethodHandle h, Object a0, Object a1, Object a2, Object a3, Object a4, Object a5, Object a6, Object a7, Object a8, Object a9, Object a10, Object a11, Object a12, Object a13, Object a14, Object a15, Object a16, Object a17, Object a18, Object a19, Object a20) throws Throwable {
+        return h.invokeExact(a0, a1, a2, a3, a4, a5, a6, a7, a8, a9, a10, a11, a12, a13, a14, a15, a16, a17, a18, a19, a20);
+    }
+
+    static Object call22(MethodHandle h, Object a0, Object a1, Object a2, Object a3, Object a4, Object a5, Object a6, Object a7, Object a8, Object a9, Object a10, Object a11, Object a12, Object a13, Object a14, Object a15, Object a16, Object a17, Object a18, Object a19, Object a20, Object a21) throws Throwable {
+        return h.invokeExact(a0, a1, a2, a3, a4, a5, a6, a7, a8, a9, a10, a11, a12, a13, a14, a15, a16, a17, a18, a19, a20, a21);
+    }
+
+    static Object call23(MethodHandle h, Object a0, Object a1, Object a2, Object a3, Object a4, Object a5, Object a6, Object a7, Object a8, Object a9, Object a10, Object a11, Object a12, Object a13, Object a14, Object a15, Object a16, Object a17, Object a18, Object a19, Object a20, Object a21, Object a22) throws Throwable {
+        return h.invokeExact(a0, a1, a2, a3, a4, a5, a6, a7, a8, a9, a10, a11, a12, a13, a14, a15, a16, a17, a18, a19, a20, a21, a22);
+    }
+
+    static Object call24(MethodHandle h, Object a0, Object a1, Object a2, Object a3, Object a4, Object a5, Object a6, Object a7, Object a8, Object a9, Object a10, Object a11, Object a12, Object a13, Object a14, Object a15, Object a16, Object a17, Object a18, Object a19, Object a20, Object a21, Object a22, Object a23) throws Throwable {
+        return h.invokeExact(a0, a1, a2, a3, a4, a5, a6, a7, a8, a9, a10, a11, a12, a13, a14, a15, a16, a17, a18, a19, a20, a21, a22, a23);
+    }
+
+    static Object call25(MethodHandle h, Object a0, Object a1, Object a2, Object a3, Object a4, Object a5, Object a6, Object a7, Object a8, Object a9, Object a10, Object a11, Object a12, Object a13, Object a14, Object a15, Object a16, Object a17, Object a18, Object a19, Object a20, Object a21, Object a22, Object a23, Object a24) throws Throwable {
+        return h.invokeExact(a0, a1, a2, a3, a4, a5, a6, a7, a8, a9, a10, a11, a12, a13, a14, a15, a16, a17, a18, a19, a20, a21, a22, a23, a24);
+    }
+
+    static Object call26(MethodHandle h, Object a0, Object a1, Object a2, Object a3, Object a4, Object a5, Object a6, Object a7, Object a8, Object a9, Object a10, Object a11, Object a12, Object a13, Object a14, Object a15, Object a16, Object a17, Object a18, Object a19, Object a20, Object a21, Object a22, Object a23, Object a24, Object a25) throws Throwable {
+        return h.invokeExact(a0, a1, a2, a3, a4, a5, a6, a7, a8, a9, a10, a11, a12, a13, a14, a15, a16, a17, a18, a19, a20, a21, a22, a23, a24, a25);
+    }
+
+    static Object call27(MethodHandle h, Object a0, Object a1, Object a2, Object a3, Object a4, Object a5, Object a6, Object a7, Object a8, Object a9, Object a10, Object a11, Object a12, Object a13, Object a14, Object a15, Object a16, Object a17, Object a18, Object a19, Object a20, Object a21, Object a22, Object a23, Object a24, Object a25, Object a26) throws Throwable {
+        return h.invokeExact(a0, a1, a2, a3, a4, a5, a6, a7, a8, a9, a10, a11, a12, a13, a14, a15, a16, a17, a18, a19, a20, a21, a22, a23, a24, a25, a26);
+    }
+
+    static Object call28(MethodHandle h, Object a0, Object a1, Object a2, Object a3, Object a4, Object a5, Object a6, Object a7, Object a8, Object a9, Object a10, Object a11, Object a12, Object a13, Object a14, Object a15, Object a16, Object a17, Object a18, Object a19, Object a20, Object a21, Object a22, Object a23, Object a24, Object a25, Object a26, Object a27) throws Throwable {
+        return h.invokeExact(a0, a1, a2, a3, a4, a5, a6, a7, a8, a9, a10, a11, a12, a13, a14, a15, a16, a17, a18, a19, a20, a21, a22, a23, a24, a25, a26, a27);
+    }
+
+    static Object call29(MethodHandle h, Object a0, Object a1, Object a2, Object a3, Object a4, Object a5, Object a6, Object a7, Object a8, Object a9, Object a10, Object a11, Object a12, Object a13, Object a14, Object a15, Object a16, Object a17, Object a18, Object a19, Object a20, Object a21, Object a22, Object a23, Object a24, Object a25, Object a26, Object a27, Object a28) throws Throwable {
+        return h.invokeExact(a0, a1, a2, a3, a4, a5, a6, a7, a8, a9, a10, a11, a12, a13, a14, a15, a16, a17, a18, a19, a20, a21, a22, a23, a24, a25, a26, a27, a28);
+    }
+
+    static Object call30(MethodHandle h, Object a0, Object a1, Object a2, Object a3, Object a4, Object a5, Object a6, Object a7, Object a8, Object a9, Object a10, Object a11, Object a12, Object a13, Object a14, Object a15, Object a16, Object a17, Object a18, Object a19, Object a20, Object a21, Object a22, Object a23, Object a24, Object a25, Object a26, Object a27, Object a28, Object a29) throws Throwable {
+        return h.invokeExact(a0, a1, a2, a3, a4, a5, a6, a7, a8, a9, a10, a11, a12, a13, a14, a15, a16, a17, a18, a19, a20, a21, a22, a23, a24, a25, a26, a27, a28, a29);
+    }
+
+    static Object call31(MethodHandle h, Object a0, Object a1, Object a2, Object a3, Object a4, Object a5, Object a6, Object a7, Object a8, Object a9, Object a10, Object a11, Object a12, Object a13, Object a14, Object a15, Object a16, Object a17, Object a18, Object a19, Object a20, Object a21, Object a22, Object a23, Object a24, Object a25, Object a26, Object a27, Object a28, Object a29, Object a30) throws Throwable {
+        return h.invokeExact(a0, a1, a2, a3, a4, a5, a6, a7, a8, a9, a10, a11, a12, a13, a14, a15, a16, a17, a18, a19, a20, a21, a22, a23, a24, a25, a26, a27, a28, a29, a30);
+    }
+    //endregion
+}
@@ -0,0 +1,876 @@
+/*
+ * Source of invoker
+ * Copyright (C) 2023.  Zen.Liu
+ *
+ * SPDX-License-Identifier: GPL-2.0-only WITH Classpath-exception-2.0"
+ *
+ * This program is free software; you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation; version 2.
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program; if not, write to the Free Software Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA 02110-1301, USA.
+ *
+ * Class Path Exception
+ * Linking this library statically or dynamically with other modules is making a combined work based on this library. Thus, the terms and conditions of the GNU General Public License cover the whole combination.
+ *  As a special exception, the copyright holders of this library give you permission to link this library with independent modules to produce an executable, regardless of the license terms of these independent modules, and to copy and distribute the resulting executable under terms of your choice, provided that you also meet, for each linked independent module, the terms and conditions of the license of that module. An independent module is a module which is not derived from or based on this library. If you modify this library, you may extend this exception to your version of the library, but you are not obligated to do so. If you do not wish to do so, delete this exception statement from your version.
+ */
+
+
+package cn.zenliu.java.invoker;
+
+import lombok.SneakyThrows;
+import lombok.var;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.reflect.Array;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Streaming JSON codec of POJOs, the plan of a class is compiled once from its {@link ClassShape}.<br/>
+ * Writing: field names are pre-encoded as UTF-8 {@code "name":} bytes, primitive fields are read by the typed getters
+ * and integers are formatted straight into a reusable {@link Output}; floating numbers use {@link Double#toString(double)},
+ * non-finite ones are written as {@code null}.<br/>
+ * Reading: an incremental pull parser over bytes (an array or a stream read in chunks) without building a tree, keys are
+ * dispatched by a precomputed hash table of the UTF-8 names without creating strings, numbers are parsed into the typed
+ * setters, unknown keys are skipped.<br/>
+ * Supported field types: primitives and boxed ones, {@link String}, {@code char} as one char string, enums by name,
+ * arrays, {@link List}/{@link Set}/{@link Collection} and {@code Map<String, V>} with resolvable type arguments, and
+ * nested POJOs with a no-arg constructor. Codecs are thread safe, {@link Output} is not.
+ *
+ * @author Zen.Liu
+ * @since 2026-10-19
+ */
+@ApiStatus.AvailableSince("0.0.3")
+public final class JsonCodec<T> {
+    static final ClassValue<JsonCodec<?>> CODECS = new ClassValue<JsonCodec<?>>() {
+        @Override
+        protected JsonCodec<?> computeValue(Class<?> type) {
+            return new JsonCodec<>(type);
+        }
+    };
+    static final byte[] NULL = ascii("null");
+    static final byte[] TRUE = ascii("true");
+    static final byte[] FALSE = ascii("false");
+    static final double[] POW10 = {1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11, 1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22};
+
+    interface Writer {
+        void write(Output out, Object instance);
+    }
+
+    interface Reader {
+        void read(Input in, Object instance);
+    }
+
+    /**
+     * Codec of a reference value, never called with null.
+     */
+    interface Value {
+        void write(Output out, Object value);
+
+        Object read(Input in);
+    }
+
+    public final Class<T> type;
+    final ClassShape shape;
+    final Supplier<T> factory;
+    /**
+     * {@code "name":} of each slot.
+     */
+    final byte[][] names;
+    final Writer[] writers;
+    final Reader[] readers;
+    final int[] table;
+    final int mask;
+
+    @SuppressWarnings("unchecked")
+    public static <T> JsonCodec<T> of(Class<T> type) {
+        return (JsonCodec<T>) CODECS.get(type);
+    }
+
+    JsonCodec(Class<T> type) {
+        this.type = type;
+        this.shape = ClassShape.of(type);
+        this.factory = BinaryCodec.factory(type);
+        var n = shape.size();
+        names = new byte[n][];
+        writers = new Writer[n];
+        readers = new Reader[n];
+        for (int s = 0; s < n; s++) {
+            if (!shape.canSet(s))
+                throw new IllegalArgumentException("field " + shape.name(s) + " of " + type.getName() + " is not settable");
+            var name = shape.name(s).getBytes(StandardCharsets.UTF_8);
+            var b = new byte[name.length + 3];
+            b[0] = '"';
+            System.arraycopy(name, 0, b, 1, name.length);
+            b[name.length + 1] = '"';
+            b[name.length + 2] = ':';
+            names[s] = b;
+            bind(s);
+        }
+        var size = Integer.highestOneBit(Math.max(1, n * 2 - 1)) << 1;
+        table = new int[size];
+        mask = size - 1;
+        for (int s = 0; s < n; s++) {
+            var i = hash(names[s], 1, names[s].length - 2) & mask;
+            while (table[i] != 0) i = (i + 1) & mask;
+            table[i] = s + 1;
+        }
+    }
+
+    static byte[] ascii(String s) {
+        return s.getBytes(StandardCharsets.US_ASCII);
+    }
+
+    static int hash(byte[] b, int from, int to) {
+        var h = 0x811C9DC5;
+        for (int i = from; i < to; i++) h = (h ^ (b[i] & 0xFF)) * 0x01000193;
+        return h ^ (h >>> 16);
+    }
+
+    /**
+     * @return slot of key bytes, -1 if not exists.
+     */
+    int slot(byte[] key, int len) {
+        var i = hash(key, 0, len) & mask;
+        while (true) {
+            var s = table[i] - 1;
+            if (s < 0) return -1;
+            var name = names[s];
+            if (name.length - 3 == len) {
+                var same = true;
+                for (int j = 0; j < len && same; j++) same = name[j + 1] == key[j];
+                if (same) return s;
+            }
+            i = (i + 1) & mask;
+        }
+    }
+
+    private void bind(int s) {
+        var g = shape.getters[s];
+        var st = shape.setters[s];
+        switch (shape.kinds[s]) {
+            case 0:
+                writers[s] = (out, o) -> out.write(((Accessor.BooleanGetter) g).getValue(o) ? TRUE : FALSE);
+                readers[s] = (in, o) -> ((Accessor.BooleanSetter) st).setValue(o, in.readBoolean());
+                break;
+            case 1:
+                writers[s] = (out, o) -> out.writeLong(((Accessor.ByteGetter) g).getValue(o));
+                readers[s] = (in, o) -> ((Accessor.ByteSetter) st).setValue(o, (byte) in.readLong(Byte.MIN_VALUE, Byte.MAX_VALUE));
+                break;
+            case 2:
+                writers[s] = (out, o) -> out.writeLong(((Accessor.ShortGetter) g).getValue(o));
+                readers[s] = (in, o) -> ((Accessor.ShortSetter) st).setValue(o, (short) in.readLong(Short.MIN_VALUE, Short.MAX_VALUE));
+                break;
+            case 3:
+                writers[s] = (out, o) -> out.writeString(String.valueOf(((Accessor.CharGetter) g).getValue(o)));
+                readers[s] = (in, o) -> ((Accessor.CharSetter) st).setValue(o, in.readChar());
+                break;
+            case 4:
+                writers[s] = (out, o) -> out.writeLong(((Accessor.IntGetter) g).getValue(o));
+                readers[s] = (in, o) -> ((Accessor.IntSetter) st).setValue(o, (int) in.readLong(Integer.MIN_VALUE, Integer.MAX_VALUE));
+                break;
+            case 5:
+                writers[s] = (out, o) -> out.writeLong(((Accessor.LongGetter) g).getValue(o));
+                readers[s] = (in, o) -> ((Accessor.LongSetter) st).setValue(o, in.readLong());
+                break;
+            case 6:
+                writers[s] = (out, o) -> out.writeDouble(((Accessor.FloatGetter) g).getValue(o), true);
+                readers[s] = (in, o) -> ((Accessor.FloatSetter) st).setValue(o, (float) in.readDouble());
+                break;
+            case 7:
+                writers[s] = (out, o) -> out.writeDouble(((Accessor.DoubleGetter) g).getValue(o), false);
+                readers[s] = (in, o) -> ((Accessor.DoubleSetter) st).setValue(o, in.readDouble());
+                break;
+            default:
+                var v = value(shape.field(s).getGenericType());
+                writers[s] = (out, o) -> {
+                    var x = g.get(o);
+                    if (x == null) out.write(NULL);
+                    else v.write(out, x);
+                };
+                readers[s] = (in, o) -> st.set(o, in.readNull() ? null : v.read(in));
+        }
+    }
+
+    //region Values
+    static final Value STRING = value((out, v) -> out.writeString((String) v), Input::readString);
+    static final Value BOOLEAN = value((out, v) -> out.write((Boolean) v ? TRUE : FALSE), Input::readBoolean);
+    static final Value BYTE = value((out, v) -> out.writeLong((Byte) v), in -> (byte) in.readLong(Byte.MIN_VALUE, Byte.MAX_VALUE));
+    static final Value SHORT = value((out, v) -> out.writeLong((Short) v), in -> (short) in.readLong(Short.MIN_VALUE, Short.MAX_VALUE));
+    static final Value CHAR = value((out, v) -> out.writeString(v.toString()), Input::readChar);
+    static final Value INT = value((out, v) -> out.writeLong((Integer) v), in -> (int) in.readLong(Integer.MIN_VALUE, Integer.MAX_VALUE));
+    static final Value LONG = value((out, v) -> out.writeLong((Long) v), Input::readLong);
+    static final Value FLOAT = value((out, v) -> out.writeDouble((Float) v, true), in -> (float) in.readDouble());
+    static final Value DOUBLE = value((out, v) -> out.writeDouble((Double) v, false), Input::readDouble);
+
+    static Value value(BiConsumer<Output, Object> writer, Function<Input, Object> reader) {
+        return new Value() {
+            @Override
+            public void write(Output out, Object value) {
+                writer.accept(out, value);
+            }
+
+            @Override
+            public Object read(Input in) {
+                return reader.apply(in);
+            }
+        };
+    }
+
+    static Value value(Type type) {
+        if (type instanceof ParameterizedType) {
+            var p = (ParameterizedType) type;
+            var raw = (Class<?>) p.getRawType();
+            var args = p.getActualTypeArguments();
+            if (raw == List.class || raw == Collection.class || raw == ArrayList.class)
+                return collection(value(args[0]), ArrayList::new);
+            if (raw == Set.class || raw == LinkedHashSet.class)
+                return collection(value(args[0]), LinkedHashSet::new);
+            if ((raw == Map.class || raw == LinkedHashMap.class) && args[0] == String.class)
+                return map(value(args[1]));
+            throw new IllegalArgumentException("unsupported type " + type);
+        }
+        if (!(type instanceof Class)) throw new IllegalArgumentException("unsupported type " + type);
+        var c = (Class<?>) type;
+        if (c == String.class) return STRING;
+        if (c == boolean.class || c == Boolean.class) return BOOLEAN;
+        if (c == byte.class || c == Byte.class) return BYTE;
+        if (c == short.class || c == Short.class) return SHORT;
+        if (c == char.class || c == Character.class) return CHAR;
+        if (c == int.class || c == Integer.class) return INT;
+        if (c == long.class || c == Long.class) return LONG;
+        if (c == float.class || c == Float.class) return FLOAT;
+        if (c == double.class || c == Double.class) return DOUBLE;
+        if (c.isEnum()) return enumValue(c);
+        if (c.isArray()) return array(c.getComponentType(), value(c.getComponentType()));
+        if (c.isInterface() || Modifier.isAbstract(c.getModifiers()) || c.getName().startsWith("java."))
+            throw new IllegalArgumentException("unsupported type " + c.getName());
+        return pojo(c);
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    static Value enumValue(Class<?> type) {
+        var values = new HashMap<String, Object>();
+        for (var e : type.getEnumConstants()) values.put(((Enum) e).name(), e);
+        return value((out, v) -> out.writeString(((Enum) v).name()), in -> {
+            var name = in.readString();
+            var e = values.get(name);
+            if (e == null) throw in.error("no constant " + name + " of " + type.getName());
+            return e;
+        });
+    }
+
+    static Value array(Class<?> component, Value element) {
+        return value((out, v) -> {
+            out.write('[');
+            var n = Array.getLength(v);
+            for (int i = 0; i < n; i++) {
+                if (i > 0) out.write(',');
+                var x = Array.get(v, i);
+                if (x == null) out.write(NULL);
+                else element.write(out, x);
+            }
+            out.write(']');
+        }, in -> {
+            var l = new ArrayList<Object>();
+            in.expect('[');
+            if (!in.end(']')) {
+                do l.add(in.readNull() ? null : element.read(in)); while (in.more(']'));
+            }
+            var a = Array.newInstance(component, l.size());
+            for (int i = 0; i < l.size(); i++) Array.set(a, i, l.get(i));
+            return a;
+        });
+    }
+
+    static Value collection(Value element, Supplier<Collection<Object>> factory) {
+        return value((out, v) -> {
+            out.write('[');
+            var first = true;
+            for (var x : (Collection<?>) v) {
+                if (!first) out.write(',');
+                first = false;
+                if (x == null) out.write(NULL);
+                else element.write(out, x);
+            }
+            out.write(']');
+        }, in -> {
+            var c = factory.get();
+            in.expect('[');
+            if (!in.end(']')) {
+                do c.add(in.readNull() ? null : element.read(in)); while (in.more(']'));
+            }
+            return c;
+        });
+    }
+
+    static Value map(Value element) {
+        return value((out, v) -> {
+            out.write('{');
+            var first = true;
+            for (var e : ((Map<?, ?>) v).entrySet()) {
+                if (!first) out.write(',');
+                first = false;
+                out.writeString((String) e.getKey());
+                out.write(':');
+                if (e.getValue() == null) out.write(NULL);
+                else element.write(out, e.getValue());
+            }
+            out.write('}');
+        }, in -> {
+            var m = new LinkedHashMap<String, Object>();
+            in.expect('{');
+            if (!in.end('}')) {
+                do {
+                    var key = in.readString();
+                    in.expect(':');
+                    m.put(key, in.readNull() ? null : element.read(in));
+                } while (in.more('}'));
+            }
+            return m;
+        });
+    }
+
+    /**
+     * nested codec is resolved at first use, which allows recursive types.
+     */
+    static Value pojo(Class<?> type) {
+        return new Value() {
+            JsonCodec<?> codec;
+
+            JsonCodec<?> codec() {
+                var c = codec;
+                return c == null ? codec = of(type) : c;
+            }
+
+            @SuppressWarnings({"unchecked", "rawtypes"})
+            @Override
+            public void write(Output out, Object value) {
+                ((JsonCodec) codec()).write(out, value);
+            }
+
+            @Override
+            public Object read(Input in) {
+                return codec().read(in);
+            }
+        };
+    }
+    //endregion
+
+    /**
+     * write value as a JSON object.
+     */
+    public void write(Output out, T value) {
+        out.write('{');
+        for (int s = 0; s < writers.length; s++) {
+            if (s > 0) out.write(',');
+            out.write(names[s]);
+            writers[s].write(out, value);
+        }
+        out.write('}');
+    }
+
+    /**
+     * @return UTF-8 JSON bytes of value.
+     */
+    public byte[] toJson(T value) {
+        var out = new Output(64);
+        write(out, value);
+        return out.toByteArray();
+    }
+
+    /**
+     * read next JSON object from input.
+     */
+    public T read(Input in) {
+        var t = factory.get();
+        in.expect('{');
+        if (!in.end('}')) {
+            do {
+                var len = in.readKey();
+                var s = slot(in.scratch, len);
+                in.expect(':');
+                if (s < 0) in.skip();
+                else readers[s].read(in, t);
+            } while (in.more('}'));
+        }
+        return t;
+    }
+
+    public T read(byte[] json) {
+        return read(new Input(json, 0, json.length));
+    }
+
+    public T read(InputStream json) {
+        return read(new Input(json, 8192));
+    }
+
+    @Override
+    public String toString() {
+        return "JsonCodec(" + type.getName() + ")";
+    }
+
+    /**
+     * Reusable growable UTF-8 output, {@link #reset()} to reuse.
+     */
+    public static final class Output {
+        byte[] buf;
+        int size;
+
+        public Output() {
+            this(1024);
+        }
+
+        public Output(int capacity) {
+            buf = new byte[Math.max(16, capacity)];
+        }
+
+        void ensure(int more) {
+            if (size + more > buf.length) buf = Arrays.copyOf(buf, Math.max(buf.length * 2, size + more));
+        }
+
+        void write(int b) {
+            ensure(1);
+            buf[size++] = (byte) b;
+        }
+
+        void write(byte[] b) {
+            ensure(b.length);
+            System.arraycopy(b, 0, buf, size, b.length);
+            size += b.length;
+        }
+
+        void writeLong(long v) {
+            if (v == Long.MIN_VALUE) {
+                write(ascii("-9223372036854775808"));
+                return;
+            }
+            ensure(20);
+            if (v < 0) {
+                buf[size++] = '-';
+                v = -v;
+            }
+            var end = size + digits(v);
+            var i = end;
+            do {
+                buf[--i] = (byte) ('0' + v % 10);
+                v /= 10;
+            } while (v != 0);
+            size = end;
+        }
+
+        static int digits(long v) {
+            var n = 1;
+            while (v >= 10) {
+                v /= 10;
+                n++;
+            }
+            return n;
+        }
+
+        void writeDouble(double v, boolean single) {
+            if (Double.isNaN(v) || Double.isInfinite(v)) {
+                write(NULL);
+                return;
+            }
+            var s = single ? Float.toString((float) v) : Double.toString(v);
+            ensure(s.length());
+            for (int i = 0; i < s.length(); i++) buf[size++] = (byte) s.charAt(i);
+        }
+
+        void writeString(String s) {
+            ensure(s.length() + 2);
+            buf[size++] = '"';
+            for (int i = 0; i < s.length(); i++) {
+                var c = s.charAt(i);
+                if (c < 0x80) {
+                    if (c == '"' || c == '\\') {
+                        ensure(2);
+                        buf[size++] = '\\';
+                        buf[size++] = (byte) c;
+                    } else if (c < 0x20) {
+                        ensure(6);
+                        buf[size++] = '\\';
+                        buf[size++] = 'u';
+                        buf[size++] = '0';
+                        buf[size++] = '0';
+                        buf[size++] = (byte) Character.forDigit(c >> 4, 16);
+                        buf[size++] = (byte) Character.forDigit(c & 0xF, 16);
+                    } else {
+                        ensure(1);
+                        buf[size++] = (byte) c;
+                    }
+                } else if (c < 0x800) {
+                    ensure(2);
+                    buf[size++] = (byte) (0xC0 | c >> 6);
+                    buf[size++] = (byte) (0x80 | c & 0x3F);
+                } else if (Character.isHighSurrogate(c) && i + 1 < s.length() && Character.isLowSurrogate(s.charAt(i + 1))) {
+                    var cp = Character.toCodePoint(c, s.charAt(++i));
+                    ensure(4);
+                    buf[size++] = (byte) (0xF0 | cp >> 18);
+                    buf[size++] = (byte) (0x80 | cp >> 12 & 0x3F);
+                    buf[size++] = (byte) (0x80 | cp >> 6 & 0x3F);
+                    buf[size++] = (byte) (0x80 | cp & 0x3F);
+                } else {
+                    ensure(3);
+                    buf[size++] = (byte) (0xE0 | c >> 12);
+                    buf[size++] = (byte) (0x80 | c >> 6 & 0x3F);
+                    buf[size++] = (byte) (0x80 | c & 0x3F);
+                }
+            }
+            ensure(1);
+            buf[size++] = '"';
+        }
+
+        public int size() {
+            return size;
+        }
+
+        public Output reset() {
+            size = 0;
+            return this;
+        }
+
+        public byte[] toByteArray() {
+            return Arrays.copyOf(buf, size);
+        }
+
+        @SneakyThrows
+        public void writeTo(OutputStream out) {
+            out.write(buf, 0, size);
+        }
+
+        @Override
+        public String toString() {
+            return new String(buf, 0, size, StandardCharsets.UTF_8);
+        }
+    }
+
+    /**
+     * Incremental UTF-8 JSON input over an array or a stream read in chunks.
+     */
+    public static final class Input {
+        final @Nullable InputStream stream;
+        byte[] buf;
+        int pos;
+        int limit;
+        long consumed;
+        byte[] scratch = new byte[64];
+        char[] chars = new char[64];
+
+        public Input(byte[] json, int offset, int length) {
+            this.stream = null;
+            this.buf = json;
+            this.pos = offset;
+            this.limit = offset + length;
+        }
+
+        public Input(InputStream stream, int chunk) {
+            this.stream = stream;
+            this.buf = new byte[Math.max(16, chunk)];
+        }
+
+        @SneakyThrows
+        boolean fill() {
+            if (stream == null) return false;
+            consumed += limit;
+            pos = 0;
+            limit = Math.max(0, stream.read(buf, 0, buf.length));
+            return limit > 0;
+        }
+
+        int peek() {
+            if (pos == limit && !fill()) return -1;
+            return buf[pos] & 0xFF;
+        }
+
+        int next() {
+            if (pos == limit && !fill()) throw error("unexpected end");
+            return buf[pos++] & 0xFF;
+        }
+
+        int skipWs() {
+            int c;
+            while ((c = peek()) == ' ' || c == '\n' || c == '\r' || c == '\t') pos++;
+            return c;
+        }
+
+        IllegalArgumentException error(String msg) {
+            return new IllegalArgumentException(msg + " at " + (consumed + pos));
+        }
+
+        void expect(int c) {
+            if (skipWs() != c) throw error("expect '" + (char) c + "' but " + (peek() < 0 ? "end" : "'" + (char) peek() + "'"));
+            pos++;
+        }
+
+        /**
+         * @return consumed close, for empty containers.
+         */
+        boolean end(int close) {
+            if (skipWs() != close) return false;
+            pos++;
+            return true;
+        }
+
+        /**
+         * @return true if a comma is consumed, false if the close is consumed.
+         */
+        boolean more(int close) {
+            var c = skipWs();
+            pos++;
+            if (c == ',') return true;
+            if (c == close) return false;
+            pos--;
+            throw error("expect ',' or '" + (char) close + "'");
+        }
+
+        boolean readNull() {
+            if (skipWs() != 'n') return false;
+            literal(NULL);
+            return true;
+        }
+
+        void literal(byte[] b) {
+            for (var x : b) if (next() != x) throw error("expect " + new String(b, StandardCharsets.US_ASCII));
+        }
+
+        boolean readBoolean() {
+            var c = skipWs();
+            if (c == 't') {
+                literal(TRUE);
+                return true;
+            }
+            if (c == 'f') {
+                literal(FALSE);
+                return false;
+            }
+            throw error("expect boolean");
+        }
+
+        char readChar() {
+            var s = readString();
+            if (s.length() != 1) throw error("expect one char");
+            return s.charAt(0);
+        }
+
+        long readLong() {
+            var c = skipWs();
+            var negative = c == '-';
+            if (negative) {
+                pos++;
+                c = peek();
+            }
+            if (c < '0' || c > '9') throw error("expect integer");
+            long v = 0;
+            while ((c = peek()) >= '0' && c <= '9') {
+                pos++;
+                var d = c - '0';
+                if (v < (Long.MIN_VALUE + d) / 10) throw error("integer overflow");
+                v = v * 10 - d;
+            }
+            if (c == '.' || c == 'e' || c == 'E') throw error("expect integer");
+            if (negative) return v;
+            if (v == Long.MIN_VALUE) throw error("integer overflow");
+            return -v;
+        }
+
+        /**
+         * @return integer in [min, max]
+         */
+        long readLong(long min, long max) {
+            var v = readLong();
+            if (v < min || v > max) throw error("integer overflow");
+            return v;
+        }
+
+        double readDouble() {
+            var c = skipWs();
+            if (c == 'n') {
+                literal(NULL);
+                return Double.NaN;
+            }
+            var n = 0;
+            long mantissa = 0;
+            var digits = 0;
+            var scale = 0;
+            var simple = true;
+            var negative = false;
+            if (c == '-') {
+                negative = true;
+                scratch[n++] = (byte) next();
+            }
+            // digits of the current part: integer, fraction or exponent, each requires at least one.
+            var run = 0;
+            var dot = false;
+            var exponent = false;
+            while (true) {
+                c = peek();
+                if (c >= '0' && c <= '9') {
+                    // exponent digits are left to Double.parseDouble.
+                    if (!exponent) {
+                        if (digits < 18) {
+                            mantissa = mantissa * 10 + (c - '0');
+                            if (mantissa != 0) digits++;
+                            if (dot) scale++;
+                        } else {
+                            simple = false;
+                        }
+                    }
+                    run++;
+                } else if (c == '.' && !dot && !exponent) {
+                    if (run == 0) throw error("expect digit");
+                    dot = true;
+                    run = 0;
+                } else if ((c == 'e' || c == 'E') && !exponent) {
+                    if (run == 0) throw error("expect digit");
+                    exponent = true;
+                    simple = false;
+                    run = 0;
+                    pos++;
+                    n = put(n, c);
+                    c = peek();
+                    if (c == '-' || c == '+') {
+                        pos++;
+                        n = put(n, c);
+                    }
+                    continue;
+                } else break;
+                pos++;
+                n = put(n, c);
+            }
+            if (n == 0 || (n == 1 && negative)) throw error("expect number");
+            if (run == 0) throw error("expect digit");
+            if (simple && digits <= 15 && scale <= 22) {
+                var v = mantissa / POW10[scale];
+                return negative ? -v : v;
+            }
+            try {
+                return Double.parseDouble(new String(scratch, 0, n, StandardCharsets.US_ASCII));
+            } catch (NumberFormatException e) {
+                throw error("invalid number");
+            }
+        }
+
+        /**
+         * read a key into scratch bytes.
+         *
+         * @return length of UTF-8 key bytes.
+         */
+        int readKey() {
+            expect('"');
+            var n = 0;
+            while (true) {
+                var c = next();
+                if (c == '"') return n;
+                if (c == '\\') {
+                    var s = escape();
+                    var b = String.valueOf(s).getBytes(StandardCharsets.UTF_8);
+                    for (var x : b) n = put(n, x);
+                } else n = put(n, c);
+            }
+        }
+
+        private int put(int n, int b) {
+            if (n == scratch.length) scratch = Arrays.copyOf(scratch, n * 2);
+            scratch[n] = (byte) b;
+            return n + 1;
+        }
+
+        char escape() {
+            var c = next();
+            switch (c) {
+                case '"':
+                case '\\':
+                case '/':
+                    return (char) c;
+                case 'b':
+                    return '\b';
+                case 'f':
+                    return '\f';
+                case 'n':
+                    return '\n';
+                case 'r':
+                    return '\r';
+                case 't':
+                    return '\t';
+                case 'u':
+                    var v = 0;
+                    for (int i = 0; i < 4; i++) {
+                        var d = Character.digit(next(), 16);
+                        if (d < 0) throw error("invalid unicode escape");
+                        v = v << 4 | d;
+                    }
+                    return (char) v;
+                default:
+                    throw error("invalid escape");
+            }
+        }
+
+        String readString() {
+            expect('"');
+            var n = 0;
+            while (true) {
+                var c = next();
+                if (c == '"') return new String(chars, 0, n);
+                if (n + 2 > chars.length) chars = Arrays.copyOf(chars, chars.length * 2);
+                if (c == '\\') chars[n++] = escape();
+                else if (c < 0x80) chars[n++] = (char) c;
+                else if (c < 0xE0) chars[n++] = (char) ((c & 0x1F) << 6 | next() & 0x3F);
+                else if (c < 0xF0) chars[n++] = (char) ((c & 0x0F) << 12 | (next() & 0x3F) << 6 | next() & 0x3F);
+                else {
+                    var cp = (c & 0x07) << 18 | (next() & 0x3F) << 12 | (next() & 0x3F) << 6 | next() & 0x3F;
+                    chars[n++] = Character.highSurrogate(cp);
+                    chars[n++] = Character.lowSurrogate(cp);
+                }
+            }
+        }
+
+        /**
+         * skip next value.
+         */
+        void skip() {
+            var c = skipWs();
+            switch (c) {
+                case '{':
+                    pos++;
+                    if (!end('}')) {
+                        do {
+                            readKey();
+                            expect(':');
+                            skip();
+                        } while (more('}'));
+                    }
+                    return;
+                case '[':
+                    pos++;
+                    if (!end(']')) {
+                        do skip(); while (more(']'));
+                    }
+                    return;
+                case '"':
+                    readKey();
+                    return;
+                case 't':
+                    literal(TRUE);
+                    return;
+                case 'f':
+                    literal(FALSE);
+                    return;
+                case 'n':
+                    literal(NULL);
+                    return;
+                default:
+                    readDouble();
+            }
+        }
+    }
+}
@@ -0,0 +1,317 @@
+/*
+ * Source of invoker
+ * Copyright (C) 2023.  Zen.Liu
+ *
+ * SPDX-License-Identifier: GPL-2.0-only WITH Classpath-exception-2.0"
+ *
+ * This program is free software; you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation; version 2.
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program; if not, write to the Free Software Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA 02110-1301, USA.
+ *
+ * Class Path Exception
+ * Linking this library statically or dynamically with other modules is making a combined work based on this library. Thus, the terms and conditions of the GNU General Public License cover the whole combination.
+ *  As a special exception, the copyright holders of this library give you permission to link this library with independent modules to produce an executable, regardless of the license terms of these independent modules, and to copy and distribute the resulting executable under terms of your choice, provided that you also meet, for each linked independent module, the terms and conditions of the license of that module. An independent module is a module which is not derived from or based on this library. If you modify this library, you may extend this exception to your version of the library, but you are not obligated to do so. If you do not wish to do so, delete this exception statement from your version.
+ */
+
+
+package cn.zenliu.java.invoker;
+
+import lombok.var;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+import java.util.function.Supplier;
+
+/**
+ * Bean to bean mapper compiled into a flat copy plan from the {@link ClassShape} of both classes,
+ * eg: {@code Mapper.of(User.class, UserDto.class).map(user)}.<br/>
+ * Target fields with setters are matched with source fields by name, or by an explicit mapping. Each pair is bound once:
+ * 1. same primitive types copy through typed getter and setter pairs;<br/>
+ * 2. primitive widening ({@code int -> long}, {@code char -> int}, {@code long -> double} ...) through typed pairs
+ * without boxing;<br/>
+ * 3. boxing, unboxing (null leaves the primitive target unchanged) and boxed widening;<br/>
+ * 4. references assignable to the target type, shared.<br/>
+ * Fields matched by name with types not convertible are skipped, explicit mappings of them are rejected.
+ * Mappers matched by name are cached per class pair.
+ *
+ * @author Zen.Liu
+ * @since 2026-10-19
+ */
+@ApiStatus.AvailableSince("0.0.3")
+public final class Mapper<S, T> {
+    static final ClassValue<ClassValue<Mapper<?, ?>>> MAPPERS = new ClassValue<ClassValue<Mapper<?, ?>>>() {
+        @Override
+        protected ClassValue<Mapper<?, ?>> computeValue(Class<?> source) {
+            return new ClassValue<Mapper<?, ?>>() {
+                @Override
+                protected Mapper<?, ?> computeValue(Class<?> target) {
+                    return new Mapper<>(source, target, Collections.emptyMap());
+                }
+            };
+        }
+    };
+    static final Class<?>[] BOXES = {Boolean.class, Byte.class, Short.class, Character.class, Integer.class, Long.class, Float.class, Double.class};
+
+    public final Class<S> source;
+    public final Class<T> target;
+    final Supplier<? extends T> factory;
+    final Cloner.Copy[] copies;
+
+    @SuppressWarnings("unchecked")
+    Mapper(Class<S> source, Class<T> target, Map<String, String> mapping) {
+        this.source = source;
+        this.target = target;
+        this.factory = (Supplier<? extends T>) Cloner.allocator(target);
+        var from = ClassShape.of(source);
+        var to = ClassShape.of(target);
+        for (var e : mapping.entrySet()) {
+            if (to.slotOf(e.getKey()) < 0) throw new IllegalArgumentException("no field " + e.getKey() + " in " + target.getName());
+            if (e.getValue() != null && from.slotOf(e.getValue()) < 0)
+                throw new IllegalArgumentException("no field " + e.getValue() + " in " + source.getName());
+        }
+        var copies = new ArrayList<Cloner.Copy>();
+        for (int t = 0; t < to.size(); t++) {
+            var name = to.name(t);
+            var explicit = mapping.containsKey(name);
+            var sourceName = explicit ? mapping.get(name) : name;
+            if (sourceName == null) continue;
+            var s = from.slotOf(sourceName);
+            if (s < 0) continue;
+            var setter = to.setters[t];
+            if (setter == null) {
+                if (explicit) throw new IllegalArgumentException("field " + name + " of " + target.getName() + " is final");
+                continue;
+            }
+            var copy = convert(from.types[s], from.getters[s], to.types[t], setter);
+            if (copy == null) {
+                if (explicit) throw new IllegalArgumentException("can not convert " + source.getName() + "::" + sourceName
+                        + " of " + from.types[s].getName() + " to " + target.getName() + "::" + name + " of " + to.types[t].getName());
+                continue;
+            }
+            copies.add(copy);
+        }
+        this.copies = copies.toArray(new Cloner.Copy[0]);
+    }
+
+    /**
+     * @return cached mapper matched by name
+     * @throws IllegalArgumentException if target can not be allocated
+     */
+    @SuppressWarnings("unchecked")
+    public static <S, T> Mapper<S, T> of(Class<S> source, Class<T> target) {
+        return (Mapper<S, T>) MAPPERS.get(source).get(target);
+    }
+
+    /**
+     * @param mapping target field name to source field name, null value to skip the target field, other fields are
+     *                matched by name
+     * @return mapper, not cached
+     * @throws IllegalArgumentException for unknown fields or mappings not convertible
+     */
+    public static <S, T> Mapper<S, T> of(Class<S> source, Class<T> target, Map<String, String> mapping) {
+        return new Mapper<>(source, target, mapping);
+    }
+
+    /**
+     * @return new target mapped from source, null for null
+     */
+    public @Nullable T map(@Nullable S source) {
+        if (source == null) return null;
+        var t = factory.get();
+        for (var c : copies) c.apply(source, t, null);
+        return t;
+    }
+
+    /**
+     * map source into an existing target.
+     *
+     * @return target
+     */
+    public T map(S source, T target) {
+        for (var c : copies) c.apply(source, target, null);
+        return target;
+    }
+
+    public List<T> mapAll(Collection<? extends S> sources) {
+        var r = new ArrayList<T>(sources.size());
+        for (var s : sources) r.add(map(s));
+        return r;
+    }
+
+    /**
+     * @return count of mapped fields
+     */
+    public int size() {
+        return copies.length;
+    }
+
+    @Override
+    public String toString() {
+        return "Mapper(" + source.getName() + " -> " + target.getName() + ")";
+    }
+
+    static int boxKind(Class<?> type) {
+        for (int i = 0; i < BOXES.length; i++) if (BOXES[i] == type) return i;
+        return ClassShape.REFERENCE;
+    }
+
+    /**
+     * @return primitive widening allowed from kind to kind
+     */
+    static boolean widens(int from, int to) {
+        if (from == 0 || to == 0 || from == to) return from == to;
+        if (to == 3) return false;
+        if (from == 3) return to >= 4;
+        return from < to;
+    }
+
+    static @Nullable Cloner.Copy convert(Class<?> from, Accessor.GenericGetter g, Class<?> to, Accessor.GenericSetter s) {
+        var sk = ClassShape.kind(from);
+        var tk = ClassShape.kind(to);
+        if (sk < ClassShape.REFERENCE && tk < ClassShape.REFERENCE) {
+            if (sk == tk) return Cloner.pair(sk, g, s);
+            return widens(sk, tk) ? widen(sk, tk, g, s) : null;
+        }
+        if (sk == ClassShape.REFERENCE && tk == ClassShape.REFERENCE && to.isAssignableFrom(from))
+            return (a, b, seen) -> s.set(b, g.get(a));
+        //boxing, unboxing and boxed widening
+        var bs = sk < ClassShape.REFERENCE ? sk : boxKind(from);
+        var bt = tk < ClassShape.REFERENCE ? tk : boxKind(to);
+        if (bs == ClassShape.REFERENCE || bt == ClassShape.REFERENCE || !widens(bs, bt)) return null;
+        var primitiveTarget = tk < ClassShape.REFERENCE;
+        return (a, b, seen) -> {
+            var v = g.get(a);
+            if (v != null) s.set(b, box(v, bt));
+            else if (!primitiveTarget) s.set(b, null);
+        };
+    }
+
+    /**
+     * @return boxed value of kind, value is boxed of same or narrower kind
+     */
+    static Object box(Object v, int kind) {
+        if (v instanceof Character) {
+            if (kind == 3) return v;
+            v = (int) (Character) v;
+        }
+        if (v instanceof Boolean) return v;
+        var n = (Number) v;
+        switch (kind) {
+            case 1:
+                return n.byteValue();
+            case 2:
+                return n.shortValue();
+            case 4:
+                return n.intValue();
+            case 5:
+                return n.longValue();
+            case 6:
+                return n.floatValue();
+            default:
+                return n.doubleValue();
+        }
+    }
+
+    static Cloner.Copy widen(int from, int to, Accessor.GenericGetter g, Accessor.GenericSetter s) {
+        switch (to) {
+            case 2: {
+                var y = (Accessor.ShortSetter) s;
+                var x = (Accessor.ByteGetter) g;
+                return (a, b, seen) -> y.setValue(b, x.getValue(a));
+            }
+            case 4: {
+                var y = (Accessor.IntSetter) s;
+                switch (from) {
+                    case 1: {
+                        var x = (Accessor.ByteGetter) g;
+                        return (a, b, seen) -> y.setValue(b, x.getValue(a));
+                    }
+                    case 2: {
+                        var x = (Accessor.ShortGetter) g;
+                        return (a, b, seen) -> y.setValue(b, x.getValue(a));
+                    }
+                    default: {
+                        var x = (Accessor.CharGetter) g;
+                        return (a, b, seen) -> y.setValue(b, x.getValue(a));
+                    }
+                }
+            }
+            case 5: {
+                var y = (Accessor.LongSetter) s;
+                switch (from) {
+                    case 1: {
+                        var x = (Accessor.ByteGetter) g;
+                        return (a, b, seen) -> y.setValue(b, x.getValue(a));
+                    }
+                    case 2: {
+                        var x = (Accessor.ShortGetter) g;
+                        return (a, b, seen) -> y.setValue(b, x.getValue(a));
+                    }
+                    case 3: {
+                        var x = (Accessor.CharGetter) g;
+                        return (a, b, seen) -> y.setValue(b, x.getValue(a));
+                    }
+                    default: {
+                        var x = (Accessor.IntGetter) g;
+                        return (a, b, seen) -> y.setValue(b, x.getValue(a));
+                    }
+                }
+            }
+            case 6: {
+                var y = (Accessor.FloatSetter) s;
+                switch (from) {
+                    case 1: {
+                        var x = (Accessor.ByteGetter) g;
+                        return (a, b, seen) -> y.setValue(b, x.getValue(a));
+                    }
+                    case 2: {
+                        var x = (Accessor.ShortGetter) g;
+                        return (a, b, seen) -> y.setValue(b, x.getValue(a));
+                    }
+                    case 3: {
+                        var x = (Accessor.CharGetter) g;
+                        return (a, b, seen) -> y.setValue(b, x.getValue(a));
+                    }
+                    case 4: {
+                        var x = (Accessor.IntGetter) g;
+                        return (a, b, seen) -> y.setValue(b, x.getValue(a));
+                    }
+                    default: {
+                        var x = (Accessor.LongGetter) g;
+                        return (a, b, seen) -> y.setValue(b, x.getValue(a));
+                    }
+                }
+            }
+            default: {
+                var y = (Accessor.DoubleSetter) s;
+                switch (from) {
+                    case 1: {
+                        var x = (Accessor.ByteGetter) g;
+                        return (a, b, seen) -> y.setValue(b, x.getValue(a));
+                    }
+                    case 2: {
+                        var x = (Accessor.ShortGetter) g;
+                        return (a, b, seen) -> y.setValue(b, x.getValue(a));
+                    }
+                    case 3: {
+                        var x = (Accessor.CharGetter) g;
+                        return (a, b, seen) -> y.setValue(b, x.getValue(a));
+                    }
+                    case 4: {
+                        var x = (Accessor.IntGetter) g;
+                        return (a, b, seen) -> y.setValue(b, x.getValue(a));
+                    }
+                    case 5: {
+                        var x = (Accessor.LongGetter) g;
+                        return (a, b, seen) -> y.setValue(b, x.getValue(a));
+                    }
+                    default: {
+                        var x = (Accessor.FloatGetter) g;
+                        return (a, b, seen) -> y.setValue(b, x.getValue(a));
+                    }
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,487 @@
+/*
+ * Source of invoker
+ * Copyright (C) 2023.  Zen.Liu
+ *
+ * SPDX-License-Identifier: GPL-2.0-only WITH Classpath-exception-2.0"
+ *
+ * This program is free software; you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation; version 2.
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program; if not, write to the Free Software Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA 02110-1301, USA.
+ *
+ * Class Path Exception
+ * Linking this library statically or dynamically with other modules is making a combined work based on this library. Thus, the terms and conditions of the GNU General Public License cover the whole combination.
+ *  As a special exception, the copyright holders of this library give you permission to link this library with independent modules to produce an executable, regardless of the license terms of these independent modules, and to copy and distribute the resulting executable under terms of your choice, provided that you also meet, for each linked independent module, the terms and conditions of the license of that module. An independent module is a module which is not derived from or based on this library. If you modify this library, you may extend this exception to your version of the library, but you are not obligated to do so. If you do not wish to do so, delete this exception statement from your version.
+ */
+
+
+package cn.zenliu.java.invoker;
+
+import lombok.var;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Predicate;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToLongFunction;
+
+/**
+ * Filter expressions compiled once into a {@link Predicate} over the typed getters of {@link ClassShape}.<br/>
+ * Syntax: comparisons {@code field op literal} (or {@code literal op field}) with {@code == != < <= > >=}, boolean
+ * fields as terms, combined by {@code ! && ||} and parentheses, eg: {@code age > 30 && (region == "EU" || !active)}.
+ * Literals are numbers, strings in double or single quotes, {@code true}, {@code false} and {@code null}.<br/>
+ * Primitive fields are compared without boxing, float fields against the literal rounded to float. Reference fields
+ * are compared by {@link Objects#equals}, or {@link Comparable} for ordering where null never matches; the literal is
+ * converted to the field type (boxed numbers, enums by name, characters).
+ *
+ * @author Zen.Liu
+ * @since 2026-10-19
+ */
+@ApiStatus.AvailableSince("0.0.3")
+public final class Query<T> implements Predicate<Object> {
+    static final int EQ = 0, NE = 1, LT = 2, LE = 3, GT = 4, GE = 5;
+    static final String[] OPS = {"==", "!=", "<", "<=", ">", ">="};
+    /**
+     * operator with swapped operands.
+     */
+    static final int[] FLIP = {EQ, NE, GT, GE, LT, LE};
+    /**
+     * null literal of parser, and not convertible marker of {@link #convert(Class, Object)}.
+     */
+    static final Object NULL = new Object(), NONE = new Object();
+
+    public final Class<T> type;
+    public final String expression;
+    final Predicate<Object> predicate;
+
+    Query(Class<T> type, String expression, Predicate<Object> predicate) {
+        this.type = type;
+        this.expression = expression;
+        this.predicate = predicate;
+    }
+
+    /**
+     * @param type       class of elements
+     * @param expression filter expression
+     * @return compiled query
+     * @throws IllegalArgumentException for syntax errors, unknown fields or literals not fit the field type
+     */
+    public static <T> Query<T> compile(Class<T> type, String expression) {
+        var p = new Parser(ClassShape.of(type), expression);
+        var predicate = p.or();
+        p.skip();
+        if (p.pos < expression.length()) throw p.error("unexpected " + expression.charAt(p.pos));
+        return new Query<>(type, expression, predicate);
+    }
+
+    @Override
+    public boolean test(Object o) {
+        return predicate.test(o);
+    }
+
+    /**
+     * @return matched elements in order
+     */
+    public List<T> filter(List<? extends T> elements) {
+        var r = new ArrayList<T>();
+        for (var e : elements) if (predicate.test(e)) r.add(e);
+        return r;
+    }
+
+    /**
+     * evaluate in fork-join common pool, lists without random access are evaluated sequentially.
+     *
+     * @return matched elements in order
+     */
+    public List<T> filterParallel(List<? extends T> elements) {
+        if (!Columns.splittable(elements)) return filter(elements);
+        var n = elements.size();
+        var hits = new boolean[n];
+        Columns.parallel(0, n, (from, to) -> {
+            for (int i = from; i < to; i++) hits[i] = predicate.test(elements.get(i));
+        });
+        var r = new ArrayList<T>();
+        for (int i = 0; i < n; i++) if (hits[i]) r.add(elements.get(i));
+        return r;
+    }
+
+    public int count(List<?> elements) {
+        var c = 0;
+        for (var e : elements) if (predicate.test(e)) c++;
+        return c;
+    }
+
+    @Override
+    public String toString() {
+        return "Query(" + expression + ")";
+    }
+
+    //region Comparisons
+    static Predicate<Object> ints(Accessor.IntGetter x, int op, long v) {
+        switch (op) {
+            case EQ:
+                return o -> x.getValue(o) == v;
+            case NE:
+                return o -> x.getValue(o) != v;
+            case LT:
+                return o -> x.getValue(o) < v;
+            case LE:
+                return o -> x.getValue(o) <= v;
+            case GT:
+                return o -> x.getValue(o) > v;
+            default:
+                return o -> x.getValue(o) >= v;
+        }
+    }
+
+    static Predicate<Object> longs(Accessor.LongGetter x, int op, long v) {
+        switch (op) {
+            case EQ:
+                return o -> x.getValue(o) == v;
+            case NE:
+                return o -> x.getValue(o) != v;
+            case LT:
+                return o -> x.getValue(o) < v;
+            case LE:
+                return o -> x.getValue(o) <= v;
+            case GT:
+                return o -> x.getValue(o) > v;
+            default:
+                return o -> x.getValue(o) >= v;
+        }
+    }
+
+    static Predicate<Object> doubles(Accessor.DoubleGetter x, int op, double v) {
+        switch (op) {
+            case EQ:
+                return o -> x.getValue(o) == v;
+            case NE:
+                return o -> x.getValue(o) != v;
+            case LT:
+                return o -> x.getValue(o) < v;
+            case LE:
+                return o -> x.getValue(o) <= v;
+            case GT:
+                return o -> x.getValue(o) > v;
+            default:
+                return o -> x.getValue(o) >= v;
+        }
+    }
+
+    static Predicate<Object> asLong(ToLongFunction<Object> x, int op, long v) {
+        switch (op) {
+            case EQ:
+                return o -> x.applyAsLong(o) == v;
+            case NE:
+                return o -> x.applyAsLong(o) != v;
+            case LT:
+                return o -> x.applyAsLong(o) < v;
+            case LE:
+                return o -> x.applyAsLong(o) <= v;
+            case GT:
+                return o -> x.applyAsLong(o) > v;
+            default:
+                return o -> x.applyAsLong(o) >= v;
+        }
+    }
+
+    static Predicate<Object> asDouble(ToDoubleFunction<Object> x, int op, double v) {
+        switch (op) {
+            case EQ:
+                return o -> x.applyAsDouble(o) == v;
+            case NE:
+                return o -> x.applyAsDouble(o) != v;
+            case LT:
+                return o -> x.applyAsDouble(o) < v;
+            case LE:
+                return o -> x.applyAsDouble(o) <= v;
+            case GT:
+                return o -> x.applyAsDouble(o) > v;
+            default:
+                return o -> x.applyAsDouble(o) >= v;
+        }
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    static Predicate<Object> objects(Accessor.GenericGetter g, int op, @Nullable Object v) {
+        switch (op) {
+            case EQ:
+                return o -> Objects.equals(g.get(o), v);
+            case NE:
+                return o -> !Objects.equals(g.get(o), v);
+            default:
+                if (v == null) return o -> false;
+                return o -> {
+                    var x = (Comparable) g.get(o);
+                    if (x == null) return false;
+                    var r = x.compareTo(v);
+                    return op == LT ? r < 0 : op == LE ? r <= 0 : op == GT ? r > 0 : r >= 0;
+                };
+        }
+    }
+
+    static ToLongFunction<Object> integral(int kind, Accessor.GenericGetter g) {
+        switch (kind) {
+            case 1:
+                return ((Accessor.ByteGetter) g)::getValue;
+            case 2:
+                return ((Accessor.ShortGetter) g)::getValue;
+            case 3:
+                return ((Accessor.CharGetter) g)::getValue;
+            case 4:
+                return ((Accessor.IntGetter) g)::getValue;
+            default:
+                return ((Accessor.LongGetter) g)::getValue;
+        }
+    }
+
+    static ToDoubleFunction<Object> floating(int kind, Accessor.GenericGetter g) {
+        switch (kind) {
+            case 6:
+                return ((Accessor.FloatGetter) g)::getValue;
+            case 7:
+                return ((Accessor.DoubleGetter) g)::getValue;
+            default:
+                var x = integral(kind, g);
+                return x::applyAsLong;
+        }
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    static @Nullable Object convert(Class<?> type, @Nullable Object v) {
+        if (v == null || type.isInstance(v)) return v;
+        if (v instanceof Number) {
+            var n = (Number) v;
+            if (type == Integer.class && n instanceof Long && n.longValue() == n.intValue()) return n.intValue();
+            if (type == Long.class && n instanceof Long) return n.longValue();
+            if (type == Short.class && n instanceof Long && n.longValue() == n.shortValue()) return n.shortValue();
+            if (type == Byte.class && n instanceof Long && n.longValue() == n.byteValue()) return n.byteValue();
+            if (type == Double.class) return n.doubleValue();
+            if (type == Float.class) return n.floatValue();
+        }
+        if (v instanceof String) {
+            var s = (String) v;
+            if (type.isEnum()) {
+                try {
+                    return Enum.valueOf((Class) type, s);
+                } catch (IllegalArgumentException e) {
+                    throw new IllegalArgumentException("no constant " + s + " in " + type.getName());
+                }
+            }
+            if (type == Character.class && s.length() == 1) return s.charAt(0);
+        }
+        return NONE;
+    }
+
+    /**
+     * @param op operator with field on the left
+     */
+    static Predicate<Object> comparison(ClassShape shape, int slot, int op, @Nullable Object v) {
+        var kind = shape.kinds[slot];
+        var g = shape.getters[slot];
+        var name = shape.name(slot);
+        if (kind == 0) {
+            if (!(v instanceof Boolean) || op > NE)
+                throw new IllegalArgumentException("boolean field " + name + " only supports == or != true/false");
+            var b = (boolean) v == (op == EQ);
+            var x = (Accessor.BooleanGetter) g;
+            return b ? x::getValue : o -> !x.getValue(o);
+        }
+        if (kind < ClassShape.REFERENCE) {
+            if (!(v instanceof Number) && !(kind == 3 && v instanceof String && ((String) v).length() == 1))
+                throw new IllegalArgumentException("field " + name + " expects a number, but " + v);
+            if (v instanceof String) v = (long) ((String) v).charAt(0);
+            if (kind <= 5 && v instanceof Long) {
+                var l = (long) v;
+                if (kind == 4) return ints((Accessor.IntGetter) g, op, l);
+                if (kind == 5) return longs((Accessor.LongGetter) g, op, l);
+                return asLong(integral(kind, g), op, l);
+            }
+            var d = ((Number) v).doubleValue();
+            if (kind == 6) d = (float) d;
+            if (kind == 7) return doubles((Accessor.DoubleGetter) g, op, d);
+            return asDouble(floating(kind, g), op, d);
+        }
+        var type = shape.type(slot);
+        var c = convert(type, v);
+        if (c == NONE) throw new IllegalArgumentException("field " + name + " of " + type.getName() + " not match literal " + v);
+        if (op > NE && c != null && !(c instanceof Comparable))
+            throw new IllegalArgumentException("field " + name + " is not comparable");
+        return objects(g, op, c);
+    }
+    //endregion
+
+    /**
+     * Recursive descent parser, builds predicates while parsing.
+     */
+    static final class Parser {
+        final ClassShape shape;
+        final String s;
+        int pos;
+
+        Parser(ClassShape shape, String s) {
+            this.shape = shape;
+            this.s = s;
+        }
+
+        IllegalArgumentException error(String message) {
+            return new IllegalArgumentException(message + " at " + pos + " of: " + s);
+        }
+
+        void skip() {
+            while (pos < s.length() && Character.isWhitespace(s.charAt(pos))) pos++;
+        }
+
+        boolean eat(String token) {
+            skip();
+            if (!s.startsWith(token, pos)) return false;
+            pos += token.length();
+            return true;
+        }
+
+        Predicate<Object> or() {
+            var p = and();
+            while (eat("||")) p = p.or(and());
+            return p;
+        }
+
+        Predicate<Object> and() {
+            var p = unary();
+            while (eat("&&")) p = p.and(unary());
+            return p;
+        }
+
+        Predicate<Object> unary() {
+            skip();
+            if (s.startsWith("!", pos) && !s.startsWith("!=", pos)) {
+                pos++;
+                return unary().negate();
+            }
+            if (eat("(")) {
+                var p = or();
+                if (!eat(")")) throw error("expect )");
+                return p;
+            }
+            return comparison();
+        }
+
+        Predicate<Object> comparison() {
+            skip();
+            var at = pos;
+            var left = operand();
+            var op = operator();
+            if (op < 0) {
+                if (!(left instanceof Field)) throw error("expect operator");
+                var slot = ((Field) left).slot;
+                if (shape.kinds[slot] == 0 || shape.type(slot) == Boolean.class)
+                    return Query.comparison(shape, slot, EQ, true);
+                pos = at;
+                throw error("expect boolean field");
+            }
+            var right = operand();
+            if (left instanceof Field == right instanceof Field) throw error("expect one field and one literal");
+            if (right instanceof Field) {
+                var t = left;
+                left = right;
+                right = t;
+                op = FLIP[op];
+            }
+            return Query.comparison(shape, ((Field) left).slot, op, right == NULL ? null : right);
+        }
+
+        int operator() {
+            skip();
+            for (var op : new int[]{LE, GE, EQ, NE, LT, GT}) {
+                if (s.startsWith(OPS[op], pos)) {
+                    pos += OPS[op].length();
+                    return op;
+                }
+            }
+            return -1;
+        }
+
+        /**
+         * @return {@link Field}, {@link #NULL} or a literal of Long, Double, String, Boolean.
+         */
+        Object operand() {
+            skip();
+            if (pos >= s.length()) throw error("unexpected end");
+            var c = s.charAt(pos);
+            if (c == '"' || c == '\'') return string(c);
+            if (c == '-' || c == '+' || c == '.' || Character.isDigit(c)) return number();
+            if (!Character.isJavaIdentifierStart(c)) throw error("unexpected " + c);
+            var start = pos;
+            while (pos < s.length() && Character.isJavaIdentifierPart(s.charAt(pos))) pos++;
+            var name = s.substring(start, pos);
+            switch (name) {
+                case "true":
+                    return Boolean.TRUE;
+                case "false":
+                    return Boolean.FALSE;
+                case "null":
+                    return NULL;
+            }
+            var slot = shape.slotOf(name);
+            if (slot < 0) {
+                pos = start;
+                throw error("no field " + name + " in " + shape.type.getName());
+            }
+            return new Field(slot);
+        }
+
+        Object number() {
+            var start = pos;
+            var fraction = false;
+            if (s.charAt(pos) == '-' || s.charAt(pos) == '+') pos++;
+            while (pos < s.length()) {
+                var c = s.charAt(pos);
+                if (c == '.' || c == 'e' || c == 'E') fraction = true;
+                else if ((c == '-' || c == '+') && (s.charAt(pos - 1) == 'e' || s.charAt(pos - 1) == 'E')) fraction = true;
+                else if (!Character.isDigit(c)) break;
+                pos++;
+            }
+            var text = s.substring(start, pos);
+            try {
+                return fraction ? (Object) Double.parseDouble(text) : (Object) Long.parseLong(text);
+            } catch (NumberFormatException e) {
+                pos = start;
+                throw error("invalid number " + text);
+            }
+        }
+
+        String string(char quote) {
+            var b = new StringBuilder();
+            pos++;
+            while (pos < s.length()) {
+                var c = s.charAt(pos++);
+                if (c == quote) return b.toString();
+                if (c == '\\' && pos < s.length()) {
+                    c = s.charAt(pos++);
+                    switch (c) {
+                        case 'n':
+                            c = '\n';
+                            break;
+                        case 't':
+                            c = '\t';
+                            break;
+                        case 'r':
+                            c = '\r';
+                            break;
+                    }
+                }
+                b.append(c);
+            }
+            throw error("unterminated string");
+        }
+    }
+
+    static final class Field {
+        final int slot;
+
+        Field(int slot) {
+            this.slot = slot;
+        }
+    }
+}
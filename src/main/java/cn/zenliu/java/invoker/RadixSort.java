@@ -0,0 +1,201 @@
+/*
+ * Source of invoker
+ * Copyright (C) 2023.  Zen.Liu
+ *
+ * SPDX-License-Identifier: GPL-2.0-only WITH Classpath-exception-2.0"
+ *
+ * This program is free software; you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation; version 2.
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program; if not, write to the Free Software Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA 02110-1301, USA.
+ *
+ * Class Path Exception
+ * Linking this library statically or dynamically with other modules is making a combined work based on this library. Thus, the terms and conditions of the GNU General Public License cover the whole combination.
+ *  As a special exception, the copyright holders of this library give you permission to link this library with independent modules to produce an executable, regardless of the license terms of these independent modules, and to copy and distribute the resulting executable under terms of your choice, provided that you also meet, for each linked independent module, the terms and conditions of the license of that module. An independent module is a module which is not derived from or based on this library. If you modify this library, you may extend this exception to your version of the library, but you are not obligated to do so. If you do not wish to do so, delete this exception statement from your version.
+ */
+
+
+package cn.zenliu.java.invoker;
+
+import lombok.var;
+import org.jetbrains.annotations.ApiStatus;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Sort objects by one primitive field: keys are extracted once by the typed getter into a {@code long[]} of unsigned
+ * ordered keys with an index array, the keys are sorted, then the objects are permuted once.<br/>
+ * 1. Sequential mode is a LSD radix sort of 8 bit digits, digits equal in all keys are skipped.<br/>
+ * 2. Parallel mode extracts keys in the fork-join pool and, when key range and index fit in 64 bits, packs them into one
+ * {@code long} sorted by {@link Arrays#parallelSort(long[])}; otherwise it falls back to the radix sort.<br/>
+ * Both modes are stable (equal keys keep their order), descending order is stable too.
+ * Floating keys follow {@link Double#compare(double, double)}.
+ *
+ * @author Zen.Liu
+ * @since 2026-10-19
+ */
+@ApiStatus.AvailableSince("0.0.3")
+public final class RadixSort {
+    private RadixSort() {
+        throw new IllegalAccessError();
+    }
+
+    /**
+     * stable ascending sort of list by field.
+     */
+    public static <T> void sort(List<T> list, Class<? super T> type, String field) {
+        sort(list, accessor(type, field), false, false);
+    }
+
+    /**
+     * @param list       list to sort in place
+     * @param accessor   accessor of a primitive field (not boolean)
+     * @param descending descending order
+     * @param parallel   use the fork-join pool
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> void sort(List<T> list, Accessor accessor, boolean descending, boolean parallel) {
+        var a = list.toArray();
+        var order = order(a, accessor, descending, parallel);
+        for (int i = 0; i < order.length; i++) list.set(i, (T) a[order[i]]);
+    }
+
+    /**
+     * sort array in place.
+     *
+     * @see #sort(List, Accessor, boolean, boolean)
+     */
+    public static <T> void sort(T[] array, Accessor accessor, boolean descending, boolean parallel) {
+        var order = order(array, accessor, descending, parallel);
+        var copy = array.clone();
+        for (int i = 0; i < order.length; i++) array[i] = copy[order[i]];
+    }
+
+    /**
+     * @return indexes of elements in sorted order.
+     */
+    public static int[] order(Object[] elements, Accessor accessor, boolean descending, boolean parallel) {
+        var n = elements.length;
+        var keys = new long[n];
+        if (parallel) Columns.parallel(0, n, (from, to) -> keys(elements, accessor, descending, keys, from, to));
+        else keys(elements, accessor, descending, keys, 0, n);
+        return parallel ? parallelOrder(keys) : radixOrder(keys);
+    }
+
+    static Accessor accessor(Class<?> type, String field) {
+        var shape = ClassShape.of(type);
+        var slot = shape.slotOf(field);
+        if (slot < 0) throw new IllegalArgumentException("no field " + field + " in " + type.getName());
+        return shape.accessor(slot);
+    }
+
+    /**
+     * extract unsigned ordered keys of [from, to).
+     */
+    static void keys(Object[] e, Accessor accessor, boolean descending, long[] keys, int from, int to) {
+        var g = accessor.getter;
+        if (g instanceof Accessor.LongGetter) {
+            var x = (Accessor.LongGetter) g;
+            for (int i = from; i < to; i++) keys[i] = x.getValue(e[i]) ^ Long.MIN_VALUE;
+        } else if (g instanceof Accessor.IntGetter) {
+            var x = (Accessor.IntGetter) g;
+            for (int i = from; i < to; i++) keys[i] = (long) x.getValue(e[i]) ^ Long.MIN_VALUE;
+        } else if (g instanceof Accessor.ShortGetter) {
+            var x = (Accessor.ShortGetter) g;
+            for (int i = from; i < to; i++) keys[i] = (long) x.getValue(e[i]) ^ Long.MIN_VALUE;
+        } else if (g instanceof Accessor.ByteGetter) {
+            var x = (Accessor.ByteGetter) g;
+            for (int i = from; i < to; i++) keys[i] = (long) x.getValue(e[i]) ^ Long.MIN_VALUE;
+        } else if (g instanceof Accessor.CharGetter) {
+            var x = (Accessor.CharGetter) g;
+            for (int i = from; i < to; i++) keys[i] = x.getValue(e[i]);
+        } else if (g instanceof Accessor.DoubleGetter) {
+            var x = (Accessor.DoubleGetter) g;
+            for (int i = from; i < to; i++) keys[i] = floating(Double.doubleToLongBits(x.getValue(e[i])));
+        } else if (g instanceof Accessor.FloatGetter) {
+            var x = (Accessor.FloatGetter) g;
+            for (int i = from; i < to; i++) keys[i] = floating(Double.doubleToLongBits(x.getValue(e[i])));
+        } else {
+            throw new IllegalArgumentException("not a numeric primitive field: " + g);
+        }
+        if (descending) for (int i = from; i < to; i++) keys[i] = ~keys[i];
+    }
+
+    static long floating(long bits) {
+        return bits < 0 ? ~bits : bits ^ Long.MIN_VALUE;
+    }
+
+    /**
+     * LSD radix sort of unsigned keys.
+     *
+     * @return stable order
+     */
+    static int[] radixOrder(long[] keys) {
+        var n = keys.length;
+        var idx = new int[n];
+        for (int i = 0; i < n; i++) idx[i] = i;
+        if (n < 2) return idx;
+        var counts = new int[8][256];
+        for (var k : keys) {
+            for (int d = 0; d < 8; d++) counts[d][(int) (k >>> (d << 3)) & 0xFF]++;
+        }
+        var src = keys.clone();
+        var dst = new long[n];
+        var srcIdx = idx;
+        var dstIdx = new int[n];
+        for (int d = 0; d < 8; d++) {
+            var c = counts[d];
+            var shift = d << 3;
+            if (c[(int) (src[0] >>> shift) & 0xFF] == n) continue;
+            var sum = 0;
+            for (int b = 0; b < 256; b++) {
+                var t = c[b];
+                c[b] = sum;
+                sum += t;
+            }
+            for (int i = 0; i < n; i++) {
+                var k = src[i];
+                var p = c[(int) (k >>> shift) & 0xFF]++;
+                dst[p] = k;
+                dstIdx[p] = srcIdx[i];
+            }
+            var t = src;
+            src = dst;
+            dst = t;
+            var ti = srcIdx;
+            srcIdx = dstIdx;
+            dstIdx = ti;
+        }
+        return srcIdx;
+    }
+
+    /**
+     * pack {@code (key - min) << indexBits | index} when fits, sorted by {@link Arrays#parallelSort(long[])}.
+     *
+     * @return stable order
+     */
+    static int[] parallelOrder(long[] keys) {
+        var n = keys.length;
+        if (n < 2) return radixOrder(keys);
+        long min = -1, max = 0;
+        for (var k : keys) {
+            if (Long.compareUnsigned(k, min) < 0) min = k;
+            if (Long.compareUnsigned(k, max) > 0) max = k;
+        }
+        var indexBits = 32 - Integer.numberOfLeadingZeros(n - 1);
+        var range = max - min;
+        if (64 - Long.numberOfLeadingZeros(range) + indexBits > 63) return radixOrder(keys);
+        var packed = new long[n];
+        final long base = min;
+        Columns.parallel(0, n, (from, to) -> {
+            for (int i = from; i < to; i++) packed[i] = (keys[i] - base) << indexBits | i;
+        });
+        Arrays.parallelSort(packed);
+        var mask = (1L << indexBits) - 1;
+        var idx = new int[n];
+        Columns.parallel(0, n, (from, to) -> {
+            for (int i = from; i < to; i++) idx[i] = (int) (packed[i] & mask);
+        });
+        return idx;
+    }
+}
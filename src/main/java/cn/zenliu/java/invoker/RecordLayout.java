@@ -0,0 +1,165 @@
+/*
+ * Source of invoker
+ * Copyright (C) 2023.  Zen.Liu
+ *
+ * SPDX-License-Identifier: GPL-2.0-only WITH Classpath-exception-2.0"
+ *
+ * This program is free software; you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation; version 2.
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program; if not, write to the Free Software Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA 02110-1301, USA.
+ *
+ * Class Path Exception
+ * Linking this library statically or dynamically with other modules is making a combined work based on this library. Thus, the terms and conditions of the GNU General Public License cover the whole combination.
+ *  As a special exception, the copyright holders of this library give you permission to link this library with independent modules to produce an executable, regardless of the license terms of these independent modules, and to copy and distribute the resulting executable under terms of your choice, provided that you also meet, for each linked independent module, the terms and conditions of the license of that module. An independent module is a module which is not derived from or based on this library. If you modify this library, you may extend this exception to your version of the library, but you are not obligated to do so. If you do not wish to do so, delete this exception statement from your version.
+ */
+
+
+package cn.zenliu.java.invoker;
+
+import lombok.var;
+import org.jetbrains.annotations.ApiStatus;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Fixed layout of a class with only primitive instance fields: fields are packed in {@link ClassShape} slot order without
+ * padding, read and written with absolute {@link ByteBuffer} methods and the typed {@link Accessor} getters and setters.
+ * Layouts are cached per class.
+ *
+ * @author Zen.Liu
+ * @since 2026-10-19
+ */
+@ApiStatus.AvailableSince("0.0.3")
+public final class RecordLayout {
+    static final ClassValue<RecordLayout> LAYOUTS = new ClassValue<RecordLayout>() {
+        @Override
+        protected RecordLayout computeValue(Class<?> type) {
+            return new RecordLayout(ClassShape.of(type));
+        }
+    };
+    static final int[] WIDTHS = {1, 1, 2, 2, 4, 8, 4, 8};
+
+    interface Put {
+        void put(ByteBuffer buffer, int at, Object instance);
+    }
+
+    interface Get {
+        void get(ByteBuffer buffer, int at, Object instance);
+    }
+
+    public final ClassShape shape;
+    final int[] offsets;
+    final int size;
+    final Put[] puts;
+    final Get[] gets;
+
+    /**
+     * @param type class with only primitive instance fields
+     * @throws IllegalArgumentException if any field is not primitive
+     */
+    public static RecordLayout of(Class<?> type) {
+        return LAYOUTS.get(type);
+    }
+
+    RecordLayout(ClassShape shape) {
+        this.shape = shape;
+        var n = shape.size();
+        offsets = new int[n];
+        puts = new Put[n];
+        gets = new Get[n];
+        var at = 0;
+        for (int s = 0; s < n; s++) {
+            var kind = shape.kinds[s];
+            if (kind == ClassShape.REFERENCE)
+                throw new IllegalArgumentException("field " + shape.name(s) + " of " + shape.type.getName() + " is not primitive");
+            offsets[s] = at;
+            at += WIDTHS[kind];
+            bind(s, kind, offsets[s]);
+        }
+        size = at;
+    }
+
+    private void bind(int s, int kind, int off) {
+        var g = shape.getters[s];
+        var st = shape.setters[s];
+        switch (kind) {
+            case 0:
+                puts[s] = (b, at, o) -> b.put(at + off, (byte) (((Accessor.BooleanGetter) g).getValue(o) ? 1 : 0));
+                gets[s] = st == null ? null : (b, at, o) -> ((Accessor.BooleanSetter) st).setValue(o, b.get(at + off) != 0);
+                break;
+            case 1:
+                puts[s] = (b, at, o) -> b.put(at + off, ((Accessor.ByteGetter) g).getValue(o));
+                gets[s] = st == null ? null : (b, at, o) -> ((Accessor.ByteSetter) st).setValue(o, b.get(at + off));
+                break;
+            case 2:
+                puts[s] = (b, at, o) -> b.putShort(at + off, ((Accessor.ShortGetter) g).getValue(o));
+                gets[s] = st == null ? null : (b, at, o) -> ((Accessor.ShortSetter) st).setValue(o, b.getShort(at + off));
+                break;
+            case 3:
+                puts[s] = (b, at, o) -> b.putChar(at + off, ((Accessor.CharGetter) g).getValue(o));
+                gets[s] = st == null ? null : (b, at, o) -> ((Accessor.CharSetter) st).setValue(o, b.getChar(at + off));
+                break;
+            case 4:
+                puts[s] = (b, at, o) -> b.putInt(at + off, ((Accessor.IntGetter) g).getValue(o));
+                gets[s] = st == null ? null : (b, at, o) -> ((Accessor.IntSetter) st).setValue(o, b.getInt(at + off));
+                break;
+            case 5:
+                puts[s] = (b, at, o) -> b.putLong(at + off, ((Accessor.LongGetter) g).getValue(o));
+                gets[s] = st == null ? null : (b, at, o) -> ((Accessor.LongSetter) st).setValue(o, b.getLong(at + off));
+                break;
+            case 6:
+                puts[s] = (b, at, o) -> b.putFloat(at + off, ((Accessor.FloatGetter) g).getValue(o));
+                gets[s] = st == null ? null : (b, at, o) -> ((Accessor.FloatSetter) st).setValue(o, b.getFloat(at + off));
+                break;
+            default:
+                puts[s] = (b, at, o) -> b.putDouble(at + off, ((Accessor.DoubleGetter) g).getValue(o));
+                gets[s] = st == null ? null : (b, at, o) -> ((Accessor.DoubleSetter) st).setValue(o, b.getDouble(at + off));
+        }
+    }
+
+    /**
+     * @return bytes of one record.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return offset of field in record.
+     */
+    public int offset(int slot) {
+        return offsets[slot];
+    }
+
+    /**
+     * @return offset of field in record, -1 if not exists.
+     */
+    public int offset(String name) {
+        var slot = shape.slotOf(name);
+        return slot < 0 ? -1 : offsets[slot];
+    }
+
+    /**
+     * write all fields of instance to buffer at absolute position, buffer position is not changed.
+     */
+    public void write(ByteBuffer buffer, int at, Object instance) {
+        for (var p : puts) p.put(buffer, at, instance);
+    }
+
+    /**
+     * read all settable fields from buffer at absolute position into target, buffer position is not changed.
+     */
+    public void read(ByteBuffer buffer, int at, Object target) {
+        for (var g : gets) if (g != null) g.get(buffer, at, target);
+    }
+
+    @Override
+    public String toString() {
+        var b = new StringBuilder(shape.type.getName()).append('[').append(size).append("]{");
+        for (int i = 0; i < offsets.length; i++) {
+            if (i > 0) b.append(", ");
+            b.append(offsets[i]).append(':').append(shape.name(i)).append(' ').append(shape.type(i).getSimpleName());
+        }
+        return b.append('}').toString();
+    }
+}
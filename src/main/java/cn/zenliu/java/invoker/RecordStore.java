@@ -0,0 +1,276 @@
+/*
+ * Source of invoker
+ * Copyright (C) 2023.  Zen.Liu
+ *
+ * SPDX-License-Identifier: GPL-2.0-only WITH Classpath-exception-2.0"
+ *
+ * This program is free software; you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation; version 2.
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program; if not, write to the Free Software Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA 02110-1301, USA.
+ *
+ * Class Path Exception
+ * Linking this library statically or dynamically with other modules is making a combined work based on this library. Thus, the terms and conditions of the GNU General Public License cover the whole combination.
+ *  As a special exception, the copyright holders of this library give you permission to link this library with independent modules to produce an executable, regardless of the license terms of these independent modules, and to copy and distribute the resulting executable under terms of your choice, provided that you also meet, for each linked independent module, the terms and conditions of the license of that module. An independent module is a module which is not derived from or based on this library. If you modify this library, you may extend this exception to your version of the library, but you are not obligated to do so. If you do not wish to do so, delete this exception statement from your version.
+ */
+
+
+package cn.zenliu.java.invoker;
+
+import lombok.SneakyThrows;
+import lombok.var;
+import org.jetbrains.annotations.ApiStatus;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Append-only store of fixed layout records in memory-mapped segment files, layout is the {@link RecordLayout} of the
+ * record class (only primitive fields).<br/>
+ * 1. Records are stored in segment files {@code 0000000000.seg, 0000000001.seg ...} in the directory, each segment is
+ * mapped whole, a new segment is rolled when the last one is full, so the store is not limited by the 2 GB of one mapping.<br/>
+ * 2. Segment header (16 bytes): magic, record size, record count; the count is updated on each append, records survive
+ * reopening with the same segment size.<br/>
+ * 3. {@link #scan(Object, Consumer)} reads fields from the mapped buffer into the typed setters of one reused instance,
+ * {@link #view(long, Flyweight)} reads them in place.<br/>
+ * Appends are synchronized, readers see all records counted by {@link #size()}. Closing does not unmap segments, they are
+ * released by GC.
+ *
+ * @author Zen.Liu
+ * @since 2026-10-19
+ */
+@ApiStatus.AvailableSince("0.0.3")
+public final class RecordStore<T> implements Closeable {
+    public static final int MAGIC = 0x49525331;
+    public static final int HEADER = 16;
+    public static final long DEFAULT_SEGMENT_BYTES = 1L << 30;
+    static final int COUNT = 8;
+
+    public final Path dir;
+    public final RecordLayout layout;
+    final Supplier<? extends T> factory;
+    final int segmentBytes;
+    final int perSegment;
+    final List<Segment> segments = new ArrayList<>();
+    volatile long size;
+    volatile boolean closed;
+
+    static final class Segment {
+        final FileChannel channel;
+        final MappedByteBuffer buffer;
+
+        Segment(FileChannel channel, MappedByteBuffer buffer) {
+            this.channel = channel;
+            this.buffer = buffer;
+        }
+    }
+
+    /**
+     * open store with default segment size.
+     *
+     * @param type record class with a no-arg constructor
+     */
+    public static <T> RecordStore<T> open(Path dir, Class<T> type) {
+        return open(dir, type, BinaryCodec.factory(type), DEFAULT_SEGMENT_BYTES);
+    }
+
+    /**
+     * @param dir          directory of segments, created if not exists
+     * @param type         record class
+     * @param factory      creates instances for {@link #read(long)}
+     * @param segmentBytes bytes of each segment, include header, at most {@link Integer#MAX_VALUE}
+     */
+    @SneakyThrows
+    public static <T> RecordStore<T> open(Path dir, Class<T> type, Supplier<? extends T> factory, long segmentBytes) {
+        var layout = RecordLayout.of(type);
+        if (layout.size() == 0) throw new IllegalArgumentException("no field in " + type.getName());
+        if (segmentBytes > Integer.MAX_VALUE || segmentBytes < HEADER + layout.size())
+            throw new IllegalArgumentException("invalid segment size " + segmentBytes + " for record size " + layout.size());
+        Files.createDirectories(dir);
+        var store = new RecordStore<T>(dir, layout, factory, (int) segmentBytes);
+        store.load();
+        return store;
+    }
+
+    RecordStore(Path dir, RecordLayout layout, Supplier<? extends T> factory, int segmentBytes) {
+        this.dir = dir;
+        this.layout = layout;
+        this.factory = factory;
+        this.segmentBytes = segmentBytes;
+        this.perSegment = (segmentBytes - HEADER) / layout.size();
+    }
+
+    private void load() throws IOException {
+        long total = 0;
+        for (int i = 0; Files.exists(path(i)); i++) {
+            var file = path(i);
+            if (Files.size(file) != segmentBytes)
+                throw new IllegalStateException("segment " + file + " size " + Files.size(file) + " is not " + segmentBytes);
+            var seg = map(file, false);
+            var buf = seg.buffer;
+            if (buf.getInt(0) != MAGIC || buf.getInt(4) != layout.size())
+                throw new IllegalStateException("segment " + file + " is not a store of " + layout);
+            segments.add(seg);
+            var count = buf.getLong(COUNT);
+            total += count;
+            if (count < perSegment) break;
+        }
+        size = total;
+    }
+
+    Path path(int segment) {
+        return dir.resolve(String.format("%010d.seg", segment));
+    }
+
+    private Segment map(Path file, boolean create) throws IOException {
+        var channel = create ?
+                FileChannel.open(file, StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE)
+                : FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        var buf = channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentBytes);
+        buf.order(ByteOrder.LITTLE_ENDIAN);
+        return new Segment(channel, buf);
+    }
+
+    private void roll() throws IOException {
+        var seg = map(path(segments.size()), true);
+        seg.buffer.putInt(0, MAGIC);
+        seg.buffer.putInt(4, layout.size());
+        seg.buffer.putLong(COUNT, 0);
+        segments.add(seg);
+    }
+
+    /**
+     * @return count of records.
+     */
+    public long size() {
+        return size;
+    }
+
+    /**
+     * @return records in one segment.
+     */
+    public int perSegment() {
+        return perSegment;
+    }
+
+    /**
+     * append a record.
+     *
+     * @return index of record
+     */
+    @SneakyThrows
+    public synchronized long append(T record) {
+        if (closed) throw new IllegalStateException("store closed");
+        var index = size;
+        var seg = (int) (index / perSegment);
+        var n = (int) (index % perSegment);
+        if (seg == segments.size()) roll();
+        var buf = segments.get(seg).buffer;
+        layout.write(buf, HEADER + n * layout.size(), record);
+        buf.putLong(COUNT, n + 1);
+        size = index + 1;
+        return index;
+    }
+
+    /**
+     * @return new instance of record at index.
+     */
+    public T read(long index) {
+        T t = factory.get();
+        read(index, t);
+        return t;
+    }
+
+    /**
+     * read record at index into target.
+     */
+    public void read(long index, T target) {
+        check(index);
+        layout.read(buffer(index), offset(index), target);
+    }
+
+    /**
+     * read records one by one into reused target.
+     *
+     * @param target reused instance
+     * @param action called with target after each record is read
+     */
+    public void scan(T target, Consumer<? super T> action) {
+        scan(0, size, target, action);
+    }
+
+    /**
+     * read records in [from, to) one by one into reused target.
+     */
+    public void scan(long from, long to, T target, Consumer<? super T> action) {
+        if (from < 0 || from > to || to > size) throw new IndexOutOfBoundsException("range [" + from + ", " + to + ") size " + size);
+        var recordSize = layout.size();
+        var index = from;
+        while (index < to) {
+            var seg = (int) (index / perSegment);
+            var buf = segments.get(seg).buffer;
+            var end = Math.min(to, (long) (seg + 1) * perSegment);
+            for (var at = offset(index); index < end; index++, at += recordSize) {
+                layout.read(buf, at, target);
+                action.accept(target);
+            }
+        }
+    }
+
+    /**
+     * bind flyweight to record at index in place, the view is valid until the store is closed.
+     *
+     * @param flyweight flyweight of the record class, eg: {@code Flyweight.of(type)}
+     */
+    public Flyweight view(long index, Flyweight flyweight) {
+        check(index);
+        return flyweight.wrap(buffer(index), offset(index));
+    }
+
+    void check(long index) {
+        if (index < 0 || index >= size) throw new IndexOutOfBoundsException("index " + index + ", size " + size);
+    }
+
+    /**
+     * @return mapped segment buffer holds record.
+     */
+    MappedByteBuffer buffer(long index) {
+        return segments.get((int) (index / perSegment)).buffer;
+    }
+
+    /**
+     * @return offset of record in its segment buffer.
+     */
+    int offset(long index) {
+        return HEADER + (int) (index % perSegment) * layout.size();
+    }
+
+    /**
+     * flush mapped segments to disk.
+     */
+    public synchronized void force() {
+        for (var s : segments) s.buffer.force();
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        if (closed) return;
+        closed = true;
+        force();
+        for (var s : segments) s.channel.close();
+    }
+
+    @Override
+    public String toString() {
+        return "RecordStore(" + dir + ", " + layout + ", size=" + size + ")";
+    }
+}
@@ -0,0 +1,294 @@
+/*
+ * Source of invoker
+ * Copyright (C) 2023.  Zen.Liu
+ *
+ * SPDX-License-Identifier: GPL-2.0-only WITH Classpath-exception-2.0"
+ *
+ * This program is free software; you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation; version 2.
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program; if not, write to the Free Software Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA 02110-1301, USA.
+ *
+ * Class Path Exception
+ * Linking this library statically or dynamically with other modules is making a combined work based on this library. Thus, the terms and conditions of the GNU General Public License cover the whole combination.
+ *  As a special exception, the copyright holders of this library give you permission to link this library with independent modules to produce an executable, regardless of the license terms of these independent modules, and to copy and distribute the resulting executable under terms of your choice, provided that you also meet, for each linked independent module, the terms and conditions of the license of that module. An independent module is a module which is not derived from or based on this library. If you modify this library, you may extend this exception to your version of the library, but you are not obligated to do so. If you do not wish to do so, delete this exception statement from your version.
+ */
+
+
+package cn.zenliu.java.invoker;
+
+import lombok.var;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+
+/**
+ * Field state of an object: primitive fields packed into a {@code long[]} (one element per field, floating values by
+ * raw bits) and reference fields into an {@code Object[]}, eg: for undo or optimistic concurrency.
+ * <pre>{@code
+ * var snap = Snapshot.capture(order);
+ * ...
+ * var changed = snap.diff(order);      //bit of each changed slot of ClassShape
+ * Snapshot.restore(order, snap);
+ * Snapshot.capture(order, snap);       //reuse buffers, no allocation
+ * }</pre>
+ * References are captured and compared by identity, not copied. Final fields are captured but never restored.
+ * Slots are the slots of {@link ClassShape} of the captured class.
+ *
+ * @author Zen.Liu
+ * @since 2026-10-19
+ */
+@ApiStatus.AvailableSince("0.0.3")
+public final class Snapshot {
+    static final ClassValue<Plan> PLANS = new ClassValue<Plan>() {
+        @Override
+        protected Plan computeValue(Class<?> type) {
+            return new Plan(ClassShape.of(type));
+        }
+    };
+    final Plan plan;
+    final long[] primitives;
+    final Object[] references;
+
+    Snapshot(Plan plan) {
+        this.plan = plan;
+        this.primitives = new long[plan.primitives];
+        this.references = new Object[plan.shape.size() - plan.primitives];
+    }
+
+    /**
+     * @return empty snapshot buffer of type
+     */
+    public static Snapshot of(Class<?> type) {
+        return new Snapshot(PLANS.get(type));
+    }
+
+    public static Snapshot capture(Object value) {
+        return capture(value, of(value.getClass()));
+    }
+
+    /**
+     * capture value into a reused snapshot.
+     *
+     * @return reuse
+     * @throws IllegalArgumentException if reuse is of another class
+     */
+    public static Snapshot capture(Object value, Snapshot reuse) {
+        reuse.check(value);
+        var p = reuse.plan;
+        for (int s = 0; s < p.kinds.length; s++) {
+            var i = p.index[s];
+            if (p.kinds[s] == ClassShape.REFERENCE) reuse.references[i] = p.getters[s].get(value);
+            else reuse.primitives[i] = read(p.kinds[s], p.getters[s], value);
+        }
+        return reuse;
+    }
+
+    /**
+     * restore all non-final fields of target.
+     */
+    public static void restore(Object target, Snapshot snapshot) {
+        snapshot.check(target);
+        var p = snapshot.plan;
+        for (int s = 0; s < p.kinds.length; s++) snapshot.restore(target, s);
+    }
+
+    public ClassShape shape() {
+        return plan.shape;
+    }
+
+    /**
+     * restore fields of slots in mask.
+     *
+     * @param mask bits of slots, eg: from {@link #diff(Object, long[])}
+     */
+    public void restore(Object target, long[] mask) {
+        check(target);
+        for (int w = 0; w < mask.length; w++) {
+            for (var bits = mask[w]; bits != 0; bits &= bits - 1) {
+                var s = (w << 6) + Long.numberOfTrailingZeros(bits);
+                if (s < plan.kinds.length) restore(target, s);
+            }
+        }
+    }
+
+    void restore(Object target, int s) {
+        var setter = plan.setters[s];
+        if (setter == null) return;
+        var i = plan.index[s];
+        var v = plan.kinds[s] == ClassShape.REFERENCE ? 0 : primitives[i];
+        switch (plan.kinds[s]) {
+            case 0:
+                ((Accessor.BooleanSetter) setter).setValue(target, v != 0);
+                break;
+            case 1:
+                ((Accessor.ByteSetter) setter).setValue(target, (byte) v);
+                break;
+            case 2:
+                ((Accessor.ShortSetter) setter).setValue(target, (short) v);
+                break;
+            case 3:
+                ((Accessor.CharSetter) setter).setValue(target, (char) v);
+                break;
+            case 4:
+                ((Accessor.IntSetter) setter).setValue(target, (int) v);
+                break;
+            case 5:
+                ((Accessor.LongSetter) setter).setValue(target, v);
+                break;
+            case 6:
+                ((Accessor.FloatSetter) setter).setValue(target, Float.intBitsToFloat((int) v));
+                break;
+            case 7:
+                ((Accessor.DoubleSetter) setter).setValue(target, Double.longBitsToDouble(v));
+                break;
+            default:
+                setter.set(target, references[i]);
+        }
+    }
+
+    /**
+     * @return bits of changed slots
+     * @throws IllegalArgumentException for classes of more than 64 fields, use {@link #diff(Object, long[])}
+     */
+    public long diff(Object current) {
+        if (plan.kinds.length > 64) throw new IllegalArgumentException("more than 64 fields in " + plan.shape.type.getName());
+        check(current);
+        var mask = 0L;
+        for (int s = 0; s < plan.kinds.length; s++) if (changed(current, s)) mask |= 1L << s;
+        return mask;
+    }
+
+    /**
+     * @param mask filled with bits of changed slots, at least {@code (size + 63) / 64} words
+     * @return count of changed fields
+     */
+    public int diff(Object current, long[] mask) {
+        check(current);
+        var p = plan;
+        if (mask.length < words()) throw new IllegalArgumentException("mask needs " + words() + " words");
+        Arrays.fill(mask, 0);
+        var n = 0;
+        for (int s = 0; s < p.kinds.length; s++) {
+            if (changed(current, s)) {
+                mask[s >>> 6] |= 1L << s;
+                n++;
+            }
+        }
+        return n;
+    }
+
+    boolean changed(Object current, int s) {
+        var p = plan;
+        var i = p.index[s];
+        return p.kinds[s] == ClassShape.REFERENCE
+                ? references[i] != p.getters[s].get(current)
+                : primitives[i] != read(p.kinds[s], p.getters[s], current);
+    }
+
+    /**
+     * @return bits of slots different from other snapshot of the same class
+     */
+    public long diff(Snapshot other) {
+        if (other.plan != plan) throw new IllegalArgumentException("snapshot of " + other.plan.shape.type.getName());
+        if (plan.kinds.length > 64) throw new IllegalArgumentException("more than 64 fields in " + plan.shape.type.getName());
+        var mask = 0L;
+        for (int s = 0; s < plan.kinds.length; s++) {
+            var i = plan.index[s];
+            var changed = plan.kinds[s] == ClassShape.REFERENCE ? references[i] != other.references[i] : primitives[i] != other.primitives[i];
+            if (changed) mask |= 1L << s;
+        }
+        return mask;
+    }
+
+    /**
+     * @return captured value of slot, boxed
+     */
+    public @Nullable Object get(int slot) {
+        var i = plan.index[slot];
+        var v = plan.kinds[slot] == ClassShape.REFERENCE ? 0 : primitives[i];
+        switch (plan.kinds[slot]) {
+            case 0:
+                return v != 0;
+            case 1:
+                return (byte) v;
+            case 2:
+                return (short) v;
+            case 3:
+                return (char) v;
+            case 4:
+                return (int) v;
+            case 5:
+                return v;
+            case 6:
+                return Float.intBitsToFloat((int) v);
+            case 7:
+                return Double.longBitsToDouble(v);
+            default:
+                return references[i];
+        }
+    }
+
+    /**
+     * @return words of a diff mask
+     */
+    public int words() {
+        return (plan.kinds.length + 63) >>> 6;
+    }
+
+    void check(Object value) {
+        if (value.getClass() != plan.shape.type)
+            throw new IllegalArgumentException("snapshot of " + plan.shape.type.getName() + " but " + value.getClass().getName());
+    }
+
+    static long read(int kind, Accessor.GenericGetter g, Object o) {
+        switch (kind) {
+            case 0:
+                return ((Accessor.BooleanGetter) g).getValue(o) ? 1 : 0;
+            case 1:
+                return ((Accessor.ByteGetter) g).getValue(o);
+            case 2:
+                return ((Accessor.ShortGetter) g).getValue(o);
+            case 3:
+                return ((Accessor.CharGetter) g).getValue(o);
+            case 4:
+                return ((Accessor.IntGetter) g).getValue(o);
+            case 5:
+                return ((Accessor.LongGetter) g).getValue(o);
+            case 6:
+                return Float.floatToRawIntBits(((Accessor.FloatGetter) g).getValue(o));
+            default:
+                return Double.doubleToRawLongBits(((Accessor.DoubleGetter) g).getValue(o));
+        }
+    }
+
+    @Override
+    public String toString() {
+        var b = new StringBuilder("Snapshot(").append(plan.shape.type.getSimpleName());
+        for (int s = 0; s < plan.kinds.length; s++) b.append(s == 0 ? ": " : ", ").append(plan.shape.name(s)).append('=').append(get(s));
+        return b.append(')').toString();
+    }
+
+    /**
+     * Slots of a class to positions in the buffers.
+     */
+    static final class Plan {
+        final ClassShape shape;
+        final int[] kinds;
+        final Accessor.GenericGetter[] getters;
+        final Accessor.GenericSetter[] setters;
+        final int[] index;
+        final int primitives;
+
+        Plan(ClassShape shape) {
+            this.shape = shape;
+            kinds = shape.kinds;
+            getters = shape.getters;
+            setters = shape.setters;
+            index = new int[kinds.length];
+            int p = 0, r = 0;
+            for (int s = 0; s < kinds.length; s++) index[s] = kinds[s] == ClassShape.REFERENCE ? r++ : p++;
+            primitives = p;
+        }
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * Source of invoker
+ * Copyright (C) 2023.  Zen.Liu
+ *
+ * SPDX-License-Identifier: GPL-2.0-only WITH Classpath-exception-2.0"
+ *
+ * This program is free software; you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation; version 2.
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program; if not, write to the Free Software Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA 02110-1301, USA.
+ *
+ * Class Path Exception
+ * Linking this library statically or dynamically with other modules is making a combined work based on this library. Thus, the terms and conditions of the GNU General Public License cover the whole combination.
+ *  As a special exception, the copyright holders of this library give you permission to link this library with independent modules to produce an executable, regardless of the license terms of these independent modules, and to copy and distribute the resulting executable under terms of your choice, provided that you also meet, for each linked independent module, the terms and conditions of the license of that module. An independent module is a module which is not derived from or based on this library. If you modify this library, you may extend this exception to your version of the library, but you are not obligated to do so. If you do not wish to do so, delete this exception statement from your version.
+ */
+
+package cn.zenliu.java.invoker;
+
+import jdk.jfr.*;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+
+/**
+ * {@link InvokerEvents.Recorder} of JDK Flight Recorder events, only in {@code META-INF/versions/11} of the jar.
+ *
+ * @author Zen.Liu
+ * @since 2026-10-19
+ */
+final class JfrRecorder implements InvokerEvents.Recorder {
+    @Override
+    public Object beginGenerate() {
+        GenerateEvent e = new GenerateEvent();
+        e.begin();
+        return e;
+    }
+
+    @Override
+    public void generated(Object event, MethodHandles.Lookup lookup, MethodHandle handle, Object generated) {
+        GenerateEvent e = (GenerateEvent) event;
+        e.end();
+        if (e.shouldCommit()) {
+            e.member = InvokerEvents.member(lookup, handle);
+            commit(e, generated);
+        }
+    }
+
+    @Override
+    public void generated(Object event, String member, Object generated) {
+        GenerateEvent e = (GenerateEvent) event;
+        e.end();
+        if (e.shouldCommit()) {
+            e.member = member;
+            commit(e, generated);
+        }
+    }
+
+    static void commit(GenerateEvent e, Object generated) {
+        e.shape = InvokerEvents.shape(generated);
+        e.generatedClass = generated instanceof Accessor ? ((Accessor) generated).getter.getClass() : generated.getClass();
+        e.commit();
+    }
+
+    @Override
+    public Object invoke(MethodHandle target, String member, @Nullable Object receiver, Object[] args) throws Throwable {
+        InvokeEvent e = new InvokeEvent();
+        if (!e.isEnabled()) return target.invokeExact(args);
+        e.begin();
+        try {
+            return target.invokeExact(args);
+        } catch (Throwable t) {
+            e.thrown = t.getClass();
+            throw t;
+        } finally {
+            e.end();
+            if (e.shouldCommit()) {
+                e.member = member;
+                e.receiverClass = receiver == null ? null : receiver.getClass();
+                e.commit();
+            }
+        }
+    }
+
+    @Name("cn.zenliu.java.invoker.Generate")
+    @Label("Invoker Generate")
+    @Description("Generation of an Invoker or Accessor")
+    @Category("Invoker")
+    @Enabled(false)
+    @StackTrace(false)
+    static final class GenerateEvent extends Event {
+        @Label("Member")
+        String member;
+        @Label("Shape")
+        @Description("Generated SAM interface, eg: ix11, IntGetter/IntSetter")
+        String shape;
+        @Label("Generated Class")
+        Class<?> generatedClass;
+    }
+
+    @Name("cn.zenliu.java.invoker.Invoke")
+    @Label("Invoker Invoke")
+    @Description("Sampled invocation of an Invoker")
+    @Category("Invoker")
+    @Enabled(false)
+    @StackTrace(false)
+    static final class InvokeEvent extends Event {
+        @Label("Member")
+        String member;
+        @Label("Receiver Class")
+        Class<?> receiverClass;
+        @Label("Thrown")
+        Class<?> thrown;
+    }
+}
@@ -65,6 +65,41 @@ class AccessorTest {
                                    "        return getValue(instance);\n" +
                                    "    }\n" +
                                    "    %2$s getValue(Object instance);\n" +
+                                   "    /**\n" +
+                                   "     * Bulk read {@code dst[i] = getValue(src[i])} for i in [from, to).\n" +
+                                   "     */\n" +
+                                   "    default void extract(Object[] src, %2$s[] dst, int from, int to) {\n" +
+                                   "        Columns.check(src.length, dst.length, from, to);\n" +
+                                   "        for (int i = from; i < to; i++) dst[i] = getValue(src[i]);\n" +
+                                   "    }\n" +
+                                   "\n" +
+                                   "    default void extract(Object[] src, %2$s[] dst) {\n" +
+                                   "        extract(src, dst, 0, src.length);\n" +
+                                   "    }\n" +
+                                   "\n" +
+                                   "    default void extract(List<?> src, %2$s[] dst, int from, int to) {\n" +
+                                   "        Columns.check(src.size(), dst.length, from, to);\n" +
+                                   "        if (Columns.splittable(src)) {\n" +
+                                   "            for (int i = from; i < to; i++) dst[i] = getValue(src.get(i));\n" +
+                                   "        } else {\n" +
+                                   "            ListIterator<?> it = src.listIterator(from);\n" +
+                                   "            for (int i = from; i < to; i++) dst[i] = getValue(it.next());\n" +
+                                   "        }\n" +
+                                   "    }\n" +
+                                   "\n" +
+                                   "    /**\n" +
+                                   "     * Bulk read in fork-join common pool, lists without random access are read sequentially.\n" +
+                                   "     */\n" +
+                                   "    default void extractParallel(Object[] src, %2$s[] dst, int from, int to) {\n" +
+                                   "        Columns.check(src.length, dst.length, from, to);\n" +
+                                   "        Columns.parallel(from, to, (a, b) -> extract(src, dst, a, b));\n" +
+                                   "    }\n" +
+                                   "\n" +
+                                   "    default void extractParallel(List<?> src, %2$s[] dst, int from, int to) {\n" +
+                                   "        Columns.check(src.size(), dst.length, from, to);\n" +
+                                   "        if (Columns.splittable(src)) Columns.parallel(from, to, (a, b) -> extract(src, dst, a, b));\n" +
+                                   "        else extract(src, dst, from, to);\n" +
+                                   "    }\n" +
                                    "}\n" +
                                    "public interface %1$sSetter extends Setter ,%1$sValueType{\n" +
                                    "    @Override\n" +
@@ -74,6 +109,41 @@ class AccessorTest {
                                    "        setValue(instance,(%2$s)value);\n" +
                                    "    }\n" +
                                    "    void setValue(Object instance,%2$s value);\n" +
+                                   "    /**\n" +
+                                   "     * Bulk write {@code setValue(targets[i], src[i])} for i in [from, to).\n" +
+                                   "     */\n" +
+                                   "    default void hydrate(%2$s[] src, Object[] targets, int from, int to) {\n" +
+                                   "        Columns.check(targets.length, src.length, from, to);\n" +
+                                   "        for (int i = from; i < to; i++) setValue(targets[i], src[i]);\n" +
+                                   "    }\n" +
+                                   "\n" +
+                                   "    default void hydrate(%2$s[] src, Object[] targets) {\n" +
+                                   "        hydrate(src, targets, 0, targets.length);\n" +
+                                   "    }\n" +
+                                   "\n" +
+                                   "    default void hydrate(%2$s[] src, List<?> targets, int from, int to) {\n" +
+                                   "        Columns.check(targets.size(), src.length, from, to);\n" +
+                                   "        if (Columns.splittable(targets)) {\n" +
+                                   "            for (int i = from; i < to; i++) setValue(targets.get(i), src[i]);\n" +
+                                   "        } else {\n" +
+                                   "            ListIterator<?> it = targets.listIterator(from);\n" +
+                                   "            for (int i = from; i < to; i++) setValue(it.next(), src[i]);\n" +
+                                   "        }\n" +
+                                   "    }\n" +
+                                   "\n" +
+                                   "    /**\n" +
+                                   "     * Bulk write in fork-join common pool, lists without random access are written sequentially.\n" +
+                                   "     */\n" +
+                                   "    default void hydrateParallel(%2$s[] src, Object[] targets, int from, int to) {\n" +
+                                   "        Columns.check(targets.length, src.length, from, to);\n" +
+                                   "        Columns.parallel(from, to, (a, b) -> hydrate(src, targets, a, b));\n" +
+                                   "    }\n" +
+                                   "\n" +
+                                   "    default void hydrateParallel(%2$s[] src, List<?> targets, int from, int to) {\n" +
+                                   "        Columns.check(targets.size(), src.length, from, to);\n" +
+                                   "        if (Columns.splittable(targets)) Columns.parallel(from, to, (a, b) -> hydrate(src, targets, a, b));\n" +
+                                   "        else hydrate(src, targets, from, to);\n" +
+                                   "    }\n" +
                                    "\n" +
                                    "}\n" +
                                    "public interface %1$sStaticGetter extends StaticGetter ,%1$sValueType{\n" +
@@ -298,6 +368,52 @@ class AccessorTest {
     }
 
 
+    static class Point {
+        long x;
+        double y;
+
+        Point(long x) {
+            this.x = x;
+        }
+    }
+
+    @SneakyThrows
+    @Test
+    void columns() {
+        var x = Accessor.field(MethodHandles.lookup(), Point.class.getDeclaredField("x"), Point.class);
+        var y = Accessor.field(MethodHandles.lookup(), Point.class.getDeclaredField("y"), Point.class);
+        var getX = (Accessor.LongGetter) x.getter;
+        var setY = (Accessor.DoubleSetter) y.setter;
+        var n = Columns.THRESHOLD * 4 + 3;
+        var array = new Object[n];
+        for (int i = 0; i < n; i++) array[i] = new Point(i);
+        var xs = new long[n];
+        getX.extract(array, xs);
+        assertEquals(n - 1, xs[n - 1]);
+        var ys = new double[n];
+        for (int i = 0; i < n; i++) ys[i] = i * 0.5;
+        setY.hydrateParallel(ys, array, 0, n);
+        assertEquals((n - 1) * 0.5, ((Point) array[n - 1]).y);
+
+        var linked = new LinkedList<>(Arrays.asList(array));
+        var part = new long[n];
+        getX.extract(linked, part, 10, 20);
+        assertEquals(0, part[9]);
+        assertEquals(19, part[19]);
+        assertEquals(0, part[20]);
+        getX.extractParallel(linked, part, 0, n);
+        assertArrayEquals(xs, part);
+
+        var list = Arrays.asList(array);
+        var parallel = new long[n];
+        getX.extractParallel(list, parallel, 0, n);
+        assertArrayEquals(xs, parallel);
+        setY.hydrate(new double[n], list, 0, 1);
+        assertEquals(0, ((Point) array[0]).y);
+        assertThrows(IndexOutOfBoundsException.class, () -> getX.extract(array, new long[1], 0, 2));
+        assertThrows(IndexOutOfBoundsException.class, () -> setY.hydrate(ys, array, 3, 2));
+    }
+
     @Test
     void fieldsOfJvm() {
         var accessorMap = Accessor.fields(MethodHandles.lookup(), String.class, null);
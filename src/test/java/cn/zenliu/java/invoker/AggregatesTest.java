@@ -0,0 +1,133 @@
+/*
+ * Source of invoker
+ * Copyright (C) 2023.  Zen.Liu
+ *
+ * SPDX-License-Identifier: GPL-2.0-only WITH Classpath-exception-2.0"
+ *
+ * This program is free software; you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation; version 2.
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program; if not, write to the Free Software Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA 02110-1301, USA.
+ *
+ * Class Path Exception
+ * Linking this library statically or dynamically with other modules is making a combined work based on this library. Thus, the terms and conditions of the GNU General Public License cover the whole combination.
+ *  As a special exception, the copyright holders of this library give you permission to link this library with independent modules to produce an executable, regardless of the license terms of these independent modules, and to copy and distribute the resulting executable under terms of your choice, provided that you also meet, for each linked independent module, the terms and conditions of the license of that module. An independent module is a module which is not derived from or based on this library. If you modify this library, you may extend this exception to your version of the library, but you are not obligated to do so. If you do not wish to do so, delete this exception statement from your version.
+ */
+
+
+package cn.zenliu.java.invoker;
+
+import lombok.var;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AggregatesTest {
+    public static class Order {
+        int id;
+        long quantity;
+        double amount;
+        float rate;
+        char grade;
+        boolean paid;
+        String region;
+        Integer bonus;
+    }
+
+    static List<Order> orders(int n) {
+        var random = new Random(11);
+        var l = new ArrayList<Order>();
+        for (int i = 0; i < n; i++) {
+            var o = new Order();
+            o.id = i;
+            o.quantity = random.nextInt(1000) - 100;
+            o.amount = random.nextInt(100000) / 100.0;
+            o.rate = i % 4 * 0.5f;
+            o.grade = (char) ('A' + i % 3);
+            o.paid = i % 2 == 0;
+            o.region = i % 5 == 0 ? null : "R" + i % 4;
+            o.bonus = i % 3 == 0 ? null : i;
+            l.add(o);
+        }
+        return l;
+    }
+
+    @Test
+    void single() {
+        var orders = orders(Columns.THRESHOLD * 4 + 3);
+        var s = Aggregates.stats(orders, "quantity");
+        var expected = orders.stream().mapToLong(o -> o.quantity).summaryStatistics();
+        assertEquals(expected.getCount(), s.count());
+        assertEquals(expected.getSum(), s.sumLong());
+        assertEquals(expected.getMin(), s.min());
+        assertEquals(expected.getMax(), s.max());
+        assertEquals(expected.getAverage(), s.avg(), 1e-9);
+        var amount = orders.stream().mapToDouble(o -> o.amount).summaryStatistics();
+        assertEquals(amount.getSum(), Aggregates.sum(orders, "amount"), 1e-3);
+        assertEquals(amount.getMin(), Aggregates.min(orders, "amount"));
+        assertEquals(amount.getMax(), Aggregates.max(orders, "amount"));
+        assertEquals(amount.getAverage(), Aggregates.avg(new LinkedList<>(orders), "amount"), 1e-9);
+        var bonus = Aggregates.stats(orders, "bonus");
+        assertEquals(orders.stream().filter(o -> o.bonus != null).count(), bonus.count());
+        assertEquals(orders.stream().filter(o -> o.bonus != null).mapToDouble(o -> o.bonus).sum(), bonus.sum());
+        assertThrows(IllegalStateException.class, bonus::sumLong);
+        var empty = Aggregates.stats(Collections.emptyList(), "amount");
+        assertEquals(0, empty.count());
+        assertTrue(Double.isNaN(empty.avg()));
+        assertThrows(IllegalArgumentException.class, () -> Aggregates.sum(orders, "region"));
+        assertThrows(IllegalArgumentException.class, () -> Aggregates.sum(orders, "paid"));
+        assertThrows(IllegalArgumentException.class, () -> Aggregates.sum(orders, "missing"));
+    }
+
+    @Test
+    void groups() {
+        var orders = orders(Columns.THRESHOLD * 3 + 1);
+        var byRegion = Aggregates.groupBy(orders, "region");
+        assertEquals(Arrays.asList(null, "R1", "R2", "R3", "R0"), byRegion.keys());
+        var sums = byRegion.sum("amount");
+        var expected = new HashMap<Object, Double>();
+        for (var o : orders) expected.merge(o.region, o.amount, Double::sum);
+        assertEquals(expected.keySet(), sums.keySet());
+        expected.forEach((k, v) -> assertEquals(v, sums.get(k), 1e-3));
+
+        var byGrade = Aggregates.groupBy(orders, Order.class, "grade");
+        assertEquals(Arrays.asList('A', 'B', 'C'), byGrade.keys());
+        var count = byGrade.count();
+        assertEquals((long) orders.stream().filter(o -> o.grade == 'B').count(), (long) count.get('B'));
+        var max = byGrade.max("quantity");
+        assertEquals((double) orders.stream().filter(o -> o.grade == 'C').mapToLong(o -> o.quantity).max().getAsLong(), max.get('C'));
+        var lists = byGrade.lists();
+        assertEquals(orders.stream().filter(o -> o.grade == 'A').collect(Collectors.toList()), lists.get('A'));
+
+        var byRate = Aggregates.groupBy(orders, "rate");
+        assertEquals(Arrays.asList(0f, 0.5f, 1f, 1.5f), byRate.keys());
+        var avg = byRate.avg("id");
+        assertEquals(orders.stream().filter(o -> o.rate == 1f).mapToInt(o -> o.id).average().getAsDouble(), avg.get(1f), 1e-9);
+        assertEquals(Arrays.asList(true, false), Aggregates.groupBy(orders, "paid").keys());
+        var byId = Aggregates.groupBy(orders, "id");
+        assertEquals(orders.size(), byId.size());
+        assertEquals(1.0, byId.min("rate").get(1) * 2);
+        assertEquals(0, Aggregates.groupBy(Collections.emptyList(), "id").size());
+    }
+
+    @Test
+    void manyGroups() {
+        var orders = orders(Columns.THRESHOLD * 16);
+        var byId = Aggregates.groupBy(orders, "id");
+        assertEquals(orders.size(), byId.size());
+        var sums = byId.sum("quantity");
+        var counts = byId.count();
+        for (var o : orders) {
+            assertEquals((double) o.quantity, sums.get(o.id));
+            assertEquals(1L, (long) counts.get(o.id));
+        }
+        var byAmount = Aggregates.groupBy(orders, "amount");
+        var max = byAmount.max("quantity");
+        var expected = new HashMap<Object, Long>();
+        for (var o : orders) expected.merge(o.amount, o.quantity, Math::max);
+        assertEquals(expected.size(), max.size());
+        expected.forEach((k, v) -> assertEquals((double) v, max.get(k)));
+    }
+}
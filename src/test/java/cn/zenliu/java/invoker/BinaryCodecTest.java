@@ -0,0 +1,144 @@
+/*
+ * Source of invoker
+ * Copyright (C) 2023.  Zen.Liu
+ *
+ * SPDX-License-Identifier: GPL-2.0-only WITH Classpath-exception-2.0"
+ *
+ * This program is free software; you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation; version 2.
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program; if not, write to the Free Software Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA 02110-1301, USA.
+ *
+ * Class Path Exception
+ * Linking this library statically or dynamically with other modules is making a combined work based on this library. Thus, the terms and conditions of the GNU General Public License cover the whole combination.
+ *  As a special exception, the copyright holders of this library give you permission to link this library with independent modules to produce an executable, regardless of the license terms of these independent modules, and to copy and distribute the resulting executable under terms of your choice, provided that you also meet, for each linked independent module, the terms and conditions of the license of that module. An independent module is a module which is not derived from or based on this library. If you modify this library, you may extend this exception to your version of the library, but you are not obligated to do so. If you do not wish to do so, delete this exception statement from your version.
+ */
+
+
+package cn.zenliu.java.invoker;
+
+import lombok.var;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.HashMap;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BinaryCodecTest {
+    public enum Kind {A, B}
+
+    public static class Address {
+        String city;
+        int zip;
+    }
+
+    public static class Person {
+        long id;
+        int age;
+        double score;
+        boolean active;
+        char grade;
+        String name;
+        Integer rank;
+        Kind kind;
+        Address address;
+        Person parent;
+        LocalDate born;
+    }
+
+    static Person person() {
+        var p = new Person();
+        p.id = -5;
+        p.age = 42;
+        p.score = 1.25;
+        p.active = true;
+        p.grade = 'B';
+        p.name = "中文 name";
+        p.rank = 3;
+        p.kind = Kind.B;
+        p.address = new Address();
+        p.address.city = "Here";
+        p.address.zip = 12345;
+        p.parent = new Person();
+        p.parent.id = 1;
+        p.born = LocalDate.of(2000, 1, 2);
+        return p;
+    }
+
+    static final BinaryCodec.Codec<LocalDate> DATE = BinaryCodec.codec((b, v) -> b.putLong(v.toEpochDay()), b -> LocalDate.ofEpochDay(b.getLong()));
+
+    @Test
+    void roundTrip() {
+        var codecs = new HashMap<Class<?>, BinaryCodec.Codec<?>>();
+        codecs.put(LocalDate.class, DATE);
+        for (var varint : new boolean[]{false, true}) {
+            var codec = BinaryCodec.of(Person.class, varint, codecs);
+            var buf = ByteBuffer.allocate(1024);
+            var p = person();
+            codec.write(buf, p);
+            codec.write(buf, p.parent);
+            var size = buf.position();
+            buf.flip();
+            var r = codec.read(buf);
+            assertEquals(-5, r.id);
+            assertEquals(42, r.age);
+            assertEquals(1.25, r.score);
+            assertTrue(r.active);
+            assertEquals('B', r.grade);
+            assertEquals("中文 name", r.name);
+            assertEquals(3, r.rank);
+            assertEquals(Kind.B, r.kind);
+            assertEquals("Here", r.address.city);
+            assertEquals(12345, r.address.zip);
+            assertEquals(1, r.parent.id);
+            assertNull(r.parent.name);
+            assertNull(r.parent.parent);
+            assertEquals(p.born, r.born);
+            var parent = codec.read(buf);
+            assertEquals(1, parent.id);
+            assertNull(parent.born);
+            assertEquals(size, buf.position());
+        }
+    }
+
+    @Test
+    void varint() {
+        var buf = ByteBuffer.allocate(64);
+        for (var v : new long[]{0, 1, -1, 63, -64, 64, Long.MAX_VALUE, Long.MIN_VALUE}) {
+            buf.clear();
+            BinaryCodec.writeVarLong(buf, v);
+            buf.flip();
+            assertEquals(v, BinaryCodec.readVarLong(buf));
+        }
+        for (var v : new int[]{0, -1, Integer.MAX_VALUE, Integer.MIN_VALUE}) {
+            buf.clear();
+            BinaryCodec.writeVarInt(buf, v);
+            buf.flip();
+            assertEquals(v, BinaryCodec.readVarInt(buf));
+        }
+        buf.clear();
+        BinaryCodec.writeVarInt(buf, -1);
+        assertEquals(1, buf.position());
+    }
+
+    @Test
+    void compact() {
+        var fixed = ByteBuffer.allocate(256);
+        var packed = ByteBuffer.allocate(256);
+        var a = new Address();
+        a.zip = 7;
+        BinaryCodec.of(Address.class).write(fixed, a);
+        BinaryCodec.of(Address.class, true, Collections.emptyMap()).write(packed, a);
+        //bitmap + int
+        assertEquals(1 + 4, fixed.position());
+        assertEquals(1 + 1, packed.position());
+        assertSame(BinaryCodec.of(Address.class), BinaryCodec.of(Address.class));
+    }
+
+    @Test
+    void unsupported() {
+        assertThrows(IllegalArgumentException.class, () -> BinaryCodec.of(Person.class));
+    }
+}
@@ -0,0 +1,135 @@
+/*
+ * Source of invoker
+ * Copyright (C) 2023.  Zen.Liu
+ *
+ * SPDX-License-Identifier: GPL-2.0-only WITH Classpath-exception-2.0"
+ *
+ * This program is free software; you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation; version 2.
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program; if not, write to the Free Software Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA 02110-1301, USA.
+ *
+ * Class Path Exception
+ * Linking this library statically or dynamically with other modules is making a combined work based on this library. Thus, the terms and conditions of the GNU General Public License cover the whole combination.
+ *  As a special exception, the copyright holders of this library give you permission to link this library with independent modules to produce an executable, regardless of the license terms of these independent modules, and to copy and distribute the resulting executable under terms of your choice, provided that you also meet, for each linked independent module, the terms and conditions of the license of that module. An independent module is a module which is not derived from or based on this library. If you modify this library, you may extend this exception to your version of the library, but you are not obligated to do so. If you do not wish to do so, delete this exception statement from your version.
+ */
+
+
+package cn.zenliu.java.invoker;
+
+import lombok.var;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ClassShapeTest {
+    public static class Base {
+        static int counter;
+        int id;
+        String name;
+        final long created = 1L;
+    }
+
+    public static class Child extends Base {
+        double score;
+        boolean active;
+        String name;
+    }
+
+    public static class Colliding {
+        public int Aa;
+        public int BB;
+        public int AaAa;
+        public int BBBB;
+        public int AaBB;
+    }
+
+    public static class Wide {
+        int f0, f1, f2, f3, f4, f5, f6, f7, f8, f9, f10, f11, f12, f13, f14, f15, f16, f17, f18, f19,
+                f20, f21, f22, f23, f24, f25, f26, f27, f28, f29, f30, f31, f32, f33, f34, f35, f36, f37, f38, f39;
+    }
+
+    @Test
+    void slots() {
+        var base = ClassShape.of(Base.class);
+        assertSame(base, ClassShape.of(Base.class));
+        assertEquals(3, base.size());
+        assertArrayEquals(new String[]{"id", "name", "created"}, base.names());
+        assertEquals(-1, base.slotOf("counter"));
+        assertEquals(-1, base.slotOf("missing"));
+        assertFalse(base.canSet(base.slotOf("created")));
+
+        var child = ClassShape.of(Child.class);
+        assertEquals(5, child.size());
+        //superclass slots are stable
+        assertEquals(base.slotOf("id"), child.slotOf("id"));
+        assertEquals(base.slotOf("created"), child.slotOf("created"));
+        //shadowing field takes the slot
+        var name = child.slotOf("name");
+        assertEquals(base.slotOf("name"), name);
+        assertEquals(Child.class, child.field(name).getDeclaringClass());
+        assertArrayEquals(new int[]{child.slotOf("score")}, child.slotsOf(double.class));
+    }
+
+    @Test
+    void access() {
+        var shape = ClassShape.of(Child.class);
+        var c = new Child();
+        var id = shape.slotOf("id");
+        var score = shape.slotOf("score");
+        var active = shape.slotOf("active");
+        var name = shape.slotOf("name");
+        shape.setInt(c, id, 7);
+        shape.setDouble(c, score, 1.5);
+        shape.setBoolean(c, active, true);
+        shape.set(c, name, "child");
+        assertEquals(7, c.id);
+        assertEquals(1.5, c.score);
+        assertTrue(c.active);
+        assertEquals("child", c.name);
+        assertNull(((Base) c).name);
+        assertEquals(7, shape.getInt(c, id));
+        assertEquals(1.5, shape.getDouble(c, score));
+        assertEquals("child", shape.get(c, name));
+        assertEquals(1L, shape.getLong(c, shape.slotOf("created")));
+        assertThrows(ClassCastException.class, () -> shape.getLong(c, id));
+    }
+
+    @Test
+    void nameLookup() {
+        var shape = ClassShape.of(Wide.class);
+        assertEquals(40, shape.size());
+        var seen = new HashSet<Integer>();
+        for (int i = 0; i < 40; i++) {
+            var slot = shape.slotOf("f" + i);
+            assertEquals("f" + i, shape.name(slot));
+            assertTrue(seen.add(slot));
+            assertEquals(-1, shape.slotOf("g" + i));
+        }
+        assertEquals(0, ClassShape.of(Object.class).size());
+        assertEquals(-1, ClassShape.of(Object.class).slotOf("any"));
+    }
+
+    @Test
+    void collidingNames() {
+        assertEquals("Aa".hashCode(), "BB".hashCode());
+        var shape = ClassShape.of(Colliding.class);
+        assertEquals(5, shape.size());
+        var c = new Colliding();
+        c.Aa = 1;
+        c.BB = 2;
+        c.AaAa = 3;
+        c.BBBB = 4;
+        c.AaBB = 5;
+        var seen = new HashSet<Integer>();
+        for (var name : new String[]{"Aa", "BB", "AaAa", "BBBB", "AaBB"}) {
+            var slot = shape.slotOf(name);
+            assertEquals(name, shape.name(slot));
+            assertTrue(seen.add(slot));
+        }
+        assertEquals(2, shape.getInt(c, shape.slotOf("BB")));
+        assertEquals(5, shape.getInt(c, shape.slotOf("AaBB")));
+        assertEquals(-1, shape.slotOf("BBAa"));
+    }
+}
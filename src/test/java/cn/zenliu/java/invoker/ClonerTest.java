@@ -0,0 +1,187 @@
+/*
+ * Source of invoker
+ * Copyright (C) 2023.  Zen.Liu
+ *
+ * SPDX-License-Identifier: GPL-2.0-only WITH Classpath-exception-2.0"
+ *
+ * This program is free software; you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation; version 2.
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program; if not, write to the Free Software Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA 02110-1301, USA.
+ *
+ * Class Path Exception
+ * Linking this library statically or dynamically with other modules is making a combined work based on this library. Thus, the terms and conditions of the GNU General Public License cover the whole combination.
+ *  As a special exception, the copyright holders of this library give you permission to link this library with independent modules to produce an executable, regardless of the license terms of these independent modules, and to copy and distribute the resulting executable under terms of your choice, provided that you also meet, for each linked independent module, the terms and conditions of the license of that module. An independent module is a module which is not derived from or based on this library. If you modify this library, you may extend this exception to your version of the library, but you are not obligated to do so. If you do not wish to do so, delete this exception statement from your version.
+ */
+
+
+package cn.zenliu.java.invoker;
+
+import lombok.var;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ClonerTest {
+    public static class Node {
+        int id;
+        double weight;
+        String name;
+        Node next;
+        int[] codes;
+        Node[] children;
+        List<Node> list;
+        Map<String, Node> map;
+        TreeSet<String> tags;
+    }
+
+    public static class Point {
+        final int x;
+        final int[] ys;
+
+        Point(int x, int[] ys) {
+            this.x = x;
+            this.ys = ys;
+        }
+    }
+
+    public static class Special extends Node {
+        long extra;
+    }
+
+    public static class Holder {
+        EnumSet<Thread.State> states;
+        Vector<Node> vector;
+        ConcurrentSkipListMap<String, Node> skip;
+        EnumMap<Thread.State, Node> byState;
+        PriorityQueue<String> queue;
+        Stack<Node> stack;
+        CopyOnWriteArrayList<Node> cow;
+        Date date;
+        List<Node> view;
+    }
+
+    static Node node(int id) {
+        var n = new Node();
+        n.id = id;
+        n.weight = id * 1.5;
+        n.name = "n" + id;
+        return n;
+    }
+
+    @Test
+    void shallow() {
+        var a = node(1);
+        a.codes = new int[]{1};
+        a.next = node(2);
+        var cloner = Cloner.of(Node.class);
+        assertSame(cloner, Cloner.of(Node.class));
+        var b = cloner.shallow(a);
+        assertNotSame(a, b);
+        assertEquals(1, b.id);
+        assertEquals(1.5, b.weight);
+        assertSame(a.name, b.name);
+        assertSame(a.codes, b.codes);
+        assertSame(a.next, b.next);
+        var s = new Special();
+        s.id = 3;
+        s.extra = 7;
+        Node c = cloner.shallow(s);
+        assertTrue(c instanceof Special);
+        assertEquals(7, ((Special) c).extra);
+        assertNull(cloner.shallow(null));
+    }
+
+    @Test
+    void deep() {
+        var a = node(1);
+        var b = node(2);
+        a.next = b;
+        b.next = a;
+        a.codes = new int[]{1, 2};
+        a.children = new Node[]{b, a, null};
+        a.list = new ArrayList<>(Arrays.asList(b, b));
+        a.map = new LinkedHashMap<>();
+        a.map.put("self", a);
+        a.tags = new TreeSet<>(Comparator.reverseOrder());
+        a.tags.addAll(Arrays.asList("x", "y"));
+        var c = Cloner.of(Node.class).deep(a);
+        assertNotSame(a, c);
+        assertNotSame(b, c.next);
+        assertEquals("n2", c.next.name);
+        assertSame(c, c.next.next);
+        assertArrayEquals(a.codes, c.codes);
+        assertNotSame(a.codes, c.codes);
+        assertSame(c.next, c.children[0]);
+        assertSame(c, c.children[1]);
+        assertNull(c.children[2]);
+        assertSame(c.list.get(0), c.list.get(1));
+        assertSame(c.next, c.list.get(0));
+        assertTrue(c.list instanceof ArrayList);
+        assertSame(c, c.map.get("self"));
+        assertEquals(Arrays.asList("y", "x"), new ArrayList<>(c.tags));
+        assertNotSame(a.tags, c.tags);
+    }
+
+    @Test
+    void noConstructor() {
+        var p = new Point(3, new int[]{4});
+        var cloner = Cloner.of(Point.class);
+        var q = cloner.shallow(p);
+        assertEquals(3, q.x);
+        assertSame(p.ys, q.ys);
+        var r = cloner.deep(p);
+        assertEquals(3, r.x);
+        assertArrayEquals(p.ys, r.ys);
+        assertNotSame(p.ys, r.ys);
+        assertEquals(0, cloner.allocate().x);
+        assertThrows(IllegalArgumentException.class, () -> Cloner.of(AbstractList.class));
+    }
+
+    @Test
+    void jdkTypes() {
+        var a = node(1);
+        var h = new Holder();
+        h.states = EnumSet.of(Thread.State.NEW, Thread.State.BLOCKED);
+        h.vector = new Vector<>(Collections.singletonList(a));
+        h.skip = new ConcurrentSkipListMap<>(Comparator.reverseOrder());
+        h.skip.put("x", a);
+        h.skip.put("y", a);
+        h.byState = new EnumMap<>(Thread.State.class);
+        h.byState.put(Thread.State.NEW, a);
+        h.queue = new PriorityQueue<>(Comparator.reverseOrder());
+        h.queue.addAll(Arrays.asList("x", "z", "y"));
+        h.stack = new Stack<>();
+        h.stack.push(a);
+        h.stack.push(node(2));
+        h.cow = new CopyOnWriteArrayList<>(Collections.singletonList(a));
+        h.date = new Date(1000);
+        h.view = Collections.unmodifiableList(h.vector);
+        var c = Cloner.of(Holder.class).deep(h);
+        var b = c.vector.get(0);
+        assertNotSame(a, b);
+        assertEquals(h.states, c.states);
+        assertNotSame(h.states, c.states);
+        assertSame(Vector.class, c.vector.getClass());
+        assertSame(ConcurrentSkipListMap.class, c.skip.getClass());
+        assertEquals("y", c.skip.firstKey());
+        assertSame(b, c.skip.get("x"));
+        assertSame(EnumMap.class, c.byState.getClass());
+        assertSame(b, c.byState.get(Thread.State.NEW));
+        assertSame(PriorityQueue.class, c.queue.getClass());
+        assertEquals("z", c.queue.poll());
+        assertEquals(3, h.queue.size());
+        assertSame(Stack.class, c.stack.getClass());
+        assertEquals("n2", c.stack.pop().name);
+        assertSame(b, c.stack.peek());
+        assertEquals(2, h.stack.size());
+        assertSame(CopyOnWriteArrayList.class, c.cow.getClass());
+        assertSame(b, c.cow.get(0));
+        assertEquals(h.date, c.date);
+        assertNotSame(h.date, c.date);
+        assertSame(h.view, c.view);
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * Source of invoker
+ * Copyright (C) 2023.  Zen.Liu
+ *
+ * SPDX-License-Identifier: GPL-2.0-only WITH Classpath-exception-2.0"
+ *
+ * This program is free software; you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation; version 2.
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program; if not, write to the Free Software Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA 02110-1301, USA.
+ *
+ * Class Path Exception
+ * Linking this library statically or dynamically with other modules is making a combined work based on this library. Thus, the terms and conditions of the GNU General Public License cover the whole combination.
+ *  As a special exception, the copyright holders of this library give you permission to link this library with independent modules to produce an executable, regardless of the license terms of these independent modules, and to copy and distribute the resulting executable under terms of your choice, provided that you also meet, for each linked independent module, the terms and conditions of the license of that module. An independent module is a module which is not derived from or based on this library. If you modify this library, you may extend this exception to your version of the library, but you are not obligated to do so. If you do not wish to do so, delete this exception statement from your version.
+ */
+
+
+package cn.zenliu.java.invoker;
+
+import lombok.var;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ColumnarListTest {
+    public static class Base {
+        long id;
+    }
+
+    public static class Row extends Base {
+        int age;
+        double score;
+        boolean active;
+        char grade;
+        String name;
+
+        static Row of(int i) {
+            var r = new Row();
+            r.id = i * 10L;
+            r.age = i;
+            r.score = i * 0.5;
+            r.active = i % 2 == 0;
+            r.grade = (char) ('A' + i % 5);
+            r.name = "n" + i;
+            return r;
+        }
+    }
+
+    static class Frozen {
+        final int value = 1;
+    }
+
+    @Test
+    void addGet() {
+        var list = ColumnarList.of(Row.class);
+        var n = ColumnarList.CHUNK * 2 + 5;
+        for (int i = 0; i < n; i++) list.add(Row.of(i));
+        assertEquals(n, list.size());
+        assertEquals(3, list.chunks);
+        for (int i : new int[]{0, ColumnarList.CHUNK - 1, ColumnarList.CHUNK, n - 1}) {
+            var r = list.get(i);
+            assertEquals(i * 10L, r.id);
+            assertEquals(i, r.age);
+            assertEquals(i * 0.5, r.score);
+            assertEquals(i % 2 == 0, r.active);
+            assertEquals((char) ('A' + i % 5), r.grade);
+            assertEquals("n" + i, r.name);
+        }
+        assertNotSame(list.get(1), list.get(1));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(n));
+        var old = list.set(1, Row.of(100));
+        assertEquals(1, old.age);
+        assertEquals(100, list.get(1).age);
+        assertEquals(n, new ArrayList<>(list).size());
+        list.clear();
+        assertTrue(list.isEmpty());
+        list.add(Row.of(7));
+        assertEquals(7, list.get(0).age);
+    }
+
+    @Test
+    void cursors() {
+        var list = ColumnarList.of(Row.class, Row::new);
+        var n = ColumnarList.CHUNK + 10;
+        long expected = 0;
+        for (int i = 0; i < n; i++) {
+            list.add(Row.of(i));
+            expected += i;
+        }
+        ColumnarList.IntCursor ages = list.cursor("age");
+        long sum = 0;
+        while (ages.next()) sum += ages.value();
+        assertEquals(expected, sum);
+        assertEquals(n - 1, ages.row());
+        ages.reset();
+        while (ages.next()) ages.value(ages.value() + 1);
+        assertEquals(n, list.get(n - 1).age);
+
+        ColumnarList.LongCursor ids = list.cursor(list.shape().slotOf("id"));
+        assertTrue(ids.next());
+        assertEquals(0, ids.value());
+        ColumnarList.ObjectCursor names = list.cursor("name");
+        assertTrue(names.next());
+        assertEquals("n0", names.value());
+        assertThrows(ClassCastException.class, () -> {
+            ColumnarList.IntCursor c = list.cursor("score");
+        });
+        assertThrows(IllegalArgumentException.class, () -> list.cursor("missing"));
+    }
+
+    @Test
+    void rejects() {
+        assertThrows(IllegalArgumentException.class, () -> ColumnarList.of(Frozen.class, Frozen::new));
+        assertThrows(NullPointerException.class, () -> ColumnarList.of(Row.class).add(null));
+    }
+}
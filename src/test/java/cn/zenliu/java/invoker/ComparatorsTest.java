@@ -0,0 +1,123 @@
+/*
+ * Source of invoker
+ * Copyright (C) 2023.  Zen.Liu
+ *
+ * SPDX-License-Identifier: GPL-2.0-only WITH Classpath-exception-2.0"
+ *
+ * This program is free software; you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation; version 2.
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program; if not, write to the Free Software Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA 02110-1301, USA.
+ *
+ * Class Path Exception
+ * Linking this library statically or dynamically with other modules is making a combined work based on this library. Thus, the terms and conditions of the GNU General Public License cover the whole combination.
+ *  As a special exception, the copyright holders of this library give you permission to link this library with independent modules to produce an executable, regardless of the license terms of these independent modules, and to copy and distribute the resulting executable under terms of your choice, provided that you also meet, for each linked independent module, the terms and conditions of the license of that module. An independent module is a module which is not derived from or based on this library. If you modify this library, you may extend this exception to your version of the library, but you are not obligated to do so. If you do not wish to do so, delete this exception statement from your version.
+ */
+
+
+package cn.zenliu.java.invoker;
+
+import lombok.var;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ComparatorsTest {
+    public static class Order {
+        String region;
+        double price;
+        long id;
+        boolean vip;
+
+        Order(String region, double price, long id) {
+            this.region = region;
+            this.price = price;
+            this.id = id;
+        }
+
+        @Override
+        public String toString() {
+            return region + "/" + price + "/" + id;
+        }
+    }
+
+    /**
+     * compareTo returns extreme values, as some comparisons by subtraction do.
+     */
+    static class Rank implements Comparable<Rank> {
+        final int value;
+
+        Rank(int value) {
+            this.value = value;
+        }
+
+        @Override
+        public int compareTo(Rank o) {
+            return value == o.value ? 0 : value < o.value ? Integer.MIN_VALUE : Integer.MAX_VALUE;
+        }
+    }
+
+    public static class Ranked {
+        Rank rank;
+
+        Ranked(int rank) {
+            this.rank = new Rank(rank);
+        }
+    }
+
+    static class Opaque {
+        Object any;
+    }
+
+    @Test
+    void sort() {
+        var l = new ArrayList<>(Arrays.asList(
+                new Order("b", 1, 3), new Order(null, 5, 1), new Order("a", 2, 2),
+                new Order("a", 2, 1), new Order("b", 9, 4), new Order("a", 7, 5)));
+        l.sort(Comparators.of(Order.class, "region", "-price", "id"));
+        assertEquals("[a/7.0/5, a/2.0/1, a/2.0/2, b/9.0/4, b/1.0/3, null/5.0/1]", l.toString());
+        l.sort(Comparators.of(Order.class, "-region nulls first", "id"));
+        assertEquals("[null/5.0/1, b/1.0/3, b/9.0/4, a/2.0/1, a/2.0/2, a/7.0/5]", l.toString());
+    }
+
+    @Test
+    void sameAsChain() {
+        var random = new Random(7);
+        var l = new ArrayList<Order>();
+        for (int i = 0; i < 2000; i++) {
+            var o = new Order(random.nextInt(10) == 0 ? null : "r" + random.nextInt(5), random.nextInt(20), random.nextInt(1000));
+            o.vip = random.nextBoolean();
+            l.add(o);
+        }
+        var chain = Comparator.comparing((Order o) -> o.region, Comparator.nullsLast(Comparator.<String>naturalOrder()))
+                .thenComparing(o -> o.vip, Comparator.reverseOrder())
+                .thenComparingDouble(o -> o.price)
+                .thenComparingLong(o -> o.id);
+        var compiled = Comparators.of(Order.class, "+region nulls last", "-vip", "price", "id");
+        assertEquals(l.stream().sorted(chain).collect(Collectors.toList()), l.stream().sorted(compiled).collect(Collectors.toList()));
+    }
+
+    @Test
+    void extremeCompareTo() {
+        var low = new Ranked(1);
+        var high = new Ranked(2);
+        var ascending = Comparators.of(Ranked.class, "rank");
+        var descending = Comparators.of(Ranked.class, "-rank");
+        assertTrue(ascending.compare(low, high) < 0);
+        assertTrue(descending.compare(low, high) > 0);
+        assertTrue(descending.compare(high, low) < 0);
+        assertEquals(0, descending.compare(low, new Ranked(1)));
+    }
+
+    @Test
+    void invalid() {
+        assertThrows(IllegalArgumentException.class, () -> Comparators.of(Order.class, "missing"));
+        assertThrows(IllegalArgumentException.class, () -> Comparators.of(Order.class));
+        assertThrows(IllegalArgumentException.class, () -> Comparators.of(Opaque.class, "any"));
+    }
+}
@@ -0,0 +1,134 @@
+/*
+ * Source of invoker
+ * Copyright (C) 2023.  Zen.Liu
+ *
+ * SPDX-License-Identifier: GPL-2.0-only WITH Classpath-exception-2.0"
+ *
+ * This program is free software; you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation; version 2.
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program; if not, write to the Free Software Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA 02110-1301, USA.
+ *
+ * Class Path Exception
+ * Linking this library statically or dynamically with other modules is making a combined work based on this library. Thus, the terms and conditions of the GNU General Public License cover the whole combination.
+ *  As a special exception, the copyright holders of this library give you permission to link this library with independent modules to produce an executable, regardless of the license terms of these independent modules, and to copy and distribute the resulting executable under terms of your choice, provided that you also meet, for each linked independent module, the terms and conditions of the license of that module. An independent module is a module which is not derived from or based on this library. If you modify this library, you may extend this exception to your version of the library, but you are not obligated to do so. If you do not wish to do so, delete this exception statement from your version.
+ */
+
+
+package cn.zenliu.java.invoker;
+
+import lombok.SneakyThrows;
+import lombok.var;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.concurrent.atomic.LongAdder;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CsvLoaderTest {
+    public enum Side {BUY, SELL}
+
+    public static class Trade {
+        long id;
+        int qty;
+        double price;
+        boolean open;
+        String symbol;
+        Side side;
+        Integer venue;
+    }
+
+    @SneakyThrows
+    @Test
+    void load(@TempDir Path dir) {
+        var file = dir.resolve("t.csv");
+        Files.write(file, ("\uFEFFid,symbol,ignored,price,qty,open,side,venue\r\n"
+                           + "1,\"A,\"\"B\"\"\",x,12.5,-3,true,BUY,7\r\n"
+                           + "2, C ,,1e3,4,0,SELL,\n"
+                           + "\n"
+                           + "3,\"multi\nline\",,0.1,5,FALSE,BUY,1").getBytes(StandardCharsets.UTF_8));
+        var rows = CsvLoader.of(Trade.class).read(file, false);
+        assertEquals(3, rows.size());
+        var a = rows.get(0);
+        assertEquals(1, a.id);
+        assertEquals("A,\"B\"", a.symbol);
+        assertEquals(12.5, a.price);
+        assertEquals(-3, a.qty);
+        assertTrue(a.open);
+        assertEquals(Side.BUY, a.side);
+        assertEquals(7, a.venue);
+        var b = rows.get(1);
+        assertEquals("C", b.symbol);
+        assertEquals(1000.0, b.price);
+        assertFalse(b.open);
+        assertNull(b.venue);
+        assertEquals("multi\nline", rows.get(2).symbol);
+        assertEquals(0.1, rows.get(2).price);
+    }
+
+    @SneakyThrows
+    @Test
+    void parallel(@TempDir Path dir) {
+        var file = dir.resolve("t.tsv");
+        var b = new StringBuilder("qty\tid\tprice\n");
+        var n = 20_000;
+        for (int i = 0; i < n; i++) b.append(i % 100).append('\t').append(i).append('\t').append(i * 0.25).append('\n');
+        Files.write(file, b.toString().getBytes(StandardCharsets.UTF_8));
+        var loader = CsvLoader.of(Trade.class, Trade::new, '\t', true, 4096);
+        var seq = loader.read(file, false);
+        var par = loader.read(file, true);
+        assertEquals(n, seq.size());
+        assertEquals(n, par.size());
+        for (int i = 0; i < n; i++) {
+            assertEquals(i, seq.get(i).id);
+            assertEquals(i, par.get(i).id);
+            assertEquals(i * 0.25, par.get(i).price);
+        }
+        var sum = new LongAdder();
+        var ids = Collections.synchronizedList(new ArrayList<Long>());
+        loader.loadParallel(file, t -> {
+            sum.add(t.qty);
+            ids.add(t.id);
+        });
+        assertEquals(n, ids.size());
+        assertEquals(n / 100 * 4950L, sum.sum());
+    }
+
+    @Test
+    void numbers() {
+        var b = "-9223372036854775808 42 +7 0.000123 1.5E-3 123456789012345678 x".getBytes(StandardCharsets.US_ASCII);
+        assertEquals(Long.MIN_VALUE, CsvLoader.parseLong(b, 0, 20));
+        assertEquals(42, CsvLoader.parseLong(b, 21, 23));
+        assertEquals(7, CsvLoader.parseLong(b, 24, 26));
+        assertEquals(0.000123, CsvLoader.parseDouble(b, 27, 35));
+        assertEquals(1.5E-3, CsvLoader.parseDouble(b, 36, 42));
+        assertEquals(123456789012345678.0, CsvLoader.parseDouble(b, 43, 61));
+        assertThrows(IllegalArgumentException.class, () -> CsvLoader.parseLong(b, 62, 63));
+        var r = "2147483647 -2147483648 2147483648 4294967297 -129".getBytes(StandardCharsets.US_ASCII);
+        assertEquals(Integer.MAX_VALUE, CsvLoader.parseLong(r, 0, 10, Integer.MIN_VALUE, Integer.MAX_VALUE));
+        assertEquals(Integer.MIN_VALUE, CsvLoader.parseLong(r, 11, 22, Integer.MIN_VALUE, Integer.MAX_VALUE));
+        assertThrows(IllegalArgumentException.class, () -> CsvLoader.parseLong(r, 23, 33, Integer.MIN_VALUE, Integer.MAX_VALUE));
+        assertThrows(IllegalArgumentException.class, () -> CsvLoader.parseLong(r, 34, 44, Integer.MIN_VALUE, Integer.MAX_VALUE));
+        assertThrows(IllegalArgumentException.class, () -> CsvLoader.parseLong(r, 45, 49, Byte.MIN_VALUE, Byte.MAX_VALUE));
+        assertThrows(IllegalArgumentException.class, () -> CsvLoader.parseDouble(b, 62, 63));
+    }
+
+    @SneakyThrows
+    @Test
+    void outOfRange(@TempDir Path dir) {
+        var file = dir.resolve("r.csv");
+        var loader = CsvLoader.of(Trade.class);
+        for (var row : new String[]{"1,4294967297,", "1,-2147483649,", "1,1,4294967297"}) {
+            Files.write(file, ("id,qty,venue\n2,3,4\n" + row + "\n").getBytes(StandardCharsets.UTF_8));
+            for (var parallel : new boolean[]{false, true}) {
+                var e = assertThrows(IllegalArgumentException.class, () -> loader.read(file, parallel), row);
+                assertTrue(e.getMessage().startsWith("line 3, column " + (row.endsWith(",") ? 2 : 3) + ": expect integer"), e.getMessage());
+            }
+        }
+    }
+}
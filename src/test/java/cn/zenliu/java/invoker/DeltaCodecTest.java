@@ -0,0 +1,166 @@
+/*
+ * Source of invoker
+ * Copyright (C) 2023.  Zen.Liu
+ *
+ * SPDX-License-Identifier: GPL-2.0-only WITH Classpath-exception-2.0"
+ *
+ * This program is free software; you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation; version 2.
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program; if not, write to the Free Software Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA 02110-1301, USA.
+ *
+ * Class Path Exception
+ * Linking this library statically or dynamically with other modules is making a combined work based on this library. Thus, the terms and conditions of the GNU General Public License cover the whole combination.
+ *  As a special exception, the copyright holders of this library give you permission to link this library with independent modules to produce an executable, regardless of the license terms of these independent modules, and to copy and distribute the resulting executable under terms of your choice, provided that you also meet, for each linked independent module, the terms and conditions of the license of that module. An independent module is a module which is not derived from or based on this library. If you modify this library, you may extend this exception to your version of the library, but you are not obligated to do so. If you do not wish to do so, delete this exception statement from your version.
+ */
+
+
+package cn.zenliu.java.invoker;
+
+import lombok.var;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DeltaCodecTest {
+    enum State {NEW, PAID}
+
+    public static class Item {
+        long id;
+        boolean flag;
+        byte b;
+        short level;
+        char grade;
+        int count;
+        float rate;
+        double price;
+        String name;
+        byte[] payload;
+        Integer points;
+        State state;
+        final int version = 1;
+
+        Item copy() {
+            var i = new Item();
+            i.id = id;
+            i.flag = flag;
+            i.b = b;
+            i.level = level;
+            i.grade = grade;
+            i.count = count;
+            i.rate = rate;
+            i.price = price;
+            i.name = name;
+            i.payload = payload == null ? null : payload.clone();
+            i.points = points;
+            i.state = state;
+            return i;
+        }
+    }
+
+    public static class Tagged {
+        int id;
+        List<String> tags;
+    }
+
+    static Item item() {
+        var i = new Item();
+        i.id = 1;
+        i.count = 10;
+        i.price = 9.5;
+        i.name = "a";
+        i.payload = new byte[]{1, 2};
+        i.points = 3;
+        i.state = State.NEW;
+        return i;
+    }
+
+    @Test
+    void roundTrip() {
+        var codec = DeltaCodec.of(Item.class);
+        assertSame(codec, DeltaCodec.of(Item.class));
+        var base = item();
+        var current = base.copy();
+        var buf = ByteBuffer.allocate(256);
+        assertEquals(0, codec.write(buf, base, current.copy()));
+        assertEquals(1, buf.position());
+        buf.clear();
+        current.flag = true;
+        current.b = -1;
+        current.level = -300;
+        current.grade = 'z';
+        current.count = -1;
+        current.rate = Float.NaN;
+        current.price = -0.0;
+        current.name = null;
+        current.payload = new byte[]{3};
+        current.points = 7;
+        current.state = State.PAID;
+        assertEquals(11, codec.write(buf, base, current));
+        buf.flip();
+        var replica = base.copy();
+        assertEquals(11, codec.apply(buf, replica));
+        assertFalse(buf.hasRemaining());
+        assertTrue(replica.flag);
+        assertEquals(-1, replica.b);
+        assertEquals(-300, replica.level);
+        assertEquals('z', replica.grade);
+        assertEquals(-1, replica.count);
+        assertTrue(Float.isNaN(replica.rate));
+        assertEquals(Double.doubleToRawLongBits(-0.0), Double.doubleToRawLongBits(replica.price));
+        assertNull(replica.name);
+        assertArrayEquals(new byte[]{3}, replica.payload);
+        assertEquals(7, replica.points);
+        assertEquals(State.PAID, replica.state);
+    }
+
+    @Test
+    void compact() {
+        var codec = DeltaCodec.of(Item.class);
+        var base = item();
+        var current = base.copy();
+        current.count = 11;
+        var buf = ByteBuffer.allocate(64);
+        assertEquals(1, codec.write(buf, base, current));
+        //tag, varint value, terminator
+        assertEquals(3, buf.position());
+        buf.flip();
+        codec.apply(buf, base);
+        assertEquals(11, base.count);
+        var bad = ByteBuffer.wrap(new byte[]{(byte) 100, 0});
+        assertThrows(IllegalArgumentException.class, () -> codec.apply(bad, base));
+        var custom = DeltaCodec.of(Item.class, Collections.singletonMap(String.class,
+                BinaryCodec.codec((b, v) -> b.put((byte) ((String) v).length()), b -> "x" + b.get())));
+        buf.clear();
+        current.name = "abc";
+        custom.write(buf, base, current);
+        buf.flip();
+        custom.apply(buf, base);
+        assertEquals("x3", base.name);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void unsupported() {
+        var e = assertThrows(IllegalArgumentException.class, () -> DeltaCodec.of(Tagged.class));
+        assertTrue(e.getMessage().startsWith("no codec for java.util.List"), e.getMessage());
+        var codec = DeltaCodec.of(Tagged.class, Collections.singletonMap(List.class, BinaryCodec.codec(
+                (b, v) -> b.put((byte) ((List<String>) v).size()), b -> Collections.nCopies(b.get(), "x"))));
+        var base = new Tagged();
+        base.tags = Arrays.asList("a", "b");
+        var current = new Tagged();
+        current.tags = Arrays.asList("a", "b");
+        var buf = ByteBuffer.allocate(16);
+        assertEquals(0, codec.write(buf, base, current));
+        buf.clear();
+        current.tags = Collections.singletonList("c");
+        assertEquals(1, codec.write(buf, base, current));
+        buf.flip();
+        codec.apply(buf, base);
+        assertEquals(Collections.singletonList("x"), base.tags);
+    }
+}
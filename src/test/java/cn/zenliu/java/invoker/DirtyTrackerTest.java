@@ -0,0 +1,145 @@
+/*
+ * Source of invoker
+ * Copyright (C) 2023.  Zen.Liu
+ *
+ * SPDX-License-Identifier: GPL-2.0-only WITH Classpath-exception-2.0"
+ *
+ * This program is free software; you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation; version 2.
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program; if not, write to the Free Software Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA 02110-1301, USA.
+ *
+ * Class Path Exception
+ * Linking this library statically or dynamically with other modules is making a combined work based on this library. Thus, the terms and conditions of the GNU General Public License cover the whole combination.
+ *  As a special exception, the copyright holders of this library give you permission to link this library with independent modules to produce an executable, regardless of the license terms of these independent modules, and to copy and distribute the resulting executable under terms of your choice, provided that you also meet, for each linked independent module, the terms and conditions of the license of that module. An independent module is a module which is not derived from or based on this library. If you modify this library, you may extend this exception to your version of the library, but you are not obligated to do so. If you do not wish to do so, delete this exception statement from your version.
+ */
+
+
+package cn.zenliu.java.invoker;
+
+import lombok.SneakyThrows;
+import lombok.var;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DirtyTrackerTest {
+    public static class Order {
+        long id;
+        int quantity;
+        double price;
+        String note;
+        final int version = 1;
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Order;
+        }
+
+        @Override
+        public int hashCode() {
+            return 1;
+        }
+    }
+
+    @Test
+    void track() {
+        var tracker = DirtyTracker.of(Order.class);
+        assertSame(tracker, DirtyTracker.of(Order.class));
+        var a = new Order();
+        var b = new Order();
+        var quantity = (Accessor.IntSetter) tracker.accessor("quantity").setter;
+        var price = (Accessor.DoubleSetter) tracker.accessor("price").setter;
+        var note = tracker.accessor("note").setter;
+        assertFalse(tracker.isDirty(a));
+        assertTrue(tracker.changedNames(a).isEmpty());
+        //same value is not a change
+        quantity.setValue(a, 0);
+        note.set(a, null);
+        assertFalse(tracker.isDirty(a));
+        quantity.setValue(a, 3);
+        price.setValue(a, 1.5);
+        note.set(b, "x");
+        assertEquals(3, a.quantity);
+        assertEquals(Arrays.asList("quantity", "price"), tracker.changedNames(a));
+        assertEquals(Collections.singletonList("note"), tracker.changedNames(b));
+        var bits = tracker.changedFields(a);
+        assertTrue(bits.get(tracker.shape.slotOf("price")));
+        assertEquals(2, bits.cardinality());
+        tracker.clearChanges(a);
+        assertFalse(tracker.isDirty(a));
+        assertTrue(tracker.isDirty(b));
+        tracker.markChanged(a, 0);
+        assertEquals(Collections.singletonList("id"), tracker.changedNames(a));
+        assertEquals(5, tracker.accessors().size());
+        assertNull(tracker.accessor("version").setter);
+        assertEquals(3, ((Accessor.IntGetter) tracker.accessor("quantity").getter).getValue(a));
+        assertThrows(IllegalArgumentException.class, () -> tracker.accessor("missing"));
+        tracker.clearChanges(a);
+        tracker.clearChanges(b);
+    }
+
+    @Test
+    void weak() throws InterruptedException {
+        var tracker = DirtyTracker.of(Order.class);
+        var quantity = (Accessor.IntSetter) tracker.accessor("quantity").setter;
+        for (int i = 0; i < 1000; i++) quantity.setValue(new Order(), 1);
+        for (int i = 0; i < 50 && tracker.size() > 0; i++) {
+            System.gc();
+            Thread.sleep(20);
+        }
+        assertEquals(0, tracker.size());
+    }
+
+    @SneakyThrows
+    @Test
+    void concurrentMarks() {
+        var tracker = DirtyTracker.of(Order.class);
+        var slots = tracker.shape.size();
+        var rounds = 2000;
+        var instances = new Order[rounds];
+        for (int i = 0; i < rounds; i++) instances[i] = new Order();
+        var failure = new AtomicReference<Throwable>();
+        //markers race to create the entry of a fresh instance, and to mark the previous one while it is cleared
+        var barrier = new CyclicBarrier(slots + 1);
+        var clearer = new Thread(() -> {
+            try {
+                for (int i = 0; i < rounds; i++) {
+                    barrier.await();
+                    if (i == 0) continue;
+                    if (tracker.changedFields(instances[i - 1]).cardinality() != slots)
+                        throw new AssertionError("lost mark of round " + (i - 1));
+                    tracker.clearChanges(instances[i - 1]);
+                }
+            } catch (Throwable e) {
+                failure.set(e);
+            }
+        });
+        var markers = new Thread[slots];
+        for (int t = 0; t < slots; t++) {
+            var slot = t;
+            markers[t] = new Thread(() -> {
+                try {
+                    for (int i = 0; i < rounds; i++) {
+                        barrier.await();
+                        tracker.markChanged(instances[i], slot);
+                        if (i > 0) tracker.markChanged(instances[i - 1], slot);
+                    }
+                } catch (Throwable e) {
+                    failure.set(e);
+                }
+            });
+        }
+        clearer.start();
+        for (var t : markers) t.start();
+        clearer.join();
+        for (var t : markers) t.join();
+        assertNull(failure.get());
+        assertEquals(slots, tracker.changedFields(instances[rounds - 1]).cardinality());
+        for (var o : instances) tracker.clearChanges(o);
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * Source of invoker
+ * Copyright (C) 2023.  Zen.Liu
+ *
+ * SPDX-License-Identifier: GPL-2.0-only WITH Classpath-exception-2.0"
+ *
+ * This program is free software; you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation; version 2.
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program; if not, write to the Free Software Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA 02110-1301, USA.
+ *
+ * Class Path Exception
+ * Linking this library statically or dynamically with other modules is making a combined work based on this library. Thus, the terms and conditions of the GNU General Public License cover the whole combination.
+ *  As a special exception, the copyright holders of this library give you permission to link this library with independent modules to produce an executable, regardless of the license terms of these independent modules, and to copy and distribute the resulting executable under terms of your choice, provided that you also meet, for each linked independent module, the terms and conditions of the license of that module. An independent module is a module which is not derived from or based on this library. If you modify this library, you may extend this exception to your version of the library, but you are not obligated to do so. If you do not wish to do so, delete this exception statement from your version.
+ */
+
+
+package cn.zenliu.java.invoker;
+
+import lombok.var;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Objects;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EquivalenceTest {
+    public static class Base {
+        long id;
+    }
+
+    public static class Point extends Base {
+        int x;
+        double weight;
+        float ratio;
+        boolean on;
+        char tag;
+        String name;
+        int[] codes;
+        String[] labels;
+
+        static Point of(long id, int x, String name) {
+            var p = new Point();
+            p.id = id;
+            p.x = x;
+            p.name = name;
+            p.weight = Double.NaN;
+            p.ratio = 0.5f;
+            p.tag = 'q';
+            p.codes = new int[]{1, 2};
+            p.labels = new String[]{"a"};
+            return p;
+        }
+    }
+
+    public static class Other extends Point {
+    }
+
+    @Test
+    void equivalent() {
+        var eq = Equivalence.of(Point.class);
+        assertSame(eq, Equivalence.of(Point.class));
+        var a = Point.of(1, 2, "a");
+        var b = Point.of(1, 2, "a");
+        assertTrue(eq.equivalent(a, b));
+        assertEquals(eq.hash(a), eq.hash(b));
+        b.codes[1] = 3;
+        assertFalse(eq.equivalent(a, b));
+        b.codes[1] = 2;
+        b.name = null;
+        assertFalse(eq.equivalent(a, b));
+        assertNotEquals(eq.hash(a), eq.hash(b));
+        assertTrue(eq.equivalent(null, null));
+        assertFalse(eq.equivalent(a, null));
+        assertFalse(eq.equivalent(a, new Other()));
+        b = Point.of(1, 2, "a");
+        b.weight = 0.0;
+        assertFalse(eq.equivalent(a, b));
+        a.weight = -0.0;
+        assertFalse(eq.equivalent(a, b));
+
+        var byId = Equivalence.of(Point.class, "id", "x");
+        assertTrue(byId.equivalent(Point.of(1, 2, "a"), Point.of(1, 2, "b")));
+        assertEquals(Objects.hash(1L, 2), byId.hash(Point.of(1, 2, "b")));
+        assertThrows(IllegalArgumentException.class, () -> Equivalence.of(Point.class, "missing"));
+    }
+
+    @Test
+    void keys() {
+        var eq = Equivalence.of(Point.class, "id", "name");
+        var map = new HashMap<Equivalence.Key<Point>, Integer>();
+        map.put(eq.key(Point.of(1, 2, "a")), 1);
+        map.put(eq.key(Point.of(1, 3, "a")), 2);
+        map.put(eq.key(Point.of(2, 2, "a")), 3);
+        assertEquals(2, map.size());
+        assertEquals(2, map.get(eq.key(Point.of(1, 9, "a"))));
+    }
+
+    @Test
+    void string() {
+        var p = Point.of(1, 2, "a");
+        assertEquals("Point(id=1, x=2, weight=NaN, ratio=0.5, on=false, tag=q, name=a, codes=[1, 2], labels=[a])",
+                Equivalence.of(Point.class).toString(p));
+        assertEquals("Point(id=1, name=a)", Equivalence.of(Point.class, "id", "name").key(p).toString());
+        assertEquals("null", Equivalence.of(Point.class).toString(null));
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * Source of invoker
+ * Copyright (C) 2023.  Zen.Liu
+ *
+ * SPDX-License-Identifier: GPL-2.0-only WITH Classpath-exception-2.0"
+ *
+ * This program is free software; you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation; version 2.
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program; if not, write to the Free Software Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA 02110-1301, USA.
+ *
+ * Class Path Exception
+ * Linking this library statically or dynamically with other modules is making a combined work based on this library. Thus, the terms and conditions of the GNU General Public License cover the whole combination.
+ *  As a special exception, the copyright holders of this library give you permission to link this library with independent modules to produce an executable, regardless of the license terms of these independent modules, and to copy and distribute the resulting executable under terms of your choice, provided that you also meet, for each linked independent module, the terms and conditions of the license of that module. An independent module is a module which is not derived from or based on this library. If you modify this library, you may extend this exception to your version of the library, but you are not obligated to do so. If you do not wish to do so, delete this exception statement from your version.
+ */
+
+
+package cn.zenliu.java.invoker;
+
+import lombok.SneakyThrows;
+import lombok.var;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FlyweightTest {
+    public static class Tick {
+        long time;
+        int id;
+        double price;
+        boolean buy;
+
+        static Tick of(int i) {
+            var t = new Tick();
+            t.time = 100L + i;
+            t.id = i;
+            t.price = i * 1.5;
+            t.buy = i % 2 == 0;
+            return t;
+        }
+    }
+
+    @Test
+    void scan() {
+        var fw = Flyweight.of(Tick.class);
+        var size = fw.layout.size();
+        var buf = ByteBuffer.allocateDirect(size * 100);
+        fw.wrap(buf, 0);
+        for (int i = 0; i < 100; i++, fw.next()) fw.write(Tick.of(i));
+        assertFalse(fw.hasRemaining());
+
+        var id = (Accessor.IntGetter) fw.accessor("id").getter;
+        var price = (Accessor.DoubleGetter) fw.accessor("price").getter;
+        var buy = (Accessor.BooleanGetter) fw.accessor("buy").getter;
+        assertTrue(fw.accessor("id").isPrimitives());
+        assertNull(fw.accessor("missing"));
+        long ids = 0;
+        double sum = 0;
+        int buys = 0;
+        for (fw.move(0); fw.hasRemaining(); fw.next()) {
+            ids += id.getValue(fw);
+            sum += price.getValue(fw);
+            if (buy.getValue(fw)) buys++;
+        }
+        assertEquals(4950, ids);
+        assertEquals(4950 * 1.5, sum);
+        assertEquals(50, buys);
+        //generic path
+        fw.move(size * 3);
+        assertEquals(3, fw.accessor("id").getter.get(fw));
+        //write in place
+        ((Accessor.LongSetter) fw.accessor("time").setter).setValue(fw, 42L);
+        var t = new Tick();
+        fw.read(t);
+        assertEquals(42L, t.time);
+        assertEquals(3, t.id);
+        //shared accessors
+        assertSame(fw.accessor(0), Flyweight.of(Tick.class).accessor(0));
+    }
+
+    @SneakyThrows
+    @Test
+    void store(@TempDir Path dir) {
+        try (var store = RecordStore.open(dir, Tick.class)) {
+            for (int i = 0; i < 10; i++) store.append(Tick.of(i));
+            var fw = store.view(7, Flyweight.of(Tick.class));
+            assertEquals(7, ((Accessor.IntGetter) fw.accessor("id").getter).getValue(fw));
+            assertEquals(107L, ((Accessor.LongGetter) fw.accessor("time").getter).getValue(fw));
+            assertThrows(IndexOutOfBoundsException.class, () -> store.view(10, fw));
+        }
+    }
+}
@@ -0,0 +1,156 @@
+/*
+ * Source of invoker
+ * Copyright (C) 2023.  Zen.Liu
+ *
+ * SPDX-License-Identifier: GPL-2.0-only WITH Classpath-exception-2.0"
+ *
+ * This program is free software; you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation; version 2.
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program; if not, write to the Free Software Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA 02110-1301, USA.
+ *
+ * Class Path Exception
+ * Linking this library statically or dynamically with other modules is making a combined work based on this library. Thus, the terms and conditions of the GNU General Public License cover the whole combination.
+ *  As a special exception, the copyright holders of this library give you permission to link this library with independent modules to produce an executable, regardless of the license terms of these independent modules, and to copy and distribute the resulting executable under terms of your choice, provided that you also meet, for each linked independent module, the terms and conditions of the license of that module. An independent module is a module which is not derived from or based on this library. If you modify this library, you may extend this exception to your version of the library, but you are not obligated to do so. If you do not wish to do so, delete this exception statement from your version.
+ */
+
+
+package cn.zenliu.java.invoker;
+
+import lombok.SneakyThrows;
+import lombok.var;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HashIndexTest {
+    public static class User {
+        long id;
+        int age;
+        String region;
+        final int version = 1;
+
+        User(long id, int age, String region) {
+            this.id = id;
+            this.age = age;
+            this.region = region;
+        }
+
+        @Override
+        public String toString() {
+            return id + "/" + age + "/" + region;
+        }
+    }
+
+    static List<User> users(int n) {
+        var l = new ArrayList<User>();
+        for (int i = 0; i < n; i++) l.add(new User(i, i % 50, i % 3 == 0 ? "EU" : i % 3 == 1 ? "US" : null));
+        return l;
+    }
+
+    @Test
+    void primitive() {
+        var users = users(1000);
+        var index = HashIndex.of(User.class, "age", users);
+        assertEquals(1000, index.size());
+        for (int a = 0; a < 50; a++) {
+            var l = index.get(a);
+            assertEquals(20, l.size());
+            for (var u : l) assertEquals(a, u.age);
+            //insertion order
+            assertEquals(a, l.get(0).id);
+        }
+        assertTrue(index.get(50).isEmpty());
+        assertEquals(20, index.get((Object) 7).size());
+        var u = users.get(7);
+        assertTrue(index.remove(u));
+        assertFalse(index.remove(u));
+        assertEquals(19, index.get(7).size());
+        index.add(u);
+        index.update(u, x -> x.age = 1000);
+        assertEquals(19, index.get(7).size());
+        assertEquals(Collections.singletonList(u), index.get(1000));
+        //setter through the index
+        var setter = (Accessor.IntSetter) index.accessor().setter;
+        setter.setValue(u, 7);
+        assertEquals(7, u.age);
+        assertTrue(index.get(1000).isEmpty());
+        assertEquals(20, index.get(7).size());
+        //objects not indexed are only changed
+        var other = new User(-1, 3, "EU");
+        setter.setValue(other, 4);
+        assertEquals(4, other.age);
+        assertEquals(20, index.get(4).size());
+        index.clear();
+        assertEquals(0, index.size());
+        assertTrue(index.get(7).isEmpty());
+    }
+
+    @Test
+    void unique() {
+        var users = users(10000);
+        var index = HashIndex.of(User.class, "id", users);
+        var random = new Random(3);
+        var removed = new HashSet<Long>();
+        for (int i = 0; i < 5000; i++) {
+            var id = random.nextInt(10000);
+            if (removed.add((long) id)) assertTrue(index.remove(users.get(id)));
+        }
+        for (long i = 0; i < 10000; i++) {
+            var l = index.get(i);
+            if (removed.contains(i)) assertTrue(l.isEmpty());
+            else assertSame(users.get((int) i), l.get(0));
+        }
+        assertEquals(10000 - removed.size(), index.size());
+    }
+
+    @Test
+    void reference() {
+        var users = users(300);
+        var index = HashIndex.of(User.class, "region", users);
+        assertEquals(100, index.get("EU").size());
+        assertEquals(100, index.get((Object) null).size());
+        assertThrows(IllegalArgumentException.class, () -> index.get(1L));
+        index.accessor().setter.set(users.get(1), "EU");
+        assertEquals(101, index.get("EU").size());
+        assertEquals(99, index.get("US").size());
+        assertNull(HashIndex.of(User.class, "version").accessor().setter);
+        assertThrows(IllegalArgumentException.class, () -> HashIndex.of(User.class, "missing"));
+    }
+
+    @SneakyThrows
+    @Test
+    void concurrentReaders() {
+        var users = users(64);
+        var index = HashIndex.of(User.class, "id", users);
+        var setter = (Accessor.LongSetter) index.accessor().setter;
+        var stop = new AtomicBoolean();
+        var failure = new AtomicReference<Throwable>();
+        var readers = new Thread[3];
+        for (int r = 0; r < readers.length; r++) {
+            readers[r] = new Thread(() -> {
+                try {
+                    while (!stop.get()) {
+                        //user 0 is always at key 0 or 1_000_000 + n, its id may change after lookup
+                        var l = index.get(0L);
+                        assertTrue(l.size() <= 1);
+                        for (var u : l) assertSame(users.get(0), u);
+                        for (long k = 1; k < 64; k++) assertEquals(1, index.get(k).size());
+                    }
+                } catch (Throwable e) {
+                    failure.set(e);
+                }
+            });
+            readers[r].start();
+        }
+        var u = users.get(0);
+        for (int i = 0; i < 100_000; i++) setter.setValue(u, i % 2 == 0 ? 1_000_000 + i : 0);
+        stop.set(true);
+        for (var t : readers) t.join();
+        assertNull(failure.get());
+        assertEquals(64, index.size());
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * Source of invoker
+ * Copyright (C) 2023.  Zen.Liu
+ *
+ * SPDX-License-Identifier: GPL-2.0-only WITH Classpath-exception-2.0"
+ *
+ * This program is free software; you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation; version 2.
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program; if not, write to the Free Software Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA 02110-1301, USA.
+ *
+ * Class Path Exception
+ * Linking this library statically or dynamically with other modules is making a combined work based on this library. Thus, the terms and conditions of the GNU General Public License cover the whole combination.
+ *  As a special exception, the copyright holders of this library give you permission to link this library with independent modules to produce an executable, regardless of the license terms of these independent modules, and to copy and distribute the resulting executable under terms of your choice, provided that you also meet, for each linked independent module, the terms and conditions of the license of that module. An independent module is a module which is not derived from or based on this library. If you modify this library, you may extend this exception to your version of the library, but you are not obligated to do so. If you do not wish to do so, delete this exception statement from your version.
+ */
+
+
+package cn.zenliu.java.invoker;
+
+import lombok.var;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HashJoinTest {
+    public static class Customer {
+        long id;
+        String name;
+
+        Customer(long id, String name) {
+            this.id = id;
+            this.name = name;
+        }
+    }
+
+    public static class Order {
+        int seq;
+        int customerId;
+
+        Order(int seq, int customerId) {
+            this.seq = seq;
+            this.customerId = customerId;
+        }
+    }
+
+    static List<String> expected(List<Customer> customers, List<Order> orders) {
+        var r = new ArrayList<String>();
+        for (var o : orders) {
+            for (var c : customers) if (c.id == o.customerId) r.add(c.name + ":" + o.seq);
+        }
+        return r;
+    }
+
+    @Test
+    void join() {
+        var customers = Arrays.asList(new Customer(1, "a"), new Customer(2, "b"), new Customer(1, "c"), new Customer(-3, "d"));
+        var orders = Arrays.asList(new Order(0, 2), new Order(1, 1), new Order(2, 5), new Order(3, -3), new Order(4, 1));
+        var join = HashJoin.of(Customer.class, "id", Order.class, "customerId");
+        var want = expected(customers, orders);
+        assertEquals(Arrays.asList("b:0", "a:1", "c:1", "d:3", "a:4", "c:4"), want);
+        assertEquals(want, join.join(customers, orders, (c, o) -> c.name + ":" + o.seq));
+        assertEquals(want, join.joinParallel(customers, orders, (c, o) -> c.name + ":" + o.seq));
+        var pairs = join.pairs(customers, orders);
+        assertEquals(6, pairs.size());
+        assertSame(customers.get(1), pairs.get(0).getKey());
+        assertSame(orders.get(0), pairs.get(0).getValue());
+        assertTrue(join.join(Collections.emptyList(), orders, (c, o) -> c).isEmpty());
+        assertThrows(IllegalArgumentException.class, () -> HashJoin.of(Customer.class, "name", Order.class, "seq"));
+        assertThrows(IllegalArgumentException.class, () -> HashJoin.of(Customer.class, "id", Order.class, "missing"));
+    }
+
+    @Test
+    void partitioned() {
+        var random = new Random(5);
+        var customers = new ArrayList<Customer>();
+        var n = Columns.THRESHOLD * 5 + 7;
+        for (int i = 0; i < n; i++) customers.add(new Customer(i % (n - 100), "c" + i));
+        var orders = new ArrayList<Order>();
+        for (int i = 0; i < n * 2; i++) orders.add(new Order(i, random.nextInt(n + 1000)));
+        assertTrue(HashJoin.partitionBits(n) > 0);
+        var join = HashJoin.of(Customer.class, "id", Order.class, "customerId");
+        var byId = new HashMap<Long, List<Customer>>();
+        for (var c : customers) byId.computeIfAbsent(c.id, k -> new ArrayList<>()).add(c);
+        var want = new ArrayList<String>();
+        for (var o : orders) {
+            for (var c : byId.getOrDefault((long) o.customerId, Collections.emptyList())) want.add(c.name + ":" + o.seq);
+        }
+        assertEquals(want, join.join(customers, orders, (c, o) -> c.name + ":" + o.seq));
+        assertEquals(want, join.joinParallel(customers, orders, (c, o) -> c.name + ":" + o.seq));
+        assertEquals(want.size(), join.pairsParallel(customers, orders).size());
+    }
+}
@@ -0,0 +1,180 @@
+/*
+ * Source of invoker
+ * Copyright (C) 2023.  Zen.Liu
+ *
+ * SPDX-License-Identifier: GPL-2.0-only WITH Classpath-exception-2.0"
+ *
+ * This program is free software; you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation; version 2.
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program; if not, write to the Free Software Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA 02110-1301, USA.
+ *
+ * Class Path Exception
+ * Linking this library statically or dynamically with other modules is making a combined work based on this library. Thus, the terms and conditions of the GNU General Public License cover the whole combination.
+ *  As a special exception, the copyright holders of this library give you permission to link this library with independent modules to produce an executable, regardless of the license terms of these independent modules, and to copy and distribute the resulting executable under terms of your choice, provided that you also meet, for each linked independent module, the terms and conditions of the license of that module. An independent module is a module which is not derived from or based on this library. If you modify this library, you may extend this exception to your version of the library, but you are not obligated to do so. If you do not wish to do so, delete this exception statement from your version.
+ */
+
+
+package cn.zenliu.java.invoker;
+
+import lombok.SneakyThrows;
+import lombok.var;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import javax.management.ObjectName;
+import java.lang.invoke.MethodHandles;
+import java.lang.management.ManagementFactory;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InvokerMetricsTest {
+    public static class Target {
+        int val;
+
+        public int add(int v) {
+            if (v < 0) throw new IllegalArgumentException("negative");
+            val += v;
+            return val;
+        }
+
+        public static int touch(Target t, String a, String b) {
+            return t.val += a.length() + b.length();
+        }
+    }
+
+    static final String MEMBER = Target.class.getName() + "::add(int)int";
+
+    @SneakyThrows
+    static Invoker make() {
+        InvokerMetrics.install(true);
+        try {
+            return Invoker.make(MethodHandles.lookup(), Target.class.getMethod("add", int.class));
+        } finally {
+            InvokerMetrics.install(false);
+        }
+    }
+
+    @AfterEach
+    void clean() {
+        InvokerMetrics.disable();
+        InvokerMetrics.reset();
+    }
+
+    @Test
+    void metered() {
+        var i = make();
+        //same SAM interface as undecorated invokers
+        var ix = (Invoker.ix11) i;
+        assertEquals(1, ix.i(new Target(), 1));
+        assertTrue(i.hasReturns());
+        assertEquals(1, i.args());
+        var meter = InvokerMetrics.meter(MEMBER);
+        assertNotNull(meter);
+        var t = new Target();
+        //disabled
+        i.invoke(t, 1);
+        assertEquals(0, meter.getCalls());
+        InvokerMetrics.enable();
+        assertTrue(InvokerMetrics.isEnabled());
+        for (int j = 0; j < 100; j++) i.invoke(t, 1);
+        assertThrows(IllegalArgumentException.class, () -> i.invoke(t, -1));
+        assertEquals(101, meter.getCalls());
+        assertEquals(1, meter.getErrors());
+        assertEquals(101, meter.latency().count());
+        assertTrue(meter.getMaxNanos() > 0);
+        assertTrue(meter.getP50Nanos() <= meter.getP99Nanos());
+        assertTrue(meter.getP99Nanos() <= meter.getMaxNanos());
+        //shared meter
+        var other = make();
+        assertSame(meter, InvokerMetrics.meter(MEMBER));
+        InvokerMetrics.disable();
+        i.invoke(t, 1);
+        assertEquals(101, meter.getCalls());
+        //re-enable with a new switch point
+        InvokerMetrics.enable();
+        other.invoke(t, 1);
+        assertEquals(102, meter.getCalls());
+        assertEquals(103, t.val);
+    }
+
+    @SneakyThrows
+    @Test
+    void sameInterface() {
+        var touch = Target.class.getMethod("touch", Target.class, String.class, String.class);
+        var plainTouch = Invoker.make(MethodHandles.lookup(), touch);
+        InvokerMetrics.install(true);
+        try {
+            var t = new Target();
+            var metered = Invoker.make(MethodHandles.lookup(), touch);
+            assertArrayEquals(plainTouch.getClass().getInterfaces(), metered.getClass().getInterfaces());
+            assertEquals(3, metered.invoke(null, t, "a", "bc"));
+            assertEquals(3, t.val);
+            assertEquals(6, ((Invoker.sx13) metered).i(t, "ab", "c"));
+            assertEquals(2, InvokerMetrics.meter(Target.class.getName() + "::touch(Target,String,String)int").getCalls());
+        } finally {
+            InvokerMetrics.install(false);
+        }
+    }
+
+    @SneakyThrows
+    @Test
+    void install() {
+        InvokerMetrics.install(true);
+        try {
+            assertTrue(InvokerMetrics.isEnabled());
+            var i = Invoker.make(MethodHandles.lookup(), Target.class.getMethod("add", int.class));
+            i.invoke(new Target(), 1);
+            assertEquals(1, InvokerMetrics.meter(MEMBER).getCalls());
+        } finally {
+            InvokerMetrics.install(false);
+        }
+        assertFalse(InvokerMetrics.isEnabled());
+        assertFalse(InvokerMetrics.installed());
+    }
+
+    @SneakyThrows
+    @Test
+    void jmx() {
+        var i = make();
+        var server = ManagementFactory.getPlatformMBeanServer();
+        var control = new ObjectName(InvokerMetrics.DOMAIN + ":type=InvokerMetrics");
+        server.setAttribute(control, new javax.management.Attribute("Enabled", true));
+        assertTrue(InvokerMetrics.isEnabled());
+        i.invoke(new Target(), 1);
+        var meter = new ObjectName(InvokerMetrics.DOMAIN + ":type=Meter,name=" + ObjectName.quote(MEMBER));
+        assertEquals(1L, server.getAttribute(meter, "Calls"));
+        assertEquals(0L, server.getAttribute(meter, "Errors"));
+        server.setAttribute(control, new javax.management.Attribute("Enabled", false));
+        assertFalse(InvokerMetrics.isEnabled());
+    }
+
+    @Test
+    void histogram() {
+        for (long v = 0; v < 1 << 20; v = v * 3 / 2 + 1) {
+            var i = InvokerMetrics.Histogram.index(v);
+            assertTrue(InvokerMetrics.Histogram.upper(i) >= v, "upper of " + v);
+            assertTrue(i == 0 || InvokerMetrics.Histogram.upper(i - 1) < v, "lower of " + v);
+        }
+        assertEquals(InvokerMetrics.Histogram.BUCKETS - 1, InvokerMetrics.Histogram.index(Long.MAX_VALUE));
+        assertEquals(Long.MAX_VALUE, InvokerMetrics.Histogram.upper(InvokerMetrics.Histogram.BUCKETS - 1));
+        var h = new InvokerMetrics.Histogram();
+        for (int v = 1; v <= 1000; v++) h.record(v);
+        assertEquals(1000, h.count());
+        assertEquals(500.5, h.mean(), 0.001);
+        assertEquals(1000, h.max());
+        var p50 = h.percentile(0.5);
+        assertTrue(p50 >= 500 && p50 < 500 * 1.25, "p50 " + p50);
+        var p99 = h.percentile(0.99);
+        assertTrue(p99 >= 990 && p99 <= 1000, "p99 " + p99);
+        h.reset();
+        assertEquals(0, h.count());
+        assertEquals(0, h.percentile(0.5));
+    }
+
+    @SneakyThrows
+    @Test
+    void uninstalled() {
+        var i = Invoker.make(MethodHandles.lookup(), Target.class.getMethod("add", int.class));
+        assertTrue(i instanceof Invoker.ix11);
+    }
+}
@@ -0,0 +1,173 @@
+/*
+ * Source of invoker
+ * Copyright (C) 2023.  Zen.Liu
+ *
+ * SPDX-License-Identifier: GPL-2.0-only WITH Classpath-exception-2.0"
+ *
+ * This program is free software; you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation; version 2.
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program; if not, write to the Free Software Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA 02110-1301, USA.
+ *
+ * Class Path Exception
+ * Linking this library statically or dynamically with other modules is making a combined work based on this library. Thus, the terms and conditions of the GNU General Public License cover the whole combination.
+ *  As a special exception, the copyright holders of this library give you permission to link this library with independent modules to produce an executable, regardless of the license terms of these independent modules, and to copy and distribute the resulting executable under terms of your choice, provided that you also meet, for each linked independent module, the terms and conditions of the license of that module. An independent module is a module which is not derived from or based on this library. If you modify this library, you may extend this exception to your version of the library, but you are not obligated to do so. If you do not wish to do so, delete this exception statement from your version.
+ */
+
+
+package cn.zenliu.java.invoker;
+
+import lombok.var;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JsonCodecTest {
+    public enum Level {LOW, HIGH}
+
+    public static class Item {
+        String sku;
+        int qty;
+    }
+
+    public static class Order {
+        long id;
+        int count;
+        double price;
+        float ratio;
+        boolean paid;
+        char grade;
+        String note;
+        Integer rank;
+        Level level;
+        Item item;
+        List<Item> items;
+        Map<String, Integer> tags;
+        int[] codes;
+        Order parent;
+    }
+
+    public static class Narrow {
+        byte b;
+        short s;
+        Byte boxed;
+    }
+
+    static Order order() {
+        var o = new Order();
+        o.id = Long.MIN_VALUE;
+        o.count = -42;
+        o.price = 12.5;
+        o.ratio = 0.25f;
+        o.paid = true;
+        o.grade = 'A';
+        o.note = "quote \" slash \\ line\n 中文 😀";
+        o.level = Level.HIGH;
+        o.item = new Item();
+        o.item.sku = "x";
+        o.item.qty = 1;
+        o.items = new ArrayList<>(Arrays.asList(o.item, null));
+        o.tags = new LinkedHashMap<>();
+        o.tags.put("a", 1);
+        o.tags.put("b", null);
+        o.codes = new int[]{1, 2, 3};
+        o.parent = new Order();
+        o.parent.id = 7;
+        return o;
+    }
+
+    @Test
+    void roundTrip() {
+        var codec = JsonCodec.of(Order.class);
+        assertSame(codec, JsonCodec.of(Order.class));
+        var json = codec.toJson(order());
+        var text = new String(json, StandardCharsets.UTF_8);
+        assertTrue(text.startsWith("{\"id\":-9223372036854775808,\"count\":-42,\"price\":12.5,\"ratio\":0.25,\"paid\":true,\"grade\":\"A\""), text);
+        assertTrue(text.contains("\"rank\":null"), text);
+        assertTrue(text.contains("\"codes\":[1,2,3]"), text);
+        for (var r : new Order[]{codec.read(json), codec.read(new JsonCodec.Input(new ByteArrayInputStream(json), 16))}) {
+            assertEquals(Long.MIN_VALUE, r.id);
+            assertEquals(-42, r.count);
+            assertEquals(12.5, r.price);
+            assertEquals(0.25f, r.ratio);
+            assertTrue(r.paid);
+            assertEquals('A', r.grade);
+            assertEquals(order().note, r.note);
+            assertNull(r.rank);
+            assertEquals(Level.HIGH, r.level);
+            assertEquals("x", r.item.sku);
+            assertEquals(2, r.items.size());
+            assertEquals(1, r.items.get(0).qty);
+            assertNull(r.items.get(1));
+            assertEquals(Arrays.asList("a", "b"), new ArrayList<>(r.tags.keySet()));
+            assertArrayEquals(new int[]{1, 2, 3}, r.codes);
+            assertEquals(7, r.parent.id);
+            assertNull(r.parent.parent);
+        }
+    }
+
+    @Test
+    void parse() {
+        var codec = JsonCodec.of(Order.class);
+        var r = codec.read((" { \"unknown\" : {\"a\":[1,2,{\"b\":null}],\"c\":\"}\"} , \"price\" : -1.5e3 ,"
+                            + "\"count\":12, \"ratio\": 0.1, \"co\\u0064es\": [], \"note\": \"\\u4e2d\\t\" }").getBytes(StandardCharsets.UTF_8));
+        assertEquals(-1500.0, r.price);
+        assertEquals(12, r.count);
+        assertEquals(0.1f, r.ratio);
+        assertEquals(0, r.codes.length);
+        assertEquals("中\t", r.note);
+        assertThrows(IllegalArgumentException.class, () -> codec.read("{\"count\":1.5}".getBytes(StandardCharsets.UTF_8)));
+        assertThrows(IllegalArgumentException.class, () -> codec.read("{\"count\":1".getBytes(StandardCharsets.UTF_8)));
+        assertThrows(IllegalArgumentException.class, () -> codec.read("{\"level\":\"MID\"}".getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @Test
+    void numbers() {
+        var out = new JsonCodec.Output(16);
+        for (var v : new double[]{0.1, 1e-7, 123456789.123, 1.7976931348623157E308, 4.9E-324, -0.0}) {
+            out.reset();
+            out.writeDouble(v, false);
+            assertEquals(v, new JsonCodec.Input(out.toByteArray(), 0, out.size()).readDouble());
+        }
+        for (var v : new long[]{0, 9, 10, -1, Long.MAX_VALUE, Long.MIN_VALUE}) {
+            out.reset();
+            out.writeLong(v);
+            assertEquals(Long.toString(v), out.toString());
+            assertEquals(v, new JsonCodec.Input(out.toByteArray(), 0, out.size()).readLong());
+        }
+        out.reset();
+        out.writeDouble(Double.NaN, false);
+        assertEquals("null", out.toString());
+        assertThrows(IllegalArgumentException.class, () -> new JsonCodec.Input("9223372036854775808".getBytes(StandardCharsets.US_ASCII), 0, 19).readLong());
+        for (var json : new String[]{"1.5e3", "-0.25", "2E-2", "1e+2", "12345678901234567890.5"}) {
+            assertEquals(Double.parseDouble(json), new JsonCodec.Input(json.getBytes(StandardCharsets.US_ASCII), 0, json.length()).readDouble(), json);
+        }
+        for (var json : new String[]{".", "1.", ".5", ".e5", "1e", "1e+", "-", "-.5", "1.e5"}) {
+            var e = assertThrows(IllegalArgumentException.class, () -> new JsonCodec.Input(json.getBytes(StandardCharsets.US_ASCII), 0, json.length()).readDouble(), json);
+            assertTrue(e.getMessage().contains(" at "), e.getMessage());
+        }
+    }
+
+    @Test
+    void integerRange() {
+        var codec = JsonCodec.of(Order.class);
+        assertEquals(Integer.MAX_VALUE, codec.read("{\"count\":2147483647}".getBytes(StandardCharsets.UTF_8)).count);
+        assertEquals(Integer.MIN_VALUE, codec.read("{\"count\":-2147483648}".getBytes(StandardCharsets.UTF_8)).count);
+        for (var json : new String[]{"{\"count\":2147483648}", "{\"count\":-2147483649}", "{\"count\":4294967297}",
+                "{\"rank\":4294967297}", "{\"tags\":{\"a\":-2147483649}}", "{\"codes\":[1,2147483648]}"}) {
+            var e = assertThrows(IllegalArgumentException.class, () -> codec.read(json.getBytes(StandardCharsets.UTF_8)), json);
+            assertTrue(e.getMessage().startsWith("integer overflow"), e.getMessage());
+        }
+        var narrow = JsonCodec.of(Narrow.class);
+        var r = narrow.read("{\"b\":-128,\"s\":32767,\"boxed\":127}".getBytes(StandardCharsets.UTF_8));
+        assertEquals(Byte.MIN_VALUE, r.b);
+        assertEquals(Short.MAX_VALUE, r.s);
+        assertEquals(Byte.valueOf(Byte.MAX_VALUE), r.boxed);
+        for (var json : new String[]{"{\"b\":128}", "{\"b\":-129}", "{\"s\":32768}", "{\"s\":-32769}", "{\"boxed\":256}"}) {
+            assertThrows(IllegalArgumentException.class, () -> narrow.read(json.getBytes(StandardCharsets.UTF_8)), json);
+        }
+    }
+}
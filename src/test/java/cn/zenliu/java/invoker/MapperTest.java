@@ -0,0 +1,142 @@
+/*
+ * Source of invoker
+ * Copyright (C) 2023.  Zen.Liu
+ *
+ * SPDX-License-Identifier: GPL-2.0-only WITH Classpath-exception-2.0"
+ *
+ * This program is free software; you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation; version 2.
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program; if not, write to the Free Software Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA 02110-1301, USA.
+ *
+ * Class Path Exception
+ * Linking this library statically or dynamically with other modules is making a combined work based on this library. Thus, the terms and conditions of the GNU General Public License cover the whole combination.
+ *  As a special exception, the copyright holders of this library give you permission to link this library with independent modules to produce an executable, regardless of the license terms of these independent modules, and to copy and distribute the resulting executable under terms of your choice, provided that you also meet, for each linked independent module, the terms and conditions of the license of that module. An independent module is a module which is not derived from or based on this library. If you modify this library, you may extend this exception to your version of the library, but you are not obligated to do so. If you do not wish to do so, delete this exception statement from your version.
+ */
+
+
+package cn.zenliu.java.invoker;
+
+import lombok.var;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MapperTest {
+    public static class Entity {
+        long id;
+        int age;
+        char grade;
+        float ratio;
+        short level;
+        Integer points;
+        int rank;
+        Integer missing;
+        String name;
+        ArrayList<String> tags;
+        String secret;
+        double score;
+    }
+
+    public static class Dto {
+        long id;
+        long age;
+        int grade;
+        double ratio;
+        Integer level;
+        int points;
+        Long rank;
+        int missing = -1;
+        CharSequence name;
+        List<String> tags;
+        String secret;
+        String score;
+        String title;
+        final int fixed = 1;
+    }
+
+    public static class Immutable {
+        final int age;
+
+        Immutable(int age) {
+            this.age = age;
+        }
+    }
+
+    static Entity entity() {
+        var e = new Entity();
+        e.id = 9;
+        e.age = 30;
+        e.grade = 'B';
+        e.ratio = 0.25f;
+        e.level = 3;
+        e.points = 42;
+        e.rank = 7;
+        e.name = "n";
+        e.tags = new ArrayList<>(Arrays.asList("a"));
+        e.secret = "s";
+        e.score = 1.5;
+        return e;
+    }
+
+    @Test
+    void byName() {
+        var m = Mapper.of(Entity.class, Dto.class);
+        assertSame(m, Mapper.of(Entity.class, Dto.class));
+        var e = entity();
+        var d = m.map(e);
+        assertEquals(9, d.id);
+        assertEquals(30L, d.age);
+        assertEquals('B', d.grade);
+        assertEquals(0.25, d.ratio);
+        assertEquals(Integer.valueOf(3), d.level);
+        assertEquals(42, d.points);
+        assertEquals(Long.valueOf(7), d.rank);
+        assertEquals(-1, d.missing);
+        assertEquals("n", d.name);
+        assertSame(e.tags, d.tags);
+        assertEquals("s", d.secret);
+        //not convertible, skipped
+        assertNull(d.score);
+        assertNull(d.title);
+        assertEquals(11, m.size());
+        assertNull(m.map(null));
+        assertEquals(2, m.mapAll(Arrays.asList(e, e)).size());
+        var into = new Dto();
+        into.title = "t";
+        assertSame(into, m.map(e, into));
+        assertEquals("t", into.title);
+    }
+
+    @Test
+    void explicit() {
+        var mapping = new HashMap<String, String>();
+        mapping.put("title", "name");
+        mapping.put("secret", null);
+        mapping.put("age", "level");
+        var m = Mapper.of(Entity.class, Dto.class, mapping);
+        var d = m.map(entity());
+        assertEquals("n", d.title);
+        assertNull(d.secret);
+        assertEquals(3L, d.age);
+        assertThrows(IllegalArgumentException.class, () -> Mapper.of(Entity.class, Dto.class, Collections.singletonMap("score", "score")));
+        assertThrows(IllegalArgumentException.class, () -> Mapper.of(Entity.class, Dto.class, Collections.singletonMap("fixed", "age")));
+        assertThrows(IllegalArgumentException.class, () -> Mapper.of(Entity.class, Dto.class, Collections.singletonMap("nope", "age")));
+        assertThrows(IllegalArgumentException.class, () -> Mapper.of(Entity.class, Dto.class, Collections.singletonMap("age", "nope")));
+        assertThrows(IllegalArgumentException.class, () -> Mapper.of(Dto.class, Entity.class, Collections.singletonMap("age", "age")));
+        //allocated without constructor, final fields are not mapped
+        assertEquals(0, Mapper.of(Entity.class, Immutable.class).map(entity()).age);
+    }
+
+    @Test
+    void widening() {
+        assertTrue(Mapper.widens(1, 2));
+        assertTrue(Mapper.widens(3, 4));
+        assertTrue(Mapper.widens(5, 6));
+        assertFalse(Mapper.widens(2, 3));
+        assertFalse(Mapper.widens(4, 2));
+        assertFalse(Mapper.widens(0, 4));
+        assertTrue(Mapper.widens(0, 0));
+    }
+}
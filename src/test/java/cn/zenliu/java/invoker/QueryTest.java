@@ -0,0 +1,109 @@
+/*
+ * Source of invoker
+ * Copyright (C) 2023.  Zen.Liu
+ *
+ * SPDX-License-Identifier: GPL-2.0-only WITH Classpath-exception-2.0"
+ *
+ * This program is free software; you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation; version 2.
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program; if not, write to the Free Software Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA 02110-1301, USA.
+ *
+ * Class Path Exception
+ * Linking this library statically or dynamically with other modules is making a combined work based on this library. Thus, the terms and conditions of the GNU General Public License cover the whole combination.
+ *  As a special exception, the copyright holders of this library give you permission to link this library with independent modules to produce an executable, regardless of the license terms of these independent modules, and to copy and distribute the resulting executable under terms of your choice, provided that you also meet, for each linked independent module, the terms and conditions of the license of that module. An independent module is a module which is not derived from or based on this library. If you modify this library, you may extend this exception to your version of the library, but you are not obligated to do so. If you do not wish to do so, delete this exception statement from your version.
+ */
+
+
+package cn.zenliu.java.invoker;
+
+import lombok.var;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class QueryTest {
+    enum Tier {FREE, PRO}
+
+    public static class Base {
+        long id;
+    }
+
+    public static class User extends Base {
+        int age;
+        short level;
+        char grade;
+        float ratio;
+        double score;
+        boolean active;
+        String region;
+        Integer points;
+        Tier tier;
+    }
+
+    static List<User> users(int n) {
+        var l = new ArrayList<User>();
+        for (int i = 0; i < n; i++) {
+            var u = new User();
+            u.id = i;
+            u.age = i % 80;
+            u.level = (short) (i % 7);
+            u.grade = (char) ('A' + i % 4);
+            u.ratio = i % 10 / 10f;
+            u.score = i * 0.5;
+            u.active = i % 2 == 0;
+            u.region = i % 3 == 0 ? "EU" : i % 3 == 1 ? "US" : null;
+            u.points = i % 5 == 0 ? null : i;
+            u.tier = i % 4 == 0 ? Tier.PRO : Tier.FREE;
+            l.add(u);
+        }
+        return l;
+    }
+
+    static void check(List<User> users, String expression, Predicate<User> expected) {
+        var q = Query.compile(User.class, expression);
+        var want = users.stream().filter(expected).collect(Collectors.toList());
+        assertEquals(want, q.filter(users), expression);
+        assertEquals(want, q.filterParallel(users), expression);
+        assertEquals(want.size(), q.count(users), expression);
+    }
+
+    @Test
+    void compile() {
+        var users = users(Columns.THRESHOLD * 2 + 5);
+        check(users, "age > 30 && region == \"EU\"", u -> u.age > 30 && "EU".equals(u.region));
+        check(users, "30 < age", u -> u.age > 30);
+        check(users, "age >= 30 || !(score < 100.5)", u -> u.age >= 30 || !(u.score < 100.5));
+        check(users, "id <= 10 && active", u -> u.id <= 10 && u.active);
+        check(users, "!active && level != 3", u -> !u.active && u.level != 3);
+        check(users, "grade == 'B' || age < 2.5", u -> u.grade == 'B' || u.age < 2.5);
+        check(users, "ratio == 0.3", u -> u.ratio == 0.3f);
+        check(users, "active == false", u -> !u.active);
+        check(users, "region != null && region < 'F'", u -> u.region != null && u.region.compareTo("F") < 0);
+        check(users, "points == null", u -> u.points == null);
+        check(users, "points >= 100 && tier == 'PRO'", u -> u.points != null && u.points >= 100 && u.tier == Tier.PRO);
+        check(users, "score > 1e3", u -> u.score > 1e3);
+        check(users, "age == -1", u -> false);
+        var linked = new LinkedList<>(users.subList(0, 100));
+        assertEquals(Query.compile(User.class, "age > 50").filter(linked), Query.compile(User.class, "age > 50").filterParallel(linked));
+    }
+
+    @Test
+    void errors() {
+        assertThrows(IllegalArgumentException.class, () -> Query.compile(User.class, "missing > 1"));
+        assertThrows(IllegalArgumentException.class, () -> Query.compile(User.class, "age > "));
+        assertThrows(IllegalArgumentException.class, () -> Query.compile(User.class, "age > 'x'"));
+        assertThrows(IllegalArgumentException.class, () -> Query.compile(User.class, "age"));
+        assertThrows(IllegalArgumentException.class, () -> Query.compile(User.class, "1 == 1"));
+        assertThrows(IllegalArgumentException.class, () -> Query.compile(User.class, "(age > 1"));
+        assertThrows(IllegalArgumentException.class, () -> Query.compile(User.class, "age > 1 age"));
+        assertThrows(IllegalArgumentException.class, () -> Query.compile(User.class, "active > true"));
+        assertThrows(IllegalArgumentException.class, () -> Query.compile(User.class, "tier == 'GOLD'"));
+        assertThrows(IllegalArgumentException.class, () -> Query.compile(User.class, "region == \"EU"));
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * Source of invoker
+ * Copyright (C) 2023.  Zen.Liu
+ *
+ * SPDX-License-Identifier: GPL-2.0-only WITH Classpath-exception-2.0"
+ *
+ * This program is free software; you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation; version 2.
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program; if not, write to the Free Software Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA 02110-1301, USA.
+ *
+ * Class Path Exception
+ * Linking this library statically or dynamically with other modules is making a combined work based on this library. Thus, the terms and conditions of the GNU General Public License cover the whole combination.
+ *  As a special exception, the copyright holders of this library give you permission to link this library with independent modules to produce an executable, regardless of the license terms of these independent modules, and to copy and distribute the resulting executable under terms of your choice, provided that you also meet, for each linked independent module, the terms and conditions of the license of that module. An independent module is a module which is not derived from or based on this library. If you modify this library, you may extend this exception to your version of the library, but you are not obligated to do so. If you do not wish to do so, delete this exception statement from your version.
+ */
+
+
+package cn.zenliu.java.invoker;
+
+import lombok.var;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RadixSortTest {
+    public static class Item {
+        long id;
+        int rank;
+        double score;
+        short small;
+        int seq;
+
+        @Override
+        public String toString() {
+            return id + "/" + rank + "/" + score + "/" + seq;
+        }
+    }
+
+    static List<Item> items(int n, long seed) {
+        var random = new Random(seed);
+        var l = new ArrayList<Item>();
+        for (int i = 0; i < n; i++) {
+            var it = new Item();
+            it.id = random.nextLong();
+            it.rank = random.nextInt(50) - 25;
+            it.score = random.nextInt(5) == 0 ? -random.nextDouble() * 1e9 : random.nextGaussian();
+            it.small = (short) random.nextInt();
+            it.seq = i;
+            l.add(it);
+        }
+        return l;
+    }
+
+    static void check(String field, Comparator<Item> expected) {
+        for (var parallel : new boolean[]{false, true}) {
+            for (var descending : new boolean[]{false, true}) {
+                var l = items(Columns.THRESHOLD * 3 + 17, 42);
+                var cmp = descending ? expected.reversed().thenComparingInt(i -> i.seq) : expected.thenComparingInt(i -> i.seq);
+                var want = new ArrayList<>(l);
+                want.sort(cmp);
+                RadixSort.sort(l, RadixSort.accessor(Item.class, field), descending, parallel);
+                assertEquals(want, l, field + " parallel=" + parallel + " descending=" + descending);
+            }
+        }
+    }
+
+    @Test
+    void sort() {
+        check("id", Comparator.comparingLong(i -> i.id));
+        check("rank", Comparator.comparingInt(i -> i.rank));
+        check("score", Comparator.comparingDouble(i -> i.score));
+        check("small", Comparator.comparingInt(i -> i.small));
+    }
+
+    @Test
+    void array() {
+        var l = items(100, 1);
+        var a = l.toArray(new Item[0]);
+        RadixSort.sort(a, RadixSort.accessor(Item.class, "rank"), false, false);
+        l.sort(Comparator.comparingInt((Item i) -> i.rank));
+        assertArrayEquals(l.toArray(), a);
+        var one = new ArrayList<>(items(1, 1));
+        RadixSort.sort(one, Item.class, "id");
+        assertEquals(1, one.size());
+        assertThrows(IllegalArgumentException.class, () -> RadixSort.sort(one, Item.class, "missing"));
+    }
+}
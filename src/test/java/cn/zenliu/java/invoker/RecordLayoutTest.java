@@ -0,0 +1,81 @@
+/*
+ * Source of invoker
+ * Copyright (C) 2023.  Zen.Liu
+ *
+ * SPDX-License-Identifier: GPL-2.0-only WITH Classpath-exception-2.0"
+ *
+ * This program is free software; you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation; version 2.
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program; if not, write to the Free Software Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA 02110-1301, USA.
+ *
+ * Class Path Exception
+ * Linking this library statically or dynamically with other modules is making a combined work based on this library. Thus, the terms and conditions of the GNU General Public License cover the whole combination.
+ *  As a special exception, the copyright holders of this library give you permission to link this library with independent modules to produce an executable, regardless of the license terms of these independent modules, and to copy and distribute the resulting executable under terms of your choice, provided that you also meet, for each linked independent module, the terms and conditions of the license of that module. An independent module is a module which is not derived from or based on this library. If you modify this library, you may extend this exception to your version of the library, but you are not obligated to do so. If you do not wish to do so, delete this exception statement from your version.
+ */
+
+
+package cn.zenliu.java.invoker;
+
+import lombok.var;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RecordLayoutTest {
+    public static class Tick {
+        long time;
+        int id;
+        double price;
+        short qty;
+        boolean buy;
+        char side;
+        byte flag;
+        float rate;
+    }
+
+    static class Named {
+        String name;
+    }
+
+    @Test
+    void layout() {
+        var l = RecordLayout.of(Tick.class);
+        assertSame(l, RecordLayout.of(Tick.class));
+        assertEquals(8 + 4 + 8 + 2 + 1 + 2 + 1 + 4, l.size());
+        assertEquals(0, l.offset("time"));
+        assertEquals(8, l.offset("id"));
+        assertEquals(12, l.offset("price"));
+        assertEquals(-1, l.offset("missing"));
+        assertThrows(IllegalArgumentException.class, () -> RecordLayout.of(Named.class));
+    }
+
+    @Test
+    void readWrite() {
+        var l = RecordLayout.of(Tick.class);
+        var t = new Tick();
+        t.time = 123456789L;
+        t.id = 7;
+        t.price = 9.5;
+        t.qty = 3;
+        t.buy = true;
+        t.side = 'S';
+        t.flag = -1;
+        t.rate = 0.25f;
+        var buf = ByteBuffer.allocateDirect(l.size() * 2);
+        l.write(buf, l.size(), t);
+        assertEquals(0, buf.position());
+        assertEquals(7, buf.getInt(l.size() + l.offset("id")));
+        var r = new Tick();
+        l.read(buf, l.size(), r);
+        assertEquals(t.time, r.time);
+        assertEquals(t.id, r.id);
+        assertEquals(t.price, r.price);
+        assertEquals(t.qty, r.qty);
+        assertTrue(r.buy);
+        assertEquals('S', r.side);
+        assertEquals(-1, r.flag);
+        assertEquals(0.25f, r.rate);
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ * Source of invoker
+ * Copyright (C) 2023.  Zen.Liu
+ *
+ * SPDX-License-Identifier: GPL-2.0-only WITH Classpath-exception-2.0"
+ *
+ * This program is free software; you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation; version 2.
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program; if not, write to the Free Software Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA 02110-1301, USA.
+ *
+ * Class Path Exception
+ * Linking this library statically or dynamically with other modules is making a combined work based on this library. Thus, the terms and conditions of the GNU General Public License cover the whole combination.
+ *  As a special exception, the copyright holders of this library give you permission to link this library with independent modules to produce an executable, regardless of the license terms of these independent modules, and to copy and distribute the resulting executable under terms of your choice, provided that you also meet, for each linked independent module, the terms and conditions of the license of that module. An independent module is a module which is not derived from or based on this library. If you modify this library, you may extend this exception to your version of the library, but you are not obligated to do so. If you do not wish to do so, delete this exception statement from your version.
+ */
+
+
+package cn.zenliu.java.invoker;
+
+import lombok.SneakyThrows;
+import lombok.var;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RecordStoreTest {
+    public static class Event {
+        long time;
+        int code;
+        double value;
+
+        static Event of(int i) {
+            var e = new Event();
+            e.time = 1000L + i;
+            e.code = i;
+            e.value = i * 0.5;
+            return e;
+        }
+    }
+
+    static final int RECORD = 8 + 4 + 8;
+
+    @SneakyThrows
+    @Test
+    void appendReadScan(@TempDir Path dir) {
+        var segmentBytes = RecordStore.HEADER + RECORD * 10;
+        try (var store = RecordStore.open(dir, Event.class, Event::new, segmentBytes)) {
+            assertEquals(10, store.perSegment());
+            for (int i = 0; i < 35; i++) assertEquals(i, store.append(Event.of(i)));
+            assertEquals(35, store.size());
+            assertEquals(19, store.read(19).code);
+            assertEquals(34 * 0.5, store.read(34).value);
+            assertThrows(IndexOutOfBoundsException.class, () -> store.read(35));
+        }
+        assertTrue(Files.exists(dir.resolve("0000000003.seg")));
+        assertFalse(Files.exists(dir.resolve("0000000004.seg")));
+        try (var store = RecordStore.open(dir, Event.class, Event::new, segmentBytes)) {
+            assertEquals(35, store.size());
+            var reused = new Event();
+            var codes = new ArrayList<Integer>();
+            store.scan(reused, e -> {
+                assertSame(reused, e);
+                assertEquals(1000L + e.code, e.time);
+                codes.add(e.code);
+            });
+            assertEquals(35, codes.size());
+            assertEquals(34, codes.get(34));
+            codes.clear();
+            store.scan(8, 22, reused, e -> codes.add(e.code));
+            assertEquals(14, codes.size());
+            assertEquals(8, codes.get(0));
+            assertEquals(21, codes.get(13));
+            store.append(Event.of(35));
+            assertEquals(35, store.read(35).code);
+        }
+        assertThrows(IllegalStateException.class, () -> RecordStore.open(dir, Event.class, Event::new, segmentBytes * 2));
+    }
+
+    @SneakyThrows
+    @Test
+    void closed(@TempDir Path dir) {
+        var store = RecordStore.open(dir, Event.class);
+        assertEquals((RecordStore.DEFAULT_SEGMENT_BYTES - RecordStore.HEADER) / RECORD, store.perSegment());
+        store.append(Event.of(1));
+        store.close();
+        assertThrows(IllegalStateException.class, () -> store.append(Event.of(2)));
+    }
+}
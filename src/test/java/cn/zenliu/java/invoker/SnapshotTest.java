@@ -0,0 +1,118 @@
+/*
+ * Source of invoker
+ * Copyright (C) 2023.  Zen.Liu
+ *
+ * SPDX-License-Identifier: GPL-2.0-only WITH Classpath-exception-2.0"
+ *
+ * This program is free software; you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation; version 2.
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program; if not, write to the Free Software Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA 02110-1301, USA.
+ *
+ * Class Path Exception
+ * Linking this library statically or dynamically with other modules is making a combined work based on this library. Thus, the terms and conditions of the GNU General Public License cover the whole combination.
+ *  As a special exception, the copyright holders of this library give you permission to link this library with independent modules to produce an executable, regardless of the license terms of these independent modules, and to copy and distribute the resulting executable under terms of your choice, provided that you also meet, for each linked independent module, the terms and conditions of the license of that module. An independent module is a module which is not derived from or based on this library. If you modify this library, you may extend this exception to your version of the library, but you are not obligated to do so. If you do not wish to do so, delete this exception statement from your version.
+ */
+
+
+package cn.zenliu.java.invoker;
+
+import lombok.var;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SnapshotTest {
+    public static class Account {
+        long id;
+        boolean active;
+        byte flags;
+        short level;
+        char grade;
+        int count;
+        float rate;
+        double balance;
+        String owner;
+        final int version = 1;
+    }
+
+    public static class Wide {
+        int f0, f1, f2, f3, f4, f5, f6, f7, f8, f9, f10, f11, f12, f13, f14, f15, f16, f17, f18, f19, f20, f21, f22, f23,
+                f24, f25, f26, f27, f28, f29, f30, f31, f32, f33, f34, f35, f36, f37, f38, f39, f40, f41, f42, f43, f44,
+                f45, f46, f47, f48, f49, f50, f51, f52, f53, f54, f55, f56, f57, f58, f59, f60, f61, f62, f63, f64, f65;
+    }
+
+    static Account account() {
+        var a = new Account();
+        a.id = 1;
+        a.active = true;
+        a.flags = -3;
+        a.level = 300;
+        a.grade = 'x';
+        a.count = -7;
+        a.rate = 0.5f;
+        a.balance = Double.NaN;
+        a.owner = "o";
+        return a;
+    }
+
+    @Test
+    void captureRestore() {
+        var a = account();
+        var snap = Snapshot.capture(a);
+        assertEquals(0, snap.diff(a));
+        assertEquals("Snapshot(Account: id=1, active=true, flags=-3, level=300, grade=x, count=-7, rate=0.5, balance=NaN, owner=o, version=1)", snap.toString());
+        a.count = 8;
+        a.balance = 2.5;
+        a.owner = "p";
+        a.active = false;
+        var shape = ClassShape.of(Account.class);
+        var expected = 1L << shape.slotOf("count") | 1L << shape.slotOf("balance") | 1L << shape.slotOf("owner") | 1L << shape.slotOf("active");
+        assertEquals(expected, snap.diff(a));
+        var mask = new long[snap.words()];
+        assertEquals(4, snap.diff(a, mask));
+        assertEquals(expected, mask[0]);
+        assertEquals(expected, snap.diff(Snapshot.capture(a)));
+        Snapshot.restore(a, snap);
+        assertEquals(-7, a.count);
+        assertTrue(Double.isNaN(a.balance));
+        assertEquals("o", a.owner);
+        assertTrue(a.active);
+        assertEquals(0, snap.diff(a));
+        //partial restore
+        a.count = 1;
+        a.level = 2;
+        snap.restore(a, new long[]{1L << shape.slotOf("count")});
+        assertEquals(-7, a.count);
+        assertEquals(2, a.level);
+    }
+
+    @Test
+    void reuse() {
+        var a = account();
+        var snap = Snapshot.of(Account.class);
+        assertSame(snap, Snapshot.capture(a, snap));
+        a.grade = 'y';
+        assertNotEquals(0, snap.diff(a));
+        Snapshot.capture(a, snap);
+        assertEquals(0, snap.diff(a));
+        assertEquals('y', snap.get(ClassShape.of(Account.class).slotOf("grade")));
+        assertThrows(IllegalArgumentException.class, () -> Snapshot.capture(new Wide(), snap));
+    }
+
+    @Test
+    void wide() {
+        var w = new Wide();
+        var snap = Snapshot.capture(w);
+        assertEquals(2, snap.words());
+        assertThrows(IllegalArgumentException.class, () -> snap.diff(w));
+        w.f65 = 1;
+        w.f1 = 1;
+        var mask = new long[2];
+        assertEquals(2, snap.diff(w, mask));
+        assertEquals(2L, mask[0]);
+        assertEquals(2L, mask[1]);
+        snap.restore(w, mask);
+        assertEquals(0, w.f65);
+        assertEquals(0, w.f1);
+    }
+}
@@ -0,0 +1,127 @@
+/*
+ * Source of invoker
+ * Copyright (C) 2023.  Zen.Liu
+ *
+ * SPDX-License-Identifier: GPL-2.0-only WITH Classpath-exception-2.0"
+ *
+ * This program is free software; you can redistribute it and/or modify it under the terms of the GNU General Public License as published by the Free Software Foundation; version 2.
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ * You should have received a copy of the GNU General Public License along with this program; if not, write to the Free Software Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA 02110-1301, USA.
+ *
+ * Class Path Exception
+ * Linking this library statically or dynamically with other modules is making a combined work based on this library. Thus, the terms and conditions of the GNU General Public License cover the whole combination.
+ *  As a special exception, the copyright holders of this library give you permission to link this library with independent modules to produce an executable, regardless of the license terms of these independent modules, and to copy and distribute the resulting executable under terms of your choice, provided that you also meet, for each linked independent module, the terms and conditions of the license of that module. An independent module is a module which is not derived from or based on this library. If you modify this library, you may extend this exception to your version of the library, but you are not obligated to do so. If you do not wish to do so, delete this exception statement from your version.
+ */
+
+package cn.zenliu.java.invoker;
+
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.Test;
+
+import java.io.InputStreamReader;
+import java.lang.invoke.MethodHandles;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InvokerEventsTest {
+    public static class Target {
+        int val;
+
+        public int add(int v) {
+            val += v;
+            return val;
+        }
+    }
+
+    @SneakyThrows
+    static List<RecordedEvent> record(Runnable action) {
+        try (var reader = new InputStreamReader(InvokerEventsTest.class.getResourceAsStream("/invoker.jfc"), StandardCharsets.UTF_8);
+             var r = new Recording(Configuration.create(reader))) {
+            r.start();
+            action.run();
+            r.stop();
+            var file = Files.createTempFile("invoker", ".jfr");
+            try {
+                r.dump(file);
+                return RecordingFile.readAllEvents(file).stream()
+                        .filter(e -> e.getEventType().getName().startsWith("cn.zenliu.java.invoker."))
+                        .collect(Collectors.toList());
+            } finally {
+                Files.deleteIfExists(file);
+            }
+        }
+    }
+
+    @SneakyThrows
+    @Test
+    void generate() {
+        assertTrue(InvokerEvents.isAvailable());
+        var events = record(() -> {
+            try {
+                Invoker.make(MethodHandles.lookup(), Target.class.getMethod("add", int.class));
+                Accessor.field(MethodHandles.lookup(), Target.class.getDeclaredField("val"), Target.class);
+            } catch (NoSuchMethodException | NoSuchFieldException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        assertEquals(2, events.size());
+        var invoker = events.get(0);
+        assertEquals("cn.zenliu.java.invoker.Generate", invoker.getEventType().getName());
+        assertEquals(Target.class.getName() + "::add(int)int", invoker.getString("member"));
+        assertEquals("ix11", invoker.getString("shape"));
+        var accessor = events.get(1);
+        assertEquals(Target.class.getName() + "::val", accessor.getString("member"));
+        assertEquals("IntGetter/IntSetter", accessor.getString("shape"));
+    }
+
+    @SneakyThrows
+    @Test
+    void invoke() {
+        var rate = InvokerEvents.sampleRate();
+        InvokerEvents.sampling(true);
+        InvokerEvents.sampleRate(10);
+        Invoker i;
+        try {
+            i = Invoker.make(MethodHandles.lookup(), Target.class.getMethod("add", int.class));
+        } finally {
+            InvokerEvents.sampling(false);
+        }
+        assertTrue(i instanceof Invoker.ix11);
+        assertTrue(i.hasReturns());
+        assertEquals(1, i.args());
+        var t = new Target();
+        List<RecordedEvent> events;
+        try {
+            events = record(() -> {
+                for (int j = 0; j < 100; j++) {
+                    i.invoke(t, 1);
+                }
+            });
+        } finally {
+            InvokerEvents.sampleRate(rate);
+        }
+        assertEquals(100, t.val);
+        assertEquals(10, events.size());
+        var e = events.get(0);
+        assertEquals("cn.zenliu.java.invoker.Invoke", e.getEventType().getName());
+        assertEquals(Target.class.getName(), e.getClass("receiverClass").getName());
+        //not recording
+        i.invoke(t, 1);
+        assertEquals(101, t.val);
+    }
+
+    @SneakyThrows
+    @Test
+    void disabled() {
+        var i = Invoker.make(MethodHandles.lookup(), Target.class.getMethod("add", int.class));
+        assertTrue(i instanceof Invoker.ix11);
+    }
+}